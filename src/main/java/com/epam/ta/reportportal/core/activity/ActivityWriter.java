@@ -0,0 +1,242 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.activity;
+
+import com.epam.ta.reportportal.database.dao.ActivityRepository;
+import com.epam.ta.reportportal.database.entity.item.Activity;
+import com.google.common.util.concurrent.AbstractExecutionThreadService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes activities out of the thread which produced them.<br>
+ * Activities are put into bounded queue and flushed by single writer thread
+ * with unordered bulk inserts every {@code rp.activity.flush.interval} milliseconds
+ * or as soon as {@code rp.activity.flush.batch} activities are collected.
+ * Activity time is fixed when activity is accepted, so activity feed keeps
+ * the order of actions. Activities which don't fit into full queue are saved
+ * synchronously by the producing thread with plain repository save, so producers
+ * are slowed down to the speed of database instead of losing activities. There is
+ * no spill to disk: activities still in queue are lost if the process is killed.
+ * If bulk insert fails activities of the batch are saved one by one.
+ * Readers which depend on recent activities should call {@link #flush()} first.
+ */
+@Component
+public class ActivityWriter extends AbstractExecutionThreadService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ActivityWriter.class);
+
+	private static final int SHUTDOWN_TIMEOUT_SEC = 30;
+
+	private final ActivityRepository activityRepository;
+
+	private final MongoOperations mongoOperations;
+
+	private final boolean async;
+
+	private final int batchSize;
+
+	private final long flushIntervalMillis;
+
+	private final BlockingQueue<Activity> queue;
+
+	/* held while batch is taken from queue and inserted, so flush waits for activities in flight, but not while writer waits */
+	private final Lock writeLock = new ReentrantLock(true);
+
+	private volatile Thread writer;
+
+	@Autowired
+	public ActivityWriter(ActivityRepository activityRepository, MongoOperations mongoOperations,
+			@Value("${rp.activity.async:true}") boolean async, @Value("${rp.activity.queue.capacity:10000}") int capacity,
+			@Value("${rp.activity.flush.batch:500}") int batchSize, @Value("${rp.activity.flush.interval:50}") long flushIntervalMillis) {
+		this.activityRepository = activityRepository;
+		this.mongoOperations = mongoOperations;
+		this.async = async;
+		this.batchSize = batchSize;
+		this.flushIntervalMillis = flushIntervalMillis;
+		this.queue = new LinkedBlockingQueue<>(capacity);
+	}
+
+	@PostConstruct
+	public void start() {
+		if (async) {
+			startAsync().awaitRunning();
+		}
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (async) {
+			try {
+				stopAsync().awaitTerminated(SHUTDOWN_TIMEOUT_SEC, TimeUnit.SECONDS);
+			} catch (TimeoutException e) {
+				LOGGER.error("Activity writer hasn't been stopped in {} seconds. Saving {} queued activities synchronously.",
+						SHUTDOWN_TIMEOUT_SEC, queue.size()
+				);
+			}
+			/* activities may be queued while writer is stopping or after it has drained the queue */
+			drain();
+		}
+	}
+
+	/**
+	 * Accepts activity for saving
+	 *
+	 * @param activity Activity
+	 */
+	public void write(Activity activity) {
+		write(Collections.singletonList(activity));
+	}
+
+	/**
+	 * Accepts activities for saving
+	 *
+	 * @param activities Activities
+	 */
+	public void write(List<Activity> activities) {
+		if (activities.isEmpty()) {
+			return;
+		}
+		if (!async || !isRunning()) {
+			activityRepository.save(activities);
+			return;
+		}
+		Date now = new Date();
+		List<Activity> rejected = null;
+		for (Activity activity : activities) {
+			if (null == activity.getLastModified()) {
+				activity.setLastModifiedDate(now);
+			}
+			if (!queue.offer(activity)) {
+				if (null == rejected) {
+					rejected = new ArrayList<>();
+				}
+				rejected.add(activity);
+			}
+		}
+		if (null != rejected) {
+			LOGGER.warn("Activity queue is full. Saving {} activities synchronously.", rejected.size());
+			activityRepository.save(rejected);
+		}
+		if (queue.size() >= batchSize) {
+			wakeUp();
+		}
+	}
+
+	/**
+	 * Saves accepted activities synchronously. When method returns
+	 * all activities accepted before the call are in the database
+	 */
+	public void flush() {
+		if (!async) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			drain();
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	protected void run() throws Exception {
+		writer = Thread.currentThread();
+		List<Activity> batch = new ArrayList<>(batchSize);
+		while (isRunning()) {
+			if (queue.size() < batchSize) {
+				LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis));
+			}
+			writeLock.lock();
+			try {
+				queue.drainTo(batch, batchSize);
+				if (!batch.isEmpty()) {
+					insert(batch);
+				}
+			} finally {
+				batch.clear();
+				writeLock.unlock();
+			}
+		}
+	}
+
+	@Override
+	protected void triggerShutdown() {
+		wakeUp();
+	}
+
+	@Override
+	protected void shutDown() {
+		drain();
+	}
+
+	@Override
+	protected String serviceName() {
+		return "activity-writer";
+	}
+
+	private void wakeUp() {
+		Thread thread = writer;
+		if (null != thread) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	private void drain() {
+		List<Activity> rest = new ArrayList<>(queue.size());
+		queue.drainTo(rest);
+		for (int i = 0; i < rest.size(); i += batchSize) {
+			insert(rest.subList(i, Math.min(i + batchSize, rest.size())));
+		}
+	}
+
+	private void insert(List<Activity> batch) {
+		try {
+			mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, Activity.class).insert(batch).execute();
+		} catch (Exception e) {
+			LOGGER.error("Bulk insert of {} activities failed. Saving them one by one.", batch.size(), e);
+			for (Activity activity : batch) {
+				try {
+					activityRepository.save(activity);
+				} catch (Exception ex) {
+					LOGGER.error("Unable to save activity of project '{}'", activity.getProjectRef(), ex);
+				}
+			}
+		}
+	}
+}
@@ -55,7 +55,7 @@ public interface ILogIndexer {
 	Long indexLogs(String launchId, List<TestItem> testItems);
 
 	/**
-	 * Delete index of specified project
+	 * Delete index of specified project together with its indexing watermark
 	 *
 	 * @param project Project/index
 	 */
@@ -78,7 +78,8 @@ public interface ILogIndexer {
 	/**
 	 * Index all logs with its' level greater than
 	 * {@link com.epam.ta.reportportal.database.entity.LogLevel#ERROR}
-	 * for specified project
+	 * for specified project. If project has been indexed before, only launches
+	 * and issue changes made after the last indexing watermark are sent
 	 *
 	 * @param project Project
 	 * @param user    User
@@ -25,21 +25,18 @@ import com.epam.ta.reportportal.core.analyzer.IAnalyzerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.model.AnalyzedItemRs;
 import com.epam.ta.reportportal.core.analyzer.model.IndexLaunch;
 import com.epam.ta.reportportal.core.analyzer.model.IndexRs;
-import com.epam.ta.reportportal.events.ConsulUpdateEvent;
+import com.epam.ta.reportportal.core.discovery.DiscoveryRegistry;
 import com.google.common.collect.ImmutableMap;
 import org.apache.commons.collections.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.client.ServiceInstance;
-import org.springframework.cloud.client.discovery.DiscoveryClient;
-import org.springframework.context.event.EventListener;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static com.epam.ta.reportportal.core.analyzer.client.ClientUtils.*;
 import static java.util.Comparator.comparingInt;
@@ -57,26 +54,22 @@ public class AnalyzerServiceClient implements IAnalyzerServiceClient {
 
 	private final RestTemplate restTemplate;
 
-	private final DiscoveryClient discoveryClient;
-
-	private AtomicReference<List<ServiceInstance>> analyzerInstances;
+	private final DiscoveryRegistry discoveryRegistry;
 
 	@Autowired
-	public AnalyzerServiceClient(RestTemplate restTemplate, DiscoveryClient discoveryClient) {
-		this.analyzerInstances = new AtomicReference<>(Collections.emptyList());
+	public AnalyzerServiceClient(RestTemplate restTemplate, DiscoveryRegistry discoveryRegistry) {
 		this.restTemplate = restTemplate;
-		this.discoveryClient = discoveryClient;
+		this.discoveryRegistry = discoveryRegistry;
 	}
 
 	@Override
 	public boolean hasClients() {
-		return !analyzerInstances.get().isEmpty();
+		return !discoveryRegistry.getSnapshot().getInstances(ANALYZER_KEY).isEmpty();
 	}
 
 	@Override
 	public List<IndexRs> index(List<IndexLaunch> rq) {
-		return analyzerInstances.get()
-				.stream()
+		return getAnalyzerServiceInstances().stream()
 				.filter(SUPPORT_INDEX)
 				.map(instance -> index(instance, rq))
 				.filter(Optional::isPresent)
@@ -86,8 +79,9 @@ public class AnalyzerServiceClient implements IAnalyzerServiceClient {
 
 	@Override
 	public Map<String, List<AnalyzedItemRs>> analyze(IndexLaunch rq) {
-		Map<String, List<AnalyzedItemRs>> result = new HashMap<>(analyzerInstances.get().size());
-		analyzerInstances.get().forEach(instance -> {
+		List<ServiceInstance> analyzerInstances = getAnalyzerServiceInstances();
+		Map<String, List<AnalyzedItemRs>> result = new HashMap<>(analyzerInstances.size());
+		analyzerInstances.forEach(instance -> {
 			List<AnalyzedItemRs> analyzed = analyze(instance, rq);
 			if (!CollectionUtils.isEmpty(analyzed)) {
 				result.put(instance.getMetadata().get(ClientUtils.ANALYZER_KEY), analyzed);
@@ -99,12 +93,12 @@ public class AnalyzerServiceClient implements IAnalyzerServiceClient {
 
 	@Override
 	public void cleanIndex(String index, List<String> ids) {
-		analyzerInstances.get().stream().filter(SUPPORT_INDEX).forEach(instance -> cleanIndex(instance, index, ids));
+		getAnalyzerServiceInstances().stream().filter(SUPPORT_INDEX).forEach(instance -> cleanIndex(instance, index, ids));
 	}
 
 	@Override
 	public void deleteIndex(String index) {
-		analyzerInstances.get().stream().filter(SUPPORT_INDEX).forEach(instance -> deleteIndex(instance, index));
+		getAnalyzerServiceInstances().stream().filter(SUPPORT_INDEX).forEach(instance -> deleteIndex(instance, index));
 	}
 
 	private void deleteIndex(ServiceInstance instance, String index) {
@@ -182,16 +176,9 @@ public class AnalyzerServiceClient implements IAnalyzerServiceClient {
 	}
 
 	/**
-	 * Update list of available analyzers instances
+	 * Available analyzers instances ordered by priority
 	 */
-	@EventListener
-	private void getAnalyzerServiceInstances(ConsulUpdateEvent event) {
-		List<ServiceInstance> collect = discoveryClient.getServices()
-				.stream()
-				.flatMap(service -> discoveryClient.getInstances(service).stream())
-				.filter(instance -> instance.getMetadata().containsKey(ANALYZER_KEY))
-				.sorted(comparingInt(SERVICE_PRIORITY))
-				.collect(toList());
-		analyzerInstances.set(collect);
+	private List<ServiceInstance> getAnalyzerServiceInstances() {
+		return discoveryRegistry.getSnapshot().getInstances(ANALYZER_KEY).stream().sorted(comparingInt(SERVICE_PRIORITY)).collect(toList());
 	}
 }
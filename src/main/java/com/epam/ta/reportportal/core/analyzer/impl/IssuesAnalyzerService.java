@@ -27,6 +27,7 @@ import com.epam.ta.reportportal.core.analyzer.ILogIndexer;
 import com.epam.ta.reportportal.core.analyzer.model.AnalyzedItemRs;
 import com.epam.ta.reportportal.core.analyzer.model.IndexLaunch;
 import com.epam.ta.reportportal.core.analyzer.model.IndexTestItem;
+import com.epam.ta.reportportal.core.log.LogMessages;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacadeFactory;
 import com.epam.ta.reportportal.database.dao.LogRepository;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
@@ -36,6 +37,7 @@ import com.epam.ta.reportportal.database.entity.LogLevel;
 import com.epam.ta.reportportal.database.entity.Project;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.database.entity.item.issue.TestItemIssue;
+import com.epam.ta.reportportal.events.ItemIssueSnapshot;
 import com.epam.ta.reportportal.events.ItemIssueTypeDefined;
 import com.epam.ta.reportportal.events.TicketAttachedEvent;
 import com.epam.ta.reportportal.ws.converter.TestItemResourceAssembler;
@@ -46,7 +48,6 @@ import com.epam.ta.reportportal.ws.model.issue.IssueDefinition;
 import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
 import com.google.common.collect.Lists;
 import org.apache.commons.collections.MapUtils;
-import org.apache.commons.lang3.SerializationUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -84,6 +85,9 @@ public class IssuesAnalyzerService implements IIssuesAnalyzer {
 	@Autowired
 	private LogRepository logRepository;
 
+	@Autowired
+	private LogMessages logMessages;
+
 	@Autowired
 	private ILogIndexer logIndexer;
 
@@ -158,7 +162,9 @@ public class IssuesAnalyzerService implements IIssuesAnalyzer {
 	 */
 	private List<IndexTestItem> prepareItems(List<TestItem> testItems) {
 		return testItems.stream()
-				.map(it -> AnalyzerUtils.fromTestItem(it, logRepository.findGreaterOrEqualLevel(singletonList(it.getId()), LogLevel.ERROR)))
+				.map(it -> AnalyzerUtils.fromTestItem(it,
+						logMessages.restore(logRepository.findGreaterOrEqualLevel(singletonList(it.getId()), LogLevel.ERROR))
+				))
 				.filter(it -> !isEmpty(it.getLogs()))
 				.collect(Collectors.toList());
 	}
@@ -171,21 +177,22 @@ public class IssuesAnalyzerService implements IIssuesAnalyzer {
 	 * @return List of updated items
 	 */
 	private List<TestItem> updateTestItems(String analyzerInstance, List<AnalyzedItemRs> rs, List<TestItem> testItems, String project) {
-		final Map<IssueDefinition, TestItem> forEvents = new HashMap<>();
+		final Map<IssueDefinition, ItemIssueSnapshot> forEvents = new HashMap<>();
 		final Map<String, TestItemResource> relevantItemIdMap = new HashMap<>();
 
-		List<TestItem> beforeUpdate = new ArrayList<>(rs.size());
+		List<ItemIssueSnapshot> beforeUpdate = new ArrayList<>(rs.size());
 		List<TestItem> updatedItems = rs.stream().map(analyzed -> {
 			Optional<TestItem> toUpdate = testItems.stream().filter(item -> item.getId().equals(analyzed.getItemId())).findAny();
 			toUpdate.ifPresent(testItem -> {
-				beforeUpdate.add(SerializationUtils.clone(testItem));
+				ItemIssueSnapshot before = ItemIssueSnapshot.of(testItem);
+				beforeUpdate.add(before);
 
 				TestItemIssue issue = new TestItemIssue(analyzed.getIssueType(), null, true);
 				issue.setIgnoreAnalyzer(testItem.getIssue().isIgnoreAnalyzer());
 
 				ofNullable(analyzed.getRelevantItemId()).ifPresent(relevantItemId -> fromRelevantItem(issue, relevantItemId));
 				IssueDefinition issueDefinition = createIssueDefinition(testItem.getId(), issue);
-				forEvents.put(issueDefinition, SerializationUtils.clone(testItem));
+				forEvents.put(issueDefinition, before);
 
 				TestItemResource resource = itemConverter.apply(testItemRepository.findById(analyzed.getRelevantItemId(),
 						Lists.newArrayList("_id", "path", "launchRef")
@@ -196,7 +203,7 @@ public class IssuesAnalyzerService implements IIssuesAnalyzer {
 			return toUpdate;
 		}).filter(Optional::isPresent).map(Optional::get).collect(toList());
 		eventPublisher.publishEvent(new ItemIssueTypeDefined(forEvents, analyzerInstance, project, relevantItemIdMap));
-		eventPublisher.publishEvent(new TicketAttachedEvent(beforeUpdate, updatedItems, analyzerInstance, project, relevantItemIdMap));
+		eventPublisher.publishEvent(new TicketAttachedEvent(beforeUpdate, ItemIssueSnapshot.of(updatedItems), analyzerInstance, project, relevantItemIdMap));
 		return updatedItems;
 	}
 
@@ -22,11 +22,14 @@
 package com.epam.ta.reportportal.core.analyzer.impl;
 
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
+import com.epam.ta.reportportal.core.activity.ActivityWriter;
 import com.epam.ta.reportportal.core.analyzer.ILogIndexer;
 import com.epam.ta.reportportal.core.analyzer.client.AnalyzerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.model.IndexLaunch;
 import com.epam.ta.reportportal.core.analyzer.model.IndexRs;
 import com.epam.ta.reportportal.core.analyzer.model.IndexTestItem;
+import com.epam.ta.reportportal.core.log.LogMessages;
+import com.epam.ta.reportportal.database.dao.ActivityRepository;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
 import com.epam.ta.reportportal.database.dao.LogRepository;
 import com.epam.ta.reportportal.database.dao.ProjectRepository;
@@ -35,12 +38,19 @@ import com.epam.ta.reportportal.database.entity.Launch;
 import com.epam.ta.reportportal.database.entity.Log;
 import com.epam.ta.reportportal.database.entity.LogLevel;
 import com.epam.ta.reportportal.database.entity.Project;
+import com.epam.ta.reportportal.database.entity.Status;
+import com.epam.ta.reportportal.database.entity.item.Activity;
+import com.epam.ta.reportportal.database.entity.item.ActivityEventType;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.database.entity.user.User;
+import com.epam.ta.reportportal.database.search.Filter;
+import com.epam.ta.reportportal.database.search.FilterCondition;
 import com.epam.ta.reportportal.util.email.MailServiceFactory;
 import com.epam.ta.reportportal.ws.converter.converters.AnalyzerConfigConverter;
 import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.epam.ta.reportportal.ws.model.project.AnalyzerConfig;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Sets;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBCollection;
 import com.mongodb.DBObject;
@@ -49,8 +59,11 @@ import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -61,17 +74,21 @@ import org.springframework.retry.policy.TimeoutRetryPolicy;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static com.epam.ta.reportportal.database.entity.item.ActivityEventType.*;
 import static com.epam.ta.reportportal.database.entity.item.issue.TestItemIssueType.TO_INVESTIGATE;
+import static com.epam.ta.reportportal.database.search.Condition.*;
 import static com.epam.ta.reportportal.util.Predicates.ITEM_CAN_BE_INDEXED;
 import static com.epam.ta.reportportal.util.Predicates.LAUNCH_CAN_BE_INDEXED;
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.*;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 /**
@@ -93,6 +110,10 @@ public class LogIndexerService implements ILogIndexer {
 	private static final String LOG_LEVEL = "level.log_level";
 	private static final String TEST_ITEM_REF = "testItemRef";
 	private static final int MAX_TIMEOUT = 120000;
+	private static final String WATERMARK_COLL = "analyzerIndexWatermark";
+	private static final String WATERMARK_LAUNCH_ID = "launchId";
+	private static final String WATERMARK_CHANGED_AT = "changedAt";
+	private static final String LAST_MODIFIED = "last_modified";
 
 	@Autowired
 	private AnalyzerServiceClient analyzerServiceClient;
@@ -100,6 +121,9 @@ public class LogIndexerService implements ILogIndexer {
 	@Autowired
 	private MongoOperations mongoOperations;
 
+	@Autowired
+	private LogMessages logMessages;
+
 	@Autowired
 	private LaunchRepository launchRepository;
 
@@ -112,10 +136,17 @@ public class LogIndexerService implements ILogIndexer {
 	@Autowired
 	private LogRepository logRepository;
 
+	@Autowired
+	private ActivityRepository activityRepository;
+
+	@Autowired
+	private ActivityWriter activityWriter;
+
 	@Autowired
 	private MailServiceFactory mailServiceFactory;
 
-	private ThreadLocal<Long> indexedLogsCount = ThreadLocal.withInitial(() -> 0L);
+	@Value("${rp.analyzer.index.workers:4}")
+	private int indexWorkers;
 
 	private RetryTemplate retrier;
 
@@ -151,29 +182,44 @@ public class LogIndexerService implements ILogIndexer {
 
 	@Override
 	public Long indexLogs(String launchId, List<TestItem> testItems) {
-		Long indexedLogs = 0L;
 		Launch launch = launchRepository.findOne(launchId);
 		if (LAUNCH_CAN_BE_INDEXED.test(launch)) {
 			List<IndexTestItem> rqTestItems = prepareItemsForIndexing(testItems);
 			if (!CollectionUtils.isEmpty(rqTestItems)) {
-				IndexLaunch rqLaunch = new IndexLaunch();
-				rqLaunch.setLaunchId(launchId);
-				rqLaunch.setLaunchName(launch.getName());
-				rqLaunch.setProject(launch.getProjectRef());
-				rqLaunch.setAnalyzerConfig(AnalyzerConfigConverter.TO_RESOURCE.apply(
-						projectRepository.findOne(launch.getProjectRef()).getConfiguration().getAnalyzerConfig()));
-				rqLaunch.setTestItems(rqTestItems);
-				List<IndexRs> rs = analyzerServiceClient.index(Collections.singletonList(rqLaunch));
-				indexedLogs = rs.stream().mapToLong(i -> i.getItems().size()).sum();
-				retryFailed(rs);
+				return indexItems(launch, AnalyzerConfigConverter.TO_RESOURCE.apply(
+						projectRepository.findOne(launch.getProjectRef()).getConfiguration().getAnalyzerConfig()), rqTestItems);
 			}
 		}
-		return indexedLogs;
+		return 0L;
+	}
+
+	/**
+	 * Sends prepared test items of already loaded launch for indexing
+	 *
+	 * @param launch         Launch suitable for indexing
+	 * @param analyzerConfig Analyzer configuration of the launch project
+	 * @param rqTestItems    Prepared test items of the launch
+	 * @return The count of indexed test items
+	 */
+	private Long indexItems(Launch launch, AnalyzerConfig analyzerConfig, List<IndexTestItem> rqTestItems) {
+		if (CollectionUtils.isEmpty(rqTestItems)) {
+			return 0L;
+		}
+		IndexLaunch rqLaunch = new IndexLaunch();
+		rqLaunch.setLaunchId(launch.getId());
+		rqLaunch.setLaunchName(launch.getName());
+		rqLaunch.setProject(launch.getProjectRef());
+		rqLaunch.setAnalyzerConfig(analyzerConfig);
+		rqLaunch.setTestItems(rqTestItems);
+		List<IndexRs> rs = analyzerServiceClient.index(Collections.singletonList(rqLaunch));
+		retryFailed(rs);
+		return rs.stream().mapToLong(i -> i.getItems().size()).sum();
 	}
 
 	@Override
 	public void deleteIndex(String project) {
 		analyzerServiceClient.deleteIndex(project);
+		mongoOperations.getCollection(WATERMARK_COLL).remove(new BasicDBObject("_id", project));
 	}
 
 	@Override
@@ -184,20 +230,47 @@ public class LogIndexerService implements ILogIndexer {
 
 	@Override
 	public void indexProjectData(Project project, User user) {
+		Date startedAt = new Date();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, indexWorkers));
 		try {
-			List<String> launchIds = launchRepository.findLaunchIdsByProjectId(project.getId())
-					.stream()
-					.map(Launch::getId)
+			DBCollection watermarks = mongoOperations.getCollection(WATERMARK_COLL);
+			DBObject watermark = watermarks.findOne(new BasicDBObject("_id", project.getName()));
+			String lastLaunchId = null == watermark ? null : (String) watermark.get(WATERMARK_LAUNCH_ID);
+			AnalyzerConfig analyzerConfig = AnalyzerConfigConverter.TO_RESOURCE.apply(project.getConfiguration().getAnalyzerConfig());
+
+			List<Launch> launches = findLaunchesAfter(project.getName(), lastLaunchId);
+			/* launches in progress are indexed by the next run, so the watermark stops before the first of them */
+			String nextLaunchId = lastLaunchId;
+			for (Launch launch : launches) {
+				if (Status.IN_PROGRESS.equals(launch.getStatus())) {
+					break;
+				}
+				nextLaunchId = launch.getId();
+			}
+			List<Launch> finished = launches.stream().filter(it -> !Status.IN_PROGRESS.equals(it.getStatus())).collect(toList());
+
+			List<CompletableFuture<Long>> tasks = finished.stream()
+					.filter(LAUNCH_CAN_BE_INDEXED)
+					.map(launch -> CompletableFuture.supplyAsync(() -> indexItems(launch, analyzerConfig, prepareItemsForIndexing(
+							testItemRepository.findItemsNotInIssueType(TO_INVESTIGATE.getLocator(), launch.getId()))), executor))
 					.collect(toList());
 
-			launchIds.forEach(id -> {
-				List<TestItem> items = testItemRepository.findItemsNotInIssueType(TO_INVESTIGATE.getLocator(), id);
-				Long indexedItemsPerLaunch = indexLogs(id, items);
-				indexedLogsCount.set(indexedLogsCount.get() + indexedItemsPerLaunch);
-			});
+			if (null != watermark) {
+				/* activities accepted before the run started must be visible, the next run starts after them */
+				activityWriter.flush();
+				Date changedAt = (Date) watermark.get(WATERMARK_CHANGED_AT);
+				Set<String> indexedLaunches = finished.stream().map(Launch::getId).collect(toSet());
+				tasks.addAll(reindexChangedItems(project.getName(), analyzerConfig, changedAt, indexedLaunches, executor));
+			}
+
+			long indexedLogs = tasks.stream().mapToLong(CompletableFuture::join).sum();
+			watermarks.save(new BasicDBObject("_id", project.getName()).append(WATERMARK_LAUNCH_ID, nextLaunchId)
+					.append(WATERMARK_CHANGED_AT, startedAt));
+
 			mailServiceFactory.getDefaultEmailService(true)
-					.sendIndexFinishedEmail("Index generation has been finished", user.getEmail(), indexedLogsCount.get());
+					.sendIndexFinishedEmail("Index generation has been finished", user.getEmail(), indexedLogs);
 		} finally {
+			executor.shutdown();
 			projectRepository.enableProjectIndexing(project.getName(), false);
 		}
 	}
@@ -242,6 +315,92 @@ public class LogIndexerService implements ILogIndexer {
 		mongoOperations.getCollection(CHECKPOINT_COLL).drop();
 	}
 
+	/**
+	 * Loads launches of the project created after the specified one
+	 * with only fields required for indexing
+	 *
+	 * @param project  Project name
+	 * @param launchId ID of the last indexed launch or <code>null</code> to load all launches
+	 * @return Launches ordered by creation
+	 */
+	private List<Launch> findLaunchesAfter(String project, String launchId) {
+		Query query = Query.query(where("projectRef").is(project)).with(new Sort(Sort.Direction.ASC, "_id"));
+		if (null != launchId) {
+			query.addCriteria(where("_id").gt(new ObjectId(launchId)));
+		}
+		query.fields().include("_id").include("name").include("projectRef").include("mode").include("status");
+		return mongoOperations.find(query, Launch.class);
+	}
+
+	/**
+	 * Re-sends items of already indexed launches which issues were changed
+	 * after the watermark. Items that can not be indexed anymore are removed from index
+	 *
+	 * @param project         Project name
+	 * @param analyzerConfig  Analyzer configuration of the project
+	 * @param changedAt       Time of the last indexed change
+	 * @param indexedLaunches Launches which are fully indexed in current run
+	 * @param executor        Executor of indexing tasks
+	 * @return Indexing tasks per launch
+	 */
+	private List<CompletableFuture<Long>> reindexChangedItems(String project, AnalyzerConfig analyzerConfig, Date changedAt,
+			Set<String> indexedLaunches, ExecutorService executor) {
+		Set<String> itemIds = findChangedItems(project, changedAt);
+		if (itemIds.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Map<Boolean, List<TestItem>> items = StreamSupport.stream(testItemRepository.findAll(itemIds).spliterator(), false)
+				.filter(it -> !indexedLaunches.contains(it.getLaunchRef()))
+				.collect(partitioningBy(ITEM_CAN_BE_INDEXED));
+
+		List<String> removed = items.get(false).stream().map(TestItem::getId).collect(toList());
+		if (!removed.isEmpty()) {
+			cleanIndex(project, removed);
+		}
+
+		Map<String, List<TestItem>> byLaunch = items.get(true).stream().collect(groupingBy(TestItem::getLaunchRef));
+		if (byLaunch.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Map<String, Launch> launches = StreamSupport.stream(launchRepository.findAll(byLaunch.keySet()).spliterator(), false)
+				.filter(LAUNCH_CAN_BE_INDEXED)
+				.collect(toMap(Launch::getId, it -> it));
+		return byLaunch.entrySet()
+				.stream()
+				.filter(it -> launches.containsKey(it.getKey()))
+				.map(it -> CompletableFuture.supplyAsync(() -> indexItems(launches.get(it.getKey()), analyzerConfig,
+						prepareItemsForIndexing(it.getValue())
+				), executor))
+				.collect(toList());
+	}
+
+	/**
+	 * Finds test items of the project which issues were changed
+	 * since specified time using activities log
+	 *
+	 * @param project   Project name
+	 * @param changedAt Start of the period
+	 * @return IDs of changed test items
+	 */
+	private Set<String> findChangedItems(String project, Date changedAt) {
+		String actions = Stream.of(UPDATE_ITEM, ANALYZE_ITEM, LINK_ISSUE, LINK_ISSUE_AA, UNLINK_ISSUE)
+				.map(ActivityEventType::getValue)
+				.collect(joining(","));
+		Filter filter = new Filter(Activity.class, Sets.newHashSet(new FilterCondition(IN, false, actions, Activity.ACTION_TYPE),
+				new FilterCondition(EQUALS, false, project, Activity.PROJECT_REF),
+				new FilterCondition(GREATER_THAN_OR_EQUALS, false, String.valueOf(changedAt.getTime()), LAST_MODIFIED)
+		));
+		Sort sort = new Sort(Sort.Direction.ASC, LAST_MODIFIED);
+		Set<String> itemIds = new HashSet<>();
+		Page<Activity> page;
+		int number = 0;
+		do {
+			page = activityRepository.findByFilter(filter, new PageRequest(number++, BATCH_SIZE, sort));
+			page.getContent().stream().map(Activity::getLoggedObjectRef).filter(Objects::nonNull).forEach(itemIds::add);
+		} while (page.hasNext());
+		return itemIds;
+	}
+
 	/**
 	 * Creates {@link IndexLaunch} for specified log if
 	 * it is suitable for indexing or else returns <code>null</code>
@@ -262,7 +421,8 @@ public class LogIndexerService implements ILogIndexer {
 				rqLaunch.setLaunchId(launch.getId());
 				rqLaunch.setLaunchName(launch.getName());
 				rqLaunch.setProject(launch.getProjectRef());
-				rqLaunch.setTestItems(Collections.singletonList(AnalyzerUtils.fromTestItem(testItem, Collections.singletonList(log))));
+				rqLaunch.setTestItems(
+						Collections.singletonList(AnalyzerUtils.fromTestItem(testItem, Collections.singletonList(logMessages.restore(log)))));
 			}
 		}
 		return rqLaunch;
@@ -279,7 +439,7 @@ public class LogIndexerService implements ILogIndexer {
 		return testItems.stream()
 				.filter(ITEM_CAN_BE_INDEXED)
 				.map(it -> AnalyzerUtils.fromTestItem(it,
-						logRepository.findGreaterOrEqualLevel(Collections.singletonList(it.getId()), LogLevel.ERROR)
+						logMessages.restore(logRepository.findGreaterOrEqualLevel(Collections.singletonList(it.getId()), LogLevel.ERROR))
 				))
 				.filter(it -> !CollectionUtils.isEmpty(it.getLogs()))
 				.collect(toList());
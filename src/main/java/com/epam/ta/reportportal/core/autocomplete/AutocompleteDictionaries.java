@@ -0,0 +1,318 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.autocomplete;
+
+import com.epam.ta.reportportal.database.entity.Launch;
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.events.LaunchDeletedEvent;
+import com.epam.ta.reportportal.events.LaunchStartedEvent;
+import com.epam.ta.reportportal.ws.model.launch.Mode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Enums;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * In-memory dictionaries for autocomplete of launch names, launch tags, launch owners
+ * and test item tags.<br>
+ * Launch dictionaries are built per project by single pass over launches when application
+ * is started and then maintained as launches are started, updated and deleted. Item tags
+ * dictionary is built per launch on first request and maintained as items are reported and updated.
+ * Until dictionaries are built (or if they are disabled with {@code rp.autocomplete.dictionaries.enabled})
+ * lookups return nothing and caller should query the database.
+ */
+@Component
+public class AutocompleteDictionaries {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AutocompleteDictionaries.class);
+
+	private final MongoOperations mongoOperations;
+
+	private final boolean enabled;
+
+	private final int limit;
+
+	private final ConcurrentMap<String, ProjectDictionaries> projects = new ConcurrentHashMap<>();
+
+	private final Cache<String, Dictionary> itemTags;
+
+	private volatile boolean ready;
+
+	/**
+	 * Launches seen while dictionaries are rebuilt and whether they are counted,
+	 * so launch reported during the scan isn't counted twice
+	 */
+	private Map<String, Boolean> counted;
+
+	@Autowired
+	public AutocompleteDictionaries(MongoOperations mongoOperations, @Value("${rp.autocomplete.dictionaries.enabled:true}") boolean enabled,
+			@Value("${rp.autocomplete.limit:50}") int limit, @Value("${rp.autocomplete.launches.cache:1000}") int launchesCacheSize) {
+		this.mongoOperations = mongoOperations;
+		this.enabled = enabled;
+		this.limit = limit;
+		this.itemTags = Caffeine.newBuilder().maximumSize(launchesCacheSize).expireAfterAccess(1, TimeUnit.HOURS).build();
+	}
+
+	/**
+	 * Builds launch dictionaries in background, so startup isn't delayed
+	 */
+	@EventListener
+	public void onApplicationReady(ApplicationReadyEvent event) {
+		if (enabled) {
+			new ThreadFactoryBuilder().setNameFormat("autocomplete-warm-up").setDaemon(true).build().newThread(this::rebuild).start();
+		}
+	}
+
+	@EventListener
+	public void onLaunchStarted(LaunchStartedEvent event) {
+		launchAdded(event.getLaunch());
+	}
+
+	@EventListener
+	public void onLaunchDeleted(LaunchDeletedEvent event) {
+		launchRemoved(event.getLaunch());
+	}
+
+	public Optional<List<String>> findLaunchNames(String project, String value) {
+		return find(project, value, dictionaries -> dictionaries.names);
+	}
+
+	public Optional<List<String>> findLaunchTags(String project, String value) {
+		return find(project, value, dictionaries -> dictionaries.tags);
+	}
+
+	public Optional<List<String>> findOwners(String project, String value, String mode) {
+		return Enums.getIfPresent(Mode.class, mode.toUpperCase()).toJavaUtil().flatMap(
+				launchMode -> find(project, value, dictionaries -> dictionaries.owners.get(launchMode)));
+	}
+
+	/**
+	 * Finds tags of test items of the launch. Dictionary of the launch is built on first request
+	 *
+	 * @param launchId ID of launch
+	 * @param value    String tags should contain
+	 * @return Found tags or empty if dictionaries are disabled
+	 */
+	public Optional<List<String>> findItemTags(String launchId, String value) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+		return Optional.of(itemTags.get(launchId, this::loadItemTags).find(value, limit));
+	}
+
+	/**
+	 * Adds values of new launch to dictionaries of it's project
+	 *
+	 * @param launch Launch
+	 */
+	public void launchAdded(Launch launch) {
+		if (enabled && null != launch.getProjectRef() && track(launch, true)) {
+			projects.computeIfAbsent(launch.getProjectRef(), project -> new ProjectDictionaries()).add(launch);
+		}
+	}
+
+	/**
+	 * Removes values of deleted launch from dictionaries of it's project
+	 *
+	 * @param launch Launch
+	 */
+	public void launchRemoved(Launch launch) {
+		if (!enabled) {
+			return;
+		}
+		boolean isCounted = track(launch, false);
+		ProjectDictionaries dictionaries = null == launch.getProjectRef() ? null : projects.get(launch.getProjectRef());
+		if (isCounted && null != dictionaries) {
+			dictionaries.remove(launch);
+		}
+		itemTags.invalidate(launch.getId());
+	}
+
+	/**
+	 * Drops dictionaries of deleted project
+	 *
+	 * @param project Name of project
+	 */
+	public void projectRemoved(String project) {
+		projects.remove(project);
+	}
+
+	/**
+	 * Replaces tags of test item in dictionary of it's launch
+	 *
+	 * @param launchId ID of launch
+	 * @param before   Previous tags of test item
+	 * @param after    Actual tags of test item
+	 */
+	public void itemTagsChanged(String launchId, Collection<String> before, Collection<String> after) {
+		Dictionary dictionary = enabled ? itemTags.getIfPresent(launchId) : null;
+		if (null == dictionary) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		Optional.ofNullable(before).ifPresent(tags -> tags.forEach(dictionary::remove));
+		Optional.ofNullable(after).ifPresent(tags -> tags.forEach(tag -> dictionary.add(tag, now)));
+	}
+
+	/**
+	 * Drops dictionary of item tags of the launch, e.g. when items are deleted.
+	 * It will be built again on next request
+	 *
+	 * @param launchId ID of launch
+	 */
+	public void itemsRemoved(String launchId) {
+		itemTags.invalidate(launchId);
+	}
+
+	private Optional<List<String>> find(String project, String value, Function<ProjectDictionaries, Dictionary> dictionary) {
+		if (!enabled || !ready) {
+			return Optional.empty();
+		}
+		ProjectDictionaries dictionaries = projects.get(project);
+		if (null == dictionaries) {
+			return Optional.of(Collections.emptyList());
+		}
+		return Optional.of(dictionary.apply(dictionaries).find(value, limit));
+	}
+
+	/**
+	 * Builds launch dictionaries from scratch by single pass over launches. Launches
+	 * started, updated and deleted during the pass are counted once. Lookups query
+	 * the database until it's finished
+	 */
+	public void rebuild() {
+		if (!enabled) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		ready = false;
+		synchronized (this) {
+			counted = new HashMap<>();
+			projects.clear();
+		}
+		itemTags.invalidateAll();
+		Query query = new Query();
+		query.fields().include("projectRef").include("name").include("tags").include("userRef").include("mode").include("startTime");
+		try (CloseableIterator<Launch> launches = mongoOperations.stream(query, Launch.class)) {
+			launches.forEachRemaining(launch -> {
+				if (null != launch.getProjectRef() && scanned(launch)) {
+					projects.computeIfAbsent(launch.getProjectRef(), project -> new ProjectDictionaries()).add(launch);
+				}
+			});
+			ready = true;
+			LOGGER.info("Autocomplete dictionaries of {} projects are built in {} ms", projects.size(),
+					System.currentTimeMillis() - start
+			);
+		} catch (Exception e) {
+			LOGGER.error("Unable to build autocomplete dictionaries. Autocomplete will query database.", e);
+		} finally {
+			synchronized (this) {
+				counted = null;
+			}
+		}
+	}
+
+	/**
+	 * Marks launch as counted by the scan
+	 *
+	 * @return TRUE if launch wasn't added or removed by event yet
+	 */
+	private synchronized boolean scanned(Launch launch) {
+		return null == launch.getId() || null == counted.putIfAbsent(launch.getId(), Boolean.TRUE);
+	}
+
+	/**
+	 * Tracks launch added or removed by event while dictionaries are rebuilt
+	 *
+	 * @return TRUE if dictionaries should be changed
+	 */
+	private synchronized boolean track(Launch launch, boolean added) {
+		if (null == counted || null == launch.getId()) {
+			return true;
+		}
+		boolean wasCounted = Boolean.TRUE.equals(counted.put(launch.getId(), added));
+		return added != wasCounted;
+	}
+
+	private Dictionary loadItemTags(String launchId) {
+		Dictionary dictionary = new Dictionary();
+		Query query = query(where("launchRef").is(launchId).and("tags").exists(true));
+		query.fields().include("tags").include("startTime");
+		try (CloseableIterator<TestItem> items = mongoOperations.stream(query, TestItem.class)) {
+			items.forEachRemaining(item -> {
+				long lastSeen = null == item.getStartTime() ? 0 : item.getStartTime().getTime();
+				item.getTags().forEach(tag -> dictionary.add(tag, lastSeen));
+			});
+		}
+		return dictionary;
+	}
+
+	private static final class ProjectDictionaries {
+		private final Dictionary names = new Dictionary();
+		private final Dictionary tags = new Dictionary();
+		private final Map<Mode, Dictionary> owners = new EnumMap<>(Mode.class);
+
+		ProjectDictionaries() {
+			Arrays.stream(Mode.values()).forEach(mode -> owners.put(mode, new Dictionary()));
+		}
+
+		void add(Launch launch) {
+			long lastSeen = null == launch.getStartTime() ? System.currentTimeMillis() : launch.getStartTime().getTime();
+			if (Mode.DEFAULT.equals(launch.getMode())) {
+				names.add(launch.getName(), lastSeen);
+			}
+			if (null != launch.getMode()) {
+				owners.get(launch.getMode()).add(launch.getUserRef(), lastSeen);
+			}
+			Optional.ofNullable(launch.getTags()).ifPresent(launchTags -> launchTags.forEach(tag -> tags.add(tag, lastSeen)));
+		}
+
+		void remove(Launch launch) {
+			if (Mode.DEFAULT.equals(launch.getMode())) {
+				names.remove(launch.getName());
+			}
+			if (null != launch.getMode()) {
+				owners.get(launch.getMode()).remove(launch.getUserRef());
+			}
+			Optional.ofNullable(launch.getTags()).ifPresent(launchTags -> launchTags.forEach(tags::remove));
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.autocomplete;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Set of values with usage counts ordered by lower-cased value, so values
+ * starting with some prefix are found without full scan. Values which contain
+ * requested string in the middle are found by scan of the dictionary, which is
+ * small compared to the data it's built from.
+ */
+class Dictionary {
+
+	private static final char SEPARATOR = '\u0000';
+
+	private static final Comparator<Entry> BY_USAGE = Comparator.comparingInt((Entry entry) -> entry.count)
+			.thenComparingLong(entry -> entry.lastSeen)
+			.reversed();
+
+	private final ConcurrentSkipListMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+
+	/**
+	 * Counts single usage of the value
+	 *
+	 * @param value    Value
+	 * @param lastSeen Time of usage
+	 */
+	synchronized void add(String value, long lastSeen) {
+		if (null == value) {
+			return;
+		}
+		Entry entry = entries.computeIfAbsent(key(value), key -> new Entry(value));
+		entry.count++;
+		entry.lastSeen = Math.max(entry.lastSeen, lastSeen);
+	}
+
+	/**
+	 * Removes single usage of the value. Value is removed once it's not used anymore
+	 *
+	 * @param value Value
+	 */
+	synchronized void remove(String value) {
+		if (null == value) {
+			return;
+		}
+		String key = key(value);
+		Entry entry = entries.get(key);
+		if (null != entry && --entry.count <= 0) {
+			entries.remove(key);
+		}
+	}
+
+	/**
+	 * Finds values containing the string ignoring case. Values starting with the string
+	 * go first, values are ordered by usage
+	 *
+	 * @param contains String to search
+	 * @param limit    Max count of values
+	 * @return Found values
+	 */
+	List<String> find(String contains, int limit) {
+		String lowerCased = contains.toLowerCase();
+		ConcurrentNavigableMap<String, Entry> startingWith = entries.subMap(lowerCased, true, lowerCased + Character.MAX_VALUE, true);
+		List<Entry> found = new ArrayList<>(startingWith.values());
+		found.sort(BY_USAGE);
+		if (found.size() < limit && !lowerCased.isEmpty()) {
+			List<Entry> containing = entries.values()
+					.stream()
+					.filter(entry -> !entry.lowerCased.startsWith(lowerCased) && entry.lowerCased.contains(lowerCased))
+					.sorted(BY_USAGE)
+					.collect(toList());
+			found.addAll(containing);
+		}
+		return found.stream().limit(limit).map(entry -> entry.value).collect(toList());
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	private static String key(String value) {
+		return value.toLowerCase() + SEPARATOR + value;
+	}
+
+	private static final class Entry {
+		private final String value;
+		private final String lowerCased;
+		private volatile int count;
+		private volatile long lastSeen;
+
+		Entry(String value) {
+			this.value = value;
+			this.lowerCased = value.toLowerCase();
+		}
+	}
+}
@@ -29,11 +29,11 @@ import com.epam.ta.reportportal.database.dao.TestItemRepository;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.database.entity.item.issue.TestItemIssue;
 import com.epam.ta.reportportal.database.entity.item.issue.TestItemIssueType;
+import com.epam.ta.reportportal.events.ItemIssueSnapshot;
 import com.epam.ta.reportportal.events.ItemIssueTypeDefined;
 import com.epam.ta.reportportal.events.TicketAttachedEvent;
 import com.epam.ta.reportportal.ws.converter.converters.IssueConverter;
 import com.epam.ta.reportportal.ws.model.issue.IssueDefinition;
-import org.apache.commons.lang3.SerializationUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
@@ -80,21 +80,21 @@ public class AnalyzeCollectorConfig {
 	};
 
 	private List<TestItem> resetItems(List<TestItem> items, String projectName, String username) {
-		List<TestItem> before = new ArrayList<>(items.size());
+		List<ItemIssueSnapshot> before = new ArrayList<>(items.size());
 		logIndexer.cleanIndex(projectName, items.stream().map(TestItem::getId).collect(Collectors.toList()));
-		Map<IssueDefinition, TestItem> definitions = new HashMap<>();
+		Map<IssueDefinition, ItemIssueSnapshot> definitions = new HashMap<>();
 		items.forEach(it -> {
 			IssueDefinition issueDefinition = new IssueDefinition();
 			issueDefinition.setIssue(IssueConverter.TO_MODEL.apply(new TestItemIssue()));
 			issueDefinition.setId(it.getId());
-			TestItem beforeItem = SerializationUtils.clone(it);
+			ItemIssueSnapshot beforeItem = ItemIssueSnapshot.of(it);
 			before.add(beforeItem);
 			definitions.put(issueDefinition, beforeItem);
 			it.setIssue(new TestItemIssue());
 		});
 		testItemRepository.save(items);
 		eventPublisher.publishEvent(new ItemIssueTypeDefined(definitions, username, projectName, null));
-		eventPublisher.publishEvent(new TicketAttachedEvent(before, items, username, projectName, null));
+		eventPublisher.publishEvent(new TicketAttachedEvent(before, ItemIssueSnapshot.of(items), username, projectName, null));
 		return items;
 	}
 
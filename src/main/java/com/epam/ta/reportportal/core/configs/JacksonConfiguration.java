@@ -40,7 +40,16 @@ public class JacksonConfiguration {
 	 */
 	@Bean(name = "objectMapper")
 	public ObjectMapper objectMapper() {
-		ObjectMapper om = new ObjectMapper();
+		return configure(new ObjectMapper());
+	}
+
+	/**
+	 * Applies common configuration to mapper of any data format, e.g. JSON or Smile
+	 *
+	 * @param om Mapper to be configured
+	 * @return Configured mapper
+	 */
+	public static ObjectMapper configure(ObjectMapper om) {
 		om.setAnnotationIntrospector(new JacksonAnnotationIntrospector());
 		om.configure(MapperFeature.DEFAULT_VIEW_INCLUSION, true);
 		om.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
@@ -21,6 +21,8 @@
 
 package com.epam.ta.reportportal.core.configs;
 
+import com.epam.ta.reportportal.core.throttling.FairTaskExecutor;
+import com.epam.ta.reportportal.core.throttling.ProjectRateLimiter;
 import com.epam.ta.reportportal.job.SaveBinaryDataJob;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
@@ -63,6 +65,11 @@ public class JobsConfiguration {
 		return executor;
 	}
 
+	@Bean(name = "saveLogsFairExecutor")
+	public FairTaskExecutor saveLogsFairExecutor(ProjectRateLimiter projectRateLimiter) {
+		return new FairTaskExecutor(saveLogsTaskExecutor(), 20, 400, projectRateLimiter::getWeight);
+	}
+
 	@Bean(name = "cleanLogsTaskExecutor")
 	public TaskExecutor cleanLogsTaskExecutor() {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -96,4 +103,9 @@ public class JobsConfiguration {
 		return threadPoolTaskExecutor;
 	}
 
+	@Bean(name = "autoAnalyzeFairExecutor")
+	public FairTaskExecutor autoAnalyzeFairExecutor(ProjectRateLimiter projectRateLimiter) {
+		return new FairTaskExecutor(autoAnalyzeTaskExecutor(), 10, 200, projectRateLimiter::getWeight);
+	}
+
 }
\ No newline at end of file
@@ -22,10 +22,14 @@
 package com.epam.ta.reportportal.core.configs;
 
 import com.epam.ta.reportportal.core.item.merge.strategy.*;
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.core.log.LogMessages;
+import com.epam.ta.reportportal.core.log.LogReferences;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoOperations;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -35,12 +39,24 @@ public class MergeStrategyConfig {
 	@Autowired
 	private TestItemRepository testItemRepository;
 
+	@Autowired
+	private MongoOperations mongoOperations;
+
+	@Autowired
+	private LogReferences logReferences;
+
+	@Autowired
+	private AttachmentStorage attachmentStorage;
+
+	@Autowired
+	private LogMessages logMessages;
+
 	@Bean
 	public Map<MergeStrategyType, MergeStrategy> mergeTypeMapping() {
 		Map<MergeStrategyType, MergeStrategy> mapping = new HashMap<>();
-		mapping.put(MergeStrategyType.TEST, new TestMergeStrategy(testItemRepository));
-		mapping.put(MergeStrategyType.SUITE, new SuiteMergeStrategy(testItemRepository));
-		mapping.put(MergeStrategyType.DEEP, new DeepMergeStrategy(testItemRepository));
+		mapping.put(MergeStrategyType.TEST, new TestMergeStrategy(testItemRepository, mongoOperations, logReferences, attachmentStorage, logMessages));
+		mapping.put(MergeStrategyType.SUITE, new SuiteMergeStrategy(testItemRepository, mongoOperations, logReferences, attachmentStorage, logMessages));
+		mapping.put(MergeStrategyType.DEEP, new DeepMergeStrategy(testItemRepository, mongoOperations, logReferences, attachmentStorage, logMessages));
 		return mapping;
 	}
 
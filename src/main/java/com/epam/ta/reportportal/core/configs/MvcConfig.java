@@ -41,19 +41,31 @@ import com.epam.ta.reportportal.commons.exception.forwarding.ClientResponseForwa
 import com.epam.ta.reportportal.commons.exception.rest.DefaultErrorResolver;
 import com.epam.ta.reportportal.commons.exception.rest.ReportPortalExceptionResolver;
 import com.epam.ta.reportportal.commons.exception.rest.RestExceptionHandler;
+import com.epam.ta.reportportal.core.throttling.ProjectRateLimiter;
+import com.epam.ta.reportportal.exception.TooManyRequestsException;
+import com.epam.ta.reportportal.ws.interceptor.GzipRequestFilter;
+import com.epam.ta.reportportal.ws.interceptor.ReportingThrottlingInterceptor;
 import com.epam.ta.reportportal.ws.resolver.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.google.common.base.Preconditions;
 import org.apache.commons.fileupload.disk.DiskFileItemFactory;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.web.HttpMessageConverters;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.security.access.PermissionEvaluator;
 import org.springframework.validation.beanvalidation.BeanValidationPostProcessor;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.multipart.MultipartHttpServletRequest;
@@ -62,8 +74,10 @@ import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 import org.springframework.web.servlet.config.annotation.*;
 
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 
@@ -82,6 +96,12 @@ public class MvcConfig extends WebMvcConfigurerAdapter {
 	@Autowired
 	private List<HttpMessageConverter<?>> converters;
 
+	@Autowired
+	private ProjectRateLimiter projectRateLimiter;
+
+	@Autowired
+	private PermissionEvaluator permissionEvaluator;
+
 	private static final String[] CLASSPATH_RESOURCE_LOCATIONS = { "classpath:/public/", "classpath:/META-INF/resources/",
 			"classpath:/resources/" };
 
@@ -110,6 +130,11 @@ public class MvcConfig extends WebMvcConfigurerAdapter {
 		return argumentResolver;
 	}
 
+	@Bean
+	public FieldsetResolver fieldsetResolver() {
+		return new FieldsetResolver();
+	}
+
 	@Bean
 	public JsonViewSupportFactoryBean jsonViewSupportFactoryBean() {
 		return new JsonViewSupportFactoryBean();
@@ -127,12 +152,21 @@ public class MvcConfig extends WebMvcConfigurerAdapter {
 		argumentResolvers.add(new ActiveUserWebArgumentResolver());
 		argumentResolvers.add(new FilterCriteriaResolver());
 		argumentResolvers.add(new PredefinedFilterCriteriaResolver());
+		argumentResolvers.add(fieldsetResolver());
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new ReportingThrottlingInterceptor(projectRateLimiter, permissionEvaluator))
+				.addPathPatterns("/*/launch/**", "/*/item/**", "/*/log/**", "/*/async/**");
 	}
 
 	@Override
 	public void configureMessageConverters(List<HttpMessageConverter<?>> converters) {
 		converters.clear();
 		converters.add(jsonConverter());
+		converters.add(smileConverter());
+		converters.add(cborConverter());
 	}
 
 	@Override
@@ -145,9 +179,11 @@ public class MvcConfig extends WebMvcConfigurerAdapter {
 		RestExceptionHandler handler = new RestExceptionHandler();
 		handler.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
 
-		DefaultErrorResolver defaultErrorResolver = new DefaultErrorResolver(ExceptionMappings.DEFAULT_MAPPING);
+		Map<Class<? extends Throwable>, HttpStatus> mappings = new HashMap<>(ExceptionMappings.DEFAULT_MAPPING);
+		mappings.put(TooManyRequestsException.class, HttpStatus.TOO_MANY_REQUESTS);
+		DefaultErrorResolver defaultErrorResolver = new DefaultErrorResolver(mappings);
 		handler.setErrorResolver(new ReportPortalExceptionResolver(defaultErrorResolver));
-		handler.setMessageConverters(Collections.singletonList(jsonConverter()));
+		handler.setMessageConverters(Arrays.asList(jsonConverter(), smileConverter(), cborConverter()));
 		exceptionResolvers.add(handler);
 	}
 
@@ -177,6 +213,29 @@ public class MvcConfig extends WebMvcConfigurerAdapter {
 		return new MappingJackson2HttpMessageConverter(objectMapper);
 	}
 
+	/**
+	 * Binary JSON-compatible format negotiated with {@code application/x-jackson-smile} media type
+	 */
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter smileConverter() {
+		return new MappingJackson2SmileHttpMessageConverter(JacksonConfiguration.configure(new ObjectMapper(new SmileFactory())));
+	}
+
+	/**
+	 * Binary JSON-compatible format negotiated with {@code application/cbor} media type
+	 */
+	@Bean
+	public MappingJackson2CborHttpMessageConverter cborConverter() {
+		return new MappingJackson2CborHttpMessageConverter(JacksonConfiguration.configure(new ObjectMapper(new CBORFactory())));
+	}
+
+	@Bean
+	public FilterRegistrationBean gzipRequestFilter(MultipartConfig multipartConfig) {
+		FilterRegistrationBean registration = new FilterRegistrationBean(new GzipRequestFilter(multipartConfig.maxDecompressedSize));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
+	}
+
 	@Bean
 	HttpMessageConverters httpMessageConverters() {
 		return new HttpMessageConverters(converters);
@@ -207,10 +266,26 @@ public class MvcConfig extends WebMvcConfigurerAdapter {
 		return commonsMultipartResolver;
 	}
 
+	/**
+	 * Streaming parser of multipart log batches. Parts smaller than
+	 * {@code rp.upload.inMemorySize} are kept in memory, larger ones are spooled to disk
+	 */
+	@Bean
+	public ServletFileUpload streamingFileUpload(MultipartConfig multipartConfig) {
+		DiskFileItemFactory factory = new DiskFileItemFactory((int) multipartConfig.inMemorySize, null);
+		factory.setFileCleaningTracker(null);
+		ServletFileUpload upload = new ServletFileUpload(factory);
+		upload.setSizeMax(multipartConfig.maxUploadSize);
+		upload.setFileSizeMax(multipartConfig.maxFileSize);
+		return upload;
+	}
+
 	@ConfigurationProperties("rp.upload")
 	public static class MultipartConfig {
 		long maxUploadSize = 64 * 1024 * 1024;
 		long maxFileSize = 16 * 1024 * 1024;
+		long maxDecompressedSize = 256 * 1024 * 1024;
+		long inMemorySize = 1024 * 1024;
 
 		public void setMaxUploadSize(String maxUploadSize) {
 			this.maxUploadSize = parseSize(maxUploadSize);
@@ -220,6 +295,14 @@ public class MvcConfig extends WebMvcConfigurerAdapter {
 			this.maxFileSize = parseSize(maxFileSize);
 		}
 
+		public void setMaxDecompressedSize(String maxDecompressedSize) {
+			this.maxDecompressedSize = parseSize(maxDecompressedSize);
+		}
+
+		public void setInMemorySize(String inMemorySize) {
+			this.inMemorySize = parseSize(inMemorySize);
+		}
+
 		private long parseSize(String size) {
 			Preconditions.checkArgument(!isNullOrEmpty(size), "Size must not be empty");
 			size = size.toUpperCase();
@@ -25,6 +25,8 @@ import com.epam.ta.reportportal.database.entity.user.UserRole;
 import com.epam.ta.reportportal.database.search.CriteriaMap;
 import com.epam.ta.reportportal.database.search.CriteriaMapFactory;
 import com.epam.ta.reportportal.database.search.Filter;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
+import com.epam.ta.reportportal.ws.resolver.FieldsetResolver;
 import com.epam.ta.reportportal.ws.resolver.FilterFor;
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.classmate.TypeResolver;
@@ -102,7 +104,7 @@ public class Swagger2Configuration {
 
 		// @formatter:off
         Docket rpDocket = new Docket(DocumentationType.SWAGGER_2)
-                .ignoredParameterTypes(Principal.class, Filter.class, Pageable.class)
+                .ignoredParameterTypes(Principal.class, Filter.class, Pageable.class, Fieldset.class)
                 .pathProvider(rpPathProvider())
                 .useDefaultResponseMessages(false)
 				.ignoredParameterTypes(UserRole.class)
@@ -139,6 +141,7 @@ public class Swagger2Configuration {
 
 		private final ResolvedType pageableType;
 		private final ResolvedType filterType;
+		private final ResolvedType fieldsetType;
 
 		@Autowired
 		public OperationPageableParameterReader(TypeNameExtractor nameExtractor, TypeResolver resolver) {
@@ -146,6 +149,7 @@ public class Swagger2Configuration {
 			this.resolver = resolver;
 			this.pageableType = resolver.resolve(Pageable.class);
 			this.filterType = resolver.resolve(Filter.class);
+			this.fieldsetType = resolver.resolve(Fieldset.class);
 		}
 
 		@Override
@@ -207,6 +211,15 @@ public class Swagger2Configuration {
 					//@formatter:on
 
 					context.operationBuilder().parameters(params);
+				} else if (fieldsetType.equals(resolvedType)) {
+					//@formatter:off
+					context.operationBuilder().parameters(Collections.singletonList(new ParameterBuilder()
+							.parameterType("query")
+							.name(FieldsetResolver.FIELDS_PARAMETER)
+							.modelRef(factory.apply(resolver.resolve(String.class)))
+							.description("Comma-separated names of fields to be returned. All fields are returned by default")
+							.build()));
+					//@formatter:on
 				}
 			}
 		}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.discovery;
+
+import com.epam.ta.reportportal.events.ConsulUpdateEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Keeps the latest {@link DiscoverySnapshot} so consumers of service instances
+ * read them from memory instead of querying discovery on every call.
+ * Snapshot is rebuilt on discovery events, bursts of events are collapsed
+ * into a single refresh.
+ */
+@Component
+public class DiscoveryRegistry {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DiscoveryRegistry.class);
+
+	private final DiscoveryClient discoveryClient;
+
+	private final TaskScheduler taskScheduler;
+
+	private final long debounceMillis;
+
+	private final AtomicReference<DiscoverySnapshot> snapshot = new AtomicReference<>();
+
+	private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+	@Autowired
+	public DiscoveryRegistry(DiscoveryClient discoveryClient, TaskScheduler taskScheduler,
+			@Value("${rp.discovery.refresh.debounce:1000}") long debounceMillis) {
+		this.discoveryClient = discoveryClient;
+		this.taskScheduler = taskScheduler;
+		this.debounceMillis = debounceMillis;
+	}
+
+	/**
+	 * @return Current snapshot. Loaded from discovery on first access.
+	 */
+	public DiscoverySnapshot getSnapshot() {
+		DiscoverySnapshot current = snapshot.get();
+		if (null == current) {
+			current = refresh();
+		}
+		return current;
+	}
+
+	/**
+	 * Reads services from discovery and replaces current snapshot
+	 *
+	 * @return New snapshot
+	 */
+	public DiscoverySnapshot refresh() {
+		DiscoverySnapshot loaded;
+		try {
+			List<ServiceInstance> instances = discoveryClient.getServices()
+					.stream()
+					.flatMap(service -> discoveryClient.getInstances(service).stream())
+					.collect(toList());
+			loaded = new DiscoverySnapshot(instances);
+		} catch (Exception e) {
+			LOGGER.error("Unable to load services from discovery. Keeping previous state.", e);
+			loaded = snapshot.get();
+			if (null == loaded) {
+				return DiscoverySnapshot.EMPTY;
+			}
+		}
+		snapshot.set(loaded);
+		return loaded;
+	}
+
+	@EventListener
+	public void onApplicationReady(ApplicationReadyEvent event) {
+		scheduleRefresh();
+	}
+
+	@EventListener
+	public void onConsulUpdate(ConsulUpdateEvent event) {
+		scheduleRefresh();
+	}
+
+	@EventListener
+	public void onHeartbeat(HeartbeatEvent event) {
+		scheduleRefresh();
+	}
+
+	/**
+	 * Schedules refresh if there is no pending one. All events received
+	 * until refresh starts are served by it.
+	 */
+	void scheduleRefresh() {
+		if (refreshScheduled.compareAndSet(false, true)) {
+			taskScheduler.schedule(() -> {
+				refreshScheduled.set(false);
+				refresh();
+			}, new Date(System.currentTimeMillis() + debounceMillis));
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.discovery;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.ImmutableTable;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.*;
+
+/**
+ * Immutable view of service instances registered in discovery,
+ * indexed by metadata keys (service types like 'analyzer' or 'extension')
+ * and by metadata key/value pairs.
+ */
+public final class DiscoverySnapshot {
+
+	static final DiscoverySnapshot EMPTY = new DiscoverySnapshot(Collections.emptyList());
+
+	private final List<ServiceInstance> instances;
+
+	private final ImmutableListMultimap<String, ServiceInstance> byMetadataKey;
+
+	private final ImmutableTable<String, String, ServiceInstance> byMetadataValue;
+
+	DiscoverySnapshot(List<ServiceInstance> instances) {
+		this.instances = ImmutableList.copyOf(instances);
+		ImmutableListMultimap.Builder<String, ServiceInstance> keyIndex = ImmutableListMultimap.builder();
+		Map<String, Map<String, ServiceInstance>> valueIndex = new HashMap<>();
+		for (ServiceInstance instance : this.instances) {
+			Map<String, String> metadata = Optional.ofNullable(instance.getMetadata()).orElse(Collections.emptyMap());
+			metadata.forEach((key, value) -> {
+				keyIndex.put(key, instance);
+				if (null != value) {
+					// the first registered instance wins
+					valueIndex.computeIfAbsent(key, k -> new HashMap<>()).putIfAbsent(value, instance);
+				}
+			});
+		}
+		ImmutableTable.Builder<String, String, ServiceInstance> valueTable = ImmutableTable.builder();
+		valueIndex.forEach((key, values) -> values.forEach((value, instance) -> valueTable.put(key, value, instance)));
+		this.byMetadataKey = keyIndex.build();
+		this.byMetadataValue = valueTable.build();
+	}
+
+	/**
+	 * @return All instances known to discovery
+	 */
+	public List<ServiceInstance> getInstances() {
+		return instances;
+	}
+
+	/**
+	 * @param metadataKey Metadata key, e.g. 'analyzer'
+	 * @return Instances which have provided metadata key
+	 */
+	public List<ServiceInstance> getInstances(String metadataKey) {
+		return byMetadataKey.get(metadataKey);
+	}
+
+	/**
+	 * @param metadataKey   Metadata key, e.g. 'extension'
+	 * @param metadataValue Metadata value, e.g. 'jira'
+	 * @return Instance which has provided metadata value
+	 */
+	public Optional<ServiceInstance> getInstance(String metadataKey, String metadataValue) {
+		return Optional.ofNullable(byMetadataValue.get(metadataKey, metadataValue));
+	}
+
+	/**
+	 * @param metadataKey Metadata key, e.g. 'extension'
+	 * @return Sorted set of values of provided metadata key
+	 */
+	public SortedSet<String> getMetadataValues(String metadataKey) {
+		return ImmutableSortedSet.copyOf(byMetadataValue.row(metadataKey).keySet());
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.externalsystem;
+
+import com.epam.ta.reportportal.database.entity.ExternalSystem;
+import com.epam.ta.reportportal.ws.model.externalsystem.PostFormField;
+import com.epam.ta.reportportal.ws.model.externalsystem.Ticket;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches tickets and ticket form definitions loaded from external systems.
+ * Keys are built from external system ID and ticket ID (or issue type),
+ * so the external system is asked only for entries which are absent or expired.
+ */
+@Component
+public class ExternalSystemCache {
+
+	private static final String KEY_SEPARATOR = ":";
+
+	private final StrategyProvider strategyProvider;
+
+	private final Cache<String, Ticket> tickets;
+
+	private final Cache<String, List<PostFormField>> ticketFields;
+
+	private final Cache<String, List<String>> issueTypes;
+
+	@Autowired
+	public ExternalSystemCache(StrategyProvider strategyProvider, @Value("${rp.cache.ticket.size:10000}") long cacheSize,
+			@Value("${rp.cache.ticket.expiration:5}") long expiration) {
+		this.strategyProvider = strategyProvider;
+		this.tickets = CacheBuilder.newBuilder().maximumSize(cacheSize).expireAfterWrite(expiration, TimeUnit.MINUTES).build();
+		this.ticketFields = CacheBuilder.newBuilder().maximumSize(cacheSize).expireAfterWrite(expiration, TimeUnit.MINUTES).build();
+		this.issueTypes = CacheBuilder.newBuilder().maximumSize(cacheSize).expireAfterWrite(expiration, TimeUnit.MINUTES).build();
+	}
+
+	/**
+	 * Get ticket from cache or load it from external system
+	 *
+	 * @param ticketId ID of ticket
+	 * @param system   External system
+	 * @return Found ticket
+	 */
+	public Optional<Ticket> getTicket(String ticketId, ExternalSystem system) {
+		String key = key(system.getId(), ticketId);
+		Ticket cached = tickets.getIfPresent(key);
+		if (null != cached) {
+			return Optional.of(cached);
+		}
+		Optional<Ticket> ticket = strategyProvider.getStrategy(system.getExternalSystemType()).getTicket(ticketId, system);
+		ticket.ifPresent(it -> tickets.put(key, it));
+		return ticket;
+	}
+
+	/**
+	 * Get tickets from cache. Only absent tickets are loaded from external system
+	 *
+	 * @param ticketIds IDs of tickets
+	 * @param system    External system
+	 * @return Map of found tickets where key is a ticket ID
+	 */
+	public Map<String, Ticket> getTickets(Collection<String> ticketIds, ExternalSystem system) {
+		Map<String, Ticket> result = new LinkedHashMap<>(ticketIds.size());
+		ExternalSystemStrategy strategy = null;
+		for (String ticketId : ticketIds) {
+			String key = key(system.getId(), ticketId);
+			Ticket ticket = tickets.getIfPresent(key);
+			if (null == ticket) {
+				if (null == strategy) {
+					strategy = strategyProvider.getStrategy(system.getExternalSystemType());
+				}
+				ticket = strategy.getTicket(ticketId, system).orElse(null);
+				if (null != ticket) {
+					tickets.put(key, ticket);
+				}
+			}
+			if (null != ticket) {
+				result.put(ticketId, ticket);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Get fields for ticket POST from cache or load them from external system
+	 *
+	 * @param issueType Type of issue
+	 * @param system    External system
+	 * @return List of form fields
+	 */
+	public List<PostFormField> getTicketFields(String issueType, ExternalSystem system) {
+		String key = key(system.getId(), issueType);
+		List<PostFormField> fields = ticketFields.getIfPresent(key);
+		if (null == fields) {
+			fields = strategyProvider.getStrategy(system.getExternalSystemType()).getTicketFields(issueType, system);
+			if (null != fields) {
+				ticketFields.put(key, fields);
+			}
+		}
+		return fields;
+	}
+
+	/**
+	 * Get allowable issue types from cache or load them from external system
+	 *
+	 * @param system External system
+	 * @return List of issue types
+	 */
+	public List<String> getIssueTypes(ExternalSystem system) {
+		List<String> types = issueTypes.getIfPresent(system.getId());
+		if (null == types) {
+			types = strategyProvider.getStrategy(system.getExternalSystemType()).getIssueTypes(system);
+			if (null != types) {
+				issueTypes.put(system.getId(), types);
+			}
+		}
+		return types;
+	}
+
+	/**
+	 * Put fresh ticket to cache, e.g. right after it has been posted
+	 *
+	 * @param systemId ID of external system
+	 * @param ticket   Ticket
+	 */
+	public void refreshTicket(String systemId, Ticket ticket) {
+		if (null != ticket && null != ticket.getId()) {
+			tickets.put(key(systemId, ticket.getId()), ticket);
+		}
+	}
+
+	/**
+	 * Evict ticket from cache, so next request loads actual state of it
+	 *
+	 * @param systemId ID of external system
+	 * @param ticketId ID of ticket
+	 */
+	public void invalidateTicket(String systemId, String ticketId) {
+		tickets.invalidate(key(systemId, ticketId));
+	}
+
+	/**
+	 * Evict all entries of external system, e.g. when it has been updated or removed
+	 *
+	 * @param systemId ID of external system
+	 */
+	public void invalidateSystem(String systemId) {
+		String prefix = systemId + KEY_SEPARATOR;
+		tickets.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+		ticketFields.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+		issueTypes.invalidate(systemId);
+	}
+
+	private static String key(String systemId, String id) {
+		return systemId + KEY_SEPARATOR + id;
+	}
+}
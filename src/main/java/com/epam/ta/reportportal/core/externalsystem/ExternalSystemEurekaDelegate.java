@@ -22,6 +22,7 @@ package com.epam.ta.reportportal.core.externalsystem;
 
 import com.epam.ta.reportportal.commons.Preconditions;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
+import com.epam.ta.reportportal.core.discovery.DiscoveryRegistry;
 import com.epam.ta.reportportal.database.entity.ExternalSystem;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.YesNoRS;
@@ -30,7 +31,6 @@ import com.epam.ta.reportportal.ws.model.externalsystem.PostTicketRQ;
 import com.epam.ta.reportportal.ws.model.externalsystem.Ticket;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.client.ServiceInstance;
-import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.client.RestTemplate;
@@ -45,8 +45,10 @@ import java.util.Optional;
  */
 public class ExternalSystemEurekaDelegate implements ExternalSystemStrategy {
 
+	private static final String EXTENSION_KEY = "extension";
+
 	@Autowired
-	private DiscoveryClient discoveryClient;
+	private DiscoveryRegistry discoveryRegistry;
 
 	private final RestTemplate eurekaTemplate;
 
@@ -102,11 +104,7 @@ public class ExternalSystemEurekaDelegate implements ExternalSystemStrategy {
 	private ServiceInstance getServiceInstance(String externalSystem) {
 		String externalSystemType = externalSystem.toLowerCase();
 
-		Optional<ServiceInstance> delegate = discoveryClient.getServices()
-				.stream()
-				.flatMap(service -> discoveryClient.getInstances(service).stream())
-				.filter(instance -> externalSystemType.equals(instance.getMetadata().get("extension")))
-				.findAny();
+		Optional<ServiceInstance> delegate = discoveryRegistry.getSnapshot().getInstance(EXTENSION_KEY, externalSystemType);
 
 		BusinessRule.expect(delegate, Preconditions.IS_PRESENT)
 				.verify(ErrorType.UNABLE_INTERACT_WITH_EXTRERNAL_SYSTEM,
@@ -24,7 +24,9 @@ package com.epam.ta.reportportal.core.externalsystem.handler;
 import com.epam.ta.reportportal.ws.model.externalsystem.PostFormField;
 import com.epam.ta.reportportal.ws.model.externalsystem.Ticket;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Get ticket handler(from external system)
@@ -44,6 +46,17 @@ public interface IGetTicketHandler {
 	 */
 	Ticket getTicket(String ticketId, String projectName, String systemId);
 
+	/**
+	 * Get tickets from specified external system by ids.<br>
+	 * <b>Note: resulting objects returned from cache, only absent ones are loaded.</b>
+	 *
+	 * @param ticketIds   Ticket IDs
+	 * @param projectName Project Name
+	 * @param systemId    ID of external system
+	 * @return Map of found tickets where key is a ticket ID
+	 */
+	Map<String, Ticket> getTickets(Collection<String> ticketIds, String projectName, String systemId);
+
 	/**
 	 * Get set of fields of external system to submit a ticket
 	 *
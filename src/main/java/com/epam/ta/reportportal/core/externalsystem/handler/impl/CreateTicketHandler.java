@@ -21,6 +21,7 @@
 
 package com.epam.ta.reportportal.core.externalsystem.handler.impl;
 
+import com.epam.ta.reportportal.core.externalsystem.ExternalSystemCache;
 import com.epam.ta.reportportal.core.externalsystem.ExternalSystemStrategy;
 import com.epam.ta.reportportal.core.externalsystem.StrategyProvider;
 import com.epam.ta.reportportal.core.externalsystem.handler.ICreateTicketHandler;
@@ -65,6 +66,9 @@ public class CreateTicketHandler implements ICreateTicketHandler {
 	@Autowired
 	private ExternalSystemRepository externalSystemRepository;
 
+	@Autowired
+	private ExternalSystemCache externalSystemCache;
+
 	@Autowired
 	private ApplicationEventPublisher eventPublisher;
 
@@ -82,6 +86,7 @@ public class CreateTicketHandler implements ICreateTicketHandler {
 		expect(system.getFields(), notNull()).verify(BAD_REQUEST_ERROR, "There aren't any submitted BTS fields!");
 		ExternalSystemStrategy externalSystemStrategy = strategyProvider.getStrategy(system.getExternalSystemType());
 		Ticket ticket = externalSystemStrategy.submitTicket(postTicketRQ, system);
+		externalSystemCache.refreshTicket(system.getId(), ticket);
 		testItems.forEach(
 				item -> eventPublisher.publishEvent(new TicketPostedEvent(ticket, item.getId(), username, projectName, item.getName())));
 		return ticket;
@@ -21,8 +21,7 @@
 
 package com.epam.ta.reportportal.core.externalsystem.handler.impl;
 
-import com.epam.ta.reportportal.core.externalsystem.ExternalSystemStrategy;
-import com.epam.ta.reportportal.core.externalsystem.StrategyProvider;
+import com.epam.ta.reportportal.core.externalsystem.ExternalSystemCache;
 import com.epam.ta.reportportal.core.externalsystem.handler.IGetTicketHandler;
 import com.epam.ta.reportportal.database.dao.ExternalSystemRepository;
 import com.epam.ta.reportportal.database.dao.ProjectRepository;
@@ -33,7 +32,9 @@ import com.epam.ta.reportportal.ws.model.externalsystem.Ticket;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import static com.epam.ta.reportportal.commons.Predicates.notNull;
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
@@ -48,14 +49,14 @@ import static com.epam.ta.reportportal.ws.model.ErrorType.*;
 @Service
 public class GetTicketHandler implements IGetTicketHandler {
 
-	private final StrategyProvider strategyProvider;
+	private final ExternalSystemCache externalSystemCache;
 	private final ProjectRepository projectRepository;
 	private final ExternalSystemRepository externalSystemRepository;
 
 	@Autowired
-	public GetTicketHandler(StrategyProvider strategyProvider, ProjectRepository projectRepository,
+	public GetTicketHandler(ExternalSystemCache externalSystemCache, ProjectRepository projectRepository,
 			ExternalSystemRepository externalSystemRepository) {
-		this.strategyProvider = strategyProvider;
+		this.externalSystemCache = externalSystemCache;
 		this.projectRepository = projectRepository;
 		this.externalSystemRepository = externalSystemRepository;
 	}
@@ -69,24 +70,28 @@ public class GetTicketHandler implements IGetTicketHandler {
 		// TODO update if project will be used different systems
 		ExternalSystem system = externalSystemRepository.findOne(systemId);
 		expect(system, notNull()).verify(EXTERNAL_SYSTEM_NOT_FOUND, systemId);
-		ExternalSystemStrategy externalSystemStrategy = strategyProvider.getStrategy(system.getExternalSystemType());
-		return externalSystemStrategy.getTicket(ticketId, system).orElse(null);
+		return externalSystemCache.getTicket(ticketId, system).orElse(null);
+	}
+
+	@Override
+	public Map<String, Ticket> getTickets(Collection<String> ticketIds, String projectName, String systemId) {
+		validateProject(projectName);
+		ExternalSystem system = validateExternalSystem(systemId);
+		return externalSystemCache.getTickets(ticketIds, system);
 	}
 
 	@Override
 	public List<PostFormField> getSubmitTicketFields(String ticketType, String projectName, String systemId) {
 		validateProject(projectName);
 		ExternalSystem system = validateExternalSystem(systemId);
-		ExternalSystemStrategy externalSystemStrategy = strategyProvider.getStrategy(system.getExternalSystemType());
-		return externalSystemStrategy.getTicketFields(ticketType, system);
+		return externalSystemCache.getTicketFields(ticketType, system);
 	}
 
 	@Override
 	public List<String> getAllowableIssueTypes(String projectName, String systemId) {
 		validateProject(projectName);
 		ExternalSystem system = validateExternalSystem(systemId);
-		ExternalSystemStrategy externalSystemStrategy = strategyProvider.getStrategy(system.getExternalSystemType());
-		return externalSystemStrategy.getIssueTypes(system);
+		return externalSystemCache.getIssueTypes(system);
 	}
 
 	private void validateProject(String projectName) {
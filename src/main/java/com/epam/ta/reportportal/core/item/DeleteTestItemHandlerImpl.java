@@ -22,6 +22,9 @@
 package com.epam.ta.reportportal.core.item;
 
 import com.epam.ta.reportportal.core.analyzer.ILogIndexer;
+import com.epam.ta.reportportal.core.autocomplete.AutocompleteDictionaries;
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.core.log.LogMessages;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacade;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacadeFactory;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
@@ -54,6 +57,7 @@ import static com.epam.ta.reportportal.database.entity.user.UserRole.ADMINISTRAT
 import static com.epam.ta.reportportal.ws.model.ErrorType.*;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 /**
  * Default implementation of {@link DeleteTestItemHandler}
@@ -76,6 +80,12 @@ class DeleteTestItemHandlerImpl implements DeleteTestItemHandler {
 	private UserRepository userRepository;
 	@Autowired
 	private ILogIndexer logIndexer;
+	@Autowired
+	private AutocompleteDictionaries autocompleteDictionaries;
+	@Autowired
+	private AttachmentStorage attachmentStorage;
+	@Autowired
+	private LogMessages logMessages;
 
 	@Override
 	public OperationCompletionRS deleteTestItem(String itemId, String projectName, String username, boolean isBatch) {
@@ -98,7 +108,13 @@ class DeleteTestItemHandlerImpl implements DeleteTestItemHandler {
 				statisticsFacade.deleteIssueStatistics(item);
 			}
 
+			List<String> itemIds = Stream.concat(Stream.of(itemId),
+					testItemRepository.findAllDescendants(itemId).stream().map(TestItem::getId)
+			).collect(toList());
+			attachmentStorage.detach(where("testItemRef").in(itemIds));
+			logMessages.remove(where("testItemRef").in(itemIds));
 			testItemRepository.delete(itemId);
+			autocompleteDictionaries.itemsRemoved(item.getLaunchRef());
 			if (!isBatch) {
 				logIndexer.cleanIndex(projectName, singletonList(itemId));
 			}
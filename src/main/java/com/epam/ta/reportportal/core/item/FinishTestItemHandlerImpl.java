@@ -22,6 +22,9 @@ package com.epam.ta.reportportal.core.item;
 
 import com.epam.ta.reportportal.commons.Preconditions;
 import com.epam.ta.reportportal.commons.validation.BusinessRuleViolationException;
+import com.epam.ta.reportportal.core.autocomplete.AutocompleteDictionaries;
+import com.epam.ta.reportportal.core.progress.ProgressBroadcaster;
+import com.epam.ta.reportportal.core.statistics.StatisticsBuffer;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacade;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacadeFactory;
 import com.epam.ta.reportportal.database.dao.ExternalSystemRepository;
@@ -81,6 +84,9 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 	private TestItemRepository testItemRepository;
 	private StatisticsFacadeFactory statisticsFacadeFactory;
 	private ExternalSystemRepository externalSystemRepository;
+	private ProgressBroadcaster progressBroadcaster;
+	private StatisticsBuffer statisticsBuffer;
+	private AutocompleteDictionaries autocompleteDictionaries;
 
 	@Autowired
 	public void setProjectRepository(ProjectRepository projectRepository) {
@@ -107,9 +113,26 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 		this.externalSystemRepository = externalSystemRepository;
 	}
 
+	@Autowired
+	public void setProgressBroadcaster(ProgressBroadcaster progressBroadcaster) {
+		this.progressBroadcaster = progressBroadcaster;
+	}
+
+	@Autowired
+	public void setStatisticsBuffer(StatisticsBuffer statisticsBuffer) {
+		this.statisticsBuffer = statisticsBuffer;
+	}
+
+	@Autowired
+	public void setAutocompleteDictionaries(AutocompleteDictionaries autocompleteDictionaries) {
+		this.autocompleteDictionaries = autocompleteDictionaries;
+	}
+
 	@Override
 	public OperationCompletionRS finishTestItem(String testItemId, FinishTestItemRQ finishExecutionRQ, String username) {
 
+		/* status of item with descendants is resolved from it's statistics */
+		statisticsBuffer.flush();
 		TestItem testItem = testItemRepository.findOne(testItemId);
 
 		verifyTestItem(testItem, testItemId, finishExecutionRQ, fromValue(finishExecutionRQ.getStatus()));
@@ -119,7 +142,9 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 			testItem.setItemDescription(finishExecutionRQ.getDescription());
 		}
 		if (!isEmpty(finishExecutionRQ.getTags())) {
-			testItem.setTags(Sets.newHashSet(trimStrings(update(finishExecutionRQ.getTags()))));
+			Set<String> tags = Sets.newHashSet(trimStrings(update(finishExecutionRQ.getTags())));
+			autocompleteDictionaries.itemTagsChanged(testItem.getLaunchRef(), testItem.getTags(), tags);
+			testItem.setTags(tags);
 		}
 		Launch launch = launchRepository.findOne(testItem.getLaunchRef());
 		expect(launch, notNull()).verify(LAUNCH_NOT_FOUND, testItem.getLaunchRef());
@@ -160,6 +185,7 @@ class FinishTestItemHandlerImpl implements FinishTestItemHandler {
 		} catch (Exception e) {
 			throw new ReportPortalException("Error during updating TestItem " + e.getMessage(), e);
 		}
+		progressBroadcaster.itemFinished(testItem);
 
 		return new OperationCompletionRS("TestItem with ID = '" + testItemId + "' successfully finished.");
 	}
@@ -23,8 +23,11 @@ package com.epam.ta.reportportal.core.item;
 
 import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.database.search.Queryable;
+import com.epam.ta.reportportal.util.KeysetPage;
 import com.epam.ta.reportportal.ws.model.TestItemResource;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -49,9 +52,37 @@ public interface GetTestItemHandler {
 	 * @param filterable
 	 * @param pageable
 	 * @param projectName
+	 * @param fieldset    Requested fields of items
 	 * @return
 	 */
-	Iterable<TestItemResource> getTestItems(Queryable filterable, Pageable pageable, String launchId, String projectName);
+	Iterable<TestItemResource> getTestItems(Queryable filterable, Pageable pageable, String launchId, String projectName,
+			Fieldset fieldset);
+
+	/**
+	 * Gets window of {@link TestItem} instances ordered by start time.
+	 * Window position is defined by the cursor instead of page number
+	 *
+	 * @param filterable  Filter definition
+	 * @param pageable    Sort direction and window size
+	 * @param cursor      Cursor of the window or <code>null</code> for the first one
+	 * @param total       Whether total count of items should be calculated
+	 * @param launchId    Launch ID
+	 * @param projectName Project name
+	 * @return Window of test items
+	 */
+	KeysetPage<TestItemResource> getTestItems(Queryable filterable, Pageable pageable, String cursor, boolean total, String launchId,
+			String projectName);
+
+	/**
+	 * Gets complete tree of launch items to be written directly to response
+	 *
+	 * @param launchId    Launch ID
+	 * @param projectName Project name
+	 * @param fieldset    Requested fields of items
+	 * @param flat        Whether items should be written as newline delimited JSON instead of nested ones
+	 * @return Response body writing the tree
+	 */
+	StreamingResponseBody getLaunchTree(String launchId, String projectName, Fieldset fieldset, boolean flat);
 
 	/**
 	 * Get specified tags
@@ -23,18 +23,27 @@ package com.epam.ta.reportportal.core.item;
 
 import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
+import com.epam.ta.reportportal.core.autocomplete.AutocompleteDictionaries;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
 import com.epam.ta.reportportal.database.entity.Launch;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.database.search.Queryable;
+import com.epam.ta.reportportal.util.KeysetCursor;
+import com.epam.ta.reportportal.util.KeysetPage;
+import com.epam.ta.reportportal.util.Projections;
+import com.epam.ta.reportportal.util.StreamingPage;
 import com.epam.ta.reportportal.ws.converter.TestItemResourceAssembler;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.TestItemResource;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static com.epam.ta.reportportal.commons.Predicates.equalTo;
@@ -51,15 +60,26 @@ import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSup
  */
 @Service
 class GetTestItemHandlerImpl implements GetTestItemHandler {
+
+	private static final String START_TIME = "startTime";
+	private static final List<String> PATH_FIELDS = Collections.singletonList("path");
+
 	private final LaunchRepository launchRepository;
 	private final TestItemRepository testItemRepository;
 	private final TestItemResourceAssembler itemAssembler;
+	private final MongoOperations mongoOperations;
+	private final AutocompleteDictionaries autocompleteDictionaries;
+	private final LaunchTreeWriter launchTreeWriter;
 
 	public GetTestItemHandlerImpl(LaunchRepository launchRepository, TestItemRepository testItemRepository,
-			TestItemResourceAssembler itemAssembler) {
+			TestItemResourceAssembler itemAssembler, MongoOperations mongoOperations, AutocompleteDictionaries autocompleteDictionaries,
+			LaunchTreeWriter launchTreeWriter) {
 		this.launchRepository = launchRepository;
 		this.testItemRepository = testItemRepository;
 		this.itemAssembler = itemAssembler;
+		this.mongoOperations = mongoOperations;
+		this.autocompleteDictionaries = autocompleteDictionaries;
+		this.launchTreeWriter = launchTreeWriter;
 	}
 
 	/*
@@ -84,14 +104,42 @@ class GetTestItemHandlerImpl implements GetTestItemHandler {
 	 * .lang.String, java.util.Set, org.springframework.data.domain.Pageable)
 	 */
 	@Override
-	public Iterable<TestItemResource> getTestItems(Queryable filterable, Pageable pageable, String launchId, String projectName) {
+	public Iterable<TestItemResource> getTestItems(Queryable filterable, Pageable pageable, String launchId, String projectName,
+			Fieldset fieldset) {
+		validate(launchId, projectName);
+		/* only paths of items are preloaded to resolve path names for all page at once */
+		List<TestItem> paths = fieldset.contains(TestItemResourceAssembler.PATH_NAMES) ?
+				Projections.find(mongoOperations, TestItem.class, filterable, pageable, PATH_FIELDS) :
+				null;
+		return new StreamingPage<>(mongoOperations, TestItem.class, filterable, pageable, fieldset.getProjection(),
+				itemAssembler.resourceConverter(paths)
+		);
+	}
+
+	@Override
+	public KeysetPage<TestItemResource> getTestItems(Queryable filterable, Pageable pageable, String cursor, boolean total,
+			String launchId, String projectName) {
+		validate(launchId, projectName);
+		KeysetPage<TestItem> items = KeysetPage.find(mongoOperations, TestItem.class, filterable,
+				null == cursor ? null : KeysetCursor.decode(cursor), START_TIME, TestItem::getStartTime, TestItem::getId,
+				KeysetPage.directionOf(pageable), pageable.getPageSize()
+		);
+		if (total) {
+			items = items.withTotal(KeysetPage.count(mongoOperations, TestItem.class, filterable));
+		}
+		return itemAssembler.toKeysetPage(items);
+	}
+
+	@Override
+	public StreamingResponseBody getLaunchTree(String launchId, String projectName, Fieldset fieldset, boolean flat) {
 		validate(launchId, projectName);
-		return itemAssembler.toPagedResources(testItemRepository.findByFilter(filterable, pageable));
+		return out -> launchTreeWriter.write(launchId, fieldset, flat, out);
 	}
 
 	@Override
 	public List<String> getTags(String launchId, String value) {
-		return testItemRepository.findDistinctValues(launchId, value, "tags");
+		return autocompleteDictionaries.findItemTags(launchId, value)
+				.orElseGet(() -> testItemRepository.findDistinctValues(launchId, value, "tags"));
 	}
 
 	@Override
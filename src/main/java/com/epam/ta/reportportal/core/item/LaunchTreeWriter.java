@@ -0,0 +1,211 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.item;
+
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.ws.converter.TestItemResourceAssembler;
+import com.epam.ta.reportportal.ws.converter.converters.TestItemConverter;
+import com.epam.ta.reportportal.ws.model.TestItemResource;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
+import com.epam.ta.reportportal.ws.resolver.FieldsetAware;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Writes complete tree of launch items directly to output stream.<br>
+ * Skeleton of the tree (IDs and parents only) is read with single cursor
+ * ordered by start time and items are then loaded by batches in depth-first
+ * order, so count of queries doesn't depend on count of parents and only ancestors
+ * of current item and one batch are kept in memory besides the skeleton.
+ * Nesting is rebuilt with stack of ancestors, which also gives path names
+ * without extra queries. Tree is written either as JSON array of nested
+ * items or as newline delimited JSON with one item per line in the same order.
+ */
+@Component
+public class LaunchTreeWriter {
+
+	public static final String NDJSON_VALUE = "application/x-ndjson";
+
+	private static final String CHILDREN = "children";
+
+	private static final String START_TIME = "startTime";
+
+	private static final int BATCH_SIZE = 1000;
+
+	/*
+	 * Fields needed to walk the tree, loaded even if they aren't requested
+	 */
+	private static final List<String> TREE_FIELDS = ImmutableList.of("name", "parent", "path");
+
+	private final MongoOperations mongoOperations;
+
+	private final ObjectMapper objectMapper;
+
+	@Autowired
+	public LaunchTreeWriter(MongoOperations mongoOperations, ObjectMapper objectMapper) {
+		this.mongoOperations = mongoOperations;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Writes items tree of the launch
+	 *
+	 * @param launchId ID of launch
+	 * @param fieldset Fields of items to be written
+	 * @param flat     Whether items should be written as newline delimited JSON
+	 * @param out      Output stream
+	 * @throws IOException in case of output errors
+	 */
+	public void write(String launchId, Fieldset fieldset, boolean flat, OutputStream out) throws IOException {
+		List<String> order = depthFirstOrder(launchId);
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+			if (flat) {
+				/* lines are delimited explicitly */
+				generator.setRootValueSeparator(null);
+			} else {
+				generator.writeStartArray();
+			}
+			Deque<TestItem> ancestors = new ArrayDeque<>();
+			for (int i = 0; i < order.size(); i += BATCH_SIZE) {
+				List<String> batch = order.subList(i, Math.min(i + BATCH_SIZE, order.size()));
+				Map<String, TestItem> items = load(batch, fieldset);
+				for (String id : batch) {
+					/* item could be deleted after the skeleton was read */
+					TestItem item = items.get(id);
+					if (null != item) {
+						while (!ancestors.isEmpty() && !ancestors.peekLast().getId().equals(item.getParent())) {
+							ancestors.removeLast();
+							close(flat, generator);
+						}
+						writeItem(item, ancestors, fieldset, flat, generator);
+						ancestors.addLast(item);
+					}
+				}
+			}
+			while (!ancestors.isEmpty()) {
+				ancestors.removeLast();
+				close(flat, generator);
+			}
+			if (!flat) {
+				generator.writeEndArray();
+			}
+		}
+	}
+
+	/**
+	 * @return IDs of launch items in depth-first order, siblings are ordered by start time
+	 */
+	private List<String> depthFirstOrder(String launchId) {
+		Query query = query(where("launchRef").is(launchId)).with(new Sort(Sort.Direction.ASC, START_TIME, "_id"));
+		query.fields().include("parent");
+		Map<String, List<String>> children = new HashMap<>();
+		try (CloseableIterator<TestItem> items = mongoOperations.stream(query, TestItem.class)) {
+			items.forEachRemaining(item -> children.computeIfAbsent(item.getParent(), parent -> new ArrayList<>()).add(item.getId()));
+		}
+		List<String> order = new ArrayList<>();
+		Deque<Iterator<String>> levels = new ArrayDeque<>();
+		levels.push(children.getOrDefault(null, Collections.emptyList()).iterator());
+		while (!levels.isEmpty()) {
+			Iterator<String> level = levels.peek();
+			if (level.hasNext()) {
+				String id = level.next();
+				order.add(id);
+				Optional.ofNullable(children.remove(id)).ifPresent(it -> levels.push(it.iterator()));
+			} else {
+				levels.pop();
+			}
+		}
+		return order;
+	}
+
+	private Map<String, TestItem> load(List<String> ids, Fieldset fieldset) {
+		Query query = query(where("_id").in(ids));
+		if (!fieldset.getProjection().isEmpty()) {
+			fieldset.getProjection().forEach(field -> query.fields().include(field));
+			TREE_FIELDS.forEach(field -> query.fields().include(field));
+		}
+		return mongoOperations.find(query, TestItem.class).stream().collect(Collectors.toMap(TestItem::getId, it -> it));
+	}
+
+	/**
+	 * Writes item itself. Nested item is left open for its children
+	 */
+	private void writeItem(TestItem item, Deque<TestItem> ancestors, Fieldset fieldset, boolean flat, JsonGenerator generator)
+			throws IOException {
+		TestItemResource resource = TestItemConverter.TO_RESOURCE.apply(item);
+		if (fieldset.contains(TestItemResourceAssembler.PATH_NAMES)) {
+			resource.setPathNames(pathNames(ancestors));
+		}
+
+		JsonNode node = objectMapper.valueToTree(fieldset.isAll() ? resource : new FieldsetAware(resource, fieldset));
+		if (flat) {
+			generator.writeTree(node);
+			generator.writeRaw('\n');
+		} else {
+			generator.writeStartObject();
+			for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				generator.writeFieldName(field.getKey());
+				generator.writeTree(field.getValue());
+			}
+			generator.writeArrayFieldStart(CHILDREN);
+		}
+	}
+
+	private static void close(boolean flat, JsonGenerator generator) throws IOException {
+		if (!flat) {
+			generator.writeEndArray();
+			generator.writeEndObject();
+		}
+	}
+
+	private static LinkedHashMap<String, String> pathNames(Deque<TestItem> ancestors) {
+		LinkedHashMap<String, String> pathNames = new LinkedHashMap<>();
+		ancestors.forEach(ancestor -> pathNames.put(ancestor.getId(), ancestor.getName()));
+		return pathNames;
+	}
+}
@@ -40,6 +40,16 @@ public interface StartTestItemHandler {
 	 */
 	ItemCreatedRS startRootItem(String projectName, StartTestItemRQ rq);
 
+	/**
+	 * Start Root item operation with ID generated by client
+	 *
+	 * @param projectName Name of the project
+	 * @param rq          Item details
+	 * @param itemId      ID of new item
+	 * @return ItemID and uniqueID of test item
+	 */
+	ItemCreatedRS startRootItem(String projectName, StartTestItemRQ rq, String itemId);
+
 	/**
 	 * Start child item operation
 	 *
@@ -48,4 +58,14 @@ public interface StartTestItemHandler {
 	 * @return ItemID and uniqueID of test item
 	 */
 	ItemCreatedRS startChildItem(String projectName, StartTestItemRQ rq, String rootItem);
+
+	/**
+	 * Start child item operation with ID generated by client
+	 *
+	 * @param projectName Name of the project
+	 * @param rq          Item details
+	 * @param itemId      ID of new item
+	 * @return ItemID and uniqueID of test item
+	 */
+	ItemCreatedRS startChildItem(String projectName, StartTestItemRQ rq, String rootItem, String itemId);
 }
\ No newline at end of file
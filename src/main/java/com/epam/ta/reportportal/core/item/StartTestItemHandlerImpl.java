@@ -23,6 +23,8 @@ package com.epam.ta.reportportal.core.item;
 
 import com.epam.ta.reportportal.commons.Preconditions;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.autocomplete.AutocompleteDictionaries;
+import com.epam.ta.reportportal.core.progress.ProgressBroadcaster;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
 import com.epam.ta.reportportal.database.entity.Launch;
@@ -31,6 +33,7 @@ import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.ws.converter.builders.TestItemBuilder;
 import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
 import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
+import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -59,6 +62,8 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
 	private LaunchRepository launchRepository;
 	private Provider<TestItemBuilder> testItemBuilder;
 	private UniqueIdGenerator identifierGenerator;
+	private ProgressBroadcaster progressBroadcaster;
+	private AutocompleteDictionaries autocompleteDictionaries;
 
 	@Autowired
 	public void setIdentifierGenerator(UniqueIdGenerator identifierGenerator) {
@@ -80,18 +85,36 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
 		this.testItemBuilder = testItemBuilder;
 	}
 
+	@Autowired
+	public void setProgressBroadcaster(ProgressBroadcaster progressBroadcaster) {
+		this.progressBroadcaster = progressBroadcaster;
+	}
+
+	@Autowired
+	public void setAutocompleteDictionaries(AutocompleteDictionaries autocompleteDictionaries) {
+		this.autocompleteDictionaries = autocompleteDictionaries;
+	}
+
 	/**
 	 * Starts root item and related to the specific launch
 	 */
 	@Override
 	public ItemCreatedRS startRootItem(String projectName, StartTestItemRQ rq) {
+		return startRootItem(projectName, rq, null);
+	}
+
+	@Override
+	public ItemCreatedRS startRootItem(String projectName, StartTestItemRQ rq, String itemId) {
 		Launch launch = launchRepository.loadStatusProjectRefAndStartTime(rq.getLaunchId());
 		validate(projectName, rq, launch);
 		TestItem item = testItemBuilder.get().addStartItemRequest(rq).addStatus(Status.IN_PROGRESS).addLaunch(launch).build();
+		assignId(item, itemId);
 		if (null == item.getUniqueId()) {
 			item.setUniqueId(identifierGenerator.generate(item));
 		}
 		testItemRepository.save(item);
+		autocompleteDictionaries.itemTagsChanged(item.getLaunchRef(), null, item.getTags());
+		progressBroadcaster.itemStarted(item);
 		return new ItemCreatedRS(item.getId(), item.getUniqueId());
 	}
 
@@ -100,6 +123,11 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
 	 */
 	@Override
 	public ItemCreatedRS startChildItem(String projectName, StartTestItemRQ rq, String parent) {
+		return startChildItem(projectName, rq, parent, null);
+	}
+
+	@Override
+	public ItemCreatedRS startChildItem(String projectName, StartTestItemRQ rq, String parent, String itemId) {
 		TestItem parentItem = testItemRepository.findOne(parent);
 
 		validate(parentItem, parent);
@@ -111,6 +139,7 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
 				.addPath(parentItem)
 				.addStatus(Status.IN_PROGRESS)
 				.build();
+		assignId(item, itemId);
 
 		if (null == item.getUniqueId()) {
 			item.setUniqueId(identifierGenerator.generate(item));
@@ -125,10 +154,29 @@ class StartTestItemHandlerImpl implements StartTestItemHandler {
 		if (!parentItem.hasChilds()) {
 			testItemRepository.updateHasChilds(parentItem.getId(), true);
 		}
+		autocompleteDictionaries.itemTagsChanged(item.getLaunchRef(), null, item.getTags());
+		progressBroadcaster.itemStarted(item);
 
 		return new ItemCreatedRS(item.getId(), item.getUniqueId());
 	}
 
+	/**
+	 * Applies ID generated by client. It should be valid {@link ObjectId}
+	 * to keep items ordered by creation time
+	 */
+	private void assignId(TestItem item, String itemId) {
+		if (null == itemId) {
+			return;
+		}
+		expect(ObjectId.isValid(itemId), equalTo(true)).verify(INCORRECT_REQUEST,
+				Suppliers.formattedSupplier("Test item ID '{}' is not a valid ObjectId", itemId)
+		);
+		expect(testItemRepository.exists(itemId), equalTo(false)).verify(BAD_REQUEST_ERROR,
+				Suppliers.formattedSupplier("Test item with ID '{}' already exists", itemId)
+		);
+		item.setId(itemId);
+	}
+
 	private void validate(String projectName, StartTestItemRQ rq, Launch launch) {
 		expect(launch, notNull()).verify(LAUNCH_NOT_FOUND, rq.getLaunchId());
 		expect(projectName.toLowerCase(), equalTo(launch.getProjectRef())).verify(ACCESS_DENIED);
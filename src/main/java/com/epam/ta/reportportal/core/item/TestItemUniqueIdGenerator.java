@@ -64,7 +64,20 @@ public class TestItemUniqueIdGenerator implements UniqueIdGenerator {
 
 	@Override
 	public String generate(TestItem testItem) {
-		String forEncoding = prepareForEncoding(testItem);
+		Launch launch = launchRepository.findOne(testItem.getLaunchRef());
+		return generate(testItem, launch, testItemRepository.findPathNames(testItem.getPath()));
+	}
+
+	/**
+	 * Generates the unique identifier for test item without database lookups
+	 *
+	 * @param testItem  source for id
+	 * @param launch    launch of the item
+	 * @param pathNames names of items by ID, should contain all item's ancestors
+	 * @return unique id
+	 */
+	public String generate(TestItem testItem, Launch launch, Map<String, String> pathNames) {
+		String forEncoding = prepareForEncoding(testItem, launch, pathNames);
 		return TRAIT + DigestUtils.md5Hex(forEncoding);
 	}
 
@@ -73,11 +86,10 @@ public class TestItemUniqueIdGenerator implements UniqueIdGenerator {
 		return !Strings.isNullOrEmpty(encoded) && encoded.startsWith(TRAIT);
 	}
 
-	private String prepareForEncoding(TestItem testItem) {
-		Launch launch = launchRepository.findOne(testItem.getLaunchRef());
+	private String prepareForEncoding(TestItem testItem, Launch launch, Map<String, String> names) {
 		String launchName = launch.getName();
 		String projectName = launch.getProjectRef();
-		List<String> pathNames = getPathNames(testItem.getPath());
+		List<String> pathNames = testItem.getPath().stream().map(names::get).collect(Collectors.toList());
 		String itemName = testItem.getName();
 		List<Parameter> parameters = Optional.ofNullable(testItem.getParameters()).orElse(Collections.emptyList());
 		StringJoiner joiner = new StringJoiner(";");
@@ -93,9 +105,4 @@ public class TestItemUniqueIdGenerator implements UniqueIdGenerator {
 		}
 		return joiner.toString();
 	}
-
-	private List<String> getPathNames(List<String> path) {
-		Map<String, String> names = testItemRepository.findPathNames(path);
-		return path.stream().map(names::get).collect(Collectors.toList());
-	}
 }
\ No newline at end of file
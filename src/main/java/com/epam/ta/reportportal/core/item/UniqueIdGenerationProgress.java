@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.item;
+
+/**
+ * Progress of test items unique ID regeneration
+ */
+public class UniqueIdGenerationProgress {
+
+	private final boolean running;
+	private final boolean finished;
+	private final long total;
+	private final long processed;
+	private final int ranges;
+	private final int completedRanges;
+
+	public UniqueIdGenerationProgress(boolean running, boolean finished, long total, long processed, int ranges, int completedRanges) {
+		this.running = running;
+		this.finished = finished;
+		this.total = total;
+		this.processed = processed;
+		this.ranges = ranges;
+		this.completedRanges = completedRanges;
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
+	public boolean isFinished() {
+		return finished;
+	}
+
+	public long getTotal() {
+		return total;
+	}
+
+	public long getProcessed() {
+		return processed;
+	}
+
+	public int getRanges() {
+		return ranges;
+	}
+
+	public int getCompletedRanges() {
+		return completedRanges;
+	}
+}
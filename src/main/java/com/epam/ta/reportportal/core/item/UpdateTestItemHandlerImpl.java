@@ -25,7 +25,8 @@ import com.epam.ta.reportportal.commons.validation.BusinessRuleViolationExceptio
 import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.analyzer.impl.IssuesAnalyzerService;
 import com.epam.ta.reportportal.core.analyzer.impl.LogIndexerService;
-import com.epam.ta.reportportal.core.statistics.StatisticsFacadeFactory;
+import com.epam.ta.reportportal.core.autocomplete.AutocompleteDictionaries;
+import com.epam.ta.reportportal.core.statistics.IssueStatisticsDelta;
 import com.epam.ta.reportportal.database.dao.*;
 import com.epam.ta.reportportal.database.entity.ExternalSystem;
 import com.epam.ta.reportportal.database.entity.Launch;
@@ -35,8 +36,10 @@ import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.database.entity.item.issue.TestItemIssue;
 import com.epam.ta.reportportal.database.entity.statistics.StatisticSubType;
 import com.epam.ta.reportportal.database.entity.user.UserRole;
+import com.epam.ta.reportportal.events.ItemIssueSnapshot;
 import com.epam.ta.reportportal.events.ItemIssueTypeDefined;
 import com.epam.ta.reportportal.events.TicketAttachedEvent;
+import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.converter.converters.IssueConverter;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import com.epam.ta.reportportal.ws.model.issue.DefineIssueRQ;
@@ -45,11 +48,12 @@ import com.epam.ta.reportportal.ws.model.issue.IssueDefinition;
 import com.epam.ta.reportportal.ws.model.item.AddExternalIssueRQ;
 import com.epam.ta.reportportal.ws.model.item.UpdateTestItemRQ;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
-import org.apache.commons.lang3.SerializationUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -70,10 +74,10 @@ import static com.epam.ta.reportportal.ws.model.ErrorType.*;
 import static com.google.common.collect.Sets.newHashSet;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
-import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 /**
  * Default implementation of {@link UpdateTestItemHandler}
@@ -86,28 +90,30 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 
 	private final ApplicationEventPublisher eventPublisher;
 	private final TestItemRepository testItemRepository;
-	private final StatisticsFacadeFactory statisticsFacadeFactory;
 	private final UserRepository userRepository;
 	private final ProjectRepository projectRepository;
 	private final LaunchRepository launchRepository;
 	private final ExternalSystemRepository externalSystemRepository;
 	private final LogIndexerService logIndexer;
 	private final IssuesAnalyzerService issuesAnalyzerService;
+	private final MongoOperations mongoOperations;
+	private final AutocompleteDictionaries autocompleteDictionaries;
 
 	@Autowired
-	public UpdateTestItemHandlerImpl(TestItemRepository testItemRepository, StatisticsFacadeFactory statisticsFacadeFactory,
-			UserRepository userRepository, ProjectRepository projectRepository, LaunchRepository launchRepository,
-			ExternalSystemRepository externalSystemRepository, ApplicationEventPublisher eventPublisher, LogIndexerService logIndexer,
-			IssuesAnalyzerService issuesAnalyzerService) {
+	public UpdateTestItemHandlerImpl(TestItemRepository testItemRepository, UserRepository userRepository,
+			ProjectRepository projectRepository, LaunchRepository launchRepository, ExternalSystemRepository externalSystemRepository,
+			ApplicationEventPublisher eventPublisher, LogIndexerService logIndexer, IssuesAnalyzerService issuesAnalyzerService,
+			MongoOperations mongoOperations, AutocompleteDictionaries autocompleteDictionaries) {
 		this.eventPublisher = eventPublisher;
 		this.testItemRepository = testItemRepository;
-		this.statisticsFacadeFactory = statisticsFacadeFactory;
 		this.userRepository = userRepository;
 		this.projectRepository = projectRepository;
 		this.launchRepository = launchRepository;
 		this.externalSystemRepository = externalSystemRepository;
 		this.logIndexer = logIndexer;
 		this.issuesAnalyzerService = issuesAnalyzerService;
+		this.mongoOperations = mongoOperations;
+		this.autocompleteDictionaries = autocompleteDictionaries;
 	}
 
 	@Override
@@ -117,27 +123,67 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 
 		expect(definitions, NOT_EMPTY_COLLECTION).verify(FAILED_TEST_ITEM_ISSUE_TYPE_DEFINITION, "");
 
-		List<Issue> updated = new ArrayList<>(defineIssue.getIssues().size());
-		ImmutableMap.Builder<IssueDefinition, TestItem> eventData = ImmutableMap.builder();
+		Map<String, TestItem> testItems = StreamSupport.stream(testItemRepository.findAll(definitions.stream()
+				.map(IssueDefinition::getId)
+				.collect(toSet())).spliterator(), false).collect(toMap(TestItem::getId, it -> it));
+
+		/* definitions grouped by launch keeping order of request */
+		Map<String, List<IssueDefinition>> definitionsByLaunch = new LinkedHashMap<>();
 		for (IssueDefinition issueDefinition : definitions) {
 			try {
-				TestItem testItem = testItemRepository.findOne(issueDefinition.getId());
+				TestItem testItem = testItems.get(issueDefinition.getId());
 				verifyTestItem(testItem, issueDefinition.getId());
-				TestItem before = SerializationUtils.clone(testItem);
+				definitionsByLaunch.computeIfAbsent(testItem.getLaunchRef(), launchId -> new ArrayList<>()).add(issueDefinition);
+			} catch (BusinessRuleViolationException e) {
+				errors.add(e.getMessage());
+			}
+		}
+
+		Map<String, Launch> launches = StreamSupport.stream(launchRepository.findAll(definitionsByLaunch.keySet()).spliterator(), false)
+				.collect(toMap(Launch::getId, it -> it));
+		Map<String, Project> projects = new HashMap<>();
+
+		/* issue types are verified before anything is changed, so errors of all definitions are reported at once */
+		Map<IssueDefinition, String> issueTypes = new HashMap<>();
+		definitionsByLaunch.forEach((launchId, launchDefinitions) -> {
+			Launch launch = launches.get(launchId);
+			expect(launch, notNull()).verify(LAUNCH_NOT_FOUND, launchId);
+			Project project = projects.computeIfAbsent(launch.getProjectRef(), projectRepository::findOne);
+			for (IssueDefinition issueDefinition : launchDefinitions) {
+				try {
+					issueTypes.put(issueDefinition,
+							verifyTestItemDefinedIssueType(issueDefinition.getIssue().getIssueType(), project.getConfiguration())
+					);
+				} catch (ReportPortalException e) {
+					errors.add(e.getMessage());
+				}
+			}
+		});
 
-				eventData.put(issueDefinition, testItem);
+		expect(!errors.isEmpty(), equalTo(FALSE)).verify(FAILED_TEST_ITEM_ISSUE_TYPE_DEFINITION, errors.toString());
 
-				final Launch launch = launchRepository.findOne(testItem.getLaunchRef());
+		ImmutableMap.Builder<IssueDefinition, ItemIssueSnapshot> eventData = ImmutableMap.builder();
+		List<ItemIssueSnapshot> ticketsBefore = new ArrayList<>();
+		List<ItemIssueSnapshot> ticketsAfter = new ArrayList<>();
+		Map<String, TestItem> changed = new LinkedHashMap<>();
+		IssueStatisticsDelta statisticsDelta = new IssueStatisticsDelta();
 
-				final Project project = projectRepository.findOne(launch.getProjectRef());
+		definitionsByLaunch.forEach((launchId, launchDefinitions) -> {
+			Project project = projects.get(launches.get(launchId).getProjectRef());
 
-				Issue issue = issueDefinition.getIssue();
-				String issueType = verifyTestItemDefinedIssueType(issue.getIssueType(), project.getConfiguration());
+			for (IssueDefinition issueDefinition : launchDefinitions) {
+				TestItem testItem = testItems.get(issueDefinition.getId());
+				ItemIssueSnapshot before = ItemIssueSnapshot.of(testItem);
+				eventData.put(issueDefinition, before);
 
-				testItem = statisticsFacadeFactory.getStatisticsFacade(project.getConfiguration().getStatisticsCalculationStrategy())
-						.resetIssueStatistics(testItem);
+				Issue issue = issueDefinition.getIssue();
+				String issueType = issueTypes.get(issueDefinition);
 
 				TestItemIssue testItemIssue = testItem.getIssue();
+				statisticsDelta.move(testItem,
+						project.getConfiguration().getByLocator(testItemIssue.getIssueType()),
+						project.getConfiguration().getByLocator(issueType)
+				);
 				testItemIssue.setIssueType(issueType);
 
 				String comment = issueDefinition.getIssue().getComment();
@@ -172,12 +218,8 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 					} else {
 						issuesFromDB.removeAll(newHashSet(Sets.difference(issuesFromDB, issuesFromRequest)));
 						testItemIssue.setExternalSystemIssues(issuesFromDB);
-						eventPublisher.publishEvent(new TicketAttachedEvent(singletonList(before),
-								singletonList(testItem),
-								userName,
-								projectName,
-								null
-						));
+						ticketsBefore.add(before);
+						ticketsAfter.add(ItemIssueSnapshot.of(testItem));
 					}
 				}
 
@@ -186,28 +228,29 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 
 				testItemIssue.setIssueDescription(comment);
 				testItem.setIssue(testItemIssue);
-
-				testItemRepository.save(testItem);
-				indexLogs(projectName, testItem);
-
-				testItem = statisticsFacadeFactory.getStatisticsFacade(project.getConfiguration().getStatisticsCalculationStrategy())
-						.updateIssueStatistics(testItem);
-				updated.add(IssueConverter.TO_MODEL.apply(testItem.getIssue()));
-			} catch (BusinessRuleViolationException e) {
-				errors.add(e.getMessage());
+				changed.put(testItem.getId(), testItem);
 			}
-		}
+		});
 
-		expect(!errors.isEmpty(), equalTo(FALSE)).verify(FAILED_TEST_ITEM_ISSUE_TYPE_DEFINITION, errors.toString());
+		saveIssues(changed.values());
+		statisticsDelta.apply(mongoOperations);
+		indexLogs(projectName, changed.values());
 
+		if (!ticketsAfter.isEmpty()) {
+			eventPublisher.publishEvent(new TicketAttachedEvent(ticketsBefore, ticketsAfter, userName, projectName, null));
+		}
 		eventPublisher.publishEvent(new ItemIssueTypeDefined(eventData.build(), userName, projectName, null));
-		return updated;
+		return definitions.stream().map(it -> IssueConverter.TO_MODEL.apply(testItems.get(it.getId()).getIssue())).collect(toList());
 	}
 
 	@Override
 	public OperationCompletionRS updateTestItem(String projectName, String item, UpdateTestItemRQ rq, String userName) {
 		TestItem testItem = validate(projectName, userName, item);
-		ofNullable(rq.getTags()).ifPresent(tags -> testItem.setTags(newHashSet(trimStrings(update(tags)))));
+		ofNullable(rq.getTags()).ifPresent(tags -> {
+			Set<String> updated = newHashSet(trimStrings(update(tags)));
+			autocompleteDictionaries.itemTagsChanged(testItem.getLaunchRef(), testItem.getTags(), updated);
+			testItem.setTags(updated);
+		});
 		ofNullable(rq.getDescription()).ifPresent(testItem::setItemDescription);
 		testItemRepository.save(testItem);
 		return new OperationCompletionRS("TestItem with ID = '" + item + "' successfully updated.");
@@ -220,7 +263,7 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 		expect(extSystem, notNull()).verify(EXTERNAL_SYSTEM_NOT_FOUND, rq.getExternalSystemId());
 
 		Iterable<TestItem> testItems = testItemRepository.findAll(rq.getTestItemIds());
-		List<TestItem> before = SerializationUtils.clone(Lists.newArrayList(testItems));
+		List<ItemIssueSnapshot> before = ItemIssueSnapshot.of(testItems);
 		StreamSupport.stream(testItems.spliterator(), false).forEach(testItem -> {
 			try {
 				verifyTestItem(testItem, testItem.getId());
@@ -244,7 +287,7 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 		expect(!errors.isEmpty(), equalTo(FALSE)).verify(FAILED_TEST_ITEM_ISSUE_TYPE_DEFINITION, errors.toString());
 
 		testItemRepository.save(testItems);
-		eventPublisher.publishEvent(new TicketAttachedEvent(before, Lists.newArrayList(testItems), userName, projectName, null));
+		eventPublisher.publishEvent(new TicketAttachedEvent(before, ItemIssueSnapshot.of(testItems), userName, projectName, null));
 		return StreamSupport.stream(testItems.spliterator(), false)
 				.map(testItem -> new OperationCompletionRS("TestItem with ID = '" + testItem.getId() + "' successfully updated."))
 				.collect(toList());
@@ -268,17 +311,37 @@ public class UpdateTestItemHandlerImpl implements UpdateTestItemHandler {
 	}
 
 	/**
-	 * Index logs if item is not ignored for analyzer
-	 * Clean index logs if item is ignored for analyzer
+	 * Updates issues of test items with single bulk operation
+	 *
+	 * @param testItems Test items with updated issues
+	 */
+	private void saveIssues(Collection<TestItem> testItems) {
+		if (testItems.isEmpty()) {
+			return;
+		}
+		BulkOperations bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, TestItem.class);
+		testItems.forEach(it -> bulk.updateOne(query(where("_id").is(it.getId())),
+				Update.update("issue", mongoOperations.getConverter().convertToMongoType(it.getIssue()))
+		));
+		bulk.execute();
+	}
+
+	/**
+	 * Index logs of items which are not ignored for analyzer with one call per launch
+	 * Clean index logs of items which are ignored for analyzer
 	 *
 	 * @param projectName Project name
-	 * @param testItem    Test item to reindex
+	 * @param testItems   Test items to reindex
 	 */
-	private void indexLogs(String projectName, TestItem testItem) {
-		if (ITEM_CAN_BE_INDEXED.test(testItem)) {
-			logIndexer.indexLogs(testItem.getLaunchRef(), singletonList(testItem));
-		} else {
-			logIndexer.cleanIndex(projectName, singletonList(testItem.getId()));
+	private void indexLogs(String projectName, Collection<TestItem> testItems) {
+		Map<Boolean, List<TestItem>> canBeIndexed = testItems.stream().collect(partitioningBy(ITEM_CAN_BE_INDEXED));
+		canBeIndexed.get(TRUE)
+				.stream()
+				.collect(groupingBy(TestItem::getLaunchRef, LinkedHashMap::new, toList()))
+				.forEach(logIndexer::indexLogs);
+		List<String> toClean = canBeIndexed.get(FALSE).stream().map(TestItem::getId).collect(toList());
+		if (!toClean.isEmpty()) {
+			logIndexer.cleanIndex(projectName, toClean);
 		}
 	}
 
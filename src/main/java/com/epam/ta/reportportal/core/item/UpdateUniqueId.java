@@ -21,6 +21,8 @@
 
 package com.epam.ta.reportportal.core.item;
 
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.core.log.LogMessages;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
 import com.epam.ta.reportportal.database.entity.Launch;
 import com.epam.ta.reportportal.database.entity.Project;
@@ -29,7 +31,10 @@ import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
 import com.mongodb.DBObject;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections.CollectionUtils;
@@ -37,35 +42,38 @@ import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.util.CloseableIterator;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.StringJoiner;
-import java.util.concurrent.Executors;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
 
 /**
- * Heavy update script for all test items
+ * Heavy update script for all test items.
+ * Test items are split into {@code _id} ranges processed by parallel workers.
+ * Each range keeps it's own checkpoint, so script may be safely restarted at any point.
+ * Set of ranges is used only once marker is written after all of them, otherwise it's rebuilt.
  *
  * @author Pavel Bortnik
  */
 @Service
-class UpdateUniqueId {
+public class UpdateUniqueId {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(UpdateUniqueId.class);
 
@@ -73,12 +81,23 @@ class UpdateUniqueId {
 	private static final String CHECKPOINT = "checkpoint";
 	private static final String CHECKPOINT_ID = "testItemId";
 
-	private static final int BATCH_SIZE = 100;
+	private static final String RANGE_PREFIX = "range_";
+	private static final String RANGE_FROM = "from";
+	private static final String RANGE_TO = "to";
+	private static final String RANGE_PROCESSED = "processed";
+	private static final String RANGE_DONE = "done";
+	private static final String RANGES_CREATED = "rangesCreated";
+
+	private static final int BATCH_SIZE = 500;
+
+	private static final int MAX_ATTEMPTS = 5;
 
 	private static final String SECRET = "auto:";
 
 	//launches cache
-	private static final Cache<String, Launch> launchCache = Caffeine.newBuilder().maximumSize(200).build();
+	private final Cache<String, Optional<Launch>> launchCache = Caffeine.newBuilder().maximumSize(200).build();
+
+	private final Cache<String, Boolean> projectCache = Caffeine.newBuilder().maximumSize(200).build();
 
 	@Autowired
 	private MongoOperations mongoOperations;
@@ -86,6 +105,15 @@ class UpdateUniqueId {
 	@Autowired
 	private TestItemRepository testItemRepository;
 
+	@Autowired
+	private AttachmentStorage attachmentStorage;
+
+	@Autowired
+	private LogMessages logMessages;
+
+	@Value("${rp.uniqueid.workers:4}")
+	private int workers;
+
 	private static final AtomicBoolean STARTED = new AtomicBoolean();
 
 	@EventListener
@@ -93,60 +121,111 @@ class UpdateUniqueId {
 		if (STARTED.compareAndSet(false, true)) {
 			if (mongoOperations.collectionExists(COLLECTION)) {
 				Executors.newSingleThreadExecutor().execute(this::generateForAll);
+			} else {
+				STARTED.set(false);
 			}
 		}
 	}
 
+	/**
+	 * @return Progress of unique ID generation
+	 */
+	public UniqueIdGenerationProgress getProgress() {
+		if (!mongoOperations.collectionExists(COLLECTION)) {
+			return new UniqueIdGenerationProgress(STARTED.get(), true, 0, 0, 0, 0);
+		}
+		List<DBObject> ranges = loadRanges();
+		long processed = ranges.stream().mapToLong(it -> ((Number) it.get(RANGE_PROCESSED)).longValue()).sum();
+		long completed = ranges.stream().filter(it -> Boolean.TRUE.equals(it.get(RANGE_DONE))).count();
+		return new UniqueIdGenerationProgress(STARTED.get(),
+				false,
+				mongoOperations.count(new Query(), TestItem.class),
+				processed,
+				ranges.size(),
+				(int) completed
+		);
+	}
+
 	private void generateForAll() {
-		long forUpdate = mongoOperations.count(testItemQuery(), TestItem.class);
-		long update = 0;
-		boolean isOk;
-		String checkpoint = getLastCheckpoint();
-		//potential endless loop
-		do {
-			try (CloseableIterator<TestItem> itemIterator = getItemIterator(checkpoint)) {
-				List<TestItem> testItems = new ArrayList<>(BATCH_SIZE);
-				int counter = 0;
-				while (itemIterator.hasNext()) {
-					TestItem testItem = itemIterator.next();
-					if (testItem != null) {
-						boolean isRemoved = removeIfInvalid(testItem);
-						if (!isRemoved) {
-							if (checkpoint == null) {
-								checkpoint = testItem.getId();
-							}
-							String uniqueId = generate(testItem);
-							testItem.setUniqueId(uniqueId);
-							testItems.add(testItem);
-							if (testItems.size() == BATCH_SIZE || !itemIterator.hasNext()) {
-								createCheckpoint(checkpoint);
-								updateTestItems(testItems);
-								counter++;
-								if (counter == 1000) {
-									LOGGER.info("Generated uniqueId for " + update + " items. " + "It is " + ((update / (float) forUpdate)
-											* 100) + "% done");
-									counter = 0;
-								}
-								update += testItems.size();
-								testItems = new ArrayList<>(BATCH_SIZE);
-								checkpoint = null;
-							}
-						}
-					}
-				}
-				isOk = true;
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, workers),
+				new ThreadFactoryBuilder().setNameFormat("uniqueid-%d").setDaemon(true).build()
+		);
+		try {
+			List<DBObject> ranges = isRangesCreated() ? loadRanges() : createRanges(getLastCheckpoint());
+			LOGGER.info("Generating uniqueId in " + ranges.size() + " ranges");
+
+			List<Future<Boolean>> results = ranges.stream()
+					.filter(range -> !Boolean.TRUE.equals(range.get(RANGE_DONE)))
+					.map(range -> executor.submit(() -> processRange(range)))
+					.collect(Collectors.toList());
+			boolean isOk = true;
+			for (Future<Boolean> result : results) {
+				isOk &= result.get();
+			}
+
+			if (isOk) {
+				mongoOperations.getCollection(COLLECTION).drop();
+				LOGGER.info("Generating uniqueId is done!");
+				indexUniqueIds();
+			} else {
+				LOGGER.warn("Generating uniqueId is not finished. It will be resumed on next start.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			LOGGER.error("Generating uniqueId failed. It will be resumed on next start.", e);
+		} finally {
+			executor.shutdownNow();
+			launchCache.invalidateAll();
+			projectCache.invalidateAll();
+			STARTED.set(false);
+		}
+	}
+
+	/**
+	 * Processes range with limited count of attempts.
+	 * Every attempt continues from the last checkpoint of the range
+	 */
+	private boolean processRange(DBObject range) throws InterruptedException {
+		String rangeId = (String) range.get("_id");
+		for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+			try {
+				generateForRange(rangeId);
+				return true;
 			} catch (Exception e) {
-				LOGGER.warn("Potential endless loop in reason of: ", e);
-				//continue generating uniqueId
-				isOk = false;
+				LOGGER.warn("Generating uniqueId for " + rangeId + " failed. Attempt " + attempt + " of " + MAX_ATTEMPTS, e);
+				TimeUnit.SECONDS.sleep(attempt);
 			}
-		} while (!isOk);
-		STARTED.set(false);
-		mongoOperations.getCollection(COLLECTION).drop();
-		launchCache.cleanUp();
-		LOGGER.info("Generating uniqueId is done!");
-		indexUniqueIds();
+		}
+		return false;
+	}
 
+	private void generateForRange(String rangeId) {
+		DBObject range = getCollection().findOne(new BasicDBObject("_id", rangeId));
+		try (CloseableIterator<TestItem> itemIterator = getItemIterator(range)) {
+			List<TestItem> testItems = new ArrayList<>(BATCH_SIZE);
+			String lastId = null;
+			int processed = 0;
+			while (itemIterator.hasNext()) {
+				TestItem testItem = itemIterator.next();
+				lastId = testItem.getId();
+				processed++;
+				if (!removeIfInvalid(testItem)) {
+					testItems.add(testItem);
+				}
+				if (processed == BATCH_SIZE) {
+					updateTestItems(testItems);
+					createCheckpoint(rangeId, lastId, processed);
+					testItems = new ArrayList<>(BATCH_SIZE);
+					processed = 0;
+				}
+			}
+			if (processed > 0) {
+				updateTestItems(testItems);
+				createCheckpoint(rangeId, lastId, processed);
+			}
+		}
+		getCollection().update(new BasicDBObject("_id", rangeId), new BasicDBObject("$set", new BasicDBObject(RANGE_DONE, true)));
 	}
 
 	private void indexUniqueIds() {
@@ -155,50 +234,84 @@ class UpdateUniqueId {
 	}
 
 	private void updateTestItems(List<TestItem> testItems) {
+		if (testItems.isEmpty()) {
+			return;
+		}
+		Map<String, String> pathNames = resolvePathNames(testItems);
 		BulkOperations bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, TestItem.class);
 		testItems.forEach(it -> {
 			Update update = new Update();
-			update.set("uniqueId", it.getUniqueId());
+			update.set("uniqueId", generate(it, pathNames));
 			bulk.updateOne(query(where("_id").is(it.getId())), update);
 		});
 		bulk.execute();
 	}
 
+	/**
+	 * Loads names of ancestors of the batch with one query
+	 *
+	 * @return Names of ancestors by their IDs
+	 */
+	private Map<String, String> resolvePathNames(List<TestItem> testItems) {
+		List<String> ancestors = testItems.stream()
+				.filter(it -> null != it.getPath())
+				.flatMap(it -> it.getPath().stream())
+				.distinct()
+				.collect(Collectors.toList());
+		return ancestors.isEmpty() ? Collections.emptyMap() : testItemRepository.findPathNames(ancestors);
+	}
+
 	private boolean removeIfInvalid(TestItem item) {
 		String launchRef = item.getLaunchRef();
 		if (launchRef == null) {
-			mongoOperations.remove(query(where("_id").is(item.getId())));
+			mongoOperations.remove(query(where("_id").is(item.getId())), TestItem.class);
+			return true;
 		}
 
-		Launch launch = mongoOperations.findOne(launchQuery(launchRef), Launch.class);
-		if (launch == null) {
+		Optional<Launch> launch = getLaunch(launchRef);
+		if (!launch.isPresent()) {
+			List<String> itemIds = Stream.concat(Stream.of(item.getId()),
+					testItemRepository.findAllDescendants(item.getId()).stream().map(TestItem::getId)
+			).collect(Collectors.toList());
+			attachmentStorage.detach(where("testItemRef").in(itemIds));
+			logMessages.remove(where("testItemRef").in(itemIds));
 			testItemRepository.delete(item.getId());
 			return true;
 		} else {
-			boolean exists = mongoOperations.exists(query(where("_id").is(launch.getProjectRef())), Project.class);
+			boolean exists = projectCache.get(launch.get().getProjectRef(),
+					projectRef -> mongoOperations.exists(query(where("_id").is(projectRef)), Project.class)
+			);
 			if (!exists) {
 				mongoOperations.remove(query(where("_id").is(launchRef)), Launch.class);
+				launchCache.put(launchRef, Optional.empty());
 				return true;
 			}
 		}
 		return false;
 	}
 
+	private Optional<Launch> getLaunch(String launchRef) {
+		return launchCache.get(launchRef, k -> Optional.ofNullable(mongoOperations.findOne(launchQuery(k), Launch.class)));
+	}
+
 	public String generate(TestItem testItem) {
-		String forEncoding = prepareForEncoding(testItem);
+		return generate(testItem, resolvePathNames(Collections.singletonList(testItem)));
+	}
+
+	private String generate(TestItem testItem, Map<String, String> pathNames) {
+		String forEncoding = prepareForEncoding(testItem, pathNames);
 		return SECRET + DigestUtils.md5Hex(forEncoding);
 	}
 
-	private String prepareForEncoding(TestItem testItem) {
+	private String prepareForEncoding(TestItem testItem, Map<String, String> names) {
 		// using cache for launches
-		Launch launch = launchCache.get(testItem.getLaunchRef(),
-				k -> mongoOperations.findOne(launchQuery(testItem.getLaunchRef()), Launch.class)
-		);
+		Launch launch = getLaunch(testItem.getLaunchRef()).orElseThrow(() -> new IllegalStateException(
+				"Launch '" + testItem.getLaunchRef() + "' is not found"));
 
 		String launchName = launch.getName();
 		String projectName = launch.getProjectRef();
 
-		List<String> pathNames = getPathNames(testItem.getPath());
+		List<String> pathNames = getPathNames(testItem, names);
 		String itemName = testItem.getName();
 		StringJoiner joiner = new StringJoiner(";");
 		joiner.add(SECRET).add(projectName).add(launchName);
@@ -215,19 +328,30 @@ class UpdateUniqueId {
 		return joiner.toString();
 	}
 
-	private CloseableIterator<TestItem> getItemIterator(String checkpoint) {
+	private CloseableIterator<TestItem> getItemIterator(DBObject range) {
 		Sort sort = new Sort(new Sort.Order(Sort.Direction.ASC, "_id"));
 		Query query = new Query().with(sort).noCursorTimeout();
+		Criteria criteria = where("_id");
+		String checkpoint = (String) range.get(CHECKPOINT_ID);
 		if (checkpoint != null) {
-			query.addCriteria(where("_id").gte(new ObjectId(checkpoint)));
+			criteria.gt(new ObjectId(checkpoint));
+		} else {
+			criteria.gte(new ObjectId((String) range.get(RANGE_FROM)));
+		}
+		String to = (String) range.get(RANGE_TO);
+		if (to != null) {
+			criteria.lt(new ObjectId(to));
 		}
+		query.addCriteria(criteria);
 		query.fields().include("name").include("path").include("launchRef").include("parameters");
 		return mongoOperations.stream(query, TestItem.class);
 	}
 
-	private List<String> getPathNames(List<String> path) {
-		Map<String, String> names = testItemRepository.findPathNames(path);
-		return path.stream().map(names::get).collect(Collectors.toList());
+	private List<String> getPathNames(TestItem testItem, Map<String, String> names) {
+		if (null == testItem.getPath()) {
+			return Collections.emptyList();
+		}
+		return testItem.getPath().stream().map(names::get).collect(Collectors.toList());
 	}
 
 	private Query launchQuery(String launchId) {
@@ -237,20 +361,82 @@ class UpdateUniqueId {
 		return query;
 	}
 
-	private Query testItemQuery() {
-		Query query = new Query();
-		query.fields().include("name").include("path").include("launchRef").include("parameters");
-		return query;
+	/**
+	 * Splits all test items into ranges by {@code _id} timestamps.
+	 * Legacy single checkpoint is used as lower bound of the first range.
+	 * Ranges left by interrupted split are replaced and legacy checkpoint
+	 * is removed only after all ranges are marked as created
+	 */
+	private List<DBObject> createRanges(String legacyCheckpoint) {
+		Optional<String> first = null != legacyCheckpoint ? Optional.of(legacyCheckpoint) : findBoundaryId(Sort.Direction.ASC);
+		Optional<String> last = findBoundaryId(Sort.Direction.DESC);
+		if (!first.isPresent() || !last.isPresent()) {
+			return Collections.emptyList();
+		}
+		long from = new ObjectId(first.get()).getTimestamp();
+		long to = new ObjectId(last.get()).getTimestamp() + 1;
+		int count = (int) Math.max(1, Math.min(Math.max(1, workers) * 4L, to - from));
+		long step = (to - from) / count;
+
+		List<DBObject> ranges = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String rangeFrom = i == 0 ? first.get() : boundary(from + i * step);
+			String rangeTo = i == count - 1 ? null : boundary(from + (i + 1) * step);
+			ranges.add(new BasicDBObject("_id", RANGE_PREFIX + i).append(RANGE_FROM, rangeFrom)
+					.append(RANGE_TO, rangeTo)
+					.append(RANGE_PROCESSED, 0L)
+					.append(RANGE_DONE, false));
+		}
+		getCollection().remove(rangesQuery());
+		getCollection().insert(ranges);
+		getCollection().save(new BasicDBObject("_id", RANGES_CREATED));
+		getCollection().remove(new BasicDBObject("_id", CHECKPOINT));
+		return ranges;
+	}
+
+	private Optional<String> findBoundaryId(Sort.Direction direction) {
+		Query query = new Query().with(new Sort(direction, "_id")).limit(1);
+		query.fields().include("_id");
+		return Optional.ofNullable(mongoOperations.findOne(query, TestItem.class)).map(TestItem::getId);
+	}
+
+	/**
+	 * @param timestamp Seconds
+	 * @return The least possible ObjectId for provided timestamp
+	 */
+	private static String boundary(long timestamp) {
+		return String.format("%08x", timestamp) + "0000000000000000";
+	}
+
+	private List<DBObject> loadRanges() {
+		try (DBCursor cursor = getCollection().find(rangesQuery())) {
+			return cursor.toArray();
+		}
+	}
+
+	private boolean isRangesCreated() {
+		return null != getCollection().findOne(new BasicDBObject("_id", RANGES_CREATED));
+	}
+
+	private static DBObject rangesQuery() {
+		return new BasicDBObject("_id", new BasicDBObject("$regex", "^" + RANGE_PREFIX));
 	}
 
 	private String getLastCheckpoint() {
-		DBObject checkpoint = mongoOperations.getCollection(COLLECTION).findOne(new BasicDBObject("_id", CHECKPOINT));
+		DBObject checkpoint = getCollection().findOne(new BasicDBObject("_id", CHECKPOINT));
 		return checkpoint == null ? null : (String) checkpoint.get(CHECKPOINT_ID);
 	}
 
-	private void createCheckpoint(String logId) {
-		BasicDBObject checkpoint = new BasicDBObject("_id", CHECKPOINT).append(CHECKPOINT_ID, logId);
-		mongoOperations.getCollection(COLLECTION).save(checkpoint);
+	private void createCheckpoint(String rangeId, String testItemId, int processed) {
+		getCollection().update(new BasicDBObject("_id", rangeId),
+				new BasicDBObject("$set", new BasicDBObject(CHECKPOINT_ID, testItemId)).append("$inc",
+						new BasicDBObject(RANGE_PROCESSED, processed)
+				)
+		);
+	}
+
+	private DBCollection getCollection() {
+		return mongoOperations.getCollection(COLLECTION);
 	}
 
 }
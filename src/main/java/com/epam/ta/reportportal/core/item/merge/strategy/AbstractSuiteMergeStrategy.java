@@ -21,77 +21,284 @@
 
 package com.epam.ta.reportportal.core.item.merge.strategy;
 
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.core.log.LogMessages;
+import com.epam.ta.reportportal.core.log.LogReferences;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
+import com.epam.ta.reportportal.database.entity.Log;
 import com.epam.ta.reportportal.database.entity.item.Parameter;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
-import java.util.StringJoiner;
+import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
+/**
+ * Merges subtrees of suites with single tree walk.
+ * Tree is loaded level by level with one query per level, relinked items are
+ * updated with bulk operations and merged items are removed with their logs.
+ */
 public abstract class AbstractSuiteMergeStrategy implements MergeStrategy {
 
+	private static final int BATCH_SIZE = 1000;
+
 	protected final TestItemRepository testItemRepository;
 
-	AbstractSuiteMergeStrategy(TestItemRepository testItemRepository) {
+	protected final MongoOperations mongoOperations;
+
+	protected final LogReferences logReferences;
+
+	protected final AttachmentStorage attachmentStorage;
+
+	protected final LogMessages logMessages;
+
+	AbstractSuiteMergeStrategy(TestItemRepository testItemRepository, MongoOperations mongoOperations, LogReferences logReferences,
+			AttachmentStorage attachmentStorage, LogMessages logMessages) {
 		this.testItemRepository = testItemRepository;
+		this.mongoOperations = mongoOperations;
+		this.logReferences = logReferences;
+		this.attachmentStorage = attachmentStorage;
+		this.logMessages = logMessages;
 	}
 
 	@Override
 	public abstract TestItem mergeTestItems(TestItem itemTarget, List<TestItem> items);
 
-	public abstract boolean isTestItemAcceptableToMerge(TestItem item);
-
-	private TestItem moveAllChildTestItems(TestItem itemTarget, TestItem itemSource) {
-		for (TestItem childItem : testItemRepository.findAllDescendants(itemSource.getId())) {
-			childItem.setParent(itemTarget.getId());
-			childItem.setLaunchRef(itemTarget.getLaunchRef());
+	/**
+	 * Checks whether item can be merged with items of the same level
+	 *
+	 * @param item     Item to be checked
+	 * @param children Direct children of the item
+	 * @return TRUE if item can be merged
+	 */
+	public abstract boolean isTestItemAcceptableToMerge(TestItem item, List<TestItem> children);
 
-			List<String> path = new ArrayList<>(itemTarget.getPath());
-			path.add(itemTarget.getId());
-			childItem.setPath(path);
+	/**
+	 * Acceptable items of the same level with same key are merged into one
+	 *
+	 * @param item Test item
+	 * @return Merge key
+	 */
+	protected String getMergeKey(TestItem item) {
+		return item.getName();
+	}
 
-			setLaunchRefForChildren(childItem, itemTarget.getLaunchRef());
-			testItemRepository.save(childItem);
-		}
-		updateTargetItemInfo(itemTarget, itemSource);
-		testItemRepository.delete(itemSource);
-		return itemTarget;
+	/**
+	 * @return TRUE if children of items which were not merged with anything should be merged as well
+	 */
+	protected boolean isMergeChildrenOfSingleItems() {
+		return true;
 	}
 
 	TestItem moveAllChildTestItems(TestItem itemTarget, List<TestItem> items) {
-		TestItem result = items.stream().reduce(itemTarget, this::moveAllChildTestItems);
-		mergeAllChildItems(result);
-		return result;
+		new TreeMerge().merge(itemTarget, items);
+		return itemTarget;
 	}
 
-	private void setLaunchRefForChildren(TestItem testItemParent, String launchRef) {
-		List<TestItem> childItems = testItemRepository.findAllDescendants(testItemParent.getId());
-		for (TestItem child : childItems) {
-			child.setLaunchRef(launchRef);
-			List<String> path = new ArrayList<>(testItemParent.getPath());
-			path.add(testItemParent.getId());
-			child.setPath(path);
-			testItemRepository.save(child);
-			if (child.hasChilds()) {
-				setLaunchRefForChildren(child, launchRef);
+	/**
+	 * State of single merge. Tree is walked level by level, so only children
+	 * of the current level and their children are kept in memory
+	 */
+	private class TreeMerge {
+
+		private final Map<String, List<TestItem>> children = new HashMap<>();
+		private final Map<String, TestItem> relinked = new LinkedHashMap<>();
+		private final Map<String, TestItem> targets = new LinkedHashMap<>();
+		private final Set<String> removed = new LinkedHashSet<>();
+
+		void merge(TestItem itemTarget, List<TestItem> items) {
+			load(Stream.concat(Stream.of(itemTarget), items.stream()).collect(toList()));
+			merge(itemTarget, items);
+			List<TestItem> level = Collections.singletonList(itemTarget);
+			while (!level.isEmpty()) {
+				load(level.stream().flatMap(parent -> childrenOf(parent).stream()).collect(toList()));
+				List<TestItem> next = new ArrayList<>();
+				for (TestItem parent : level) {
+					groups(parent).forEach(group -> {
+						TestItem target = group.get(0);
+						merge(target, group.subList(1, group.size()));
+						next.add(target);
+					});
+				}
+				release(level, next);
+				flushRelinked();
+				level = next;
+			}
+			flush();
+		}
+
+		/**
+		 * Loads direct children of the items. Paths of children are
+		 * recomputed, since their parents could be moved
+		 */
+		private void load(List<TestItem> parents) {
+			Map<String, TestItem> byId = parents.stream().collect(Collectors.toMap(TestItem::getId, it -> it, (first, second) -> first));
+			List<String> ids = new ArrayList<>(byId.keySet());
+			for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
+				List<String> batch = ids.subList(i, Math.min(i + BATCH_SIZE, ids.size()));
+				try (CloseableIterator<TestItem> iterator = mongoOperations.stream(query(where("parent").in(batch)), TestItem.class)) {
+					iterator.forEachRemaining(child -> {
+						TestItem parent = byId.get(child.getParent());
+						children.computeIfAbsent(parent.getId(), id -> new ArrayList<>()).add(child);
+						if (!pathUnder(parent).equals(child.getPath()) || !parent.getLaunchRef().equals(child.getLaunchRef())) {
+							relink(child, parent);
+						}
+					});
+				}
 			}
 		}
-	}
 
-	protected void mergeAllChildItems(TestItem testItemParent) {
-		List<TestItem> childItems = testItemRepository.findAllDescendants(testItemParent.getId());
-		List<TestItem> suites = childItems.stream().filter(this::isTestItemAcceptableToMerge).collect(toList());
+		/**
+		 * Groups of children which are merged into the first item of a group
+		 */
+		private Collection<List<TestItem>> groups(TestItem parent) {
+			return childrenOf(parent).stream()
+					.filter(it -> null != getMergeKey(it))
+					.filter(it -> isTestItemAcceptableToMerge(it, childrenOf(it)))
+					.collect(groupingBy(AbstractSuiteMergeStrategy.this::getMergeKey, LinkedHashMap::new, toList()))
+					.values()
+					.stream()
+					.filter(group -> group.size() > 1 || isMergeChildrenOfSingleItems())
+					.collect(toList());
+		}
+
+		private void merge(TestItem target, List<TestItem> sources) {
+			for (TestItem source : sources) {
+				List<TestItem> moved = Optional.ofNullable(children.remove(source.getId())).orElse(Collections.emptyList());
+				for (TestItem child : moved) {
+					child.setParent(target.getId());
+					relink(child, target);
+				}
+				children.computeIfAbsent(target.getId(), parent -> new ArrayList<>()).addAll(moved);
+				Optional.ofNullable(children.get(source.getParent())).ifPresent(siblings -> siblings.remove(source));
+
+				updateTargetItemInfo(target, source);
+				targets.put(target.getId(), target);
+				removed.add(source.getId());
+			}
+		}
+
+		/**
+		 * Sets path of moved item and its loaded descendants
+		 */
+		private void relink(TestItem item, TestItem parent) {
+			item.setPath(pathUnder(parent));
+			item.setLaunchRef(parent.getLaunchRef());
+			relinked.put(item.getId(), item);
+			childrenOf(item).forEach(child -> relink(child, item));
+		}
+
+		/**
+		 * Forgets processed level. Children of items which are not walked
+		 * further are not loaded, so their descendants are relinked in database
+		 */
+		private void release(List<TestItem> level, List<TestItem> next) {
+			Set<String> walked = next.stream().map(TestItem::getId).collect(Collectors.toSet());
+			for (TestItem parent : level) {
+				for (TestItem child : childrenOf(parent)) {
+					if (!walked.contains(child.getId())) {
+						childrenOf(child).stream().filter(it -> relinked.containsKey(it.getId())).forEach(this::relinkDescendants);
+						children.remove(child.getId());
+					}
+				}
+				children.remove(parent.getId());
+			}
+		}
+
+		private void relinkDescendants(TestItem item) {
+			List<String> prefix = pathUnder(item);
+			Query descendants = query(where("path").is(item.getId()));
+			descendants.fields().include("path");
+			BulkOperations bulk = null;
+			List<String> moved = new ArrayList<>(BATCH_SIZE);
+			try (CloseableIterator<TestItem> iterator = mongoOperations.stream(descendants, TestItem.class)) {
+				while (iterator.hasNext()) {
+					TestItem descendant = iterator.next();
+					List<String> path = new ArrayList<>(prefix);
+					path.addAll(descendant.getPath().subList(descendant.getPath().indexOf(item.getId()) + 1, descendant.getPath().size()));
+					if (null == bulk) {
+						bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, TestItem.class);
+					}
+					bulk.updateOne(query(where("_id").is(descendant.getId())),
+							new Update().set("launchRef", item.getLaunchRef()).set("path", path)
+					);
+					moved.add(descendant.getId());
+					if (moved.size() == BATCH_SIZE || !iterator.hasNext()) {
+						bulk.execute();
+						logReferences.itemsMoved(moved, item.getLaunchRef());
+						bulk = null;
+						moved = new ArrayList<>(BATCH_SIZE);
+					}
+				}
+			}
+		}
+
+		private void flushRelinked() {
+			relinked.keySet().removeAll(removed);
+			BulkOperations bulk = null;
+			List<TestItem> moved = new ArrayList<>(BATCH_SIZE);
+			for (TestItem item : relinked.values()) {
+				if (null == bulk) {
+					bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, TestItem.class);
+				}
+				bulk.updateOne(query(where("_id").is(item.getId())),
+						new Update().set("launchRef", item.getLaunchRef()).set("parent", item.getParent()).set("path", item.getPath())
+				);
+				moved.add(item);
+				if (moved.size() == BATCH_SIZE) {
+					bulk.execute();
+					itemsMoved(moved);
+					bulk = null;
+					moved.clear();
+				}
+			}
+			if (null != bulk) {
+				bulk.execute();
+				itemsMoved(moved);
+			}
+			relinked.clear();
+		}
+
+		private void flush() {
+			if (!targets.isEmpty()) {
+				testItemRepository.save(targets.values());
+			}
+			if (!removed.isEmpty()) {
+				Criteria removedLogs = where(LogReferences.TEST_ITEM_REF).in(removed);
+				attachmentStorage.detach(removedLogs);
+				logMessages.remove(removedLogs);
+				mongoOperations.remove(query(removedLogs), Log.class);
+				mongoOperations.remove(query(where("_id").in(removed)), TestItem.class);
+			}
+		}
+
+		private List<TestItem> childrenOf(TestItem item) {
+			return children.getOrDefault(item.getId(), Collections.emptyList());
+		}
+
+		private void itemsMoved(List<TestItem> moved) {
+			moved.stream()
+					.collect(groupingBy(TestItem::getLaunchRef, Collectors.mapping(TestItem::getId, toList())))
+					.forEach((launchRef, ids) -> logReferences.itemsMoved(ids, launchRef));
+		}
+	}
 
-		suites.stream()
-				.collect(Collectors.groupingBy(TestItem::getName))
-				.forEach((key, value) -> moveAllChildTestItems(value.get(0), value.subList(1, value.size())));
+	private static List<String> pathUnder(TestItem parent) {
+		List<String> path = new ArrayList<>(parent.getPath());
+		path.add(parent.getId());
+		return path;
 	}
 
 	/**
@@ -117,7 +324,6 @@ public abstract class AbstractSuiteMergeStrategy implements MergeStrategy {
 		if (parameters.equals(source.getParameters())) {
 			target.setUniqueId(source.getUniqueId());
 		}
-		testItemRepository.save(target);
 	}
 
 	/**
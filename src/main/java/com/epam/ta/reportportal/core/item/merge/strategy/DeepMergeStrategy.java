@@ -1,19 +1,21 @@
 package com.epam.ta.reportportal.core.item.merge.strategy;
 
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.core.log.LogMessages;
+import com.epam.ta.reportportal.core.log.LogReferences;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoOperations;
 
 import java.util.List;
-import java.util.Map;
-
-import static java.util.stream.Collectors.groupingBy;
 
 public class DeepMergeStrategy extends AbstractSuiteMergeStrategy {
 
 	@Autowired
-	public DeepMergeStrategy(TestItemRepository testItemRepository) {
-		super(testItemRepository);
+	public DeepMergeStrategy(TestItemRepository testItemRepository, MongoOperations mongoOperations, LogReferences logReferences,
+			AttachmentStorage attachmentStorage, LogMessages logMessages) {
+		super(testItemRepository, mongoOperations, logReferences, attachmentStorage, logMessages);
 	}
 
 	@Override
@@ -22,20 +24,17 @@ public class DeepMergeStrategy extends AbstractSuiteMergeStrategy {
 	}
 
 	@Override
-	protected void mergeAllChildItems(TestItem testItemParent) {
-		testItemRepository.findAllDescendants(testItemParent.getId())
-				.stream()
-				.filter(this::isTestItemAcceptableToMerge)
-				.collect(groupingBy(TestItem::getUniqueId))
-				.entrySet()
-				.stream()
-				.map(Map.Entry::getValue)
-				.filter(items -> items.size() > 1)
-				.forEach(items -> moveAllChildTestItems(items.get(0), items.subList(1, items.size())));
+	protected String getMergeKey(TestItem item) {
+		return item.getUniqueId();
+	}
+
+	@Override
+	protected boolean isMergeChildrenOfSingleItems() {
+		return false;
 	}
 
 	@Override
-	public boolean isTestItemAcceptableToMerge(TestItem item) {
+	public boolean isTestItemAcceptableToMerge(TestItem item, List<TestItem> children) {
 		return item.hasChilds();
 	}
 }
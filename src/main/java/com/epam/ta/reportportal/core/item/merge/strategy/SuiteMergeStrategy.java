@@ -21,10 +21,14 @@
 
 package com.epam.ta.reportportal.core.item.merge.strategy;
 
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.core.log.LogMessages;
+import com.epam.ta.reportportal.core.log.LogReferences;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.database.entity.item.TestItemType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoOperations;
 
 import java.util.List;
 import java.util.Set;
@@ -35,8 +39,9 @@ import static java.util.stream.Collectors.toSet;
 public class SuiteMergeStrategy extends AbstractSuiteMergeStrategy {
 
 	@Autowired
-	public SuiteMergeStrategy(TestItemRepository testItemRepository) {
-		super(testItemRepository);
+	public SuiteMergeStrategy(TestItemRepository testItemRepository, MongoOperations mongoOperations, LogReferences logReferences,
+			AttachmentStorage attachmentStorage, LogMessages logMessages) {
+		super(testItemRepository, mongoOperations, logReferences, attachmentStorage, logMessages);
 	}
 
 	@Override
@@ -45,12 +50,11 @@ public class SuiteMergeStrategy extends AbstractSuiteMergeStrategy {
 	}
 
 	@Override
-	public boolean isTestItemAcceptableToMerge(TestItem item) {
+	public boolean isTestItemAcceptableToMerge(TestItem item, List<TestItem> children) {
 		if (!item.getType().sameLevel(TestItemType.SUITE)) {
 			return false;
 		}
-		List<TestItem> childItems = testItemRepository.findAllDescendants(item.getId());
-		List<TestItem> tests = childItems.stream().filter(child -> !child.getType().sameLevel(TestItemType.SUITE)).collect(toList());
+		List<TestItem> tests = children.stream().filter(child -> !child.getType().sameLevel(TestItemType.SUITE)).collect(toList());
 		Set<String> names = tests.stream().map(TestItem::getName).collect(toSet());
 		return names.size() == tests.size();
 	}
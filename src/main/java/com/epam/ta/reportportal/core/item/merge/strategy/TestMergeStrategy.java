@@ -21,18 +21,23 @@
 
 package com.epam.ta.reportportal.core.item.merge.strategy;
 
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.core.log.LogMessages;
+import com.epam.ta.reportportal.core.log.LogReferences;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.database.entity.item.TestItemType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoOperations;
 
 import java.util.List;
 
 public class TestMergeStrategy extends AbstractSuiteMergeStrategy {
 
 	@Autowired
-	public TestMergeStrategy(TestItemRepository testItemRepository) {
-		super(testItemRepository);
+	public TestMergeStrategy(TestItemRepository testItemRepository, MongoOperations mongoOperations, LogReferences logReferences,
+			AttachmentStorage attachmentStorage, LogMessages logMessages) {
+		super(testItemRepository, mongoOperations, logReferences, attachmentStorage, logMessages);
 	}
 
 	@Override
@@ -41,12 +46,11 @@ public class TestMergeStrategy extends AbstractSuiteMergeStrategy {
 	}
 
 	@Override
-	public boolean isTestItemAcceptableToMerge(TestItem item) {
+	public boolean isTestItemAcceptableToMerge(TestItem item, List<TestItem> children) {
 		if (!item.getType().sameLevel(TestItemType.SUITE)) {
 			return false;
 		}
-		List<TestItem> childItems = testItemRepository.findAllDescendants(item.getId());
-		for (TestItem testItem : childItems) {
+		for (TestItem testItem : children) {
 			if (!testItem.getType().sameLevel(TestItemType.SUITE)) {
 				return false;
 			}
@@ -25,6 +25,7 @@ import com.epam.ta.reportportal.database.search.Filter;
 import com.epam.ta.reportportal.ws.model.Page;
 import com.epam.ta.reportportal.ws.model.launch.LaunchResource;
 import com.epam.ta.reportportal.ws.model.widget.ChartObject;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
@@ -65,9 +66,10 @@ public interface IGetLaunchHandler {
 	 * @param filter      Filter data
 	 * @param pageable    Page details
 	 * @param userName    Name of User
+	 * @param fieldset    Requested fields of launches
 	 * @return Response Data
 	 */
-	Iterable<LaunchResource> getProjectLaunches(String projectName, Filter filter, Pageable pageable, String userName);
+	Iterable<LaunchResource> getProjectLaunches(String projectName, Filter filter, Pageable pageable, String userName, Fieldset fieldset);
 
 	/**
 	 * Get debug launches
@@ -23,6 +23,9 @@ package com.epam.ta.reportportal.core.launch.impl;
 
 import com.epam.ta.reportportal.core.analyzer.ILogIndexer;
 import com.epam.ta.reportportal.core.launch.IDeleteLaunchHandler;
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.core.log.LogMessages;
+import com.epam.ta.reportportal.core.log.LogReferences;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
 import com.epam.ta.reportportal.database.dao.ProjectRepository;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
@@ -37,6 +40,7 @@ import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -73,6 +77,15 @@ public class DeleteLaunchHandler implements IDeleteLaunchHandler {
 	@Autowired
 	private ILogIndexer logIndexer;
 
+	@Autowired
+	private AttachmentStorage attachmentStorage;
+
+	@Autowired
+	private LogMessages logMessages;
+
+	@Autowired
+	private LogReferences logReferences;
+
 	@Autowired
 	public DeleteLaunchHandler(ApplicationEventPublisher eventPublisher, LaunchRepository launchRepository,
 			ProjectRepository projectRepository, UserRepository userRepository) {
@@ -93,6 +106,9 @@ public class DeleteLaunchHandler implements IDeleteLaunchHandler {
 		User user = userRepository.findOne(principal);
 		validate(launch, user, project);
 		try {
+			Criteria logs = logReferences.ofLaunches(singletonList(launchId));
+			attachmentStorage.detach(logs);
+			logMessages.remove(logs);
 			launchRepository.delete(singletonList(launchId));
 			logIndexer.cleanIndex(projectName, itemRepository.findIdsNotInIssueType(TO_INVESTIGATE.getLocator(), launchId));
 		} catch (Exception exp) {
@@ -112,6 +128,9 @@ public class DeleteLaunchHandler implements IDeleteLaunchHandler {
 		launches.forEach(launch -> logIndexer.cleanIndex(projectName,
 				itemRepository.findIdsNotInIssueType(TO_INVESTIGATE.getLocator(), launch.getId())
 		));
+		Criteria logs = logReferences.ofLaunches(toDelete);
+		attachmentStorage.detach(logs);
+		logMessages.remove(logs);
 		launchRepository.delete(toDelete);
 		launches.forEach(launch -> eventPublisher.publishEvent(new LaunchDeletedEvent(launch, userName)));
 		return new OperationCompletionRS("All selected launches have been successfully deleted");
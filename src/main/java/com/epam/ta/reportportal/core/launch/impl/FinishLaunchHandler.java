@@ -25,6 +25,8 @@ import com.epam.ta.reportportal.commons.DbUtils;
 import com.epam.ta.reportportal.commons.Preconditions;
 import com.epam.ta.reportportal.core.launch.IFinishLaunchHandler;
 import com.epam.ta.reportportal.core.launch.IRetriesLaunchHandler;
+import com.epam.ta.reportportal.core.reporting.ReportingQueue;
+import com.epam.ta.reportportal.core.statistics.StatisticsBuffer;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacadeFactory;
 import com.epam.ta.reportportal.core.statistics.StatisticsHelper;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
@@ -49,6 +51,7 @@ import com.google.common.collect.Sets;
 import org.apache.commons.collections.CollectionUtils;
 import org.slf4j.helpers.MessageFormatter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
@@ -99,6 +102,15 @@ public class FinishLaunchHandler implements IFinishLaunchHandler {
 	@Autowired
 	private IRetriesLaunchHandler retriesLaunchHandler;
 
+	@Autowired
+	private ReportingQueue reportingQueue;
+
+	@Autowired
+	private StatisticsBuffer statisticsBuffer;
+
+	@Value("${rp.reporting.async.finish.timeout:60000}")
+	private long asyncFinishTimeout;
+
 	@Override
 	public OperationCompletionRS finishLaunch(String launchId, FinishExecutionRQ finishLaunchRQ, String projectName, String username) {
 
@@ -106,6 +118,13 @@ public class FinishLaunchHandler implements IFinishLaunchHandler {
 		validate(launchId, launch, finishLaunchRQ);
 		Project project = validateRoles(launch, username, projectName);
 
+		/* asynchronously reported items should be applied before launch is finished */
+		List<String> asyncFailures = reportingQueue.await(launchId, asyncFinishTimeout);
+		/* launch statistics are calculated from buffered increments as well */
+		statisticsBuffer.flush();
+		launch = launchRepository.findOne(launchId);
+		validateItems(launch);
+
 		launch.setEndTime(finishLaunchRQ.getEndTime());
 		if (!Strings.isNullOrEmpty(finishLaunchRQ.getDescription())) {
 			launch.setDescription(finishLaunchRQ.getDescription());
@@ -144,11 +163,16 @@ public class FinishLaunchHandler implements IFinishLaunchHandler {
 			throw new ReportPortalException("Error while Launch updating.", exp);
 		}
 		eventPublisher.publishEvent(new LaunchFinishedEvent(launch, project));
+		if (!asyncFailures.isEmpty()) {
+			return new OperationCompletionRS("Launch with ID = '" + launchId + "' finished. " + asyncFailures.size()
+					+ " asynchronous reporting failure(s): " + String.join("; ", asyncFailures));
+		}
 		return new OperationCompletionRS("Launch with ID = '" + launchId + "' successfully finished.");
 	}
 
 	@Override
 	public OperationCompletionRS stopLaunch(String launchId, FinishExecutionRQ finishLaunchRQ, String projectName, String userName) {
+		statisticsBuffer.flush();
 		Launch launch = launchRepository.findOne(launchId);
 		expect(launch, notNull()).verify(LAUNCH_NOT_FOUND, launchId);
 
@@ -157,6 +181,7 @@ public class FinishLaunchHandler implements IFinishLaunchHandler {
 		expect(launch, not(Preconditions.LAUNCH_FINISHED)).verify(FINISH_LAUNCH_NOT_ALLOWED,
 				formattedSupplier("Launch '{}' already finished with status '{}'", launch.getId(), launch.getStatus())
 		);
+		reportingQueue.discard(launchId);
 
 		launch.setEndTime(finishLaunchRQ.getEndTime());
 		if (null != launch.getDescription()) {
@@ -177,6 +202,7 @@ public class FinishLaunchHandler implements IFinishLaunchHandler {
 				// Find all IN_PROGRESS children and interrupt them
 				List<TestItem> itemsInProgress = testItemRepository.findInStatusItems(IN_PROGRESS.name(), launch.getId());
 				interruptItems(itemsInProgress);
+				statisticsBuffer.flush();
 			}
 			retriesLaunchHandler.handleRetries(launch);
 		} catch (Exception exp) {
@@ -205,7 +231,10 @@ public class FinishLaunchHandler implements IFinishLaunchHandler {
 		expect(finishExecutionRQ, Preconditions.finishSameTimeOrLater(launch.getStartTime())).verify(FINISH_TIME_EARLIER_THAN_START_TIME,
 				finishExecutionRQ.getEndTime(), launch.getStartTime(), launchId
 		);
+	}
 
+	private void validateItems(Launch launch) {
+		final String launchId = launch.getId();
 		final List<TestItem> items = testItemRepository.findByLaunch(launch);
 		expect(items, not(Preconditions.HAS_IN_PROGRESS_ITEMS)).verify(FINISH_LAUNCH_NOT_ALLOWED, new Supplier<String>() {
 			@Override
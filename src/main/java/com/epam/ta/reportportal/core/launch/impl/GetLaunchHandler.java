@@ -21,6 +21,7 @@
 
 package com.epam.ta.reportportal.core.launch.impl;
 
+import com.epam.ta.reportportal.core.autocomplete.AutocompleteDictionaries;
 import com.epam.ta.reportportal.core.launch.IGetLaunchHandler;
 import com.epam.ta.reportportal.core.widget.content.StatisticBasedContentLoader;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
@@ -32,17 +33,20 @@ import com.epam.ta.reportportal.database.entity.statistics.ExecutionCounter;
 import com.epam.ta.reportportal.database.entity.statistics.IssueCounter;
 import com.epam.ta.reportportal.database.search.Filter;
 import com.epam.ta.reportportal.database.search.FilterCondition;
+import com.epam.ta.reportportal.util.StreamingPage;
 import com.epam.ta.reportportal.ws.converter.PagedResourcesAssembler;
 import com.epam.ta.reportportal.ws.converter.converters.LaunchConverter;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.launch.LaunchResource;
 import com.epam.ta.reportportal.ws.model.launch.Mode;
 import com.epam.ta.reportportal.ws.model.widget.ChartObject;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -68,12 +72,26 @@ import static com.epam.ta.reportportal.ws.model.launch.Mode.DEFAULT;
 @Service
 public class GetLaunchHandler extends StatisticBasedContentLoader implements IGetLaunchHandler {
 
+	private static final String OWNER_FIELD = "userRef";
+
 	private ProjectRepository projectRepository;
 	private final LaunchRepository launchRepository;
 
 	@Autowired
 	private LaunchConverter launchConverter;
 
+	@Autowired
+	private AutocompleteDictionaries autocompleteDictionaries;
+
+	@Autowired
+	private LaunchProjections launchProjections;
+
+	@Autowired
+	private LatestLaunches latestLaunches;
+
+	@Autowired
+	private MongoOperations mongoOperations;
+
 	@Autowired
 	public GetLaunchHandler(LaunchRepository launchRepository) {
 		this.launchRepository = Preconditions.checkNotNull(launchRepository);
@@ -104,7 +122,8 @@ public class GetLaunchHandler extends StatisticBasedContentLoader implements IGe
 	}
 
 	@Override
-	public Iterable<LaunchResource> getProjectLaunches(String projectName, Filter filter, Pageable pageable, String userName) {
+	public Iterable<LaunchResource> getProjectLaunches(String projectName, Filter filter, Pageable pageable, String userName,
+			Fieldset fieldset) {
 		/*
 		 * input filter shouldn't contains any "mode" related filter conditions
 		 * "debug mode" conditions are forbidden because user can manipulate
@@ -115,8 +134,9 @@ public class GetLaunchHandler extends StatisticBasedContentLoader implements IGe
 		 */
 		validateModeConditions(filter);
 		filter = addLaunchCommonCriteria(DEFAULT, filter, projectName);
-		Page<Launch> launches = launchRepository.findByFilter(filter, pageable);
-		return PagedResourcesAssembler.pageConverter(launchConverter.getLaunchConverter()).apply(launches);
+		return new StreamingPage<>(mongoOperations, Launch.class, filter, pageable, fieldset.getProjection(),
+				launchConverter.getLaunchConverter()
+		);
 	}
 
 	/*
@@ -134,8 +154,10 @@ public class GetLaunchHandler extends StatisticBasedContentLoader implements IGe
 	public com.epam.ta.reportportal.ws.model.Page<LaunchResource> getLatestLaunches(String projectName, Filter filter, Pageable pageable) {
 		validateModeConditions(filter);
 		addLaunchCommonCriteria(DEFAULT, filter, projectName);
-		Page<LaunchResource> resources = launchRepository.findLatestLaunches(filter, pageable)
-				.map(l -> launchConverter.getLaunchConverter().apply(l));
+		Page<Launch> launches = latestLaunches.isReady() ?
+				launchRepository.findByFilter(latestLaunches.restrict(projectName, filter), pageable) :
+				launchRepository.findLatestLaunches(filter, pageable);
+		Page<LaunchResource> resources = launches.map(l -> launchConverter.getLaunchConverter().apply(l));
 		return new com.epam.ta.reportportal.ws.model.Page<>(resources.getContent(), resources.getSize(), resources.getNumber() + 1,
 				resources.getTotalElements(), resources.getTotalPages()
 		);
@@ -143,7 +165,8 @@ public class GetLaunchHandler extends StatisticBasedContentLoader implements IGe
 
 	@Override
 	public List<String> getTags(String project, String value) {
-		return launchRepository.findDistinctValues(project, value, "tags");
+		return autocompleteDictionaries.findLaunchTags(project, value)
+				.orElseGet(() -> launchRepository.findDistinctValues(project, value, "tags"));
 	}
 
 	@Override
@@ -151,7 +174,8 @@ public class GetLaunchHandler extends StatisticBasedContentLoader implements IGe
 		expect(value.length() > 2, equalTo(true)).verify(INCORRECT_FILTER_PARAMETERS,
 				formattedSupplier("Length of the launch name string '{}' is less than 3 symbols", value)
 		);
-		return launchRepository.findValuesWithMode(project, value, "name", DEFAULT.name());
+		return autocompleteDictionaries.findLaunchNames(project, value)
+				.orElseGet(() -> launchRepository.findValuesWithMode(project, value, "name", DEFAULT.name()));
 	}
 
 	@Override
@@ -159,13 +183,16 @@ public class GetLaunchHandler extends StatisticBasedContentLoader implements IGe
 		expect(value.length() > 2, equalTo(true)).verify(INCORRECT_FILTER_PARAMETERS,
 				formattedSupplier("Length of the filtering string '{}' is less than 3 symbols", value)
 		);
-		return launchRepository.findValuesWithMode(project, value, field, mode);
+		Optional<List<String>> owners = OWNER_FIELD.equals(field) ?
+				autocompleteDictionaries.findOwners(project, value, mode) :
+				Optional.empty();
+		return owners.orElseGet(() -> launchRepository.findValuesWithMode(project, value, field, mode));
 	}
 
 	@Override
 	public Map<String, List<ChartObject>> getLaunchesComparisonInfo(String projectName, String[] ids) {
 		//@formatter:off
-		List<Launch> launches = launchRepository.find(Arrays.asList(ids));
+		List<Launch> launches = launchProjections.getComparisonInfo(projectName, Arrays.asList(ids));
 		List<ChartObject> objects = new ArrayList<>(launches.size());
 		launches.forEach(launch -> {
 			ChartObject object = new ChartObject();
@@ -201,8 +228,7 @@ public class GetLaunchHandler extends StatisticBasedContentLoader implements IGe
 
 	@Override
 	public Map<String, String> getStatuses(String projectName, String[] ids) {
-		return launchRepository.find(Arrays.asList(ids)).stream().filter(launch -> launch.getProjectRef().equals(projectName))
-				.collect(Collectors.toMap(Launch::getId, launch -> launch.getStatus().toString()));
+		return launchProjections.getStatuses(projectName, Arrays.asList(ids));
 	}
 
 	/**
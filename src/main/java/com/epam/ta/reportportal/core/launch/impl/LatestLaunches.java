@@ -0,0 +1,312 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.launch.impl;
+
+import com.epam.ta.reportportal.database.entity.Launch;
+import com.epam.ta.reportportal.database.entity.Status;
+import com.epam.ta.reportportal.database.search.Filter;
+import com.epam.ta.reportportal.events.LaunchDeletedEvent;
+import com.epam.ta.reportportal.events.LaunchFinishForcedEvent;
+import com.epam.ta.reportportal.events.LaunchFinishedEvent;
+import com.epam.ta.reportportal.ws.model.launch.Mode;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Materialized pointers to the latest finished launch of each launch name of the project.<br>
+ * Pointer is a document of {@code latestLaunches} collection with project and name of launch as ID
+ * and ID, number and start time of the launch. It is moved forward by conditional upsert
+ * when launch is finished, so concurrent finishes never move it back, and recalculated
+ * when launches are deleted, merged or their mode is changed.
+ * Latest-mode queries restrict the filter to IDs from pointers of the project instead of
+ * grouping all launches of the project by name. Statistics are always read from launches
+ * themselves since they are changed after launch is finished.<br>
+ * Pointers are built by single pass over launches when application is started first time
+ * and dropped when application is started with them disabled by {@code rp.launch.latest.materialized}.
+ * Until they are built (or while they are disabled) callers should use latest-mode queries of the repository.
+ */
+@Component
+public class LatestLaunches {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LatestLaunches.class);
+
+	private static final String COLLECTION = "latestLaunches";
+	private static final String BACKFILL_MARKER = "backfill";
+	private static final int BATCH_SIZE = 1000;
+
+	private static final String ID = "_id";
+	private static final String PROJECT = "project";
+	private static final String NAME = "name";
+	private static final String LAUNCH_ID = "launchId";
+	private static final String NUMBER = "number";
+	private static final String START_TIME = "startTime";
+
+	private final MongoOperations mongoOperations;
+
+	private final boolean enabled;
+
+	private volatile boolean ready;
+
+	@Autowired
+	public LatestLaunches(MongoOperations mongoOperations, @Value("${rp.launch.latest.materialized:true}") boolean enabled) {
+		this.mongoOperations = mongoOperations;
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Builds pointers in background if they haven't been built yet, so startup isn't delayed.
+	 * Pointers aren't maintained while disabled, so they are dropped to be rebuilt once enabled again
+	 */
+	@EventListener
+	public void onApplicationReady(ApplicationReadyEvent event) {
+		if (enabled) {
+			new ThreadFactoryBuilder().setNameFormat("latest-launches-backfill").setDaemon(true).build().newThread(this::backfill).start();
+		} else {
+			mongoOperations.dropCollection(COLLECTION);
+		}
+	}
+
+	@EventListener
+	public void onLaunchFinished(LaunchFinishedEvent event) {
+		launchFinished(event.getLaunch());
+	}
+
+	@EventListener
+	public void onLaunchFinishForced(LaunchFinishForcedEvent event) {
+		launchFinished(event.getLaunch());
+	}
+
+	@EventListener
+	public void onLaunchDeleted(LaunchDeletedEvent event) {
+		launchesChanged(Collections.singletonList(event.getLaunch()));
+	}
+
+	/**
+	 * @return Whether latest-mode queries may be served from pointers
+	 */
+	public boolean isReady() {
+		return enabled && ready;
+	}
+
+	/**
+	 * Moves pointer of launch name forward to the launch if it is the latest finished launch
+	 *
+	 * @param launch Finished launch
+	 */
+	public void launchFinished(Launch launch) {
+		if (enabled && isLatestCandidate(launch)) {
+			offer(launch);
+		}
+	}
+
+	/**
+	 * Recalculates pointers of names of launches which were deleted, merged or had their mode changed
+	 *
+	 * @param launches Launches in their previous state
+	 */
+	public void launchesChanged(Collection<Launch> launches) {
+		if (!enabled) {
+			return;
+		}
+		Map<DBObject, Launch> names = new LinkedHashMap<>();
+		launches.stream().filter(launch -> null != launch.getProjectRef()).forEach(launch -> {
+			mongoOperations.remove(query(where(ID).is(key(launch)).and(LAUNCH_ID).is(launch.getId())), COLLECTION);
+			names.put(key(launch), launch);
+		});
+		names.values().forEach(launch -> findLatestFinished(launch.getProjectRef(), launch.getName()).ifPresent(this::offer));
+	}
+
+	/**
+	 * Drops pointers of deleted project
+	 *
+	 * @param project Name of project
+	 */
+	public void projectRemoved(String project) {
+		if (enabled) {
+			mongoOperations.remove(query(where(ID + "." + PROJECT).is(project)), COLLECTION);
+		}
+	}
+
+	/**
+	 * Restricts filter to the latest launches of the project
+	 *
+	 * @param project Name of project
+	 * @param filter  Filter of launches
+	 * @return Filter of the latest launches matching the original filter
+	 */
+	public Filter restrict(String project, Filter filter) {
+		Query query = query(where(ID + "." + PROJECT).is(project));
+		query.fields().include(LAUNCH_ID);
+		List<Object> ids = mongoOperations.find(query, DBObject.class, COLLECTION)
+				.stream()
+				.map(pointer -> toObjectId((String) pointer.get(LAUNCH_ID)))
+				.collect(toList());
+		return new LatestLaunchesFilter(filter, ids);
+	}
+
+	/**
+	 * @param project Name of project
+	 * @param name    Name of launch
+	 * @return The latest finished launch with the name
+	 */
+	public Optional<Launch> findLatest(String project, String name) {
+		DBObject pointer = mongoOperations.findOne(query(where(ID).is(key(project, name))), DBObject.class, COLLECTION);
+		return Optional.ofNullable(pointer).map(it -> mongoOperations.findById(it.get(LAUNCH_ID), Launch.class));
+	}
+
+	private void offer(Launch launch) {
+		Query query = query(where(ID).is(key(launch)).and(NUMBER).lt(launch.getNumber()));
+		Update update = new Update().set(LAUNCH_ID, launch.getId()).set(NUMBER, launch.getNumber()).set(START_TIME, launch.getStartTime());
+		try {
+			mongoOperations.upsert(query, update, COLLECTION);
+		} catch (DuplicateKeyException e) {
+			/* pointer already refers to later launch */
+		}
+	}
+
+	private Optional<Launch> findLatestFinished(String project, String name) {
+		Query query = query(where("projectRef").is(project)
+				.and("name")
+				.is(name)
+				.and("mode")
+				.is(Mode.DEFAULT)
+				.and("status")
+				.ne(Status.IN_PROGRESS)).with(new Sort(Sort.Direction.DESC, "number")).limit(1);
+		includeFields(query);
+		return Optional.ofNullable(mongoOperations.findOne(query, Launch.class));
+	}
+
+	/**
+	 * Builds pointers from scratch by single pass over launches.
+	 * Latest-mode queries are served from repository until it's finished
+	 */
+	public void rebuild() {
+		if (enabled) {
+			ready = false;
+			mongoOperations.dropCollection(COLLECTION);
+			build();
+		}
+	}
+
+	private void backfill() {
+		if (mongoOperations.exists(query(where(ID).is(BACKFILL_MARKER)), COLLECTION)) {
+			ready = true;
+		} else {
+			build();
+		}
+	}
+
+	private void build() {
+		long start = System.currentTimeMillis();
+		Query query = query(where("mode").is(Mode.DEFAULT).and("status").ne(Status.IN_PROGRESS));
+		includeFields(query);
+		Map<DBObject, Launch> latest = new HashMap<>();
+		try (CloseableIterator<Launch> launches = mongoOperations.stream(query, Launch.class)) {
+			launches.forEachRemaining(launch -> latest.merge(key(launch), launch,
+					(current, candidate) -> candidate.getNumber() > current.getNumber() ? candidate : current
+			));
+			Iterables.partition(latest.values(), BATCH_SIZE).forEach(this::offerExisting);
+			mongoOperations.getCollection(COLLECTION).save(new BasicDBObject(ID, BACKFILL_MARKER));
+			ready = true;
+			LOGGER.info("Pointers to {} latest launches are built in {} ms", latest.size(), System.currentTimeMillis() - start);
+		} catch (Exception e) {
+			LOGGER.error("Unable to build pointers to latest launches. Latest launches will be grouped on each request.", e);
+		}
+	}
+
+	/**
+	 * Offers launches read by backfill. Pointers of launches which were deleted or
+	 * changed meanwhile are recalculated, since their events could be handled before the offer
+	 */
+	private void offerExisting(List<Launch> launches) {
+		launches.forEach(this::offer);
+		Query query = query(where(ID).in(launches.stream().map(Launch::getId).collect(toList())).and("mode").is(Mode.DEFAULT));
+		query.fields().include(ID);
+		Set<String> existing = mongoOperations.find(query, Launch.class).stream().map(Launch::getId).collect(toSet());
+		launchesChanged(launches.stream().filter(launch -> !existing.contains(launch.getId())).collect(toList()));
+	}
+
+	private static void includeFields(Query query) {
+		query.fields().include("projectRef").include("name").include("number").include("startTime");
+	}
+
+	private static boolean isLatestCandidate(Launch launch) {
+		return null != launch.getProjectRef() && null != launch.getNumber() && Mode.DEFAULT.equals(launch.getMode())
+				&& !Status.IN_PROGRESS.equals(launch.getStatus());
+	}
+
+	private static DBObject key(Launch launch) {
+		return key(launch.getProjectRef(), launch.getName());
+	}
+
+	private static DBObject key(String project, String name) {
+		return new BasicDBObject(PROJECT, project).append(NAME, name);
+	}
+
+	private static Object toObjectId(String id) {
+		return ObjectId.isValid(id) ? new ObjectId(id) : id;
+	}
+
+	/**
+	 * Filter with additional restriction by IDs of launches
+	 */
+	private static final class LatestLaunchesFilter extends Filter {
+
+		private final List<Object> ids;
+
+		LatestLaunchesFilter(Filter filter, List<Object> ids) {
+			super(filter.getTarget(), filter.getFilterConditions());
+			this.ids = ids;
+		}
+
+		@Override
+		public List<Criteria> toCriteria() {
+			List<Criteria> criteria = new ArrayList<>(super.toCriteria());
+			criteria.add(where(ID).in(ids));
+			return criteria;
+		}
+	}
+}
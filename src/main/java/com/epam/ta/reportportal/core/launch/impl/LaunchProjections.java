@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.launch.impl;
+
+import com.epam.ta.reportportal.database.entity.Launch;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.ImmutableSortedSet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Loads only fields of launches needed by particular read. Launches are always
+ * loaded by single query with project restriction inside the query.<br>
+ * Status polls of the same launches are coalesced: requests which come while
+ * the same statuses are being loaded or during {@code rp.launch.status.coalesce}
+ * milliseconds after that share the single query result.
+ */
+@Component
+public class LaunchProjections {
+
+	private static final String ID = "_id";
+	private static final String PROJECT = "projectRef";
+	private static final String STATUS = "status";
+
+	private final MongoOperations mongoOperations;
+
+	private final AsyncLoadingCache<StatusRequest, Map<String, String>> statuses;
+
+	@Autowired
+	public LaunchProjections(MongoOperations mongoOperations, @Value("${rp.launch.status.coalesce:500}") long coalesceMillis) {
+		this.mongoOperations = mongoOperations;
+		this.statuses = Caffeine.newBuilder()
+				.maximumSize(10000)
+				.expireAfterWrite(coalesceMillis, TimeUnit.MILLISECONDS)
+				.buildAsync(this::loadStatuses);
+	}
+
+	/**
+	 * @param project Name of project
+	 * @param ids     IDs of launches
+	 * @return Statuses of launches of the project by launch ID
+	 */
+	public Map<String, String> getStatuses(String project, Collection<String> ids) {
+		try {
+			return statuses.get(new StatusRequest(project, ids)).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Loading of launch statuses is interrupted", e);
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof RuntimeException ?
+					(RuntimeException) e.getCause() :
+					new IllegalStateException("Unable to load launch statuses", e.getCause());
+		}
+	}
+
+	/**
+	 * Loads name, number, start time and statistics of launches
+	 *
+	 * @param project Name of project
+	 * @param ids     IDs of launches
+	 * @return Launches of the project
+	 */
+	public List<Launch> getComparisonInfo(String project, Collection<String> ids) {
+		Query query = query(where(ID).in(ids).and(PROJECT).is(project));
+		query.fields().include("name").include("number").include("startTime").include("statistics");
+		return mongoOperations.find(query, Launch.class);
+	}
+
+	private Map<String, String> loadStatuses(StatusRequest request) {
+		Query query = query(where(ID).in(request.ids).and(PROJECT).is(request.project));
+		query.fields().include(STATUS);
+		return mongoOperations.find(query, Launch.class)
+				.stream()
+				.collect(toMap(Launch::getId, launch -> launch.getStatus().toString()));
+	}
+
+	private static final class StatusRequest {
+		private final String project;
+		private final Set<String> ids;
+
+		StatusRequest(String project, Collection<String> ids) {
+			this.project = project;
+			this.ids = ImmutableSortedSet.copyOf(ids);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			StatusRequest that = (StatusRequest) o;
+			return project.equals(that.project) && ids.equals(that.ids);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(project, ids);
+		}
+	}
+}
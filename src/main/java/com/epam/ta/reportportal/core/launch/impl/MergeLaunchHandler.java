@@ -24,11 +24,13 @@ package com.epam.ta.reportportal.core.launch.impl;
 import com.epam.ta.reportportal.commons.Preconditions;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
 import com.epam.ta.reportportal.core.analyzer.ILogIndexer;
+import com.epam.ta.reportportal.core.autocomplete.AutocompleteDictionaries;
 import com.epam.ta.reportportal.core.item.TestItemUniqueIdGenerator;
 import com.epam.ta.reportportal.core.item.merge.strategy.MergeStrategy;
 import com.epam.ta.reportportal.core.item.merge.strategy.MergeStrategyFactory;
 import com.epam.ta.reportportal.core.item.merge.strategy.MergeStrategyType;
 import com.epam.ta.reportportal.core.launch.IMergeLaunchHandler;
+import com.epam.ta.reportportal.core.log.LogReferences;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacade;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacadeFactory;
 import com.epam.ta.reportportal.core.statistics.StatisticsHelper;
@@ -48,6 +50,11 @@ import com.epam.ta.reportportal.ws.model.launch.MergeLaunchesRQ;
 import com.epam.ta.reportportal.ws.model.launch.Mode;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -63,6 +70,8 @@ import static com.epam.ta.reportportal.ws.model.ErrorType.*;
 import static java.util.Comparator.comparing;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 /**
  * @author Aliaksei_Makayed
@@ -72,6 +81,8 @@ import static java.util.stream.Collectors.*;
 @Service
 public class MergeLaunchHandler implements IMergeLaunchHandler {
 
+	private static final int BATCH_SIZE = 1000;
+
 	private TestItemRepository testItemRepository;
 
 	private ProjectRepository projectRepository;
@@ -98,6 +109,18 @@ public class MergeLaunchHandler implements IMergeLaunchHandler {
 	@Autowired
 	private LaunchConverter launchConverter;
 
+	@Autowired
+	private MongoOperations mongoOperations;
+
+	@Autowired
+	private AutocompleteDictionaries autocompleteDictionaries;
+
+	@Autowired
+	private LatestLaunches latestLaunches;
+
+	@Autowired
+	private LogReferences logReferences;
+
 	@Autowired
 	public void setProjectRepository(ProjectRepository projectRepository) {
 		this.projectRepository = projectRepository;
@@ -143,7 +166,7 @@ public class MergeLaunchHandler implements IMergeLaunchHandler {
 		Launch launch = createResultedLaunch(projectName, userName, rq, hasRetries, launchesList, endTime);
 
 		boolean isNameChanged = !launch.getName().equals(launchesList.get(0).getName());
-		updateChildrenOfLaunches(launch.getId(), rq.getLaunches(), rq.isExtendSuitesDescription(), isNameChanged);
+		updateChildrenOfLaunches(launch, launchesList, rq.isExtendSuitesDescription(), isNameChanged);
 
 		// deep merge strategies
 		if (!type.equals(MergeStrategyType.BASIC)) {
@@ -170,6 +193,10 @@ public class MergeLaunchHandler implements IMergeLaunchHandler {
 
 		launchRepository.save(launch);
 		launchRepository.delete(launchesIds);
+		autocompleteDictionaries.launchAdded(launch);
+		launchesList.forEach(autocompleteDictionaries::launchRemoved);
+		latestLaunches.launchesChanged(launchesList);
+		latestLaunches.launchFinished(launch);
 
 		logIndexer.indexLogs(launch.getId(), testItemRepository.findItemsNotInIssueType(TO_INVESTIGATE.getLocator(), launch.getId()));
 
@@ -210,28 +237,73 @@ public class MergeLaunchHandler implements IMergeLaunchHandler {
 	}
 
 	/**
-	 * Update test-items of specified launches with new LaunchID
+	 * Update test-items of specified launches with new LaunchID.
+	 * Items are streamed and updated with bulk operations, unique IDs
+	 * are generated using names of items loaded once for all launches
 	 */
-	private void updateChildrenOfLaunches(String launchId, Set<String> launches, boolean extendDescription, boolean isNameChanged) {
-		List<TestItem> testItems = launches.stream().flatMap(id -> {
-			Launch launch = launchRepository.findOne(id);
-			return testItemRepository.findByLaunch(launch).stream().map(item -> {
-				item.setLaunchRef(launchId);
-				if (isNameChanged && identifierGenerator.validate(item.getUniqueId())) {
-					item.setUniqueId(identifierGenerator.generate(item));
+	private void updateChildrenOfLaunches(Launch target, List<Launch> launches, boolean extendDescription, boolean isNameChanged) {
+		Map<String, String> pathNames = isNameChanged ? getItemNames(launches) : Collections.emptyMap();
+		for (Launch launch : launches) {
+			Query itemsQuery = query(where("launchRef").is(launch.getId()));
+			itemsQuery.fields()
+					.include("name")
+					.include("path")
+					.include("parameters")
+					.include("uniqueId")
+					.include("type")
+					.include("itemDescription");
+			try (CloseableIterator<TestItem> items = mongoOperations.stream(itemsQuery, TestItem.class)) {
+				BulkOperations bulk = null;
+				List<String> moved = new ArrayList<>(BATCH_SIZE);
+				while (items.hasNext()) {
+					TestItem item = items.next();
+					item.setLaunchRef(target.getId());
+					Update update = Update.update("launchRef", target.getId());
+					if (isNameChanged && identifierGenerator.validate(item.getUniqueId())) {
+						update.set("uniqueId", identifierGenerator.generate(item, target, pathNames));
+					}
+					if (item.getType().sameLevel(TestItemType.SUITE)) {
+						// Add launch reference description for top level items
+						Supplier<String> newDescription = Suppliers.formattedSupplier(
+								((null != item.getItemDescription()) ? item.getItemDescription() : "") + (extendDescription ?
+										"\r\n@launch '{} #{}'" :
+										""), launch.getName(), launch.getNumber());
+						update.set("itemDescription", newDescription.get());
+					}
+					if (null == bulk) {
+						bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, TestItem.class);
+					}
+					bulk.updateOne(query(where("_id").is(item.getId())), update);
+					moved.add(item.getId());
+					if (moved.size() == BATCH_SIZE) {
+						bulk.execute();
+						logReferences.itemsMoved(moved, target.getId());
+						bulk = null;
+						moved.clear();
+					}
 				}
-				if (item.getType().sameLevel(TestItemType.SUITE)) {
-					// Add launch reference description for top level items
-					Supplier<String> newDescription = Suppliers.formattedSupplier(
-							((null != item.getItemDescription()) ? item.getItemDescription() : "") + (extendDescription ?
-									"\r\n@launch '{} #{}'" :
-									""), launch.getName(), launch.getNumber());
-					item.setItemDescription(newDescription.get());
+				if (null != bulk) {
+					bulk.execute();
+					logReferences.itemsMoved(moved, target.getId());
 				}
-				return item;
-			});
-		}).collect(toList());
-		testItemRepository.save(testItems);
+			}
+		}
+	}
+
+	/**
+	 * Loads names of all items of specified launches
+	 *
+	 * @param launches Launches
+	 * @return Item names by item ID
+	 */
+	private Map<String, String> getItemNames(List<Launch> launches) {
+		Query namesQuery = query(where("launchRef").in(launches.stream().map(Launch::getId).collect(toList())));
+		namesQuery.fields().include("name");
+		Map<String, String> names = new HashMap<>();
+		try (CloseableIterator<TestItem> items = mongoOperations.stream(namesQuery, TestItem.class)) {
+			items.forEachRemaining(item -> names.put(item.getId(), item.getName()));
+		}
+		return names;
 	}
 
 	/**
@@ -23,28 +23,40 @@ package com.epam.ta.reportportal.core.launch.impl;
 
 import com.epam.ta.reportportal.commons.Preconditions;
 import com.epam.ta.reportportal.core.launch.IRetriesLaunchHandler;
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.core.log.LogMessages;
+import com.epam.ta.reportportal.core.statistics.StatisticsDelta;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacade;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacadeFactory;
+import com.epam.ta.reportportal.core.statistics.StatisticsHelper;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
 import com.epam.ta.reportportal.database.dao.ProjectRepository;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
 import com.epam.ta.reportportal.database.entity.Launch;
 import com.epam.ta.reportportal.database.entity.Project;
-import com.epam.ta.reportportal.database.entity.Status;
 import com.epam.ta.reportportal.database.entity.history.status.RetryObject;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.ws.model.ErrorType;
-import org.apache.commons.lang3.SerializationUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.*;
 
 import static com.epam.ta.reportportal.commons.Predicates.equalTo;
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
+import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 /**
+ * Collapses retries of test items into the last retry.<br>
+ * All retries of the launch are processed in one pass: statistics of removed
+ * retries are subtracted from ancestors and launch with single bulk update per document,
+ * removed retries are deleted at once and statuses of affected ancestors are recalculated
+ * once per ancestor.
+ *
  * @author Pavel Bortnik
  */
 @Service
@@ -64,6 +76,15 @@ public class RetriesLaunchHandler implements IRetriesLaunchHandler {
 	@Autowired
 	private StatisticsFacadeFactory statisticsFacadeFactory;
 
+	@Autowired
+	private MongoOperations mongoOperations;
+
+	@Autowired
+	private AttachmentStorage attachmentStorage;
+
+	@Autowired
+	private LogMessages logMessages;
+
 	@Override
 	public void handleRetries(Launch launch) {
 		if (isTrue(launch.getHasRetries())) {
@@ -81,85 +102,73 @@ public class RetriesLaunchHandler implements IRetriesLaunchHandler {
 			expect(retries, Preconditions.NOT_EMPTY_COLLECTION).verify(
 					ErrorType.RETRIES_HANDLER_ERROR, "There are no retries in the launch.");
 
-			retries.forEach(retry -> handleRetry(retry, statisticsFacade));
+			StatisticsDelta delta = new StatisticsDelta();
+			List<TestItem> lastRetries = new ArrayList<>(retries.size());
+			List<TestItem> removed = new ArrayList<>();
+			Set<String> ancestors = new LinkedHashSet<>();
+			retries.forEach(retry -> {
+				TestItem lastRetry = moveRetries(retry.getRetries(), delta);
+				lastRetries.add(lastRetry);
+				removed.addAll(lastRetry.getRetries());
+				if (null != lastRetry.getPath()) {
+					ancestors.addAll(lastRetry.getPath());
+				}
+			});
+
+			/* removed retries are deleted anyway, there is no need to update them */
+			delta.exclude(removed.stream().map(TestItem::getId).collect(toList()));
+			delta.apply(mongoOperations);
+			/* logs of removed retries are deleted with them as before, stored content is released first */
+			Criteria removedLogs = where("testItemRef").in(removed.stream().map(TestItem::getId).collect(toList()));
+			attachmentStorage.detach(removedLogs);
+			logMessages.remove(removedLogs);
+			testItemRepository.delete(removed);
+			testItemRepository.save(lastRetries);
+
+			updateStatusFromStatistics(ancestors);
+			statisticsFacade.updateLaunchFromStatistics(launchRepository.findOne(launch.getId()));
 		}
 	}
 
 	/**
-	 * Process aggregated retry object
+	 * Move all retries from test item collection into a embedded collection
+	 * inside the last retry. Statistics of moved retries are subtracted from
+	 * statistics of their ancestors and launch
 	 *
-	 * @param retry            Retry object
-	 * @param statisticsFacade Statistics facade
+	 * @param retries Retries to be processed
+	 * @param delta   Statistics changes
+	 * @return Last retry
 	 */
-	private void handleRetry(RetryObject retry, StatisticsFacade statisticsFacade) {
-		List<TestItem> retries = retry.getRetries();
+	private TestItem moveRetries(List<TestItem> retries, StatisticsDelta delta) {
 		retries.forEach(it -> expect(it.hasChilds(), equalTo(false)).verify(ErrorType.RETRIES_HANDLER_ERROR,
 				"Retries cannot have items with children"
 		));
-		TestItem lastRetry = moveRetries(retries, statisticsFacade);
-		testItemRepository.delete(retries);
-
-		Status savedStatus = SerializationUtils.clone(lastRetry.getStatus());
-		statisticsFacade.updateParentStatusFromStatistics(lastRetry);
-		if (null != savedStatus) {
-			lastRetry.setStatus(savedStatus);
-		}
-		testItemRepository.save(lastRetry);
-		statisticsFacade.updateLaunchFromStatistics(launchRepository.findOne(lastRetry.getLaunchRef()));
-
-	}
-
-	/**
-	 * Resets retry statistics
-	 *
-	 * @param retry            Retry to be reseted
-	 * @param statisticsFacade Statistics facade
-	 */
-	private TestItem resetRetryStatistics(TestItem retry, StatisticsFacade statisticsFacade) {
-		retry = statisticsFacade.resetExecutionStatistics(retry);
-		if (retry.getIssue() != null) {
-			retry = statisticsFacade.resetIssueStatistics(retry);
-		}
-		return retry;
-	}
-
-	/**
-	 * Move all retries from test item collection into a embedded collection
-	 * inside the last retry
-	 *
-	 * @param retries          Retries to be processed
-	 * @param statisticsFacade Statistics facade
-	 * @return Last retry
-	 */
-	private TestItem moveRetries(List<TestItem> retries, StatisticsFacade statisticsFacade) {
-		retries.forEach(it -> {
-			resetRetryStatistics(it, statisticsFacade);
-			it.setRetryProcessed(Boolean.TRUE);
-		});
 		TestItem retryRoot = retries.get(0);
-		retries.set(0, retryRoot);
-
 		TestItem lastRetry = retries.get(retries.size() - 1);
-		retries.remove(retries.size() - 1);
-		lastRetry = updateRetryStatistics(lastRetry, statisticsFacade);
+		List<TestItem> moved = new ArrayList<>(retries.subList(0, retries.size() - 1));
+		moved.forEach(it -> {
+			delta.subtract(it);
+			it.setRetryProcessed(Boolean.TRUE);
+		});
 		lastRetry.setStartTime(retryRoot.getStartTime());
-		lastRetry.setRetries(retries);
+		lastRetry.setRetries(moved);
 		return lastRetry;
 	}
 
 	/**
-	 * Updates statistics of last retry using info from the retry root
+	 * Recalculates statuses of test items from their actual statistics
 	 *
-	 * @param lastRetry        Last retry
-	 * @param statisticsFacade Statistics facade
-	 * @return Updated last retry
+	 * @param ids IDs of test items
 	 */
-	private TestItem updateRetryStatistics(TestItem lastRetry, StatisticsFacade statisticsFacade) {
-		lastRetry = statisticsFacade.updateExecutionStatistics(lastRetry);
-		if (lastRetry.getIssue() != null) {
-			lastRetry = statisticsFacade.updateIssueStatistics(lastRetry);
+	private void updateStatusFromStatistics(Collection<String> ids) {
+		if (ids.isEmpty()) {
+			return;
 		}
-		return lastRetry;
+		List<TestItem> items = new ArrayList<>();
+		testItemRepository.findAll(ids).forEach(item -> {
+			item.setStatus(StatisticsHelper.getStatusFromStatistics(item.getStatistics()));
+			items.add(item);
+		});
+		testItemRepository.save(items);
 	}
-
 }
@@ -28,7 +28,9 @@ import com.epam.ta.reportportal.core.analyzer.IIssuesAnalyzer;
 import com.epam.ta.reportportal.core.analyzer.ILogIndexer;
 import com.epam.ta.reportportal.core.analyzer.strategy.AnalyzeCollectorFactory;
 import com.epam.ta.reportportal.core.analyzer.strategy.AnalyzeItemsMode;
+import com.epam.ta.reportportal.core.autocomplete.AutocompleteDictionaries;
 import com.epam.ta.reportportal.core.launch.IUpdateLaunchHandler;
+import com.epam.ta.reportportal.core.throttling.FairTaskExecutor;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
 import com.epam.ta.reportportal.database.dao.ProjectRepository;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
@@ -49,7 +51,6 @@ import com.google.common.collect.Sets;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -97,8 +98,14 @@ public class UpdateLaunchHandler implements IUpdateLaunchHandler {
 	private ILogIndexer logIndexer;
 
 	@Autowired
-	@Qualifier("autoAnalyzeTaskExecutor")
-	private TaskExecutor taskExecutor;
+	private AutocompleteDictionaries autocompleteDictionaries;
+
+	@Autowired
+	private LatestLaunches latestLaunches;
+
+	@Autowired
+	@Qualifier("autoAnalyzeFairExecutor")
+	private FairTaskExecutor taskExecutor;
 
 	@Autowired
 	public void setLaunchRepository(LaunchRepository launchRepository) {
@@ -120,11 +127,17 @@ public class UpdateLaunchHandler implements IUpdateLaunchHandler {
 		Launch launch = launchRepository.findOne(launchId);
 		expect(launch, notNull()).verify(LAUNCH_NOT_FOUND, launchId);
 		validate(launch, userName, projectName, rq.getMode());
+		autocompleteDictionaries.launchRemoved(launch);
+		Mode previousMode = launch.getMode();
 		ofNullable(rq.getMode()).ifPresent(launch::setMode);
 		ofNullable(rq.getDescription()).ifPresent(launch::setDescription);
 		ofNullable(rq.getTags()).ifPresent(tags -> launch.setTags(Sets.newHashSet(EntityUtils.trimStrings(rq.getTags()))));
 
 		launchRepository.save(launch);
+		autocompleteDictionaries.launchAdded(launch);
+		if (previousMode != launch.getMode()) {
+			latestLaunches.launchesChanged(singletonList(launch));
+		}
 		reindexLogs(launch);
 
 		return new OperationCompletionRS("Launch with ID = '" + launch.getId() + "' successfully updated.");
@@ -150,7 +163,7 @@ public class UpdateLaunchHandler implements IUpdateLaunchHandler {
 
 		List<TestItem> items = collectItemsByModes(project, username, launch.getId(), analyzeRQ.getAnalyzeItemsMode());
 
-		taskExecutor.execute(() -> analyzerService.analyze(launch, project, items, analyzeMode));
+		taskExecutor.execute(projectName, () -> analyzerService.analyze(launch, project, items, analyzeMode));
 
 		return new OperationCompletionRS("Auto-analyzer for launch ID='" + analyzeRQ.getLaunchId() + "' started.");
 	}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.log;
+
+import com.epam.ta.reportportal.database.DataStorage;
+import com.epam.ta.reportportal.database.entity.BinaryContent;
+import com.epam.ta.reportportal.database.entity.Log;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteSource;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import org.apache.commons.fileupload.FileItem;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.commons.CommonsMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Content-addressed storage of log attachments.<br>
+ * Each stored file is tracked by a document of {@code attachments} collection with ID of the
+ * file, SHA-256 hash of it's content prefixed with project name, thumbnail, count of logs
+ * referring the file and time it was attached last time. When the same content is uploaded to
+ * the same project again, count is incremented and logs point to already stored file, so
+ * neither the file nor it's thumbnail are written twice. Files are deleted when the last log
+ * referring them is removed.<br>
+ * Files stored before tracking was introduced are not shared, so they are deleted as soon as
+ * the log referring them is removed.
+ */
+@Component
+public class AttachmentStorage {
+
+	private static final String COLLECTION = "attachments";
+
+	private static final String ID = "_id";
+	private static final String HASH = "hash";
+	private static final String THUMBNAIL_ID = "thumbnailId";
+	private static final String CONTENT_TYPE = "contentType";
+	private static final String REFS = "refs";
+	private static final String LAST_USED = "lastUsed";
+
+	private static final String BINARY_DATA_ID = "binaryContent.binaryDataId";
+
+	private final MongoOperations mongoOperations;
+
+	private final DataStorage dataStorage;
+
+	@Autowired
+	public AttachmentStorage(MongoOperations mongoOperations, DataStorage dataStorage) {
+		this.mongoOperations = mongoOperations;
+		this.dataStorage = dataStorage;
+	}
+
+	/**
+	 * @param file Attached file
+	 * @return SHA-256 hash of file content. Computed while upload is read if file is {@link HashedFile}
+	 * @throws IOException if file cannot be read
+	 */
+	public static String hash(MultipartFile file) throws IOException {
+		if (file instanceof HashedFile) {
+			return ((HashedFile) file).getHash();
+		}
+		return new ByteSource() {
+			@Override
+			public InputStream openStream() throws IOException {
+				return file.getInputStream();
+			}
+		}.hash(Hashing.sha256()).toString();
+	}
+
+	/**
+	 * Refers already stored file with the same content
+	 *
+	 * @param project Name of project
+	 * @param hash    Hash of content
+	 * @return Content of stored file if there is one
+	 */
+	public Optional<BinaryContent> acquire(String project, String hash) {
+		DBObject attachment = mongoOperations.findAndModify(query(where(HASH).is(key(project, hash))),
+				new Update().inc(REFS, 1).set(LAST_USED, new Date()), FindAndModifyOptions.options().returnNew(true), DBObject.class,
+				COLLECTION
+		);
+		return Optional.ofNullable(attachment)
+				.map(it -> new BinaryContent(it.get(ID).toString(), (String) it.get(THUMBNAIL_ID), (String) it.get(CONTENT_TYPE)));
+	}
+
+	/**
+	 * Starts tracking just stored file. If the same content has been stored concurrently,
+	 * just stored copy is deleted and the one stored first is referred instead
+	 *
+	 * @param project Name of project
+	 * @param hash    Hash of content
+	 * @param stored  Content of just stored file
+	 * @return Content logs should refer
+	 */
+	public BinaryContent register(String project, String hash, BinaryContent stored) {
+		DBObject attachment = new BasicDBObject(ID, toObjectId(stored.getBinaryDataId())).append(HASH, key(project, hash))
+				.append(THUMBNAIL_ID, stored.getThumbnailId())
+				.append(CONTENT_TYPE, stored.getContentType())
+				.append(REFS, 1)
+				.append(LAST_USED, new Date());
+		while (true) {
+			try {
+				mongoOperations.insert(attachment, COLLECTION);
+				return stored;
+			} catch (DuplicateKeyException e) {
+				Optional<BinaryContent> existing = acquire(project, hash);
+				if (existing.isPresent()) {
+					delete(stored);
+					return existing.get();
+				}
+				/* stored first copy has just been released, track this one instead */
+			}
+		}
+	}
+
+	/**
+	 * Releases files referred by logs and clears their binary content, so the logs
+	 * may be removed without touching files still referred by other logs.
+	 * Binary content of each log is cleared atomically, so concurrent detach of the
+	 * same log releases it's file only once
+	 *
+	 * @param logs Criteria of logs
+	 */
+	public void detach(Criteria logs) {
+		Query query = query(logs).addCriteria(where(BINARY_DATA_ID).exists(true));
+		query.fields().include(ID);
+		Map<String, BinaryContent> contents = new HashMap<>();
+		Map<String, Integer> refs = new HashMap<>();
+		try (CloseableIterator<Log> iterator = mongoOperations.stream(query, Log.class)) {
+			iterator.forEachRemaining(it -> {
+				Query detached = query(where(ID).is(it.getId())).addCriteria(where(BINARY_DATA_ID).exists(true));
+				detached.fields().include("binaryContent");
+				Log log = mongoOperations.findAndModify(detached, new Update().unset("binaryContent"), Log.class);
+				if (null != log && null != log.getBinaryContent()) {
+					BinaryContent content = log.getBinaryContent();
+					contents.putIfAbsent(content.getBinaryDataId(), content);
+					refs.merge(content.getBinaryDataId(), 1, Integer::sum);
+				}
+			});
+		}
+		refs.forEach((id, count) -> release(contents.get(id), count));
+	}
+
+	/**
+	 * Deletes files tracked for removed project. Logs of the project are removed as well,
+	 * so nothing refers the files anymore
+	 *
+	 * @param project Name of project
+	 */
+	public void projectRemoved(String project) {
+		Query query = query(where(HASH).regex("^" + Pattern.quote(project + ":")));
+		try (CloseableIterator<DBObject> iterator = mongoOperations.stream(query, DBObject.class, COLLECTION)) {
+			iterator.forEachRemaining(it -> delete(new BinaryContent(it.get(ID).toString(), (String) it.get(THUMBNAIL_ID), null)));
+		}
+		mongoOperations.remove(query, COLLECTION);
+	}
+
+	/**
+	 * Stops tracking all files. Should be used when all files are deleted from storage
+	 */
+	public void removeAll() {
+		mongoOperations.remove(new Query(), COLLECTION);
+	}
+
+	/**
+	 * Stops tracking file which is outdated according to retention settings of the project
+	 *
+	 * @param fileId ID of stored file or thumbnail
+	 * @param period Retention period
+	 * @return {@code false} if file has been attached during retention period, so it should be kept
+	 */
+	public boolean expire(String fileId, Duration period) {
+		Date cutoff = Date.from(Instant.now().minus(period));
+		if (mongoOperations.remove(query(where(ID).is(fileId).and(LAST_USED).lte(cutoff)), COLLECTION).getN() > 0) {
+			return true;
+		}
+		return !mongoOperations.exists(
+				query(new Criteria().orOperator(where(ID).is(fileId), where(THUMBNAIL_ID).is(fileId))).addCriteria(
+						where(LAST_USED).gt(cutoff)), COLLECTION);
+	}
+
+	private void release(BinaryContent content, int count) {
+		DBObject attachment = mongoOperations.findAndModify(query(where(ID).is(content.getBinaryDataId())), new Update().inc(REFS, -count),
+				FindAndModifyOptions.options().returnNew(true), DBObject.class, COLLECTION
+		);
+		if (null == attachment) {
+			delete(content);
+		} else if (((Number) attachment.get(REFS)).intValue() <= 0
+				&& mongoOperations.remove(query(where(ID).is(content.getBinaryDataId()).and(REFS).lte(0)), COLLECTION).getN() > 0) {
+			/* file isn't acquired concurrently, so nobody refers it anymore */
+			delete(new BinaryContent(content.getBinaryDataId(), (String) attachment.get(THUMBNAIL_ID), null));
+		}
+	}
+
+	private void delete(BinaryContent content) {
+		dataStorage.deleteData(content.getBinaryDataId());
+		if (null != content.getThumbnailId()) {
+			dataStorage.deleteData(content.getThumbnailId());
+		}
+	}
+
+	private static String key(String project, String hash) {
+		return project + ":" + hash;
+	}
+
+	private static Object toObjectId(String id) {
+		return ObjectId.isValid(id) ? new ObjectId(id) : id;
+	}
+
+	/**
+	 * Uploaded file with content hash computed while upload was read.<br>
+	 * The same upload may be attached to several logs and read asynchronously,
+	 * so its temporary copy is deleted when the last reader releases it.
+	 * Creator of the file holds the first reference.
+	 */
+	public static class HashedFile extends CommonsMultipartFile {
+
+		private final String hash;
+
+		private final AtomicInteger refs = new AtomicInteger(1);
+
+		public HashedFile(FileItem fileItem, String hash) {
+			super(fileItem);
+			this.hash = hash;
+		}
+
+		public String getHash() {
+			return hash;
+		}
+
+		public void retain() {
+			refs.incrementAndGet();
+		}
+
+		public void release() {
+			if (0 == refs.decrementAndGet()) {
+				getFileItem().delete();
+			}
+		}
+	}
+}
@@ -23,7 +23,9 @@ package com.epam.ta.reportportal.core.log;
 
 import com.epam.ta.reportportal.database.entity.Log;
 import com.epam.ta.reportportal.database.search.Filter;
+import com.epam.ta.reportportal.util.KeysetPage;
 import com.epam.ta.reportportal.ws.model.log.LogResource;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
 import org.springframework.data.domain.Pageable;
 
 /**
@@ -39,9 +41,35 @@ public interface IGetLogHandler {
 	 * @param testStepId - parent step ID value
 	 * @param filterable - filter definition
 	 * @param pageable   - pageable definition
+	 * @param fieldset   - requested fields of logs
 	 * @return Iterable<LogResource>
 	 */
-	Iterable<LogResource> getLogs(String testStepId, String project, Filter filterable, Pageable pageable);
+	Iterable<LogResource> getLogs(String testStepId, String project, Filter filterable, Pageable pageable, Fieldset fieldset);
+
+	/**
+	 * Returns window of logs for specified filter ordered by log time.
+	 * Window position is defined by the cursor instead of page number
+	 *
+	 * @param project    Project name
+	 * @param filterable Filter definition
+	 * @param pageable   Sort direction and window size
+	 * @param cursor     Cursor of the window or <code>null</code> for the first one
+	 * @param total      Whether total count of logs should be calculated
+	 * @return Window of logs
+	 */
+	KeysetPage<LogResource> getLogs(String project, Filter filterable, Pageable pageable, String cursor, boolean total);
+
+	/**
+	 * Returns window of logs containing specified log
+	 *
+	 * @param logId      ID of log to find
+	 * @param project    Project name
+	 * @param filterable Filter definition
+	 * @param pageable   Sort direction and window size
+	 * @param total      Whether total count of logs should be calculated
+	 * @return Window of logs
+	 */
+	KeysetPage<LogResource> getLogWindow(String logId, String project, Filter filterable, Pageable pageable, boolean total);
 
 	/**
 	 * Returns log by ID
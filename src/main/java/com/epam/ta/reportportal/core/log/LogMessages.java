@@ -0,0 +1,187 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.log;
+
+import com.epam.ta.reportportal.database.entity.Log;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Out-of-line storage of large log messages.<br>
+ * Messages longer than {@code rp.log.message.threshold} characters are compressed and stored in
+ * {@code logMessages} collection with ID of the log, while the log itself keeps only the first
+ * {@code rp.log.message.preview} characters ended with {@link #TRUNCATION_MARKER}, so clients
+ * can tell the preview from the full text. So lists and pages of logs are read and sent
+ * without full text of verbose messages. Full text is restored when single log is
+ * requested or logs are sent to analyzer.<br>
+ * Search by message ({@code filter.cnt.message}) is performed by database against
+ * log documents, so it matches only preview of offloaded messages.
+ */
+@Component
+public class LogMessages {
+
+	/**
+	 * Ends preview of the message which full text is stored out of line
+	 */
+	public static final String TRUNCATION_MARKER = " [truncated]";
+
+	private static final String COLLECTION = "logMessages";
+
+	private static final String ID = "_id";
+	private static final String LENGTH = "length";
+	private static final String MESSAGE = "message";
+
+	private static final int REMOVE_BATCH_SIZE = 1000;
+
+	private final MongoOperations mongoOperations;
+
+	private final int threshold;
+
+	private final int previewLength;
+
+	@Autowired
+	public LogMessages(MongoOperations mongoOperations, @Value("${rp.log.message.threshold:65536}") int threshold,
+			@Value("${rp.log.message.preview:4096}") int previewLength) {
+		this.mongoOperations = mongoOperations;
+		this.threshold = threshold;
+		this.previewLength = Math.min(previewLength, threshold);
+		Preconditions.checkArgument(this.previewLength > TRUNCATION_MARKER.length(), "Log message preview is too short");
+	}
+
+	/**
+	 * Moves message of the log out of line if it exceeds threshold.
+	 * Should be called before the log is saved
+	 *
+	 * @param log Log to be saved
+	 */
+	public void offload(Log log) {
+		String message = log.getLogMsg();
+		if (null == message || message.length() <= threshold) {
+			return;
+		}
+		if (null == log.getId()) {
+			log.setId(new ObjectId().toString());
+		}
+		mongoOperations.save(new BasicDBObject(ID, toObjectId(log.getId())).append(LENGTH, message.length()).append(MESSAGE, compress(message)),
+				COLLECTION
+		);
+		int end = previewLength - TRUNCATION_MARKER.length();
+		if (Character.isHighSurrogate(message.charAt(end - 1))) {
+			end--;
+		}
+		log.setLogMsg(message.substring(0, end) + TRUNCATION_MARKER);
+	}
+
+	/**
+	 * Restores full message of the log
+	 *
+	 * @param log Log read from database
+	 * @return The same log
+	 */
+	public Log restore(Log log) {
+		return restore(Collections.singletonList(log)).get(0);
+	}
+
+	/**
+	 * Restores full messages of the logs with single query
+	 *
+	 * @param logs Logs read from database
+	 * @return The same logs
+	 */
+	public List<Log> restore(List<Log> logs) {
+		/* only previews may be truncated */
+		Map<String, Log> candidates = new HashMap<>();
+		logs.stream()
+				.filter(log -> null != log.getId() && null != log.getLogMsg() && log.getLogMsg().endsWith(TRUNCATION_MARKER))
+				.forEach(log -> candidates.put(log.getId(), log));
+		if (!candidates.isEmpty()) {
+			mongoOperations.find(query(where(ID).in(candidates.keySet())), DBObject.class, COLLECTION)
+					.forEach(message -> candidates.get(message.get(ID).toString()).setLogMsg(decompress((byte[]) message.get(MESSAGE))));
+		}
+		return logs;
+	}
+
+	/**
+	 * Removes messages of the logs. Should be called before logs are removed
+	 *
+	 * @param logs Criteria of logs
+	 */
+	public void remove(Criteria logs) {
+		Query query = query(logs);
+		query.fields().include(ID);
+		List<String> batch = new ArrayList<>(REMOVE_BATCH_SIZE);
+		try (CloseableIterator<Log> iterator = mongoOperations.stream(query, Log.class)) {
+			while (iterator.hasNext()) {
+				batch.add(iterator.next().getId());
+				if (batch.size() == REMOVE_BATCH_SIZE || !iterator.hasNext()) {
+					mongoOperations.remove(query(where(ID).in(batch)), COLLECTION);
+					batch = new ArrayList<>(REMOVE_BATCH_SIZE);
+				}
+			}
+		}
+	}
+
+	private static Object toObjectId(String id) {
+		return ObjectId.isValid(id) ? new ObjectId(id) : id;
+	}
+
+	static byte[] compress(String message) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(message.length() / 4);
+		try (OutputStream out = new GZIPOutputStream(bytes)) {
+			out.write(message.getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new ReportPortalException("Unable to compress log message", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	static String decompress(byte[] message) {
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(message))) {
+			return new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new ReportPortalException("Unable to decompress log message", e);
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.log;
+
+import com.epam.ta.reportportal.database.dao.LaunchRepository;
+import com.epam.ta.reportportal.database.dao.TestItemRepository;
+import com.epam.ta.reportportal.database.entity.Launch;
+import com.epam.ta.reportportal.database.entity.Log;
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.database.search.Queryable;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.DBObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Stamps project and launch references on every saved {@link Log} document,
+ * so logs can be authorized, scoped and removed by project or launch
+ * without resolving their test items first
+ */
+@Component
+public class LogReferences extends AbstractMongoEventListener<Log> {
+
+	public static final String PROJECT_REF = "projectRef";
+	public static final String LAUNCH_REF = "launchRef";
+	public static final String TEST_ITEM_REF = "testItemRef";
+
+	private final TestItemRepository testItemRepository;
+
+	private final LaunchRepository launchRepository;
+
+	private final MongoOperations mongoOperations;
+
+	private final Cache<String, String> itemLaunches = Caffeine.newBuilder()
+			.maximumSize(10000)
+			.expireAfterAccess(10, TimeUnit.MINUTES)
+			.build();
+
+	private final Cache<String, String> launchProjects = Caffeine.newBuilder()
+			.maximumSize(1000)
+			.expireAfterAccess(10, TimeUnit.MINUTES)
+			.build();
+
+	@Autowired
+	public LogReferences(TestItemRepository testItemRepository, LaunchRepository launchRepository, MongoOperations mongoOperations) {
+		this.testItemRepository = testItemRepository;
+		this.launchRepository = launchRepository;
+		this.mongoOperations = mongoOperations;
+	}
+
+	/**
+	 * Remembers launch of already loaded test item to avoid
+	 * its lookup while logs of the item are saved
+	 *
+	 * @param testItem Test item
+	 */
+	public void register(TestItem testItem) {
+		if (null != testItem.getLaunchRef()) {
+			itemLaunches.put(testItem.getId(), testItem.getLaunchRef());
+		}
+	}
+
+	/**
+	 * Restamps logs of test items moved to another launch, e.g. when launches are merged
+	 *
+	 * @param itemIds   IDs of moved test items
+	 * @param launchRef ID of launch items are moved to
+	 */
+	public void itemsMoved(Collection<String> itemIds, String launchRef) {
+		if (itemIds.isEmpty()) {
+			return;
+		}
+		itemLaunches.invalidateAll(itemIds);
+		Update update = Update.update(LAUNCH_REF, launchRef);
+		Optional.ofNullable(launchProjects.get(launchRef,
+				id -> Optional.ofNullable(launchRepository.findOne(id)).map(Launch::getProjectRef).orElse(null)
+		)).ifPresent(projectRef -> update.set(PROJECT_REF, projectRef));
+		mongoOperations.updateMulti(query(where(TEST_ITEM_REF).in(itemIds)), update, Log.class);
+	}
+
+	/**
+	 * Selects logs of the launch. Logs saved before references were stamped
+	 * are selected by IDs of launch items
+	 *
+	 * @param launchIds IDs of launches
+	 * @return Criteria selecting logs of the launches
+	 */
+	public Criteria ofLaunches(Collection<String> launchIds) {
+		if (!mongoOperations.exists(query(where(LAUNCH_REF).exists(false)), Log.class)) {
+			return where(LAUNCH_REF).in(launchIds);
+		}
+		Query items = query(where(LAUNCH_REF).in(launchIds));
+		items.fields().include("_id");
+		List<String> itemIds = mongoOperations.find(items, TestItem.class).stream().map(TestItem::getId).collect(toList());
+		return new Criteria().orOperator(where(LAUNCH_REF).in(launchIds), where(LAUNCH_REF).exists(false).and(TEST_ITEM_REF).in(itemIds));
+	}
+
+	@Override
+	public void onBeforeSave(BeforeSaveEvent<Log> event) {
+		String itemRef = event.getSource().getTestItemRef();
+		if (null == itemRef) {
+			return;
+		}
+		String launchRef = itemLaunches.get(itemRef,
+				id -> Optional.ofNullable(testItemRepository.findOne(id)).map(TestItem::getLaunchRef).orElse(null)
+		);
+		if (null == launchRef) {
+			return;
+		}
+		DBObject dbObject = event.getDBObject();
+		dbObject.put(LAUNCH_REF, launchRef);
+		String projectRef = launchProjects.get(launchRef,
+				id -> Optional.ofNullable(launchRepository.findOne(id)).map(Launch::getProjectRef).orElse(null)
+		);
+		if (null != projectRef) {
+			dbObject.put(PROJECT_REF, projectRef);
+		}
+	}
+
+	/**
+	 * @param project Project name
+	 * @return Criteria selecting logs of specified project
+	 */
+	public static Criteria ofProject(String project) {
+		return where(PROJECT_REF).is(project);
+	}
+
+	/**
+	 * @param project Project name
+	 * @return Filter restricting logs to specified project
+	 */
+	public static Queryable projectScope(String project) {
+		return new Queryable() {
+			@Override
+			public List<Criteria> toCriteria() {
+				return Collections.singletonList(ofProject(project));
+			}
+
+			@Override
+			public Class<?> getTarget() {
+				return Log.class;
+			}
+		};
+	}
+}
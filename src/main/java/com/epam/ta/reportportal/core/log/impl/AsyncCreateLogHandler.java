@@ -23,6 +23,7 @@ package com.epam.ta.reportportal.core.log.impl;
 
 import com.epam.ta.reportportal.core.analyzer.ILogIndexer;
 import com.epam.ta.reportportal.core.log.ICreateLogHandler;
+import com.epam.ta.reportportal.core.throttling.FairTaskExecutor;
 import com.epam.ta.reportportal.database.entity.Log;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.exception.ReportPortalException;
@@ -31,7 +32,6 @@ import com.epam.ta.reportportal.ws.model.EntryCreatedRS;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -59,8 +59,8 @@ public class AsyncCreateLogHandler extends CreateLogHandler implements ICreateLo
 	private Provider<SaveBinaryDataJob> saveBinaryDataJob;
 
 	@Autowired
-	@Qualifier("saveLogsTaskExecutor")
-	private TaskExecutor taskExecutor;
+	@Qualifier("saveLogsFairExecutor")
+	private FairTaskExecutor taskExecutor;
 
 	@Autowired
 	private ILogIndexer logIndexer;
@@ -72,13 +72,16 @@ public class AsyncCreateLogHandler extends CreateLogHandler implements ICreateLo
 		validate(testItem.orElse(null), createLogRQ);
 
 		Log log = logBuilder.get().addSaveLogRQ(createLogRQ).addTestItem(testItem.get()).build();
+		logReferences.register(testItem.get());
 		try {
+			logMessages.offload(log);
 			logRepository.save(log);
 		} catch (Exception exc) {
 			throw new ReportPortalException("Error while Log instance creating.", exc);
 		}
+		progressBroadcaster.logCreated(log, testItem.get());
 		if (null != file) {
-			taskExecutor.execute(saveBinaryDataJob.get().withProject(projectName).withFile(file).withLog(log));
+			taskExecutor.execute(projectName, saveBinaryDataJob.get().withProject(projectName).withFile(file).withLog(log));
 		}
 		return new EntryCreatedRS(log.getId());
 	}
@@ -24,7 +24,11 @@ package com.epam.ta.reportportal.core.log.impl;
 import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
 import com.epam.ta.reportportal.core.log.ICreateLogHandler;
+import com.epam.ta.reportportal.core.log.LogMessages;
+import com.epam.ta.reportportal.core.log.LogReferences;
+import com.epam.ta.reportportal.core.progress.ProgressBroadcaster;
 import com.epam.ta.reportportal.database.BinaryData;
 import com.epam.ta.reportportal.database.DataStorage;
 import com.epam.ta.reportportal.database.dao.LogRepository;
@@ -61,8 +65,15 @@ public class CreateLogHandler implements ICreateLogHandler {
 
 	private DataStorage dataStorage;
 
+	private AttachmentStorage attachmentStorage;
+
 	protected Provider<LogBuilder> logBuilder;
 
+	protected LogReferences logReferences;
+
+	protected ProgressBroadcaster progressBroadcaster;
+
+	protected LogMessages logMessages;
 
 	@Autowired
 	public void setTestItemRepository(TestItemRepository testItemRepository) {
@@ -79,11 +90,31 @@ public class CreateLogHandler implements ICreateLogHandler {
 		this.dataStorage = dataStorage;
 	}
 
+	@Autowired
+	public void setAttachmentStorage(AttachmentStorage attachmentStorage) {
+		this.attachmentStorage = attachmentStorage;
+	}
+
 	@Autowired
 	public void setLogBuilder(Provider<LogBuilder> logBuilder) {
 		this.logBuilder = logBuilder;
 	}
 
+	@Autowired
+	public void setLogReferences(LogReferences logReferences) {
+		this.logReferences = logReferences;
+	}
+
+	@Autowired
+	public void setLogMessages(LogMessages logMessages) {
+		this.logMessages = logMessages;
+	}
+
+	@Autowired
+	public void setProgressBroadcaster(ProgressBroadcaster progressBroadcaster) {
+		this.progressBroadcaster = progressBroadcaster;
+	}
+
 	@Override
 	@Nonnull
 	public EntryCreatedRS createLog(@Nonnull SaveLogRQ createLogRQ, MultipartFile file, String project) {
@@ -93,21 +124,29 @@ public class CreateLogHandler implements ICreateLogHandler {
 		BinaryContent binaryContent = null;
 		if (null != file) {
 			try {
-				String binaryDataId = dataStorage.saveData(new BinaryData(file.getContentType(), file.getSize(), file.getInputStream()),
-						file.getOriginalFilename()
-				);
-				binaryContent = new BinaryContent(binaryDataId, null, file.getContentType());
+				String hash = AttachmentStorage.hash(file);
+				Optional<BinaryContent> existing = attachmentStorage.acquire(project, hash);
+				if (existing.isPresent()) {
+					binaryContent = existing.get();
+				} else {
+					String binaryDataId = dataStorage.saveData(
+							new BinaryData(file.getContentType(), file.getSize(), file.getInputStream()), file.getOriginalFilename());
+					binaryContent = attachmentStorage.register(project, hash, new BinaryContent(binaryDataId, null, file.getContentType()));
+				}
 			} catch (IOException e) {
 				throw new ReportPortalException(ErrorType.INCORRECT_REQUEST, "Unable to save log");
 			}
 
 		}
 		Log log = logBuilder.get().addSaveLogRQ(createLogRQ).addBinaryContent(binaryContent).addTestItem(testItem.get()).build();
+		logReferences.register(testItem.get());
 		try {
+			logMessages.offload(log);
 			logRepository.save(log);
 		} catch (Exception exc) {
 			throw new ReportPortalException("Error while Log instance creating.", exc);
 		}
+		progressBroadcaster.logCreated(log, testItem.get());
 		return new EntryCreatedRS(log.getId());
 	}
 
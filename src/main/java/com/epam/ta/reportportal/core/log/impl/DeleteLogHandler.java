@@ -22,7 +22,9 @@
 package com.epam.ta.reportportal.core.log.impl;
 
 import com.epam.ta.reportportal.commons.Preconditions;
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
 import com.epam.ta.reportportal.core.log.IDeleteLogHandler;
+import com.epam.ta.reportportal.core.log.LogMessages;
 import com.epam.ta.reportportal.database.dao.*;
 import com.epam.ta.reportportal.database.entity.Launch;
 import com.epam.ta.reportportal.database.entity.Log;
@@ -45,6 +47,7 @@ import static com.epam.ta.reportportal.database.entity.project.ProjectUtils.find
 import static com.epam.ta.reportportal.database.entity.user.UserRole.ADMINISTRATOR;
 import static com.epam.ta.reportportal.ws.model.ErrorType.ACCESS_DENIED;
 import static java.util.Collections.singletonList;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 /**
  * Delete Logs handler. Basic implementation of
@@ -60,6 +63,18 @@ public class DeleteLogHandler implements IDeleteLogHandler {
 	private LaunchRepository launchRepository;
 	private ProjectRepository projectRepository;
 	private UserRepository userRepository;
+	private AttachmentStorage attachmentStorage;
+	private LogMessages logMessages;
+
+	@Autowired
+	public void setAttachmentStorage(AttachmentStorage attachmentStorage) {
+		this.attachmentStorage = attachmentStorage;
+	}
+
+	@Autowired
+	public void setLogMessages(LogMessages logMessages) {
+		this.logMessages = logMessages;
+	}
 
 	@Autowired
 	public void setLaunchRepository(LaunchRepository launchRepository) {
@@ -97,6 +112,9 @@ public class DeleteLogHandler implements IDeleteLogHandler {
 		Log log = validate(logId, projectName);
 		validateRoles(log, user, project);
 		try {
+			attachmentStorage.detach(where("_id").is(log.getId()));
+			logMessages.remove(where("_id").is(log.getId()));
+			log.setBinaryContent(null);
 			logRepository.delete(log);
 		} catch (Exception exc) {
 			throw new ReportPortalException("Error while Log instance deleting.", exc);
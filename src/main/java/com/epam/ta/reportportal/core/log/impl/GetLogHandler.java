@@ -22,25 +22,42 @@
 package com.epam.ta.reportportal.core.log.impl;
 
 import com.epam.ta.reportportal.core.log.IGetLogHandler;
+import com.epam.ta.reportportal.core.log.LogMessages;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
 import com.epam.ta.reportportal.database.dao.LogRepository;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
+import com.epam.ta.reportportal.database.entity.Launch;
 import com.epam.ta.reportportal.database.entity.Log;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.database.search.CompositeFilter;
 import com.epam.ta.reportportal.database.search.Filter;
+import com.epam.ta.reportportal.database.search.Queryable;
+import com.epam.ta.reportportal.util.KeysetCursor;
+import com.epam.ta.reportportal.util.KeysetPage;
+import com.epam.ta.reportportal.util.StreamingPage;
 import com.epam.ta.reportportal.ws.converter.LogResourceAssembler;
 import com.epam.ta.reportportal.ws.model.log.LogResource;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 import static com.epam.ta.reportportal.commons.Predicates.equalTo;
 import static com.epam.ta.reportportal.commons.Predicates.notNull;
 import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
 import static com.epam.ta.reportportal.commons.validation.Suppliers.formattedSupplier;
+import static com.epam.ta.reportportal.core.log.LogReferences.ofProject;
+import static com.epam.ta.reportportal.core.log.LogReferences.projectScope;
 import static com.epam.ta.reportportal.ws.model.ErrorType.FORBIDDEN_OPERATION;
 import static com.epam.ta.reportportal.ws.model.ErrorType.LOG_NOT_FOUND;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 /**
  * Implementation of GET log operations
@@ -51,6 +68,8 @@ import static com.epam.ta.reportportal.ws.model.ErrorType.LOG_NOT_FOUND;
 @Service
 public class GetLogHandler implements IGetLogHandler {
 
+	private static final String LOG_TIME = "logTime";
+
 	private LogRepository logRepository;
 
 	private LogResourceAssembler logResourceAssembler;
@@ -59,6 +78,10 @@ public class GetLogHandler implements IGetLogHandler {
 
 	private LaunchRepository launchRepository;
 
+	private MongoOperations mongoOperations;
+
+	private LogMessages logMessages;
+
 	@Autowired
 	public void setLogRepository(LogRepository logRepository) {
 		this.logRepository = logRepository;
@@ -79,11 +102,22 @@ public class GetLogHandler implements IGetLogHandler {
 		this.launchRepository = launchRepository;
 	}
 
+	@Autowired
+	public void setMongoOperations(MongoOperations mongoOperations) {
+		this.mongoOperations = mongoOperations;
+	}
+
+	@Autowired
+	public void setLogMessages(LogMessages logMessages) {
+		this.logMessages = logMessages;
+	}
+
 	@Override
-	public Iterable<LogResource> getLogs(String testStepId, String project, Filter filterable, Pageable pageable) {
-		// DO we need filter for project here?
-		Page<Log> logs = logRepository.findByFilter(filterable, pageable);
-		return logResourceAssembler.toPagedResources(logs);
+	public Iterable<LogResource> getLogs(String testStepId, String project, Filter filterable, Pageable pageable, Fieldset fieldset) {
+		Queryable scoped = new CompositeFilter(filterable, projectScope(project));
+		return new StreamingPage<>(mongoOperations, Log.class, scoped, pageable, fieldset.getProjection(),
+				logResourceAssembler::toResource
+		);
 	}
 
 	@Override
@@ -91,29 +125,75 @@ public class GetLogHandler implements IGetLogHandler {
 		return logRepository.getPageNumber(logId, filterable, pageable);
 	}
 
+	@Override
+	public KeysetPage<LogResource> getLogs(String project, Filter filterable, Pageable pageable, String cursor, boolean total) {
+		Queryable scoped = new CompositeFilter(filterable, projectScope(project));
+		KeysetPage<Log> logs = findLogs(scoped, null == cursor ? null : KeysetCursor.decode(cursor), pageable, pageable.getPageSize());
+		return withTotal(logs, scoped, total).map(logResourceAssembler::toResource);
+	}
+
+	@Override
+	public KeysetPage<LogResource> getLogWindow(String logId, String project, Filter filterable, Pageable pageable, boolean total) {
+		Log log = findAndValidate(logId, project);
+		Queryable scoped = new CompositeFilter(filterable, projectScope(project));
+		int beforeSize = (pageable.getPageSize() - 1) / 2;
+		Sort.Direction direction = KeysetPage.directionOf(pageable);
+		KeysetPage<Log> before = findLogs(scoped, KeysetCursor.before(LOG_TIME, direction, log.getLogTime(), log.getId()), pageable,
+				beforeSize
+		);
+		KeysetPage<Log> after = findLogs(scoped, KeysetCursor.after(LOG_TIME, direction, log.getLogTime(), log.getId()), pageable,
+				pageable.getPageSize() - 1 - before.getContent().size()
+		);
+
+		List<Log> content = new ArrayList<>(before.getContent());
+		content.add(log);
+		content.addAll(after.getContent());
+		KeysetPage<Log> window = new KeysetPage<>(content, after.getNext(), before.getPrevious(), null);
+		return withTotal(window, scoped, total).map(logResourceAssembler::toResource);
+	}
+
 	@Override
 	public LogResource getLog(String logId, String projectName) {
 		Log log = findAndValidate(logId, projectName);
-		return logResourceAssembler.toResource(log);
+		return logResourceAssembler.toResource(logMessages.restore(log));
+	}
+
+	private KeysetPage<Log> findLogs(Queryable filterable, KeysetCursor cursor, Pageable pageable, int size) {
+		return KeysetPage.find(mongoOperations, Log.class, filterable, cursor, LOG_TIME, Log::getLogTime, Log::getId,
+				KeysetPage.directionOf(pageable), size
+		);
+	}
+
+	private KeysetPage<Log> withTotal(KeysetPage<Log> logs, Queryable filterable, boolean total) {
+		return total ? logs.withTotal(KeysetPage.count(mongoOperations, Log.class, filterable)) : logs;
 	}
 
 	/**
 	 * Validate log item on existence, availability under specified project,
-	 * etc.
+	 * etc. Log is looked up together with its project reference, so
+	 * additional queries are needed only when log is not found. Logs
+	 * without project reference are validated through their test items
 	 *
 	 * @param id          - log ID
 	 * @param projectName - project name value
 	 * @return Log - validate Log item in accordance with specified ID
 	 */
 	private Log findAndValidate(String id, String projectName) {
-		Log log = logRepository.findOne(id);
-		expect(log, notNull()).verify(LOG_NOT_FOUND, id);
-
-		final TestItem testItem = testItemRepository.findOne(log.getTestItemRef());
-		String project = launchRepository.findOne(testItem.getLaunchRef()).getProjectRef();
-		expect(project, equalTo(projectName)).verify(FORBIDDEN_OPERATION,
-				formattedSupplier("Log '{}' is not under specified project '{}'", id, projectName)
-		);
+		Log log = mongoOperations.findOne(query(where("_id").is(id)).addCriteria(ofProject(projectName)), Log.class);
+		if (null == log) {
+			log = logRepository.findOne(id);
+			expect(log, notNull()).verify(LOG_NOT_FOUND, id);
+			boolean underProject = Optional.ofNullable(log.getTestItemRef())
+					.map(testItemRepository::findOne)
+					.map(TestItem::getLaunchRef)
+					.map(launchRepository::findOne)
+					.map(Launch::getProjectRef)
+					.filter(projectName::equals)
+					.isPresent();
+			expect(underProject, equalTo(true)).verify(FORBIDDEN_OPERATION,
+					formattedSupplier("Log '{}' is not under specified project '{}'", id, projectName)
+			);
+		}
 		return log;
 	}
 }
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.progress;
+
+import com.epam.ta.reportportal.database.dao.LaunchRepository;
+import com.epam.ta.reportportal.database.dao.TestItemRepository;
+import com.epam.ta.reportportal.database.entity.Launch;
+import com.epam.ta.reportportal.database.entity.Log;
+import com.epam.ta.reportportal.database.entity.Status;
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.events.LaunchFinishForcedEvent;
+import com.epam.ta.reportportal.events.LaunchFinishedEvent;
+import com.epam.ta.reportportal.ws.converter.converters.StatisticsConverter;
+import com.google.common.util.concurrent.AbstractScheduledService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.epam.ta.reportportal.commons.Predicates.equalTo;
+import static com.epam.ta.reportportal.commons.Predicates.notNull;
+import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
+import static com.epam.ta.reportportal.ws.model.ErrorType.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Pushes progress of running launches to server-sent events subscribers.<br>
+ * Reporting handlers publish item and log events into the broadcaster. Events
+ * are dropped right away if nobody watches the launch, otherwise they are put
+ * into bounded buffer of each interested subscriber. Events of the same test item
+ * are coalesced and the oldest events are dropped when buffer is full.
+ * Buffers are flushed every {@code rp.progress.flush.interval} milliseconds
+ * with single message per subscriber, which also contains actual status and
+ * statistics of watched launch or item when they could be changed.
+ */
+@Component
+public class ProgressBroadcaster extends AbstractScheduledService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ProgressBroadcaster.class);
+
+	private static final String EVENT_NAME = "progress";
+
+	private static final String STATUS = "status";
+
+	private static final String STATISTICS = "statistics";
+
+	private final LaunchRepository launchRepository;
+
+	private final TestItemRepository testItemRepository;
+
+	private final MongoOperations mongoOperations;
+
+	private final long flushIntervalMillis;
+
+	private final int bufferSize;
+
+	private final long timeoutMillis;
+
+	private final ConcurrentMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+	@Autowired
+	public ProgressBroadcaster(LaunchRepository launchRepository, TestItemRepository testItemRepository, MongoOperations mongoOperations,
+			@Value("${rp.progress.flush.interval:500}") long flushIntervalMillis, @Value("${rp.progress.buffer.size:1000}") int bufferSize,
+			@Value("${rp.progress.timeout:1800000}") long timeoutMillis) {
+		this.launchRepository = launchRepository;
+		this.testItemRepository = testItemRepository;
+		this.mongoOperations = mongoOperations;
+		this.flushIntervalMillis = flushIntervalMillis;
+		this.bufferSize = bufferSize;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	@PostConstruct
+	public void start() {
+		startAsync().awaitRunning();
+	}
+
+	@PreDestroy
+	public void stop() {
+		stopAsync().awaitTerminated();
+	}
+
+	/**
+	 * Subscribes to progress of the launch
+	 *
+	 * @param projectName Name of project
+	 * @param launchId    ID of launch
+	 * @param includeLogs Whether logs of launch should be streamed
+	 * @return Server-sent events emitter
+	 */
+	public SseEmitter subscribeLaunch(String projectName, String launchId, boolean includeLogs) {
+		Launch launch = launchRepository.loadStatusProjectRefAndStartTime(launchId);
+		expect(launch, notNull()).verify(LAUNCH_NOT_FOUND, launchId);
+		expect(launch.getProjectRef(), equalTo(projectName)).verify(ACCESS_DENIED);
+		return subscribe(new Subscriber(Launch.class, launchId, launchId, includeLogs), Status.IN_PROGRESS == launch.getStatus());
+	}
+
+	/**
+	 * Subscribes to progress of the test item and it's descendants including their logs
+	 *
+	 * @param projectName Name of project
+	 * @param itemId      ID of test item
+	 * @return Server-sent events emitter
+	 */
+	public SseEmitter subscribeItem(String projectName, String itemId) {
+		TestItem item = testItemRepository.findOne(itemId);
+		expect(item, notNull()).verify(TEST_ITEM_NOT_FOUND, itemId);
+		Launch launch = launchRepository.loadStatusProjectRefAndStartTime(item.getLaunchRef());
+		expect(launch, notNull()).verify(LAUNCH_NOT_FOUND, item.getLaunchRef());
+		expect(launch.getProjectRef(), equalTo(projectName)).verify(ACCESS_DENIED);
+		return subscribe(new Subscriber(TestItem.class, itemId, item.getLaunchRef(), true), Status.IN_PROGRESS == item.getStatus());
+	}
+
+	public void itemStarted(TestItem item) {
+		publish(item.getLaunchRef(), () -> ProgressEvent.itemStarted(item));
+	}
+
+	public void itemFinished(TestItem item) {
+		publish(item.getLaunchRef(), () -> ProgressEvent.itemFinished(item));
+	}
+
+	public void logCreated(Log log, TestItem item) {
+		publish(item.getLaunchRef(), () -> ProgressEvent.log(log, item));
+	}
+
+	@EventListener
+	public void onLaunchFinished(LaunchFinishedEvent event) {
+		complete(event.getLaunch().getId());
+	}
+
+	@EventListener
+	public void onLaunchFinishForced(LaunchFinishForcedEvent event) {
+		complete(event.getLaunch().getId());
+	}
+
+	@Override
+	protected void runOneIteration() {
+		Map<String, ProgressUpdate> states = new HashMap<>();
+		subscribers.values().forEach(launchSubscribers -> launchSubscribers.forEach(subscriber -> {
+			if (flush(subscriber, states, false) && subscriber.isFinished()) {
+				unsubscribe(subscriber);
+				subscriber.getEmitter().complete();
+			}
+		}));
+	}
+
+	@Override
+	protected Scheduler scheduler() {
+		return Scheduler.newFixedDelaySchedule(flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	protected String serviceName() {
+		return "progress-broadcaster";
+	}
+
+	/**
+	 * Sends the rest of events and final state to all subscribers of the launch
+	 * and closes their streams. Should be called when launch is finished
+	 * without {@link LaunchFinishedEvent}, e.g. when it's interrupted
+	 *
+	 * @param launchId ID of launch
+	 */
+	public void complete(String launchId) {
+		Set<Subscriber> launchSubscribers = subscribers.remove(launchId);
+		if (null == launchSubscribers) {
+			return;
+		}
+		Map<String, ProgressUpdate> states = new HashMap<>();
+		launchSubscribers.forEach(subscriber -> {
+			if (flush(subscriber, states, true)) {
+				subscriber.getEmitter().complete();
+			}
+		});
+	}
+
+	private void publish(String launchId, Supplier<ProgressEvent> event) {
+		Set<Subscriber> launchSubscribers = subscribers.get(launchId);
+		if (null == launchSubscribers) {
+			return;
+		}
+		ProgressEvent progressEvent = event.get();
+		launchSubscribers.forEach(subscriber -> subscriber.offer(progressEvent, bufferSize));
+	}
+
+	private SseEmitter subscribe(Subscriber subscriber, boolean active) {
+		if (!active) {
+			if (flush(subscriber, new HashMap<>(), true)) {
+				subscriber.getEmitter().complete();
+			}
+			return subscriber.getEmitter();
+		}
+		subscribers.compute(subscriber.getLaunchId(), (id, launchSubscribers) -> {
+			Set<Subscriber> result = null == launchSubscribers ? new CopyOnWriteArraySet<>() : launchSubscribers;
+			result.add(subscriber);
+			return result;
+		});
+		subscriber.getEmitter().onCompletion(() -> unsubscribe(subscriber));
+		subscriber.getEmitter().onTimeout(() -> unsubscribe(subscriber));
+		return subscriber.getEmitter();
+	}
+
+	private void unsubscribe(Subscriber subscriber) {
+		subscribers.computeIfPresent(subscriber.getLaunchId(), (id, launchSubscribers) -> {
+			launchSubscribers.remove(subscriber);
+			return launchSubscribers.isEmpty() ? null : launchSubscribers;
+		});
+	}
+
+	/**
+	 * Sends pending events of subscriber
+	 *
+	 * @param subscriber Subscriber
+	 * @param states     States of launches and items already loaded during current flush
+	 * @param force      Whether state should be sent even if nothing changed
+	 * @return FALSE if subscriber is gone
+	 */
+	private boolean flush(Subscriber subscriber, Map<String, ProgressUpdate> states, boolean force) {
+		ProgressUpdate update = subscriber.drain(force);
+		if (null == update) {
+			return true;
+		}
+		if (force || update.isStateChanged()) {
+			ProgressUpdate state = states.computeIfAbsent(subscriber.getTargetId(), id -> loadState(subscriber.getTarget(), id));
+			update.setStatus(state.getStatus());
+			update.setStatistics(state.getStatistics());
+		}
+		try {
+			subscriber.getEmitter().send(SseEmitter.event().name(EVENT_NAME).data(update, MediaType.APPLICATION_JSON));
+			return true;
+		} catch (Exception e) {
+			LOGGER.debug("Progress subscriber of '{}' is gone", subscriber.getTargetId(), e);
+			unsubscribe(subscriber);
+			subscriber.getEmitter().completeWithError(e);
+			return false;
+		}
+	}
+
+	private ProgressUpdate loadState(Class<?> target, String id) {
+		Query query = query(where("_id").is(id));
+		query.fields().include(STATUS).include(STATISTICS);
+		ProgressUpdate state = new ProgressUpdate(null, 0, false);
+		if (Launch.class.equals(target)) {
+			Optional.ofNullable(mongoOperations.findOne(query, Launch.class)).ifPresent(launch -> {
+				state.setStatus(null == launch.getStatus() ? null : launch.getStatus().name());
+				state.setStatistics(StatisticsConverter.TO_RESOURCE.apply(launch.getStatistics()));
+			});
+		} else {
+			Optional.ofNullable(mongoOperations.findOne(query, TestItem.class)).ifPresent(item -> {
+				state.setStatus(null == item.getStatus() ? null : item.getStatus().name());
+				state.setStatistics(StatisticsConverter.TO_RESOURCE.apply(item.getStatistics()));
+			});
+		}
+		return state;
+	}
+
+	SseEmitter newEmitter() {
+		return new SseEmitter(timeoutMillis);
+	}
+
+	/**
+	 * Progress stream of a launch or a test item with bounded buffer of pending events
+	 */
+	private final class Subscriber {
+
+		private final Class<?> target;
+		private final String targetId;
+		private final String launchId;
+		private final boolean includeLogs;
+		private final SseEmitter emitter;
+
+		private final LinkedHashMap<String, ProgressEvent> pending = new LinkedHashMap<>();
+		private int dropped;
+		private boolean changed;
+		private boolean finished;
+
+		Subscriber(Class<?> target, String targetId, String launchId, boolean includeLogs) {
+			this.target = target;
+			this.targetId = targetId;
+			this.launchId = launchId;
+			this.includeLogs = includeLogs;
+			this.emitter = newEmitter();
+		}
+
+		synchronized void offer(ProgressEvent event, int capacity) {
+			if (ProgressEvent.Type.LOG == event.getType() && !includeLogs) {
+				return;
+			}
+			if (TestItem.class.equals(target) && !event.belongsTo(targetId)) {
+				return;
+			}
+			if (ProgressEvent.Type.ITEM_FINISHED == event.getType()) {
+				changed = true;
+				finished = finished || targetId.equals(event.getItemId());
+			}
+			/* re-insert to keep order of the latest change */
+			pending.remove(event.getKey());
+			pending.put(event.getKey(), event);
+			while (pending.size() > capacity) {
+				Iterator<ProgressEvent> oldest = pending.values().iterator();
+				oldest.next();
+				oldest.remove();
+				dropped++;
+			}
+		}
+
+		/**
+		 * @param force Whether empty update should be created
+		 * @return Update with pending events or NULL if there is nothing to send
+		 */
+		synchronized ProgressUpdate drain(boolean force) {
+			if (pending.isEmpty() && 0 == dropped && !force) {
+				return null;
+			}
+			ProgressUpdate update = new ProgressUpdate(new ArrayList<>(pending.values()), dropped, changed);
+			pending.clear();
+			dropped = 0;
+			changed = false;
+			return update;
+		}
+
+		synchronized boolean isFinished() {
+			return finished;
+		}
+
+		Class<?> getTarget() {
+			return target;
+		}
+
+		String getTargetId() {
+			return targetId;
+		}
+
+		String getLaunchId() {
+			return launchId;
+		}
+
+		SseEmitter getEmitter() {
+			return emitter;
+		}
+	}
+}
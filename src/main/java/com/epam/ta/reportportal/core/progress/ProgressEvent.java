@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.progress;
+
+import com.epam.ta.reportportal.database.entity.Log;
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.ws.converter.converters.StatisticsConverter;
+import com.epam.ta.reportportal.ws.model.statistics.Statistics;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Change of running launch pushed to progress subscribers
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class ProgressEvent {
+
+	public enum Type {
+		ITEM_STARTED,
+		ITEM_FINISHED,
+		LOG
+	}
+
+	private final Type type;
+	private final String launchId;
+	private final String itemId;
+	private final List<String> path;
+	private final String name;
+	private final String status;
+	private final Date time;
+	private final Statistics statistics;
+	private final String logId;
+	private final String level;
+	private final String message;
+
+	private ProgressEvent(Type type, String launchId, TestItem item, String status, Date time, Statistics statistics, Log log) {
+		this.type = type;
+		this.launchId = launchId;
+		this.itemId = item.getId();
+		this.path = null == item.getPath() ? Collections.emptyList() : ImmutableList.copyOf(item.getPath());
+		this.name = item.getName();
+		this.status = status;
+		this.time = time;
+		this.statistics = statistics;
+		this.logId = null == log ? null : log.getId();
+		this.level = null == log || null == log.getLevel() ? null : log.getLevel().toString();
+		this.message = null == log ? null : log.getLogMsg();
+	}
+
+	public static ProgressEvent itemStarted(TestItem item) {
+		return new ProgressEvent(Type.ITEM_STARTED, item.getLaunchRef(), item, statusOf(item), item.getStartTime(), null, null);
+	}
+
+	public static ProgressEvent itemFinished(TestItem item) {
+		return new ProgressEvent(Type.ITEM_FINISHED, item.getLaunchRef(), item, statusOf(item), item.getEndTime(),
+				StatisticsConverter.TO_RESOURCE.apply(item.getStatistics()), null
+		);
+	}
+
+	public static ProgressEvent log(Log log, TestItem item) {
+		return new ProgressEvent(Type.LOG, item.getLaunchRef(), item, null, log.getLogTime(), null, log);
+	}
+
+	/**
+	 * Events with the same key replace each other while waiting for delivery.
+	 * Item events are coalesced per item, logs are never coalesced
+	 *
+	 * @return Coalescing key
+	 */
+	@JsonIgnore
+	String getKey() {
+		return Type.LOG == type ? logId : itemId;
+	}
+
+	/**
+	 * @param id ID of test item
+	 * @return TRUE if event relates to specified item or one of it's descendants
+	 */
+	boolean belongsTo(String id) {
+		return id.equals(itemId) || path.contains(id);
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	@JsonIgnore
+	public String getLaunchId() {
+		return launchId;
+	}
+
+	public String getItemId() {
+		return itemId;
+	}
+
+	@JsonIgnore
+	public List<String> getPath() {
+		return path;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public Date getTime() {
+		return time;
+	}
+
+	public Statistics getStatistics() {
+		return statistics;
+	}
+
+	public String getLogId() {
+		return logId;
+	}
+
+	public String getLevel() {
+		return level;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	private static String statusOf(TestItem item) {
+		return null == item.getStatus() ? null : item.getStatus().name();
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.progress;
+
+import com.epam.ta.reportportal.ws.model.statistics.Statistics;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Single message of progress stream. Contains events collected since
+ * previous message and actual state of watched launch or test item
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProgressUpdate {
+
+	private final List<ProgressEvent> events;
+
+	/**
+	 * Count of events dropped because subscriber's buffer was full.
+	 * Client should reload state of the launch if it's present
+	 */
+	private final Integer dropped;
+
+	/**
+	 * Whether status or statistics of watched launch or item could be changed
+	 */
+	private final boolean stateChanged;
+
+	private String status;
+
+	private Statistics statistics;
+
+	ProgressUpdate(List<ProgressEvent> events, int dropped, boolean stateChanged) {
+		this.events = events;
+		this.dropped = 0 == dropped ? null : dropped;
+		this.stateChanged = stateChanged;
+	}
+
+	public List<ProgressEvent> getEvents() {
+		return events;
+	}
+
+	public Integer getDropped() {
+		return dropped;
+	}
+
+	@JsonIgnore
+	boolean isStateChanged() {
+		return stateChanged;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	void setStatus(String status) {
+		this.status = status;
+	}
+
+	public Statistics getStatistics() {
+		return statistics;
+	}
+
+	void setStatistics(Statistics statistics) {
+		this.statistics = statistics;
+	}
+}
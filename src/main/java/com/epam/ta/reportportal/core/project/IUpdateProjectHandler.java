@@ -80,11 +80,13 @@ public interface IUpdateProjectHandler {
 	OperationCompletionRS assignUsers(String projectName, String modifier, AssignUsersRQ assignUsersRQ);
 
 	/**
-	 * Index logs for specified project
+	 * Index logs for specified project. Only data changed after
+	 * the last successful indexing is sent unless full rebuild is requested
 	 *
 	 * @param projectName Project name
 	 * @param user        User name
+	 * @param full        Drop the index and rebuild it from scratch
 	 * @return Operation Result
 	 */
-	OperationCompletionRS indexProjectData(String projectName, String user);
+	OperationCompletionRS indexProjectData(String projectName, String user, boolean full);
 }
\ No newline at end of file
@@ -23,6 +23,11 @@ package com.epam.ta.reportportal.core.project.impl;
 
 import com.epam.ta.reportportal.core.analyzer.ILogIndexer;
 import com.epam.ta.reportportal.core.analyzer.impl.AnalyzerStatusCache;
+import com.epam.ta.reportportal.core.autocomplete.AutocompleteDictionaries;
+import com.epam.ta.reportportal.core.launch.impl.LatestLaunches;
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.core.log.LogMessages;
+import com.epam.ta.reportportal.core.log.LogReferences;
 import com.epam.ta.reportportal.core.project.IDeleteProjectHandler;
 import com.epam.ta.reportportal.database.dao.ProjectRepository;
 import com.epam.ta.reportportal.database.entity.Project;
@@ -62,6 +67,18 @@ public class DeleteProjectHandler implements IDeleteProjectHandler {
 	@Autowired
 	private ApplicationEventPublisher eventPublisher;
 
+	@Autowired
+	private AutocompleteDictionaries autocompleteDictionaries;
+
+	@Autowired
+	private LatestLaunches latestLaunches;
+
+	@Autowired
+	private AttachmentStorage attachmentStorage;
+
+	@Autowired
+	private LogMessages logMessages;
+
 	@Autowired
 	public DeleteProjectHandler(ProjectRepository projectRepository) {
 		this.projectRepository = projectRepository;
@@ -75,8 +92,13 @@ public class DeleteProjectHandler implements IDeleteProjectHandler {
 		expect(project.getConfiguration().getEntryType(), equalTo(EntryType.INTERNAL)).verify(
 				ErrorType.PROJECT_UPDATE_NOT_ALLOWED, project.getConfiguration().getEntryType());
 		try {
+			/* messages are stored apart from logs, so they're removed while logs of the project can be found */
+			logMessages.remove(LogReferences.ofProject(projectName));
 			projectRepository.delete(singletonList(projectName));
 			logIndexer.deleteIndex(projectName);
+			autocompleteDictionaries.projectRemoved(projectName);
+			latestLaunches.projectRemoved(projectName);
+			attachmentStorage.projectRemoved(projectName);
 		} catch (Exception e) {
 			throw new ReportPortalException("Error during deleting Project and attributes", e);
 		}
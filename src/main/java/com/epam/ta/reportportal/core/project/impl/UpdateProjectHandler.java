@@ -26,6 +26,7 @@ import com.epam.ta.reportportal.core.analyzer.ILogIndexer;
 import com.epam.ta.reportportal.core.analyzer.client.AnalyzerServiceClient;
 import com.epam.ta.reportportal.core.analyzer.impl.AnalyzerStatusCache;
 import com.epam.ta.reportportal.core.project.IUpdateProjectHandler;
+import com.epam.ta.reportportal.core.throttling.FairTaskExecutor;
 import com.epam.ta.reportportal.database.dao.ProjectRepository;
 import com.epam.ta.reportportal.database.dao.UserPreferenceRepository;
 import com.epam.ta.reportportal.database.dao.UserRepository;
@@ -55,7 +56,6 @@ import org.apache.commons.lang3.SerializationUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -98,8 +98,8 @@ public class UpdateProjectHandler implements IUpdateProjectHandler {
 	private ILogIndexer logIndexer;
 
 	@Autowired
-	@Qualifier("autoAnalyzeTaskExecutor")
-	private TaskExecutor taskExecutor;
+	@Qualifier("autoAnalyzeFairExecutor")
+	private FairTaskExecutor taskExecutor;
 
 	@Autowired
 	private AnalyzerStatusCache analyzerStatusCache;
@@ -422,7 +422,7 @@ public class UpdateProjectHandler implements IUpdateProjectHandler {
 	}
 
 	@Override
-	public OperationCompletionRS indexProjectData(String projectName, String username) {
+	public OperationCompletionRS indexProjectData(String projectName, String username, boolean full) {
 		Project project = projectRepository.findOne(projectName);
 		expect(project, notNull()).verify(PROJECT_NOT_FOUND, projectName);
 
@@ -439,8 +439,10 @@ public class UpdateProjectHandler implements IUpdateProjectHandler {
 		expect(user, notNull()).verify(ErrorType.USER_NOT_FOUND, username);
 
 		projectRepository.enableProjectIndexing(projectName, true);
-		logIndexer.deleteIndex(projectName);
-		taskExecutor.execute(() -> logIndexer.indexProjectData(project, user));
+		if (full) {
+			logIndexer.deleteIndex(projectName);
+		}
+		taskExecutor.execute(projectName, () -> logIndexer.indexProjectData(project, user));
 		publisher.publishEvent(new ProjectIndexEvent(projectName, username, true));
 		return new OperationCompletionRS("Log indexing has been started");
 	}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.reporting;
+
+import com.epam.ta.reportportal.ws.model.EntryCreatedRS;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+
+/**
+ * Asynchronous reporting. Requests are validated, put into ordered
+ * queue of their launch and acknowledged without waiting for them to be applied.
+ * IDs of test items are generated by client.
+ */
+public interface AsyncReportingHandler {
+
+	/**
+	 * Accepts start of root item
+	 *
+	 * @param projectName Name of the project
+	 * @param rq          Item details
+	 * @param itemId      ID of new item generated by client
+	 * @return ID of item
+	 */
+	EntryCreatedRS startRootItem(String projectName, StartTestItemRQ rq, String itemId);
+
+	/**
+	 * Accepts start of child item
+	 *
+	 * @param projectName Name of the project
+	 * @param rq          Item details
+	 * @param parentId    ID of parent item
+	 * @param itemId      ID of new item generated by client
+	 * @return ID of item
+	 */
+	EntryCreatedRS startChildItem(String projectName, StartTestItemRQ rq, String parentId, String itemId);
+
+	/**
+	 * Accepts finish of item
+	 *
+	 * @param projectName Name of the project
+	 * @param itemId      ID of item
+	 * @param rq          Finish details
+	 * @param username    User name
+	 * @return OperationCompletionRS
+	 */
+	OperationCompletionRS finishTestItem(String projectName, String itemId, FinishTestItemRQ rq, String username);
+
+	/**
+	 * Accepts log without attachment
+	 *
+	 * @param projectName Name of the project
+	 * @param rq          Log details
+	 * @return OperationCompletionRS
+	 */
+	OperationCompletionRS createLog(String projectName, SaveLogRQ rq);
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.reporting;
+
+import com.epam.ta.reportportal.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ordered queues of asynchronously reported requests.<br>
+ * Each launch has it's own queue. Requests of the same launch are applied one by one
+ * in order they were accepted, so parent item is always started before it's children,
+ * and item is finished after it's logs. Different launches are processed in parallel by
+ * {@code rp.reporting.async.workers} threads. Failed requests don't stop the queue,
+ * they are collected and reported when launch is finished.
+ */
+@Component
+public class ReportingQueue {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReportingQueue.class);
+
+	/**
+	 * Count of requests applied by worker before it switches to another launch
+	 */
+	private static final int DRAIN_BATCH = 100;
+
+	private static final int MAX_FAILURES = 100;
+
+	private final ExecutorService executor;
+
+	private final int capacity;
+
+	/**
+	 * Launches of asynchronously started items. Item is forgotten when it's finish
+	 * is applied or when queue of it's launch is removed
+	 */
+	private final Map<String, String> itemLaunches = new ConcurrentHashMap<>();
+
+	private final Cache<String, LaunchQueue> launches = Caffeine.newBuilder()
+			.expireAfterAccess(1, TimeUnit.DAYS)
+			.executor(Runnable::run)
+			.<String, LaunchQueue>removalListener((launchId, queue, cause) -> {
+				if (null != queue) {
+					queue.items.forEach(itemId -> itemLaunches.remove(itemId, launchId));
+				}
+			})
+			.build();
+
+	@Autowired
+	public ReportingQueue(@Value("${rp.reporting.async.workers:8}") int workers,
+			@Value("${rp.reporting.async.queue.capacity:10000}") int capacity) {
+		this.executor = Executors.newFixedThreadPool(Math.max(1, workers),
+				new ThreadFactoryBuilder().setNameFormat("async-reporting-%d").setDaemon(true).build()
+		);
+		this.capacity = capacity;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * Accepts request into queue of the launch
+	 *
+	 * @param launchId    ID of launch
+	 * @param description Description of request used in failure report
+	 * @param request     Request
+	 */
+	public void submit(String launchId, String description, Runnable request) {
+		launches.get(launchId, id -> new LaunchQueue()).submit(description, request);
+	}
+
+	/**
+	 * Remembers launch of asynchronously started item, so it's children,
+	 * finish and logs go to the same queue
+	 *
+	 * @param itemId   ID of test item
+	 * @param launchId ID of launch
+	 * @return FALSE if item with the same ID is already registered
+	 */
+	public boolean registerItem(String itemId, String launchId) {
+		if (null != itemLaunches.putIfAbsent(itemId, launchId)) {
+			return false;
+		}
+		launches.get(launchId, id -> new LaunchQueue()).items.add(itemId);
+		return true;
+	}
+
+	/**
+	 * Forgets asynchronously started item once it's finish is applied.
+	 * Later requests of the item find it's launch in database
+	 *
+	 * @param itemId ID of test item
+	 */
+	public void itemFinished(String itemId) {
+		String launchId = itemLaunches.remove(itemId);
+		if (null != launchId) {
+			Optional.ofNullable(launches.getIfPresent(launchId)).ifPresent(queue -> queue.items.remove(itemId));
+		}
+	}
+
+	/**
+	 * @param itemId ID of test item
+	 * @return ID of launch of asynchronously started item or empty if item is unknown
+	 */
+	public Optional<String> getLaunch(String itemId) {
+		return Optional.ofNullable(itemLaunches.get(itemId));
+	}
+
+	/**
+	 * Waits until all accepted requests of the launch are applied
+	 * and removes the launch queue
+	 *
+	 * @param launchId      ID of launch
+	 * @param timeoutMillis Max time to wait
+	 * @return Failures of asynchronous requests of the launch
+	 */
+	public List<String> await(String launchId, long timeoutMillis) {
+		LaunchQueue queue = launches.getIfPresent(launchId);
+		if (null == queue) {
+			return Collections.emptyList();
+		}
+		List<String> failures = queue.await(timeoutMillis);
+		launches.invalidate(launchId);
+		return failures;
+	}
+
+	/**
+	 * Removes queue of the launch. Requests which are not applied yet are skipped
+	 *
+	 * @param launchId ID of launch
+	 */
+	public void discard(String launchId) {
+		LaunchQueue queue = launches.getIfPresent(launchId);
+		if (null != queue) {
+			queue.discard();
+			launches.invalidate(launchId);
+		}
+	}
+
+	private final class LaunchQueue {
+
+		private final Set<String> items = ConcurrentHashMap.newKeySet();
+		private final Deque<Request> requests = new ArrayDeque<>();
+		private final List<String> failures = new ArrayList<>();
+		private int failed;
+		private boolean running;
+
+		synchronized void submit(String description, Runnable request) {
+			if (requests.size() >= capacity) {
+				throw new TooManyRequestsException("Too many asynchronous requests are waiting for processing. Please, retry later.");
+			}
+			requests.add(new Request(description, request));
+			if (!running) {
+				running = true;
+				executor.execute(this::drain);
+			}
+		}
+
+		synchronized List<String> await(long timeoutMillis) {
+			long deadline = System.currentTimeMillis() + timeoutMillis;
+			try {
+				long remaining;
+				while ((running || !requests.isEmpty()) && (remaining = deadline - System.currentTimeMillis()) > 0) {
+					wait(remaining);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			List<String> result = new ArrayList<>(failures);
+			if (failed > failures.size()) {
+				result.add((failed - failures.size()) + " more asynchronous requests failed");
+			}
+			if (!requests.isEmpty()) {
+				result.add(requests.size() + " asynchronous requests are not applied in " + timeoutMillis + " ms");
+			}
+			return result;
+		}
+
+		synchronized void discard() {
+			requests.clear();
+		}
+
+		private void drain() {
+			for (int i = 0; i < DRAIN_BATCH; i++) {
+				Request request;
+				synchronized (this) {
+					request = requests.poll();
+					if (null == request) {
+						running = false;
+						notifyAll();
+						return;
+					}
+				}
+				try {
+					request.body.run();
+				} catch (Exception e) {
+					LOGGER.debug("Asynchronous request '{}' failed", request.description, e);
+					fail(request.description + ": " + e.getMessage());
+				}
+			}
+			/* give other launches a chance */
+			executor.execute(this::drain);
+		}
+
+		private synchronized void fail(String failure) {
+			failed++;
+			if (failures.size() < MAX_FAILURES) {
+				failures.add(failure);
+			}
+		}
+	}
+
+	private static final class Request {
+		private final String description;
+		private final Runnable body;
+
+		Request(String description, Runnable body) {
+			this.description = description;
+			this.body = body;
+		}
+	}
+}
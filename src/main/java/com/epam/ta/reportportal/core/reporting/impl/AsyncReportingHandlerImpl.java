@@ -0,0 +1,171 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.reporting.impl;
+
+import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.item.FinishTestItemHandler;
+import com.epam.ta.reportportal.core.item.StartTestItemHandler;
+import com.epam.ta.reportportal.core.log.ICreateLogHandler;
+import com.epam.ta.reportportal.core.reporting.AsyncReportingHandler;
+import com.epam.ta.reportportal.core.reporting.ReportingQueue;
+import com.epam.ta.reportportal.database.dao.LaunchRepository;
+import com.epam.ta.reportportal.database.dao.TestItemRepository;
+import com.epam.ta.reportportal.database.entity.Launch;
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.ws.model.EntryCreatedRS;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.epam.ta.reportportal.commons.Predicates.equalTo;
+import static com.epam.ta.reportportal.commons.Predicates.notNull;
+import static com.epam.ta.reportportal.commons.validation.BusinessRule.expect;
+import static com.epam.ta.reportportal.ws.model.ErrorType.*;
+
+/**
+ * Default implementation of {@link AsyncReportingHandler}
+ */
+@Service
+public class AsyncReportingHandlerImpl implements AsyncReportingHandler {
+
+	private final ReportingQueue reportingQueue;
+
+	private final StartTestItemHandler startTestItemHandler;
+
+	private final FinishTestItemHandler finishTestItemHandler;
+
+	private final ICreateLogHandler createLogHandler;
+
+	private final TestItemRepository testItemRepository;
+
+	private final LaunchRepository launchRepository;
+
+	private final Cache<String, String> launchProjects = Caffeine.newBuilder()
+			.maximumSize(1000)
+			.expireAfterAccess(10, TimeUnit.MINUTES)
+			.build();
+
+	@Autowired
+	public AsyncReportingHandlerImpl(ReportingQueue reportingQueue, StartTestItemHandler startTestItemHandler,
+			FinishTestItemHandler finishTestItemHandler, ICreateLogHandler createLogHandler, TestItemRepository testItemRepository,
+			LaunchRepository launchRepository) {
+		this.reportingQueue = reportingQueue;
+		this.startTestItemHandler = startTestItemHandler;
+		this.finishTestItemHandler = finishTestItemHandler;
+		this.createLogHandler = createLogHandler;
+		this.testItemRepository = testItemRepository;
+		this.launchRepository = launchRepository;
+	}
+
+	@Override
+	public EntryCreatedRS startRootItem(String projectName, StartTestItemRQ rq, String itemId) {
+		validateId(itemId);
+		expect(rq.getLaunchId(), notNull()).verify(BAD_REQUEST_ERROR, "Launch ID should be specified");
+		validateLaunch(projectName, rq.getLaunchId());
+		register(itemId, rq.getLaunchId());
+		reportingQueue.submit(rq.getLaunchId(), "Start of item '" + itemId + "'",
+				() -> startTestItemHandler.startRootItem(projectName, rq, itemId)
+		);
+		return new EntryCreatedRS(itemId);
+	}
+
+	@Override
+	public EntryCreatedRS startChildItem(String projectName, StartTestItemRQ rq, String parentId, String itemId) {
+		validateId(itemId);
+		String launchId = findLaunch(projectName, parentId);
+		register(itemId, launchId);
+		reportingQueue.submit(launchId, "Start of item '" + itemId + "'",
+				() -> startTestItemHandler.startChildItem(projectName, rq, parentId, itemId)
+		);
+		return new EntryCreatedRS(itemId);
+	}
+
+	@Override
+	public OperationCompletionRS finishTestItem(String projectName, String itemId, FinishTestItemRQ rq, String username) {
+		reportingQueue.submit(findLaunch(projectName, itemId), "Finish of item '" + itemId + "'", () -> {
+			try {
+				finishTestItemHandler.finishTestItem(itemId, rq, username);
+			} finally {
+				reportingQueue.itemFinished(itemId);
+			}
+		});
+		return new OperationCompletionRS("Finish of TestItem with ID = '" + itemId + "' is accepted.");
+	}
+
+	@Override
+	public OperationCompletionRS createLog(String projectName, SaveLogRQ rq) {
+		expect(rq.getTestItemId(), notNull()).verify(BAD_REQUEST_ERROR, "Test item ID should be specified");
+		reportingQueue.submit(findLaunch(projectName, rq.getTestItemId()), "Log of item '" + rq.getTestItemId() + "'",
+				() -> createLogHandler.createLog(rq, null, projectName)
+		);
+		return new OperationCompletionRS("Log of TestItem with ID = '" + rq.getTestItemId() + "' is accepted.");
+	}
+
+	private void validateId(String itemId) {
+		expect(ObjectId.isValid(itemId), equalTo(true)).verify(INCORRECT_REQUEST,
+				Suppliers.formattedSupplier("Test item ID '{}' is not a valid ObjectId", itemId)
+		);
+	}
+
+	/**
+	 * Launch should exist and belong to the project
+	 */
+	private void validateLaunch(String projectName, String launchId) {
+		String projectRef = launchProjects.get(launchId,
+				id -> Optional.ofNullable(launchRepository.findOne(id)).map(Launch::getProjectRef).orElse(null)
+		);
+		expect(projectRef, notNull()).verify(LAUNCH_NOT_FOUND, launchId);
+		expect(projectName.toLowerCase(), equalTo(projectRef)).verify(ACCESS_DENIED);
+	}
+
+	/**
+	 * ID generated by client should not be used by saved or accepted item
+	 */
+	private void register(String itemId, String launchId) {
+		Supplier<String> used = Suppliers.formattedSupplier("Test item with ID '{}' already exists", itemId);
+		expect(testItemRepository.exists(itemId), equalTo(false)).verify(BAD_REQUEST_ERROR, used);
+		expect(reportingQueue.registerItem(itemId, launchId), equalTo(true)).verify(BAD_REQUEST_ERROR, used);
+	}
+
+	/**
+	 * Item is either started asynchronously or already saved
+	 */
+	private String findLaunch(String projectName, String itemId) {
+		String launchId = reportingQueue.getLaunch(itemId).orElseGet(() -> {
+			TestItem testItem = testItemRepository.findOne(itemId);
+			expect(testItem, notNull()).verify(TEST_ITEM_NOT_FOUND, itemId);
+			return testItem.getLaunchRef();
+		});
+		validateLaunch(projectName, launchId);
+		return launchId;
+	}
+}
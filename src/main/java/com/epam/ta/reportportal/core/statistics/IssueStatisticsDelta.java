@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.statistics;
+
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.database.entity.statistics.StatisticSubType;
+
+/**
+ * Accumulates issue statistics changes of test items in memory.
+ * Changes of all items are merged per ancestor and per launch, so each
+ * document is updated only once with single {@code $inc}
+ */
+public class IssueStatisticsDelta extends StatisticsDelta {
+
+	/**
+	 * Moves test item from one issue type to another. Test item itself, all it's ancestors
+	 * and launch are affected
+	 *
+	 * @param testItem Test item
+	 * @param from     Current issue type
+	 * @param to       New issue type
+	 */
+	public void move(TestItem testItem, StatisticSubType from, StatisticSubType to) {
+		if (null != from && null != to && from.getLocator().equals(to.getLocator())) {
+			return;
+		}
+		addIssue(testItem, from, -1);
+		addIssue(testItem, to, 1);
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.statistics;
+
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.database.entity.statistics.StatisticSubType;
+import com.google.common.util.concurrent.AbstractScheduledService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Write-behind buffer of statistics increments.<br>
+ * Statistics of finished test item itself are updated immediately, but increments of
+ * it's ancestors and launch are merged in memory and flushed with unordered bulk
+ * {@code $inc} updates every {@code rp.statistics.flush.interval} milliseconds. So when lots of
+ * items are finished in parallel, each suite and launch document is updated once per flush
+ * instead of once per item.<br>
+ * Buffer should be flushed before statistics of ancestors or launch are read or
+ * overwritten, e.g. before launch is finished.<br>
+ * Buffer is disabled by default and may be enabled with {@code rp.statistics.async} only
+ * when service runs as single instance: increments are kept in memory of the instance
+ * which finished the item, so another instance can't flush them before reading
+ * statistics, and increments which are not flushed yet are lost if the instance crashes.
+ */
+@Component
+public class StatisticsBuffer extends AbstractScheduledService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StatisticsBuffer.class);
+
+	private final MongoOperations mongoOperations;
+
+	private final boolean async;
+
+	private final long flushIntervalMillis;
+
+	private final Object flushLock = new Object();
+
+	private StatisticsDelta pending = new StatisticsDelta();
+
+	@Autowired
+	public StatisticsBuffer(MongoOperations mongoOperations, @Value("${rp.statistics.async:false}") boolean async,
+			@Value("${rp.statistics.flush.interval:10}") long flushIntervalMillis) {
+		this.mongoOperations = mongoOperations;
+		this.async = async;
+		this.flushIntervalMillis = flushIntervalMillis;
+	}
+
+	@PostConstruct
+	public void start() {
+		if (async) {
+			startAsync().awaitRunning();
+		}
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (async) {
+			stopAsync().awaitTerminated();
+		}
+	}
+
+	/**
+	 * @return Whether statistics increments are buffered
+	 */
+	public boolean isAsync() {
+		return async && isRunning();
+	}
+
+	/**
+	 * Counts finished test item in execution statistics
+	 *
+	 * @param testItem Finished test item
+	 */
+	public void addExecution(TestItem testItem) {
+		StatisticsDelta delta = new StatisticsDelta();
+		delta.addExecution(testItem, 1);
+		add(testItem, delta);
+	}
+
+	/**
+	 * Counts test item in issue statistics
+	 *
+	 * @param testItem Test item
+	 * @param type     Issue type of test item
+	 */
+	public void addIssue(TestItem testItem, StatisticSubType type) {
+		StatisticsDelta delta = new StatisticsDelta();
+		delta.addIssue(testItem, type, 1);
+		add(testItem, delta);
+	}
+
+	/**
+	 * Applies all buffered increments
+	 *
+	 * @return Whether there was something to apply
+	 */
+	public boolean flush() {
+		synchronized (flushLock) {
+			StatisticsDelta toApply;
+			synchronized (this) {
+				if (pending.isEmpty()) {
+					return false;
+				}
+				toApply = pending;
+				pending = new StatisticsDelta();
+			}
+			toApply.apply(mongoOperations);
+			return true;
+		}
+	}
+
+	@Override
+	protected void runOneIteration() {
+		try {
+			flush();
+		} catch (Exception e) {
+			LOGGER.error("Unable to flush statistics", e);
+		}
+	}
+
+	@Override
+	protected void shutDown() {
+		flush();
+	}
+
+	@Override
+	protected Scheduler scheduler() {
+		return Scheduler.newFixedDelaySchedule(flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private void add(TestItem testItem, StatisticsDelta delta) {
+		Map<String, Integer> fields = delta.getItems().get(testItem.getId());
+		if (null == fields) {
+			return;
+		}
+		Update update = new Update();
+		fields.forEach(update::inc);
+		mongoOperations.updateFirst(query(where("_id").is(testItem.getId())), update, TestItem.class);
+
+		synchronized (this) {
+			pending.addToAncestors(testItem, fields);
+		}
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.statistics;
+
+import com.epam.ta.reportportal.database.entity.Launch;
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.database.entity.item.issue.TestItemIssueType;
+import com.epam.ta.reportportal.database.entity.statistics.ExecutionCounter;
+import com.epam.ta.reportportal.database.entity.statistics.IssueCounter;
+import com.epam.ta.reportportal.database.entity.statistics.StatisticSubType;
+import com.epam.ta.reportportal.database.entity.statistics.Statistics;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Accumulates statistics changes of test items in memory.
+ * Changes of all items are merged per ancestor and per launch, so each
+ * document is updated only once with single {@code $inc}
+ */
+public class StatisticsDelta {
+
+	private static final String EXECUTION_COUNTER = "statistics.executionCounter.";
+
+	private static final String ISSUE_COUNTER = "statistics.issueCounter.";
+
+	private final Map<String, Map<String, Integer>> items = new LinkedHashMap<>();
+	private final Map<String, Map<String, Integer>> launches = new LinkedHashMap<>();
+
+	/**
+	 * Counts test item in execution statistics of test item itself, all it's ancestors and launch
+	 *
+	 * @param testItem Test item with actual status
+	 * @param value    Increment
+	 */
+	public void addExecution(TestItem testItem, int value) {
+		add(testItem, EXECUTION_COUNTER + "total", value);
+		switch (testItem.getStatus()) {
+			case PASSED:
+				add(testItem, EXECUTION_COUNTER + "passed", value);
+				break;
+			case SKIPPED:
+				add(testItem, EXECUTION_COUNTER + "skipped", value);
+				break;
+			case FAILED:
+			case INTERRUPTED:
+				add(testItem, EXECUTION_COUNTER + "failed", value);
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Counts test item in issue statistics of test item itself, all it's ancestors and launch
+	 *
+	 * @param testItem Test item
+	 * @param type     Issue type
+	 * @param value    Increment
+	 */
+	public void addIssue(TestItem testItem, StatisticSubType type, int value) {
+		if (null == type) {
+			return;
+		}
+		String group = ISSUE_COUNTER + issueCounterField(type.getTypeRef()) + ".";
+		add(testItem, group + type.getLocator(), value);
+		add(testItem, group + IssueCounter.GROUP_TOTAL, value);
+	}
+
+	/**
+	 * Subtracts statistics of test item from it's ancestors and launch,
+	 * as if test item was never reported
+	 *
+	 * @param testItem Test item without descendants
+	 */
+	public void subtract(TestItem testItem) {
+		Statistics statistics = testItem.getStatistics();
+		if (null == statistics) {
+			return;
+		}
+		ExecutionCounter execution = statistics.getExecutionCounter();
+		if (null != execution) {
+			add(testItem, EXECUTION_COUNTER + "total", -execution.getTotal());
+			add(testItem, EXECUTION_COUNTER + "passed", -execution.getPassed());
+			add(testItem, EXECUTION_COUNTER + "failed", -execution.getFailed());
+			add(testItem, EXECUTION_COUNTER + "skipped", -execution.getSkipped());
+		}
+		IssueCounter issues = statistics.getIssueCounter();
+		if (null != issues) {
+			subtract(testItem, TestItemIssueType.PRODUCT_BUG.awareStatisticsField(), issues.getProductBug());
+			subtract(testItem, TestItemIssueType.AUTOMATION_BUG.awareStatisticsField(), issues.getAutomationBug());
+			subtract(testItem, TestItemIssueType.SYSTEM_ISSUE.awareStatisticsField(), issues.getSystemIssue());
+			subtract(testItem, TestItemIssueType.NO_DEFECT.awareStatisticsField(), issues.getNoDefect());
+			subtract(testItem, TestItemIssueType.TO_INVESTIGATE.awareStatisticsField(), issues.getToInvestigate());
+		}
+	}
+
+	/**
+	 * Drops changes of test items, e.g. if they are going to be removed
+	 *
+	 * @param testItemIds IDs of test items
+	 */
+	public void exclude(Collection<String> testItemIds) {
+		items.keySet().removeAll(testItemIds);
+	}
+
+	public boolean isEmpty() {
+		return items.isEmpty() && launches.isEmpty();
+	}
+
+	/**
+	 * Applies accumulated changes with bulk updates of test items and launches
+	 *
+	 * @param mongoOperations Mongo operations
+	 */
+	public void apply(MongoOperations mongoOperations) {
+		apply(mongoOperations, TestItem.class, items);
+		apply(mongoOperations, Launch.class, launches);
+	}
+
+	/**
+	 * Counts changes of test item in it's ancestors and launch only
+	 *
+	 * @param testItem Test item
+	 * @param fields   Increments of statistics fields
+	 */
+	void addToAncestors(TestItem testItem, Map<String, Integer> fields) {
+		fields.forEach((field, value) -> {
+			if (null != testItem.getPath()) {
+				testItem.getPath().forEach(ancestor -> inc(items, ancestor, field, value));
+			}
+			inc(launches, testItem.getLaunchRef(), field, value);
+		});
+	}
+
+	Map<String, Map<String, Integer>> getItems() {
+		return items;
+	}
+
+	Map<String, Map<String, Integer>> getLaunches() {
+		return launches;
+	}
+
+	private void subtract(TestItem testItem, String group, Map<String, Integer> counters) {
+		if (null != counters) {
+			counters.forEach((locator, count) -> add(testItem, ISSUE_COUNTER + group + "." + locator, -count));
+		}
+	}
+
+	private void add(TestItem testItem, String field, int value) {
+		if (0 == value) {
+			return;
+		}
+		if (null != testItem.getPath()) {
+			testItem.getPath().forEach(ancestor -> inc(items, ancestor, field, value));
+		}
+		inc(items, testItem.getId(), field, value);
+		inc(launches, testItem.getLaunchRef(), field, value);
+	}
+
+	private static void inc(Map<String, Map<String, Integer>> target, String id, String field, int value) {
+		Map<String, Integer> fields = target.computeIfAbsent(id, k -> new HashMap<>());
+		int result = fields.getOrDefault(field, 0) + value;
+		if (0 == result) {
+			fields.remove(field);
+			if (fields.isEmpty()) {
+				target.remove(id);
+			}
+		} else {
+			fields.put(field, result);
+		}
+	}
+
+	private static void apply(MongoOperations mongoOperations, Class<?> entityClass, Map<String, Map<String, Integer>> changes) {
+		if (changes.isEmpty()) {
+			return;
+		}
+		BulkOperations bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, entityClass);
+		changes.forEach((id, fields) -> {
+			Update update = new Update();
+			fields.forEach(update::inc);
+			bulk.updateOne(query(where("_id").is(id)), update);
+		});
+		bulk.execute();
+	}
+
+	private static String issueCounterField(String typeRef) {
+		return TestItemIssueType.valueOf(typeRef).awareStatisticsField();
+	}
+}
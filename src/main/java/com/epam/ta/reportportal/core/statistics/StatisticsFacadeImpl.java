@@ -52,10 +52,17 @@ public class StatisticsFacadeImpl implements StatisticsFacade {
 	@Autowired
 	private ProjectRepository projectRepository;
 
+	@Autowired
+	private StatisticsBuffer statisticsBuffer;
+
 	@Override
 	public TestItem updateExecutionStatistics(final TestItem testItem) {
-		testItemRepository.updateExecutionStatistics(testItem);
-		launchRepository.updateExecutionStatistics(testItem);
+		if (statisticsBuffer.isAsync()) {
+			statisticsBuffer.addExecution(testItem);
+		} else {
+			testItemRepository.updateExecutionStatistics(testItem);
+			launchRepository.updateExecutionStatistics(testItem);
+		}
 		return testItemRepository.findOne(testItem.getId());
 	}
 
@@ -63,8 +70,12 @@ public class StatisticsFacadeImpl implements StatisticsFacade {
 	public TestItem updateIssueStatistics(final TestItem testItem) {
 		Launch launch = launchRepository.findOne(testItem.getLaunchRef());
 		Project project = projectRepository.findOne(launch.getProjectRef());
-		testItemRepository.updateIssueStatistics(testItem, project.getConfiguration());
-		launchRepository.updateIssueStatistics(testItem, project.getConfiguration());
+		if (statisticsBuffer.isAsync()) {
+			statisticsBuffer.addIssue(testItem, project.getConfiguration().getByLocator(testItem.getIssue().getIssueType()));
+		} else {
+			testItemRepository.updateIssueStatistics(testItem, project.getConfiguration());
+			launchRepository.updateIssueStatistics(testItem, project.getConfiguration());
+		}
 		return testItemRepository.findOne(testItem.getId());
 	}
 
@@ -116,11 +127,13 @@ public class StatisticsFacadeImpl implements StatisticsFacade {
 
 	@Override
 	public void recalculateStatistics(Launch launch) {
+		statisticsBuffer.flush();
 		deleteLaunchStatistics(launch);
 		testItemRepository.findByLaunch(launch).forEach(this::recalculateTestItemStatistics);
 
 		List<TestItem> withIssues = testItemRepository.findTestItemWithIssues(launch.getId());
 		withIssues.forEach(this::updateIssueStatistics);
+		statisticsBuffer.flush();
 	}
 
 	private void recalculateTestItemStatistics(TestItem item) {
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.throttling;
+
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Shares {@link TaskExecutor} between projects with weighted fair queuing.<br>
+ * Tasks are queued per project and at most {@code concurrency} of them are passed
+ * to the executor at once. Projects with pending tasks are served in deficit round robin
+ * order proportionally to their weights, so project submitting lots of tasks
+ * doesn't delay tasks of other projects. When queue of the project is full task is executed
+ * by submitting thread, which slows down only the project which overloads the executor.
+ */
+public class FairTaskExecutor {
+
+	private static final double MIN_WEIGHT = 0.01;
+
+	private final TaskExecutor delegate;
+
+	private final int concurrency;
+
+	private final int queueCapacity;
+
+	private final ToDoubleFunction<String> weights;
+
+	private final Map<String, ProjectQueue> queues = new HashMap<>();
+
+	private final Deque<ProjectQueue> active = new ArrayDeque<>();
+
+	private int running;
+
+	/**
+	 * @param delegate      Executor tasks are executed by
+	 * @param concurrency   Max count of tasks passed to executor at once
+	 * @param queueCapacity Max count of pending tasks per project
+	 * @param weights       Weights of projects
+	 */
+	public FairTaskExecutor(TaskExecutor delegate, int concurrency, int queueCapacity, ToDoubleFunction<String> weights) {
+		this.delegate = delegate;
+		this.concurrency = concurrency;
+		this.queueCapacity = queueCapacity;
+		this.weights = weights;
+	}
+
+	public void execute(String project, Runnable task) {
+		synchronized (this) {
+			ProjectQueue queue = queues.computeIfAbsent(project, name -> new ProjectQueue(name, weights.applyAsDouble(name)));
+			if (queue.tasks.size() < queueCapacity) {
+				queue.tasks.add(task);
+				if (1 == queue.tasks.size()) {
+					active.add(queue);
+				}
+				task = null;
+			}
+		}
+		if (null != task) {
+			task.run();
+		} else {
+			dispatch();
+		}
+	}
+
+	private void dispatch() {
+		List<Runnable> ready = new ArrayList<>();
+		synchronized (this) {
+			while (running < concurrency && !active.isEmpty()) {
+				ProjectQueue queue = active.peek();
+				if (queue.deficit < 1) {
+					queue.deficit += queue.weight;
+					active.add(active.poll());
+					continue;
+				}
+				queue.deficit -= 1;
+				ready.add(queue.tasks.poll());
+				running++;
+				if (queue.tasks.isEmpty()) {
+					active.poll();
+					queues.remove(queue.project);
+				}
+			}
+		}
+		ready.forEach(this::submit);
+	}
+
+	private void submit(Runnable task) {
+		Runnable wrapped = () -> {
+			try {
+				task.run();
+			} finally {
+				synchronized (this) {
+					running--;
+				}
+				dispatch();
+			}
+		};
+		try {
+			delegate.execute(wrapped);
+		} catch (RejectedExecutionException e) {
+			wrapped.run();
+		}
+	}
+
+	private static final class ProjectQueue {
+		private final String project;
+		private final double weight;
+		private final Deque<Runnable> tasks = new ArrayDeque<>();
+		private double deficit;
+
+		ProjectQueue(String project, double weight) {
+			this.project = project;
+			this.weight = Math.max(MIN_WEIGHT, weight);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.throttling;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-project token bucket limits of reporting traffic.<br>
+ * Each project gets {@code rp.throttling.rate} requests per second multiplied
+ * by it's weight ({@code rp.throttling.weights}, e.g. {@code big_project:4,small_project:0.5})
+ * and may exceed it for short time up to {@code rp.throttling.burst} requests.
+ * Accepted and rejected requests are exposed as public metrics. Limits are
+ * disabled by default and enabled with {@code rp.throttling.enabled}.
+ */
+@Component
+public class ProjectRateLimiter implements PublicMetrics {
+
+	private static final String METRIC_PREFIX = "reporting.throttling.";
+
+	private final boolean enabled;
+
+	private final double rate;
+
+	private final int burst;
+
+	private final Map<String, Double> weights;
+
+	private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+			.maximumSize(10000)
+			.expireAfterAccess(1, TimeUnit.HOURS)
+			.build();
+
+	@Autowired
+	public ProjectRateLimiter(@Value("${rp.throttling.enabled:false}") boolean enabled, @Value("${rp.throttling.rate:200}") double rate,
+			@Value("${rp.throttling.burst:1000}") int burst, @Value("${rp.throttling.weights:}") String weights) {
+		this.enabled = enabled;
+		this.rate = rate;
+		this.burst = burst;
+		this.weights = parseWeights(weights);
+	}
+
+	/**
+	 * Takes single permit of the project
+	 *
+	 * @param project Name of project
+	 * @return 0 if permit is taken, otherwise time in milliseconds
+	 * after which permit will be available
+	 */
+	public long tryAcquire(String project) {
+		if (!enabled) {
+			return 0;
+		}
+		TokenBucket bucket = buckets.get(project, name -> new TokenBucket(rate * getWeight(name), burst * getWeight(name)));
+		return bucket.tryAcquire(System.nanoTime());
+	}
+
+	/**
+	 * @param project Name of project
+	 * @return Share of resources of the project relative to other projects
+	 */
+	public double getWeight(String project) {
+		return weights.getOrDefault(project, 1.0);
+	}
+
+	@Override
+	public Collection<Metric<?>> metrics() {
+		List<Metric<?>> metrics = new ArrayList<>();
+		buckets.asMap().forEach((project, bucket) -> {
+			metrics.add(new Metric<>(METRIC_PREFIX + project + ".accepted", bucket.accepted.sum()));
+			metrics.add(new Metric<>(METRIC_PREFIX + project + ".rejected", bucket.rejected.sum()));
+		});
+		return metrics;
+	}
+
+	static Map<String, Double> parseWeights(String weights) {
+		ImmutableMap.Builder<String, Double> result = ImmutableMap.builder();
+		Splitter.on(',').trimResults().omitEmptyStrings().withKeyValueSeparator(':').split(weights).forEach(
+				(project, weight) -> result.put(project, Double.valueOf(weight)));
+		return result.build();
+	}
+
+	static final class TokenBucket {
+
+		private final double permitsPerNano;
+		private final double capacity;
+		private final LongAdder accepted = new LongAdder();
+		private final LongAdder rejected = new LongAdder();
+
+		private double tokens;
+		private long lastRefill;
+
+		TokenBucket(double permitsPerSecond, double capacity) {
+			this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+			this.capacity = Math.max(1, capacity);
+			this.tokens = this.capacity;
+			this.lastRefill = System.nanoTime();
+		}
+
+		synchronized long tryAcquire(long now) {
+			tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+			lastRefill = now;
+			if (tokens >= 1) {
+				tokens -= 1;
+				accepted.increment();
+				return 0;
+			}
+			rejected.increment();
+			return Math.max(1, TimeUnit.NANOSECONDS.toMillis((long) Math.ceil((1 - tokens) / permitsPerNano)));
+		}
+	}
+}
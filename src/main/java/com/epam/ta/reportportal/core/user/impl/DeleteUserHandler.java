@@ -25,6 +25,9 @@ import com.epam.ta.reportportal.auth.UatClient;
 import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
 import com.epam.ta.reportportal.core.analyzer.ILogIndexer;
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.core.log.LogMessages;
+import com.epam.ta.reportportal.core.log.LogReferences;
 import com.epam.ta.reportportal.core.user.IDeleteUserHandler;
 import com.epam.ta.reportportal.database.dao.ProjectRepository;
 import com.epam.ta.reportportal.database.dao.UserRepository;
@@ -62,6 +65,12 @@ public class DeleteUserHandler implements IDeleteUserHandler {
 	@Autowired
 	private ILogIndexer logIndexer;
 
+	@Autowired
+	private AttachmentStorage attachmentStorage;
+
+	@Autowired
+	private LogMessages logMessages;
+
 	@Override
 	public OperationCompletionRS deleteUser(String userId, String principal) {
 		User user = userRepository.findOne(userId);
@@ -81,12 +90,16 @@ public class DeleteUserHandler implements IDeleteUserHandler {
 
 		try {
 			uatClient.revokeUserTokens(userId);
+			personalProjectName.ifPresent(s -> logMessages.remove(LogReferences.ofProject(s)));
 			userRepository.delete(user);
 		} catch (Exception exp) {
 			throw new ReportPortalException("Error while deleting user", exp);
 		}
 
-		personalProjectName.ifPresent(s -> logIndexer.deleteIndex(s));
+		personalProjectName.ifPresent(s -> {
+			logIndexer.deleteIndex(s);
+			attachmentStorage.projectRemoved(s);
+		});
 
 		return new OperationCompletionRS("User with ID = '" + userId + "' successfully deleted.");
 	}
@@ -33,17 +33,19 @@ import com.epam.ta.reportportal.database.entity.user.UserCreationBid;
 import com.epam.ta.reportportal.database.search.Condition;
 import com.epam.ta.reportportal.database.search.Filter;
 import com.epam.ta.reportportal.database.search.FilterCondition;
+import com.epam.ta.reportportal.util.StreamingPage;
 import com.epam.ta.reportportal.ws.converter.UserResourceAssembler;
 import com.epam.ta.reportportal.ws.model.YesNoRS;
 import com.epam.ta.reportportal.ws.model.user.UserBidRS;
 import com.epam.ta.reportportal.ws.model.user.UserResource;
 import com.google.common.base.Preconditions;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.stereotype.Service;
 
 import java.security.Principal;
+import java.util.Collections;
 import java.util.Map;
 
 import static com.epam.ta.reportportal.commons.Predicates.notNull;
@@ -69,6 +71,9 @@ public class GetUserHandler implements IGetUserHandler {
 	@Autowired
 	private ProjectRepository projectRepository;
 
+	@Autowired
+	private MongoOperations mongoOperations;
+
 	@Autowired
 	public GetUserHandler(UserRepository userRepo, UserCreationBidRepository userBidRepo, UserResourceAssembler userResourceAsm) {
 		this.userRepository = Preconditions.checkNotNull(userRepo);
@@ -136,8 +141,9 @@ public class GetUserHandler implements IGetUserHandler {
 
 	@Override
 	public Iterable<UserResource> getAllUsers(Filter filter, Pageable pageable) {
-		final Page<User> users = userRepository.findByFilter(filter, pageable);
-		return userResourceAssembler.toPagedResources(users);
+		return new StreamingPage<>(mongoOperations, User.class, filter, pageable, Collections.emptyList(),
+				userResourceAssembler::toResource
+		);
 	}
 
 	@Override
@@ -21,6 +21,7 @@
 
 package com.epam.ta.reportportal.core.widget.content;
 
+import com.epam.ta.reportportal.core.launch.impl.LatestLaunches;
 import com.epam.ta.reportportal.core.widget.impl.WidgetUtils;
 import com.epam.ta.reportportal.database.StatisticsDocumentHandler;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
@@ -52,6 +53,9 @@ public class BugTrendChartContentLoader extends StatisticBasedContentLoader impl
 	@Autowired
 	private LaunchRepository launchRepository;
 
+	@Autowired
+	private LatestLaunches latestLaunches;
+
 	@Override
 	public Map<String, List<ChartObject>> loadContent(String projectName, Filter filter, Sort sorting, int quantity,
 			List<String> contentFields, List<String> metaDataFields, Map<String, List<String>> options) {
@@ -61,7 +65,10 @@ public class BugTrendChartContentLoader extends StatisticBasedContentLoader impl
 			return Collections.emptyMap();
 		}
 		List<String> allFields = ImmutableList.<String>builder().addAll(contentFields).addAll(metaDataFields).build();
-		if (options.containsKey(LATEST_MODE)) {
+		if (options.containsKey(LATEST_MODE) && latestLaunches.isReady()) {
+			Filter latest = latestLaunches.restrict(projectName, filter);
+			launchRepository.loadWithCallback(latest, sorting, quantity, allFields, statisticsDocumentHandler, COLLECTION_NAME);
+		} else if (options.containsKey(LATEST_MODE)) {
 			launchRepository.findLatestWithCallback(filter, sorting, allFields, quantity, statisticsDocumentHandler);
 		} else {
 			launchRepository.loadWithCallback(filter, sorting, quantity, allFields, statisticsDocumentHandler, COLLECTION_NAME);
@@ -22,6 +22,7 @@
 package com.epam.ta.reportportal.core.widget.content;
 
 import com.epam.ta.reportportal.commons.Predicates;
+import com.epam.ta.reportportal.core.launch.impl.LatestLaunches;
 import com.epam.ta.reportportal.database.StatisticsDocumentHandler;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
 import com.epam.ta.reportportal.database.dao.aggregation.GroupingOperation;
@@ -54,6 +55,9 @@ public class GroupingContentLoader implements IContentLoadingStrategy {
 	@Autowired
 	private LaunchRepository launchRepository;
 
+	@Autowired
+	private LatestLaunches latestLaunches;
+
 	@Override
 	public Map<String, List<ChartObject>> loadContent(String projectName, Filter filter, Sort sorting, int quantity,
 			List<String> contentFields, List<String> metaDataFields, Map<String, List<String>> widgetOptions) {
@@ -84,7 +88,12 @@ public class GroupingContentLoader implements IContentLoadingStrategy {
 				aggregationResults = launchRepository.findGroupedBy(filter, contentFields, groupingBy.get(), quantity);
 				break;
 			case LATEST:
-				aggregationResults = launchRepository.findLatestGroupedBy(filter, contentFields, groupingBy.get(), quantity);
+				if (latestLaunches.isReady()) {
+					Filter latest = latestLaunches.restrict(projectName, filter);
+					aggregationResults = launchRepository.findGroupedBy(latest, contentFields, groupingBy.get(), quantity);
+				} else {
+					aggregationResults = launchRepository.findLatestGroupedBy(filter, contentFields, groupingBy.get(), quantity);
+				}
 				break;
 		}
 		if (aggregationResults.isEmpty()) {
@@ -21,6 +21,7 @@
 
 package com.epam.ta.reportportal.core.widget.content;
 
+import com.epam.ta.reportportal.core.launch.impl.LatestLaunches;
 import com.epam.ta.reportportal.core.widget.impl.WidgetUtils;
 import com.epam.ta.reportportal.database.LaunchesDurationDocumentHandler;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
@@ -47,6 +48,9 @@ public class LaunchesDurationContentLoader extends StatisticBasedContentLoader i
 	@Autowired
 	private LaunchRepository launchRepository;
 
+	@Autowired
+	private LatestLaunches latestLaunches;
+
 	@Override
 	public Map<String, List<ChartObject>> loadContent(String projectName, Filter filter, Sort sorting, int quantity,
 			List<String> contentFields, List<String> metaDataFields, Map<String, List<String>> options) {
@@ -56,7 +60,10 @@ public class LaunchesDurationContentLoader extends StatisticBasedContentLoader i
 		String collectionName = getCollectionName(filter.getTarget());
 		List<String> chartFields = ImmutableList.<String>builder().addAll(contentFields).addAll(metaDataFields).build();
 		LaunchesDurationDocumentHandler documentHandler = new LaunchesDurationDocumentHandler();
-		if (options.containsKey(LATEST_MODE)) {
+		if (options.containsKey(LATEST_MODE) && latestLaunches.isReady()) {
+			Filter latest = latestLaunches.restrict(projectName, filter);
+			launchRepository.loadWithCallback(latest, sorting, quantity, chartFields, documentHandler, collectionName);
+		} else if (options.containsKey(LATEST_MODE)) {
 			launchRepository.findLatestWithCallback(filter, sorting, contentFields, quantity, documentHandler);
 		} else {
 			launchRepository.loadWithCallback(filter, sorting, quantity, chartFields, documentHandler, collectionName);
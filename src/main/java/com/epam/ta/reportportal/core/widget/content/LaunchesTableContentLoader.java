@@ -21,6 +21,7 @@
 
 package com.epam.ta.reportportal.core.widget.content;
 
+import com.epam.ta.reportportal.core.launch.impl.LatestLaunches;
 import com.epam.ta.reportportal.database.LaunchesTableDocumentHandler;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
@@ -48,6 +49,9 @@ public class LaunchesTableContentLoader implements IContentLoadingStrategy {
 	@Autowired
 	private LaunchRepository launchRepository;
 
+	@Autowired
+	private LatestLaunches latestLaunches;
+
 	@Override
 	public Map<String, List<ChartObject>> loadContent(String projectName, Filter filter, Sort sorting, int quantity,
 			List<String> contentFields, List<String> metaDataFields, Map<String, List<String>> options) {
@@ -57,7 +61,10 @@ public class LaunchesTableContentLoader implements IContentLoadingStrategy {
 		List<String> fields = ImmutableList.<String>builder().addAll(contentFields).addAll(metaDataFields).build();
 		String collectionName = StatisticBasedContentLoader.getCollectionName(filter.getTarget());
 		LaunchesTableDocumentHandler launchesTableDocumentHandler = new LaunchesTableDocumentHandler(fields);
-		if (options.containsKey(LATEST_MODE)) {
+		if (options.containsKey(LATEST_MODE) && latestLaunches.isReady()) {
+			Filter latest = latestLaunches.restrict(projectName, filter);
+			launchRepository.loadWithCallback(latest, sorting, quantity, fields, launchesTableDocumentHandler, collectionName);
+		} else if (options.containsKey(LATEST_MODE)) {
 			launchRepository.findLatestWithCallback(filter, sorting, fields, quantity, launchesTableDocumentHandler);
 		} else {
 			launchRepository.loadWithCallback(filter, sorting, quantity, fields, launchesTableDocumentHandler, collectionName);
@@ -23,6 +23,7 @@ package com.epam.ta.reportportal.core.widget.content;
 
 import com.epam.ta.reportportal.commons.Predicates;
 import com.epam.ta.reportportal.commons.validation.BusinessRule;
+import com.epam.ta.reportportal.core.launch.impl.LatestLaunches;
 import com.epam.ta.reportportal.core.widget.impl.WidgetUtils;
 import com.epam.ta.reportportal.database.StatisticsDocumentHandler;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
@@ -55,6 +56,9 @@ public class NotPassedTestsContentLoader extends StatisticBasedContentLoader imp
 	@Autowired
 	private LaunchRepository launchRepository;
 
+	@Autowired
+	private LatestLaunches latestLaunches;
+
 	@SuppressFBWarnings("NP_NULL_PARAM_DEREF")
 	@Override
 	public Map<String, List<ChartObject>> loadContent(String projectName, Filter filter, Sort sorting, int quantity,
@@ -66,7 +70,10 @@ public class NotPassedTestsContentLoader extends StatisticBasedContentLoader imp
 		String collectionName = getCollectionName(filter.getTarget());
 
 		// here can be used any repository which extends ReportPortalRepository
-		if (options.containsKey(LATEST_MODE)) {
+		if (options.containsKey(LATEST_MODE) && latestLaunches.isReady()) {
+			Filter latest = latestLaunches.restrict(projectName, filter);
+			launchRepository.loadWithCallback(latest, sorting, quantity, allFields, handler, collectionName);
+		} else if (options.containsKey(LATEST_MODE)) {
 			launchRepository.findLatestWithCallback(filter, sorting, allFields, quantity, handler);
 		} else {
 			launchRepository.loadWithCallback(filter, sorting, quantity, allFields, handler, collectionName);
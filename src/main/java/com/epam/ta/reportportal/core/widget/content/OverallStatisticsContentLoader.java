@@ -21,6 +21,7 @@
 
 package com.epam.ta.reportportal.core.widget.content;
 
+import com.epam.ta.reportportal.core.launch.impl.LatestLaunches;
 import com.epam.ta.reportportal.database.OverallStatisticsDocumentHandler;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
 import com.epam.ta.reportportal.database.search.Filter;
@@ -48,6 +49,9 @@ public class OverallStatisticsContentLoader extends StatisticBasedContentLoader
 	@Autowired
 	private LaunchRepository launchRepository;
 
+	@Autowired
+	private LatestLaunches latestLaunches;
+
 	// data must be collected from launch collection
 	private static final String COLLECTION_NAME = "launch";
 
@@ -56,7 +60,10 @@ public class OverallStatisticsContentLoader extends StatisticBasedContentLoader
 			List<String> contentFields, List<String> metaDataFields, Map<String, List<String>> options) {
 
 		OverallStatisticsDocumentHandler overallStatisticsContentLoader = new OverallStatisticsDocumentHandler(contentFields);
-		if (options.containsKey(LATEST_MODE)) {
+		if (options.containsKey(LATEST_MODE) && latestLaunches.isReady()) {
+			Filter latest = latestLaunches.restrict(projectName, filter);
+			launchRepository.loadWithCallback(latest, sorting, quantity, contentFields, overallStatisticsContentLoader, COLLECTION_NAME);
+		} else if (options.containsKey(LATEST_MODE)) {
 			launchRepository.findLatestWithCallback(filter, sorting, contentFields, quantity, overallStatisticsContentLoader);
 		} else {
 			launchRepository.loadWithCallback(filter, sorting, quantity, contentFields, overallStatisticsContentLoader, COLLECTION_NAME);
@@ -20,6 +20,7 @@
  */
 package com.epam.ta.reportportal.core.widget.content;
 
+import com.epam.ta.reportportal.core.launch.impl.LatestLaunches;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
 import com.epam.ta.reportportal.database.entity.Launch;
 import com.epam.ta.reportportal.database.entity.filter.UserFilter;
@@ -51,6 +52,9 @@ public class PassingRateFilterStrategy implements BuildFilterStrategy {
 	@Autowired
 	private LaunchRepository launchRepository;
 
+	@Autowired
+	private LatestLaunches latestLaunches;
+
 	@Override
 	public Map<String, List<ChartObject>> buildFilterAndLoadContent(UserFilter userFilter, ContentOptions contentOptions,
 			String projectName) {
@@ -58,8 +62,10 @@ public class PassingRateFilterStrategy implements BuildFilterStrategy {
 		if (contentOptions.getWidgetOptions() == null || contentOptions.getWidgetOptions().get(LAUNCH_NAME_FIELD) == null) {
 			return emptyResult;
 		}
-		Launch lastLaunchForProject = launchRepository.findLatestLaunch(
-				projectName, contentOptions.getWidgetOptions().get(LAUNCH_NAME_FIELD).get(0), Mode.DEFAULT.name()).orElse(null);
+		String launchName = contentOptions.getWidgetOptions().get(LAUNCH_NAME_FIELD).get(0);
+		Launch lastLaunchForProject = (latestLaunches.isReady() ?
+				latestLaunches.findLatest(projectName, launchName) :
+				launchRepository.findLatestLaunch(projectName, launchName, Mode.DEFAULT.name())).orElse(null);
 		if (null == lastLaunchForProject) {
 			return emptyResult;
 		}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.events;
+
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.database.entity.item.issue.TestItemIssue;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Immutable copy of issue-related state of a test item.
+ * Used as before/after state in issue events instead of
+ * copying whole {@link TestItem}
+ */
+public final class ItemIssueSnapshot {
+
+	private final String id;
+	private final String name;
+	private final boolean hasIssue;
+	private final String issueType;
+	private final String issueDescription;
+	private final boolean autoAnalyzed;
+	private final boolean ignoreAnalyzer;
+	private final List<ExternalIssue> externalSystemIssues;
+
+	private ItemIssueSnapshot(TestItem item) {
+		this.id = item.getId();
+		this.name = item.getName();
+		TestItemIssue issue = item.getIssue();
+		this.hasIssue = null != issue;
+		if (hasIssue) {
+			this.issueType = issue.getIssueType();
+			this.issueDescription = issue.getIssueDescription();
+			this.autoAnalyzed = issue.isAutoAnalyzed();
+			this.ignoreAnalyzer = issue.isIgnoreAnalyzer();
+			this.externalSystemIssues = null == issue.getExternalSystemIssues() ?
+					Collections.emptyList() :
+					ImmutableList.copyOf(issue.getExternalSystemIssues().stream().map(ExternalIssue::new).collect(toList()));
+		} else {
+			this.issueType = null;
+			this.issueDescription = null;
+			this.autoAnalyzed = false;
+			this.ignoreAnalyzer = false;
+			this.externalSystemIssues = Collections.emptyList();
+		}
+	}
+
+	public static ItemIssueSnapshot of(TestItem item) {
+		return new ItemIssueSnapshot(item);
+	}
+
+	public static List<ItemIssueSnapshot> of(Iterable<TestItem> items) {
+		ImmutableList.Builder<ItemIssueSnapshot> snapshots = ImmutableList.builder();
+		items.forEach(it -> snapshots.add(of(it)));
+		return snapshots.build();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public boolean hasIssue() {
+		return hasIssue;
+	}
+
+	public String getIssueType() {
+		return issueType;
+	}
+
+	public String getIssueDescription() {
+		return issueDescription;
+	}
+
+	public boolean isAutoAnalyzed() {
+		return autoAnalyzed;
+	}
+
+	public boolean isIgnoreAnalyzer() {
+		return ignoreAnalyzer;
+	}
+
+	public List<ExternalIssue> getExternalSystemIssues() {
+		return externalSystemIssues;
+	}
+
+	/**
+	 * Ticket linked to a test item
+	 */
+	public static final class ExternalIssue {
+
+		private final String ticketId;
+		private final String url;
+		private final String externalSystemId;
+
+		private ExternalIssue(TestItemIssue.ExternalSystemIssue issue) {
+			this.ticketId = issue.getTicketId();
+			this.url = issue.getUrl();
+			this.externalSystemId = issue.getExternalSystemId();
+		}
+
+		public String getTicketId() {
+			return ticketId;
+		}
+
+		public String getUrl() {
+			return url;
+		}
+
+		public String getExternalSystemId() {
+			return externalSystemId;
+		}
+	}
+}
@@ -20,7 +20,6 @@
  */
 package com.epam.ta.reportportal.events;
 
-import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.ws.model.TestItemResource;
 import com.epam.ta.reportportal.ws.model.issue.IssueDefinition;
 
@@ -32,11 +31,11 @@ import java.util.Map;
 public class ItemIssueTypeDefined {
 
 	private final String postedBy;
-	private final Map<IssueDefinition, TestItem> before;
+	private final Map<IssueDefinition, ItemIssueSnapshot> before;
 	private final Map<String, TestItemResource> relevantItemMap;
 	private final String project;
 
-	public ItemIssueTypeDefined(Map<IssueDefinition, TestItem> before, String postedBy, String project,
+	public ItemIssueTypeDefined(Map<IssueDefinition, ItemIssueSnapshot> before, String postedBy, String project,
 			Map<String, TestItemResource> relevantItemMap) {
 		this.postedBy = postedBy;
 		this.before = before;
@@ -48,7 +47,7 @@ public class ItemIssueTypeDefined {
 		return postedBy;
 	}
 
-	public Map<IssueDefinition, TestItem> getBefore() {
+	public Map<IssueDefinition, ItemIssueSnapshot> getBefore() {
 		return before;
 	}
 
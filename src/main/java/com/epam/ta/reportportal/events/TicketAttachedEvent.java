@@ -20,7 +20,6 @@
  */
 package com.epam.ta.reportportal.events;
 
-import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.ws.model.TestItemResource;
 
 import java.util.List;
@@ -29,13 +28,13 @@ import java.util.Map;
 /**
  * @author Andrei Varabyeu
  */
-public class TicketAttachedEvent extends AroundEvent<List<TestItem>> {
+public class TicketAttachedEvent extends AroundEvent<List<ItemIssueSnapshot>> {
 
 	private final String postedBy;
 	private final String project;
 	private final Map<String, TestItemResource> relevantItemMap;
 
-	public TicketAttachedEvent(List<TestItem> before, List<TestItem> after, String postedBy, String project,
+	public TicketAttachedEvent(List<ItemIssueSnapshot> before, List<ItemIssueSnapshot> after, String postedBy, String project,
 			Map<String, TestItemResource> relevantItemMap) {
 		super(before, after);
 		this.postedBy = postedBy;
@@ -20,7 +20,7 @@
  */
 package com.epam.ta.reportportal.events.handler;
 
-import com.epam.ta.reportportal.database.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.ActivityWriter;
 import com.epam.ta.reportportal.database.entity.Dashboard;
 import com.epam.ta.reportportal.database.entity.item.Activity;
 import com.epam.ta.reportportal.events.DashboardCreatedEvent;
@@ -49,7 +49,7 @@ import static com.epam.ta.reportportal.events.handler.EventHandlerUtil.*;
 public class DashboardActivityEventHandler {
 
 	@Autowired
-	private ActivityRepository activityRepository;
+	private ActivityWriter activityWriter;
 
 	@EventListener
 	public void onDashboardUpdate(DashboardUpdatedEvent event) {
@@ -69,7 +69,7 @@ public class DashboardActivityEventHandler {
 						.addUserRef(event.getUpdatedBy())
 						.addHistory(history)
 						.get();
-				activityRepository.save(activityLog);
+				activityWriter.write(activityLog);
 			}
 		}
 	}
@@ -85,7 +85,7 @@ public class DashboardActivityEventHandler {
 				.addLoggedObjectRef(event.getDashboardId())
 				.addHistory(Collections.singletonList(createHistoryField(NAME, EMPTY_FIELD, createDashboardRQ.getName())))
 				.get();
-		activityRepository.save(activityLog);
+		activityWriter.write(activityLog);
 	}
 
 	@EventListener
@@ -98,7 +98,7 @@ public class DashboardActivityEventHandler {
 				.addUserRef(event.getRemovedBy())
 				.addHistory(Collections.singletonList(createHistoryField(NAME, dashboard.getName(), EMPTY_FIELD)))
 				.get();
-		activityRepository.save(activityLog);
+		activityWriter.write(activityLog);
 	}
 
 }
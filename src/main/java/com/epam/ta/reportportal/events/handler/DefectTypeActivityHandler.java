@@ -1,6 +1,6 @@
 package com.epam.ta.reportportal.events.handler;
 
-import com.epam.ta.reportportal.database.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.ActivityWriter;
 import com.epam.ta.reportportal.database.entity.Project;
 import com.epam.ta.reportportal.database.entity.item.Activity;
 import com.epam.ta.reportportal.events.DefectTypeCreatedEvent;
@@ -27,11 +27,11 @@ import static com.epam.ta.reportportal.events.handler.EventHandlerUtil.*;
 @Component
 public class DefectTypeActivityHandler {
 
-	private final ActivityRepository activityRepository;
+	private final ActivityWriter activityWriter;
 
 	@Autowired
-	public DefectTypeActivityHandler(ActivityRepository activityRepository) {
-		this.activityRepository = activityRepository;
+	public DefectTypeActivityHandler(ActivityWriter activityWriter) {
+		this.activityWriter = activityWriter;
 	}
 
 	@EventListener
@@ -44,7 +44,7 @@ public class DefectTypeActivityHandler {
 				.addUserRef(event.getUser())
 				.addHistory(Collections.singletonList(createHistoryField(NAME, EMPTY_FIELD, event.getStatisticSubType().getLongName())))
 				.get();
-		activityRepository.save(activity);
+		activityWriter.write(activity);
 	}
 
 	@EventListener
@@ -60,7 +60,7 @@ public class DefectTypeActivityHandler {
 						.addUserRef(event.getUpdatedBy())
 						.get())
 				.collect(Collectors.toList());
-		activityRepository.save(activities);
+		activityWriter.write(activities);
 
 	}
 
@@ -83,7 +83,7 @@ public class DefectTypeActivityHandler {
 							.addObjectName(subType.getLongName())
 							.addHistory(Collections.singletonList(createHistoryField(NAME, subType.getLongName(), EMPTY_FIELD)))
 							.get();
-					activityRepository.save(activity);
+					activityWriter.write(activity);
 				});
 	}
 }
@@ -20,7 +20,7 @@
  */
 package com.epam.ta.reportportal.events.handler;
 
-import com.epam.ta.reportportal.database.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.ActivityWriter;
 import com.epam.ta.reportportal.database.entity.ExternalSystem;
 import com.epam.ta.reportportal.database.entity.item.Activity;
 import com.epam.ta.reportportal.events.ExternalSystemCreatedEvent;
@@ -47,11 +47,11 @@ import static com.epam.ta.reportportal.events.handler.EventHandlerUtil.*;
 @Component
 public class ExternalSystemActivityHandler {
 
-	private final ActivityRepository activityRepository;
+	private final ActivityWriter activityWriter;
 
 	@Autowired
-	public ExternalSystemActivityHandler(ActivityRepository activityRepository) {
-		this.activityRepository = activityRepository;
+	public ExternalSystemActivityHandler(ActivityWriter activityWriter) {
+		this.activityWriter = activityWriter;
 	}
 
 	@EventListener
@@ -66,7 +66,7 @@ public class ExternalSystemActivityHandler {
 				.addProjectRef(externalSystem.getProjectRef())
 				.addHistory(Collections.singletonList(createHistoryField(NAME, EMPTY_FIELD, name)))
 				.get();
-		activityRepository.save(activity);
+		activityWriter.write(activity);
 	}
 
 	@EventListener
@@ -81,7 +81,7 @@ public class ExternalSystemActivityHandler {
 					.addActionType(UPDATE_BTS)
 					.addProjectRef(externalSystem.getProjectRef())
 					.get();
-			activityRepository.save(activity);
+			activityWriter.write(activity);
 		}
 	}
 
@@ -98,7 +98,7 @@ public class ExternalSystemActivityHandler {
 					.addProjectRef(externalSystem.getProjectRef())
 					.addHistory(Collections.singletonList(createHistoryField(NAME, name, EMPTY_FIELD)))
 					.get();
-			activityRepository.save(activity);
+			activityWriter.write(activity);
 		}
 	}
 
@@ -118,7 +118,7 @@ public class ExternalSystemActivityHandler {
 						.get();
 			}).collect(Collectors.toList());
 			if (!activities.isEmpty()) {
-				activityRepository.save(activities);
+				activityWriter.write(activities);
 			}
 		}
 	}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.events.handler;
+
+import com.epam.ta.reportportal.core.externalsystem.ExternalSystemCache;
+import com.epam.ta.reportportal.database.entity.ExternalSystem;
+import com.epam.ta.reportportal.events.ExternalSystemDeletedEvent;
+import com.epam.ta.reportportal.events.ExternalSystemUpdatedEvent;
+import com.epam.ta.reportportal.events.ProjectExternalSystemsDeletedEvent;
+import com.epam.ta.reportportal.events.TicketAttachedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@link ExternalSystemCache} consistent with linked tickets
+ * and external system settings
+ */
+@Component
+public class ExternalSystemCacheEventHandler {
+
+	private final ExternalSystemCache externalSystemCache;
+
+	@Autowired
+	public ExternalSystemCacheEventHandler(ExternalSystemCache externalSystemCache) {
+		this.externalSystemCache = externalSystemCache;
+	}
+
+	@EventListener
+	public void onTicketAttached(TicketAttachedEvent event) {
+		event.getAfter()
+				.stream()
+				.flatMap(item -> item.getExternalSystemIssues().stream())
+				.forEach(it -> externalSystemCache.invalidateTicket(it.getExternalSystemId(), it.getTicketId()));
+	}
+
+	@EventListener
+	public void onExternalSystemUpdate(ExternalSystemUpdatedEvent event) {
+		if (null != event.getExternalSystem()) {
+			externalSystemCache.invalidateSystem(event.getExternalSystem().getId());
+		}
+	}
+
+	@EventListener
+	public void onExternalSystemDelete(ExternalSystemDeletedEvent event) {
+		if (null != event.getExternalSystem()) {
+			externalSystemCache.invalidateSystem(event.getExternalSystem().getId());
+		}
+	}
+
+	@EventListener
+	public void onProjectExternalSystemsDelete(ProjectExternalSystemsDeletedEvent event) {
+		if (null != event.getExternalSystems()) {
+			for (ExternalSystem externalSystem : event.getExternalSystems()) {
+				externalSystemCache.invalidateSystem(externalSystem.getId());
+			}
+		}
+	}
+}
@@ -21,7 +21,7 @@
 
 package com.epam.ta.reportportal.events.handler;
 
-import com.epam.ta.reportportal.database.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.ActivityWriter;
 import com.epam.ta.reportportal.database.entity.item.Activity;
 import com.epam.ta.reportportal.database.entity.item.ActivityEventType;
 import com.epam.ta.reportportal.database.entity.item.ActivityObjectType;
@@ -43,7 +43,7 @@ import static com.epam.ta.reportportal.events.handler.EventHandlerUtil.*;
 public class ImportActivityHandler {
 
 	@Autowired
-	private ActivityRepository activityRepository;
+	private ActivityWriter activityWriter;
 
 	@EventListener
 	public void onImportStart(ImportStartedEvent event) {
@@ -54,7 +54,7 @@ public class ImportActivityHandler {
 				.addProjectRef(event.getProjectId())
 				.addHistory(Collections.singletonList(createHistoryField(NAME, EMPTY_FIELD, event.getFileName())))
 				.get();
-		activityRepository.save(activity);
+		activityWriter.write(activity);
 	}
 
 	@EventListener
@@ -66,7 +66,7 @@ public class ImportActivityHandler {
 				.addProjectRef(event.getProjectId())
 				.addHistory(Collections.singletonList(createHistoryField(NAME, EMPTY_FIELD, event.getFileName())))
 				.get();
-		activityRepository.save(activity);
+		activityWriter.write(activity);
 	}
 
 }
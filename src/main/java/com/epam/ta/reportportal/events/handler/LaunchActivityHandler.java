@@ -21,7 +21,7 @@
 
 package com.epam.ta.reportportal.events.handler;
 
-import com.epam.ta.reportportal.database.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.ActivityWriter;
 import com.epam.ta.reportportal.database.entity.Launch;
 import com.epam.ta.reportportal.database.entity.item.Activity;
 import com.epam.ta.reportportal.events.LaunchDeletedEvent;
@@ -48,11 +48,11 @@ public class LaunchActivityHandler {
 
 	private static final String DELIMITER = " #";
 
-	private final ActivityRepository activityRepository;
+	private final ActivityWriter activityWriter;
 
 	@Autowired
-	public LaunchActivityHandler(ActivityRepository activityRepository) {
-		this.activityRepository = activityRepository;
+	public LaunchActivityHandler(ActivityWriter activityWriter) {
+		this.activityWriter = activityWriter;
 	}
 
 	@EventListener
@@ -78,7 +78,7 @@ public class LaunchActivityHandler {
 					.addObjectName(name)
 					.addHistory(Collections.singletonList(createHistoryField(NAME, EMPTY_FIELD, name)))
 					.get();
-			activityRepository.save(activityLog);
+			activityWriter.write(activityLog);
 		}
 	}
 
@@ -95,7 +95,7 @@ public class LaunchActivityHandler {
 					.addObjectName(name)
 					.addHistory(Collections.singletonList(createHistoryField(NAME, name, EMPTY_FIELD)))
 					.get();
-			activityRepository.save(activity);
+			activityWriter.write(activity);
 		}
 	}
 
@@ -110,7 +110,7 @@ public class LaunchActivityHandler {
 					.addObjectName(name)
 					.addHistory(Collections.singletonList(createHistoryField(NAME, name, name)))
 					.get();
-			activityRepository.save(activityLog);
+			activityWriter.write(activityLog);
 		}
 	}
 
@@ -20,7 +20,7 @@
  */
 package com.epam.ta.reportportal.events.handler;
 
-import com.epam.ta.reportportal.database.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.ActivityWriter;
 import com.epam.ta.reportportal.database.entity.AnalyzeMode;
 import com.epam.ta.reportportal.database.entity.Project;
 import com.epam.ta.reportportal.database.entity.ProjectAnalyzerConfig;
@@ -62,11 +62,11 @@ public class ProjectActivityHandler {
 	static final String MIN_SHOULD_MATCH = "min_should_match";
 	static final String NUMBER_OF_LOG_LINES = "number_of_log_lines";
 
-	private final ActivityRepository activityRepository;
+	private final ActivityWriter activityWriter;
 
 	@Autowired
-	public ProjectActivityHandler(ActivityRepository activityRepository) {
-		this.activityRepository = activityRepository;
+	public ProjectActivityHandler(ActivityWriter activityWriter) {
+		this.activityWriter = activityWriter;
 	}
 
 	@EventListener
@@ -85,7 +85,7 @@ public class ProjectActivityHandler {
 					.addUserRef(event.getUpdatedBy())
 					.addHistory(history)
 					.get();
-			activityRepository.save(activityLog);
+			activityWriter.write(activityLog);
 		}
 	}
 
@@ -110,7 +110,7 @@ public class ProjectActivityHandler {
 					.addUserRef(event.getUpdatedBy())
 					.addHistory(history.isEmpty() ? null : history)
 					.get();
-			activityRepository.save(activityLog);
+			activityWriter.write(activityLog);
 		}
 	}
 
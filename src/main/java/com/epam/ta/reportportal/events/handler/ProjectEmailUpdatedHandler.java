@@ -20,7 +20,7 @@
  */
 package com.epam.ta.reportportal.events.handler;
 
-import com.epam.ta.reportportal.database.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.ActivityWriter;
 import com.epam.ta.reportportal.database.entity.Project;
 import com.epam.ta.reportportal.database.entity.item.Activity;
 import com.epam.ta.reportportal.events.EmailConfigUpdatedEvent;
@@ -51,11 +51,11 @@ public class ProjectEmailUpdatedHandler {
 	private static final String EMAIL_CASES = "emailCases";
 	private static final String EMAIL_FROM = "from";
 
-	private final ActivityRepository activityRepository;
+	private final ActivityWriter activityWriter;
 
 	@Autowired
-	public ProjectEmailUpdatedHandler(ActivityRepository activityRepository) {
-		this.activityRepository = activityRepository;
+	public ProjectEmailUpdatedHandler(ActivityWriter activityWriter) {
+		this.activityWriter = activityWriter;
 	}
 
 	@EventListener
@@ -73,7 +73,7 @@ public class ProjectEmailUpdatedHandler {
 					.addUserRef(event.getUpdatedBy())
 					.addHistory(history)
 					.get();
-			activityRepository.save(activityLog);
+			activityWriter.write(activityLog);
 		}
 	}
 
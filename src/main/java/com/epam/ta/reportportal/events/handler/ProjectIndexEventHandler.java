@@ -21,7 +21,7 @@
 
 package com.epam.ta.reportportal.events.handler;
 
-import com.epam.ta.reportportal.database.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.ActivityWriter;
 import com.epam.ta.reportportal.database.entity.item.Activity;
 import com.epam.ta.reportportal.database.entity.item.ActivityEventType;
 import com.epam.ta.reportportal.events.ProjectIndexEvent;
@@ -39,7 +39,7 @@ import static com.epam.ta.reportportal.database.entity.item.ActivityObjectType.P
 public class ProjectIndexEventHandler {
 
 	@Autowired
-	private ActivityRepository activityRepository;
+	private ActivityWriter activityWriter;
 
 	@EventListener
 	public void onIndexChange(ProjectIndexEvent event) {
@@ -49,6 +49,6 @@ public class ProjectIndexEventHandler {
 				.addObjectName(event.getProjectName())
 				.addUserRef(event.getUserRef())
 				.get();
-		activityRepository.save(activity);
+		activityWriter.write(activity);
 	}
 }
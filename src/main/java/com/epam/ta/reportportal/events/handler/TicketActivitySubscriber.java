@@ -20,15 +20,15 @@
  */
 package com.epam.ta.reportportal.events.handler;
 
-import com.epam.ta.reportportal.database.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.ActivityWriter;
 import com.epam.ta.reportportal.database.dao.ProjectRepository;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
 import com.epam.ta.reportportal.database.entity.Project;
 import com.epam.ta.reportportal.database.entity.item.Activity;
 import com.epam.ta.reportportal.database.entity.item.ActivityEventType;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
-import com.epam.ta.reportportal.database.entity.item.issue.TestItemIssue;
 import com.epam.ta.reportportal.database.entity.statistics.StatisticSubType;
+import com.epam.ta.reportportal.events.ItemIssueSnapshot;
 import com.epam.ta.reportportal.events.ItemIssueTypeDefined;
 import com.epam.ta.reportportal.events.TicketAttachedEvent;
 import com.epam.ta.reportportal.events.TicketPostedEvent;
@@ -50,7 +50,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import static com.epam.ta.reportportal.database.entity.item.ActivityEventType.*;
 import static com.epam.ta.reportportal.database.entity.item.ActivityObjectType.TEST_ITEM;
@@ -69,7 +68,7 @@ public class TicketActivitySubscriber {
 	public static final String COMMENT = "comment";
 	private static final String RELEVANT_ITEM = "relevantItem";
 
-	private final ActivityRepository activityRepository;
+	private final ActivityWriter activityWriter;
 
 	private final TestItemRepository testItemRepository;
 
@@ -79,9 +78,9 @@ public class TicketActivitySubscriber {
 	private ObjectMapper objectMapper;
 
 	@Autowired
-	public TicketActivitySubscriber(ActivityRepository activityRepository, TestItemRepository testItemRepository,
+	public TicketActivitySubscriber(ActivityWriter activityWriter, TestItemRepository testItemRepository,
 			ProjectRepository projectSettingsRepository) {
-		this.activityRepository = activityRepository;
+		this.activityWriter = activityWriter;
 		this.testItemRepository = testItemRepository;
 		this.projectSettingsRepository = projectSettingsRepository;
 	}
@@ -93,7 +92,7 @@ public class TicketActivitySubscriber {
 
 		String separator = ",";
 		if ((null != testItem) && (null != testItem.getIssue())) {
-			oldValue = issuesIdsToString(testItem.getIssue().getExternalSystemIssues(), separator);
+			oldValue = issuesIdsToString(ItemIssueSnapshot.of(testItem).getExternalSystemIssues(), separator);
 		}
 		String newValue;
 		if (null == oldValue) {
@@ -112,32 +111,29 @@ public class TicketActivitySubscriber {
 				.addUserRef(event.getPostedBy())
 				.addHistory(history)
 				.get();
-		activityRepository.save(activity);
+		activityWriter.write(activity);
 	}
 
 	@EventListener
 	public void onTicketAttached(TicketAttachedEvent event) {
 		List<Activity> activities = new ArrayList<>();
 		String separator = ",";
-		Iterable<TestItem> testItems = event.getBefore();
-		Map<String, Activity.FieldValues> results = StreamSupport.stream(testItems.spliterator(), false)
-				.filter(item -> null != item.getIssue())
-				.collect(Collectors.toMap(TestItem::getId,
-						item -> Activity.FieldValues.newOne()
-								.withOldValue(issuesIdsToString(item.getIssue().getExternalSystemIssues(), separator))
+		Map<String, Activity.FieldValues> results = event.getBefore()
+				.stream()
+				.filter(ItemIssueSnapshot::hasIssue)
+				.collect(Collectors.toMap(ItemIssueSnapshot::getId,
+						item -> Activity.FieldValues.newOne().withOldValue(issuesIdsToString(item.getExternalSystemIssues(), separator))
 				));
 
-		Iterable<TestItem> updated = event.getAfter();
-
-		for (TestItem testItem : updated) {
-			if (null == testItem.getIssue()) {
+		for (ItemIssueSnapshot testItem : event.getAfter()) {
+			if (!testItem.hasIssue()) {
 				continue;
 			}
 			Activity.FieldValues fieldValues = results.get(testItem.getId());
 
-			String newValue = issuesIdsToString(testItem.getIssue().getExternalSystemIssues(), separator);
+			String newValue = issuesIdsToString(testItem.getExternalSystemIssues(), separator);
 			fieldValues.withField(TICKET_ID).withNewValue(newValue);
-			ActivityEventType type = testItem.getIssue().isAutoAnalyzed() ? LINK_ISSUE_AA : LINK_ISSUE;
+			ActivityEventType type = testItem.isAutoAnalyzed() ? LINK_ISSUE_AA : LINK_ISSUE;
 
 			//no changes with tickets
 			if (Strings.isNullOrEmpty(fieldValues.getOldValue()) && newValue.isEmpty() || fieldValues.getOldValue()
@@ -159,16 +155,16 @@ public class TicketActivitySubscriber {
 			activities.add(activity);
 		}
 		processAnalyzedItems(activities, event.getRelevantItemMap());
-		activityRepository.save(activities);
+		activityWriter.write(activities);
 	}
 
 	@EventListener
 	public void onIssueTypeDefined(ItemIssueTypeDefined itemIssueTypeDefined) {
-		Map<IssueDefinition, TestItem> data = itemIssueTypeDefined.getBefore();
+		Map<IssueDefinition, ItemIssueSnapshot> data = itemIssueTypeDefined.getBefore();
 		List<Activity> activities = processTestItemIssues(itemIssueTypeDefined.getProject(), itemIssueTypeDefined.getPostedBy(), data);
 		processAnalyzedItems(activities, itemIssueTypeDefined.getRelevantItemMap());
 		if (!activities.isEmpty()) {
-			activityRepository.save(activities);
+			activityWriter.write(activities);
 		}
 	}
 
@@ -188,7 +184,7 @@ public class TicketActivitySubscriber {
 		}
 	}
 
-	private String issuesIdsToString(Set<TestItemIssue.ExternalSystemIssue> externalSystemIssues, String separator) {
+	private String issuesIdsToString(List<ItemIssueSnapshot.ExternalIssue> externalSystemIssues, String separator) {
 		if (null != externalSystemIssues && !externalSystemIssues.isEmpty()) {
 			return externalSystemIssues.stream()
 					.map(externalSystemIssue -> externalSystemIssue.getTicketId().concat(":").concat(externalSystemIssue.getUrl()))
@@ -197,19 +193,18 @@ public class TicketActivitySubscriber {
 		return "";
 	}
 
-	private List<Activity> processTestItemIssues(String projectName, String principal, Map<IssueDefinition, TestItem> data) {
+	private List<Activity> processTestItemIssues(String projectName, String principal, Map<IssueDefinition, ItemIssueSnapshot> data) {
 		String emptyString = "";
 		List<Activity> activities = new ArrayList<>();
 		final Project projectSettings = projectSettingsRepository.findOne(projectName);
-		Set<Map.Entry<IssueDefinition, TestItem>> entries = data.entrySet();
-		for (Map.Entry<IssueDefinition, TestItem> entry : entries) {
+		Set<Map.Entry<IssueDefinition, ItemIssueSnapshot>> entries = data.entrySet();
+		for (Map.Entry<IssueDefinition, ItemIssueSnapshot> entry : entries) {
 			IssueDefinition issueDefinition = entry.getKey();
-			TestItem testItem = entry.getValue();
-			TestItemIssue testItemIssue = testItem.getIssue();
-			String oldIssueDescription = testItemIssue.getIssueDescription();
-			boolean oldIgnoreAnalyzer = testItemIssue.isIgnoreAnalyzer();
+			ItemIssueSnapshot testItem = entry.getValue();
+			String oldIssueDescription = testItem.getIssueDescription();
+			boolean oldIgnoreAnalyzer = testItem.isIgnoreAnalyzer();
 			StatisticSubType statisticSubType = projectSettings.getConfiguration().getByLocator(issueDefinition.getIssue().getIssueType());
-			String oldIssueType = projectSettings.getConfiguration().getByLocator(testItemIssue.getIssueType()).getLongName();
+			String oldIssueType = projectSettings.getConfiguration().getByLocator(testItem.getIssueType()).getLongName();
 			String initialComment = issueDefinition.getIssue().getComment();
 			String comment = (null != initialComment) ? initialComment.trim() : emptyString;
 			if (null == oldIssueDescription) {
@@ -20,7 +20,7 @@
  */
 package com.epam.ta.reportportal.events.handler;
 
-import com.epam.ta.reportportal.database.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.ActivityWriter;
 import com.epam.ta.reportportal.database.entity.item.Activity;
 import com.epam.ta.reportportal.events.UserCreatedEvent;
 import com.epam.ta.reportportal.ws.converter.builders.ActivityBuilder;
@@ -40,11 +40,11 @@ import static com.epam.ta.reportportal.events.handler.EventHandlerUtil.*;
 @Component
 public class UserActivityHandler {
 
-	private final ActivityRepository activityRepository;
+	private final ActivityWriter activityWriter;
 
 	@Autowired
-	public UserActivityHandler(ActivityRepository activityRepository) {
-		this.activityRepository = activityRepository;
+	public UserActivityHandler(ActivityWriter activityWriter) {
+		this.activityWriter = activityWriter;
 	}
 
 	@EventListener
@@ -57,6 +57,6 @@ public class UserActivityHandler {
 				.addProjectRef(event.getUser().getDefaultProject().toLowerCase())
 				.addHistory(Collections.singletonList(createHistoryField(NAME, EMPTY_FIELD, event.getUser().getLogin())))
 				.get();
-		activityRepository.save(activity);
+		activityWriter.write(activity);
 	}
 }
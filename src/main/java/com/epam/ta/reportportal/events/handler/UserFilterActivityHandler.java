@@ -20,7 +20,7 @@
  */
 package com.epam.ta.reportportal.events.handler;
 
-import com.epam.ta.reportportal.database.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.ActivityWriter;
 import com.epam.ta.reportportal.database.entity.filter.UserFilter;
 import com.epam.ta.reportportal.database.entity.item.Activity;
 import com.epam.ta.reportportal.events.FilterDeletedEvent;
@@ -45,11 +45,11 @@ import static com.epam.ta.reportportal.events.handler.EventHandlerUtil.*;
 @Component
 public class UserFilterActivityHandler {
 
-	private ActivityRepository activityRepository;
+	private ActivityWriter activityWriter;
 
 	@Autowired
-	public UserFilterActivityHandler(ActivityRepository activityRepository) {
-		this.activityRepository = activityRepository;
+	public UserFilterActivityHandler(ActivityWriter activityWriter) {
+		this.activityWriter = activityWriter;
 	}
 
 	@EventListener
@@ -64,7 +64,7 @@ public class UserFilterActivityHandler {
 					.addLoggedObjectRef(filter.getId())
 					.addHistory(Collections.singletonList(createHistoryField(NAME, EMPTY_FIELD, filter.getName())))
 					.get();
-			activityRepository.save(activityLog);
+			activityWriter.write(activityLog);
 		});
 	}
 
@@ -85,7 +85,7 @@ public class UserFilterActivityHandler {
 					.addUserRef(event.getUpdatedBy())
 					.addHistory(!history.isEmpty() ? history : null)
 					.get();
-			activityRepository.save(activityLog);
+			activityWriter.write(activityLog);
 		}
 	}
 
@@ -99,6 +99,6 @@ public class UserFilterActivityHandler {
 				.addUserRef(event.getRemovedBy())
 				.addHistory(Collections.singletonList(createHistoryField(NAME, before.getName(), EMPTY_FIELD)))
 				.get();
-		activityRepository.save(activityLog);
+		activityWriter.write(activityLog);
 	}
 }
@@ -20,7 +20,7 @@
  */
 package com.epam.ta.reportportal.events.handler;
 
-import com.epam.ta.reportportal.database.dao.ActivityRepository;
+import com.epam.ta.reportportal.core.activity.ActivityWriter;
 import com.epam.ta.reportportal.database.entity.item.Activity;
 import com.epam.ta.reportportal.database.entity.widget.ContentOptions;
 import com.epam.ta.reportportal.database.entity.widget.Widget;
@@ -56,11 +56,11 @@ public class WidgetActivityEventHandler {
 	private static final String METADATA_FIELDS = "metadata_fields";
 	private static final String WIDGET_OPTIONS = "widget_options";
 
-	private ActivityRepository activityRepository;
+	private ActivityWriter activityWriter;
 
 	@Autowired
-	public WidgetActivityEventHandler(ActivityRepository activityRepository) {
-		this.activityRepository = activityRepository;
+	public WidgetActivityEventHandler(ActivityWriter activityWriter) {
+		this.activityWriter = activityWriter;
 	}
 
 	@EventListener
@@ -82,7 +82,7 @@ public class WidgetActivityEventHandler {
 						.addUserRef(event.getUpdatedBy())
 						.addHistory(history)
 						.get();
-				activityRepository.save(activityLog);
+				activityWriter.write(activityLog);
 			}
 		}
 	}
@@ -98,7 +98,7 @@ public class WidgetActivityEventHandler {
 				.addLoggedObjectRef(event.getWidgetId())
 				.addHistory(Collections.singletonList(createHistoryField(NAME, EMPTY_FIELD, widgetRQ.getName())))
 				.get();
-		activityRepository.save(activityLog);
+		activityWriter.write(activityLog);
 
 	}
 
@@ -112,7 +112,7 @@ public class WidgetActivityEventHandler {
 				.addUserRef(event.getRemovedBy())
 				.addHistory(Collections.singletonList(createHistoryField(NAME, widget.getName(), EMPTY_FIELD)))
 				.get();
-		activityRepository.save(activityLog);
+		activityWriter.write(activityLog);
 	}
 
 	private void processContentParameters(List<Activity.FieldValues> history, ContentOptions old, ContentParameters newContent) {
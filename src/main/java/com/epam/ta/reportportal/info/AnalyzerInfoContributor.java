@@ -21,15 +21,13 @@
 
 package com.epam.ta.reportportal.info;
 
+import com.epam.ta.reportportal.core.discovery.DiscoveryRegistry;
 import com.google.common.collect.ImmutableMap;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
-import java.util.stream.Collectors;
 
 /**
  * Shows list of supported analyzers
@@ -41,21 +39,16 @@ public class AnalyzerInfoContributor implements ExtensionContributor {
 
 	private static final String ANALYZER_KEY = "analyzer";
 
-	private final DiscoveryClient discoveryClient;
+	private final DiscoveryRegistry discoveryRegistry;
 
 	@Autowired
-	public AnalyzerInfoContributor(DiscoveryClient discoveryClient) {
-		this.discoveryClient = discoveryClient;
+	public AnalyzerInfoContributor(DiscoveryRegistry discoveryRegistry) {
+		this.discoveryRegistry = discoveryRegistry;
 	}
 
 	@Override
 	public Map<String, ?> contribute() {
-		Set<String> collect = discoveryClient.getServices()
-				.stream()
-				.flatMap(service -> discoveryClient.getInstances(service).stream())
-				.filter(instance -> instance.getMetadata().containsKey(ANALYZER_KEY))
-				.map(instance -> instance.getMetadata().get(ANALYZER_KEY))
-				.collect(Collectors.toCollection(TreeSet::new));
+		Set<String> collect = discoveryRegistry.getSnapshot().getMetadataValues(ANALYZER_KEY);
 		return ImmutableMap.<String, Object>builder().put(ANALYZER_KEY, collect).build();
 	}
 }
@@ -20,15 +20,13 @@
  */
 package com.epam.ta.reportportal.info;
 
+import com.epam.ta.reportportal.core.discovery.DiscoveryRegistry;
 import com.google.common.collect.ImmutableMap;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
-import java.util.stream.Collectors;
 
 /**
  * Shows list of supported extensions providers.
@@ -43,21 +41,16 @@ public class ExtensionsInfoContributor implements ExtensionContributor {
 
 	private static final String BUGTRACKING_KEY = "bugtracking";
 
-	private final DiscoveryClient discoveryClient;
+	private final DiscoveryRegistry discoveryRegistry;
 
 	@Autowired
-	public ExtensionsInfoContributor(DiscoveryClient discoveryClient) {
-		this.discoveryClient = discoveryClient;
+	public ExtensionsInfoContributor(DiscoveryRegistry discoveryRegistry) {
+		this.discoveryRegistry = discoveryRegistry;
 	}
 
 	@Override
 	public Map<String, ?> contribute() {
-		Set<String> collect = discoveryClient.getServices()
-				.stream()
-				.flatMap(service -> discoveryClient.getInstances(service).stream())
-				.filter(instance -> instance.getMetadata().containsKey(EXTENSION_KEY))
-				.map(instance -> instance.getMetadata().get(EXTENSION_KEY))
-				.collect(Collectors.toCollection(TreeSet::new));
+		Set<String> collect = discoveryRegistry.getSnapshot().getMetadataValues(EXTENSION_KEY);
 		return ImmutableMap.<String, Object>builder().put(BUGTRACKING_KEY, collect).build();
 	}
 }
@@ -21,8 +21,11 @@
 
 package com.epam.ta.reportportal.job;
 
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.core.log.LogMessages;
+import com.epam.ta.reportportal.core.log.LogReferences;
 import com.epam.ta.reportportal.database.dao.*;
-import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.database.entity.Log;
 import com.epam.ta.reportportal.database.entity.project.KeepLogsDelay;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.quartz.Job;
@@ -31,6 +34,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -41,12 +46,13 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static com.epam.ta.reportportal.database.entity.project.KeepLogsDelay.findByName;
 import static com.epam.ta.reportportal.job.PageUtil.iterateOverPages;
 import static java.time.Duration.ofDays;
+import static java.util.Collections.singletonList;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 /**
  * Clean logs job in accordance with project settings
@@ -61,21 +67,28 @@ public class CleanLogsJob implements Job {
 	public static final long JOB_EXECUTION_TIMEOUT = 1L;
 	private static final Duration MIN_DELAY = Duration.ofDays(KeepLogsDelay.TWO_WEEKS.getDays() - 1);
 	private static final Logger LOGGER = LoggerFactory.getLogger(CleanLogsJob.class);
+	private static final String LAST_MODIFIED = "lastModified";
 
 	@Autowired
-	private LogRepository logRepo;
+	private LaunchRepository launchRepo;
 
 	@Autowired
-	private LaunchRepository launchRepo;
+	private ProjectRepository projectRepository;
 
 	@Autowired
-	private TestItemRepository testItemRepo;
+	private ActivityRepository activityRepository;
 
 	@Autowired
-	private ProjectRepository projectRepository;
+	private MongoOperations mongoOperations;
 
 	@Autowired
-	private ActivityRepository activityRepository;
+	private AttachmentStorage attachmentStorage;
+
+	@Autowired
+	private LogMessages logMessages;
+
+	@Autowired
+	private LogReferences logReferences;
 
 	@Autowired
 	@Value("${com.ta.reportportal.job.clean.logs.threads:5}")
@@ -118,13 +131,18 @@ public class CleanLogsJob implements Job {
 	private void removeOutdatedLogs(String projectId, Duration period) {
 		Date endDate = Date.from(Instant.now().minusSeconds(MIN_DELAY.getSeconds()));
 		AtomicLong countPerProject = new AtomicLong(0);
+		Date modifiedBefore = Date.from(Instant.now().minusSeconds(period.getSeconds()));
 		iterateOverPages(pageable -> launchRepo.findModifiedBefore(projectId, endDate, pageable), launches -> {
 			launches.forEach(launch -> {
-				try (Stream<TestItem> testItemStream = testItemRepo.streamIdsByLaunch(launch.getId())) {
-					long count = logRepo.deleteByPeriodAndItemsRef(period,
-							testItemStream.map(TestItem::getId).collect(Collectors.toList())
+				try {
+					/* logs carry launch reference, so ids of launch items are collected only for logs without it */
+					Criteria logs = new Criteria().andOperator(logReferences.ofLaunches(singletonList(launch.getId())),
+							where(LAST_MODIFIED).lte(modifiedBefore)
 					);
-					countPerProject.addAndGet(count);
+					/* shared attachments are deleted only when the last log referring them is removed */
+					attachmentStorage.detach(logs);
+					logMessages.remove(logs);
+					countPerProject.addAndGet(mongoOperations.remove(query(logs), Log.class).getN());
 				} catch (Exception e) {
 					//do nothing
 				}
@@ -21,6 +21,7 @@
 
 package com.epam.ta.reportportal.job;
 
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
 import com.epam.ta.reportportal.database.DataStorage;
 import com.epam.ta.reportportal.database.dao.LogRepository;
 import com.epam.ta.reportportal.database.dao.ProjectRepository;
@@ -56,6 +57,9 @@ public class CleanScreenshotsJob implements Job {
 	@Autowired
 	private LogRepository logRepository;
 
+	@Autowired
+	private AttachmentStorage attachmentStorage;
+
 	@Override
 	//	@Scheduled(cron = "${com.ta.reportportal.job.clean.screenshots.cron}")
 	public void execute(JobExecutionContext context) {
@@ -70,10 +74,14 @@ public class CleanScreenshotsJob implements Job {
 				Duration period = ofDays(KeepScreenshotsDelay.findByName(project.getConfiguration().getKeepScreenshots()).getDays());
 				if (!period.isZero()) {
 					gridFS.findModifiedLaterAgo(period, project.getId()).forEach(file -> {
-						count.incrementAndGet();
-						gridFS.deleteData(file.getId().toString());
-						/* Clear binary_content fields from log repository */
-						logRepository.removeBinaryContent(file.getId().toString());
+						String fileId = file.getId().toString();
+						/* shared files attached again during the period are kept */
+						if (attachmentStorage.expire(fileId, period)) {
+							count.incrementAndGet();
+							gridFS.deleteData(fileId);
+							/* Clear binary_content fields from log repository */
+							logRepository.removeBinaryContent(fileId);
+						}
 					});
 				}
 			} catch (Exception e) {
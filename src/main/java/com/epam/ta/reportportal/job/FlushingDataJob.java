@@ -22,6 +22,9 @@ package com.epam.ta.reportportal.job;
 
 import com.epam.ta.reportportal.commons.Constants;
 import com.epam.ta.reportportal.core.analyzer.ILogIndexer;
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.core.log.LogMessages;
+import com.epam.ta.reportportal.core.log.LogReferences;
 import com.epam.ta.reportportal.database.BinaryData;
 import com.epam.ta.reportportal.database.DataStorage;
 import com.epam.ta.reportportal.database.dao.*;
@@ -80,6 +83,12 @@ public class FlushingDataJob implements Job {
 	@Autowired
 	private MongoOperations mongoOperations;
 
+	@Autowired
+	private AttachmentStorage attachmentStorage;
+
+	@Autowired
+	private LogMessages logMessages;
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(FlushingDataJob.class);
 
 	@Override
@@ -95,6 +104,7 @@ public class FlushingDataJob implements Job {
 				.stream()
 				.filter(it -> !it.startsWith(Constants.DEFAULT_ADMIN.toString() + "_personal"))
 				.collect(Collectors.toList());
+		projectNames.forEach(name -> logMessages.remove(LogReferences.ofProject(name)));
 		projectRepository.delete(projectNames);
 		projectNames.forEach(name -> logIndexer.deleteIndex(name));
 		List<String> users = userRepository.findAll()
@@ -105,6 +115,7 @@ public class FlushingDataJob implements Job {
 		userRepository.delete(users);
 		preferenceRepository.deleteAll();
 		dataStorage.deleteAll();
+		attachmentStorage.removeAll();
 
 		User superadmin = userRepository.findOne(Constants.DEFAULT_ADMIN.toString());
 		String photoId = userRepository.uploadUserPhoto(superadmin.getLogin(),
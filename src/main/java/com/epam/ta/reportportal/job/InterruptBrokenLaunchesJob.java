@@ -22,6 +22,9 @@
 package com.epam.ta.reportportal.job;
 
 import com.epam.ta.reportportal.core.launch.IRetriesLaunchHandler;
+import com.epam.ta.reportportal.core.launch.impl.LatestLaunches;
+import com.epam.ta.reportportal.core.progress.ProgressBroadcaster;
+import com.epam.ta.reportportal.core.statistics.StatisticsBuffer;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacadeFactory;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
 import com.epam.ta.reportportal.database.dao.LogRepository;
@@ -73,6 +76,15 @@ public class InterruptBrokenLaunchesJob implements Job {
 	@Autowired
 	private IRetriesLaunchHandler retriesLaunchHandler;
 
+	@Autowired
+	private StatisticsBuffer statisticsBuffer;
+
+	@Autowired
+	private LatestLaunches latestLaunches;
+
+	@Autowired
+	private ProgressBroadcaster progressBroadcaster;
+
 	@Override
 	//	@Scheduled(cron = "${com.ta.reportportal.job.interrupt.broken.launches.cron}")
 	public void execute(JobExecutionContext context) {
@@ -133,6 +145,8 @@ public class InterruptBrokenLaunchesJob implements Job {
 		launch.setStatus(Status.INTERRUPTED);
 		launch.setEndTime(Calendar.getInstance().getTime());
 		launchRepository.save(launch);
+		latestLaunches.launchFinished(launch);
+		progressBroadcaster.complete(launch.getId());
 	}
 
 	private void interruptItems(List<TestItem> testItems, Launch launch) {
@@ -140,11 +154,14 @@ public class InterruptBrokenLaunchesJob implements Job {
 			return;
 		}
 		testItems.forEach(item -> interruptItem(item, launch));
+		statisticsBuffer.flush();
 		Launch launchReloaded = launchRepository.findOne(launch.getId());
 		launchReloaded.setStatus(Status.INTERRUPTED);
 		launchReloaded.setEndTime(Calendar.getInstance().getTime());
 		retriesLaunchHandler.handleRetries(launchReloaded);
 		launchRepository.save(launchReloaded);
+		latestLaunches.launchFinished(launchReloaded);
+		progressBroadcaster.complete(launchReloaded.getId());
 	}
 
 	private void interruptItem(TestItem item, Launch launch) {
@@ -23,6 +23,7 @@ package com.epam.ta.reportportal.job;
 
 import com.epam.reportportal.commons.ContentTypeResolver;
 import com.epam.reportportal.commons.Thumbnailator;
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
 import com.epam.ta.reportportal.database.BinaryData;
 import com.epam.ta.reportportal.database.DataStorage;
 import com.epam.ta.reportportal.database.dao.LogRepository;
@@ -41,11 +42,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Save binary data job. Expected to be executed asynchronously. Statefull, so
- * cannot be a singleton bean. Saves binary data, then updates related log entry
- * with saved data id
+ * cannot be a singleton bean. Saves binary data unless the same content is already
+ * stored in the project, then updates related log entry with data id
  *
  * @author Andrei Varabyeu
  */
@@ -59,6 +61,9 @@ public class SaveBinaryDataJob implements Runnable {
 	@Autowired
 	private DataStorage dataStorageService;
 
+	@Autowired
+	private AttachmentStorage attachmentStorage;
+
 	@Autowired
 	private Thumbnailator thumbnailator;
 
@@ -80,65 +85,78 @@ public class SaveBinaryDataJob implements Runnable {
 	@Override
 	public void run() {
 		try {
-			BinaryData binaryData;
-			if (!Strings.isNullOrEmpty(file.getContentType()) && !MediaType.APPLICATION_OCTET_STREAM_VALUE.equals(file.getContentType())) {
-				binaryData = new BinaryData(file.getContentType(), file.getSize(), file.getInputStream());
-			} else {
-				binaryData = new BinaryData(contentTypeResolver.detectContentType(file.getInputStream()), file.getSize(),
-						file.getInputStream()
-				);
-			}
+			/*
+			 * Refers already stored file with the same content if there is one,
+			 * otherwise stores binary data and starts tracking it
+			 */
+			String hash = AttachmentStorage.hash(file);
+			Optional<BinaryContent> existing = attachmentStorage.acquire(project, hash);
+			BinaryContent content = existing.isPresent() ? existing.get() : attachmentStorage.register(project, hash, store());
+
+			/*
+			 * Then updates log with binary data id
+			 */
+			log.setBinaryContent(content);
+			logRepository.save(log);
 
-			String thumbnailId = null;
-			Map<String, String> metadata = Collections.singletonMap("project", project);
-
-			if (isImage(binaryData.getContentType())) {
-				try {
-					InputStream thumbnailStream = thumbnailator.createThumbnail(file.getInputStream());
-					thumbnailId = dataStorageService.saveData(
-							new BinaryData(binaryData.getContentType(), -1L, thumbnailStream), "thumbnail-".concat(file.getName()),
-							metadata
-					);
-					binaryData = new BinaryData(binaryData.getContentType(), binaryData.getLength(), file.getInputStream());
-				} catch (IOException e) {
-					// do not propogate. Thumbnail is not so critical
-					LOGGER.error("Thumbnail is not created for log [{}]. Error:\n{}", log.getId(), e);
-				}
+		} catch (IOException e) {
+			LOGGER.error("Unable to save binary data", e);
+		} finally {
+			if (file instanceof AttachmentStorage.HashedFile) {
+				((AttachmentStorage.HashedFile) file).release();
+			} else if (file instanceof CommonsMultipartFile) {
+				((CommonsMultipartFile) file).getFileItem().delete();
 			}
+		}
+	}
 
-		/*
-		 * Saves binary data into storage
-		 */
-			//String dataId = dataStorageService.saveData(binaryData, filename);
-			String dataId = dataStorageService.saveData(binaryData, file.getName(), metadata);
+	private BinaryContent store() throws IOException {
+		BinaryData binaryData;
+		if (!Strings.isNullOrEmpty(file.getContentType()) && !MediaType.APPLICATION_OCTET_STREAM_VALUE.equals(file.getContentType())) {
+			binaryData = new BinaryData(file.getContentType(), file.getSize(), file.getInputStream());
+		} else {
+			binaryData = new BinaryData(contentTypeResolver.detectContentType(file.getInputStream()), file.getSize(),
+					file.getInputStream()
+			);
+		}
 
-		/*
-         * Then updates log with just created binary data id
-		 */
-			BinaryContent content = new BinaryContent();
-			content.setBinaryDataId(dataId);
-			content.setContentType(binaryData.getContentType());
-			if (null != thumbnailId) {
-				content.setThumbnailId(thumbnailId);
+		String thumbnailId = null;
+		Map<String, String> metadata = Collections.singletonMap("project", project);
+
+		if (isImage(binaryData.getContentType())) {
+			try {
+				InputStream thumbnailStream = thumbnailator.createThumbnail(file.getInputStream());
+				thumbnailId = dataStorageService.saveData(
+						new BinaryData(binaryData.getContentType(), -1L, thumbnailStream), "thumbnail-".concat(file.getName()),
+						metadata
+				);
+				binaryData = new BinaryData(binaryData.getContentType(), binaryData.getLength(), file.getInputStream());
+			} catch (IOException e) {
+				// do not propogate. Thumbnail is not so critical
+				LOGGER.error("Thumbnail is not created for log [{}]. Error:\n{}", log.getId(), e);
 			}
+		}
 
 		/*
-         * Adds thumbnail if created
+		 * Saves binary data into storage
 		 */
-			log.setBinaryContent(content);
-			logRepository.save(log);
+		String dataId = dataStorageService.saveData(binaryData, file.getName(), metadata);
 
-		} catch (IOException e) {
-			LOGGER.error("Unable to save binary data", e);
-		} finally {
-			if (file instanceof CommonsMultipartFile) {
-				((CommonsMultipartFile) file).getFileItem().delete();
-			}
+		BinaryContent content = new BinaryContent();
+		content.setBinaryDataId(dataId);
+		content.setContentType(binaryData.getContentType());
+		if (null != thumbnailId) {
+			content.setThumbnailId(thumbnailId);
 		}
+		return content;
 	}
 
 	public SaveBinaryDataJob withFile(MultipartFile file) {
 		Preconditions.checkNotNull(file, "Binary data shouldn't be null");
+		if (file instanceof AttachmentStorage.HashedFile) {
+			/* upload is read after request is processed */
+			((AttachmentStorage.HashedFile) file).retain();
+		}
 		this.file = file;
 		return this;
 	}
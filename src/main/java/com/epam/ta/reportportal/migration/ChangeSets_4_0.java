@@ -29,11 +29,15 @@ import com.google.common.collect.Lists;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -176,4 +180,39 @@ public class ChangeSets_4_0 {
 			mongoTemplate.updateFirst(query(where("_id").is(p.get("_id"))), update, collection);
 		});
 	}
+
+	@ChangeSet(order = "4.2-3", id = "v4.2-Add project and launch references to logs", author = "reportportal")
+	public void addLogReferences(MongoTemplate mongoTemplate) {
+		final int batchSize = 1000;
+		Query launches = new Query();
+		launches.fields().include("_id");
+		launches.fields().include("projectRef");
+		try (CloseableIterator<DBObject> launchIterator = mongoTemplate.stream(launches, DBObject.class, "launch")) {
+			launchIterator.forEachRemaining(launch -> {
+				String launchId = launch.get("_id").toString();
+				Update update = new Update().set("launchRef", launchId).set("projectRef", launch.get("projectRef"));
+
+				Query items = query(where("launchRef").is(launchId));
+				items.fields().include("_id");
+				List<String> batch = new ArrayList<>(batchSize);
+				try (CloseableIterator<DBObject> iterator = mongoTemplate.stream(items, DBObject.class, "testItem")) {
+					while (iterator.hasNext()) {
+						batch.add(iterator.next().get("_id").toString());
+						if (batch.size() == batchSize || !iterator.hasNext()) {
+							mongoTemplate.updateMulti(query(where("testItemRef").in(batch)), update, "log");
+							batch = new ArrayList<>(batchSize);
+						}
+					}
+				}
+			});
+		}
+		mongoTemplate.indexOps("log").ensureIndex(new Index().on("projectRef", Sort.Direction.ASC).on("_id", Sort.Direction.ASC));
+		mongoTemplate.indexOps("log").ensureIndex(new Index().on("launchRef", Sort.Direction.ASC));
+	}
+
+	@ChangeSet(order = "4.2-4", id = "v4.2-Add content-addressed attachments", author = "reportportal")
+	public void addAttachments(MongoTemplate mongoTemplate) {
+		mongoTemplate.indexOps("attachments").ensureIndex(new Index().on("hash", Sort.Direction.ASC).unique());
+		mongoTemplate.indexOps("attachments").ensureIndex(new Index().on("thumbnailId", Sort.Direction.ASC));
+	}
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.util;
+
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Opaque position in a list ordered by {@code (time, _id)}. Points either
+ * after or before some entry, so the list can be navigated in both directions
+ * without counting preceding entries. Cursor keeps the sort property and order
+ * it was created for and can't be applied to a list sorted another way
+ */
+public final class KeysetCursor {
+
+	private static final String AFTER = "a";
+	private static final String BEFORE = "b";
+	private static final String SEPARATOR = ":";
+
+	private final boolean backward;
+	private final String property;
+	private final Sort.Direction direction;
+	private final long time;
+	private final String id;
+
+	private KeysetCursor(boolean backward, String property, Sort.Direction direction, long time, String id) {
+		this.backward = backward;
+		this.property = property;
+		this.direction = direction;
+		this.time = time;
+		this.id = id;
+	}
+
+	/**
+	 * @param property  Name of time property the list is sorted by
+	 * @param direction Order of the list
+	 * @param time      Time of the entry
+	 * @param id        ID of the entry
+	 * @return Cursor pointing to entries following the specified one
+	 */
+	public static KeysetCursor after(String property, Sort.Direction direction, Date time, String id) {
+		return new KeysetCursor(false, property, direction, time.getTime(), id);
+	}
+
+	/**
+	 * @param property  Name of time property the list is sorted by
+	 * @param direction Order of the list
+	 * @param time      Time of the entry
+	 * @param id        ID of the entry
+	 * @return Cursor pointing to entries preceding the specified one
+	 */
+	public static KeysetCursor before(String property, Sort.Direction direction, Date time, String id) {
+		return new KeysetCursor(true, property, direction, time.getTime(), id);
+	}
+
+	/**
+	 * Parses cursor token created by {@link #encode()}
+	 *
+	 * @param token Cursor token
+	 * @return Parsed cursor
+	 */
+	public static KeysetCursor decode(String token) {
+		try {
+			String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR);
+			if (5 == parts.length && (AFTER.equals(parts[0]) || BEFORE.equals(parts[0])) && !parts[1].isEmpty() && ObjectId.isValid(
+					parts[4])) {
+				return new KeysetCursor(BEFORE.equals(parts[0]), parts[1], Sort.Direction.fromString(parts[2]), Long.parseLong(parts[3]),
+						parts[4]
+				);
+			}
+		} catch (IllegalArgumentException e) {
+			//fall through to error below
+		}
+		throw new ReportPortalException(ErrorType.INCORRECT_REQUEST, "Incorrect cursor '" + token + "'");
+	}
+
+	public String encode() {
+		String value = (backward ? BEFORE : AFTER) + SEPARATOR + property + SEPARATOR + direction + SEPARATOR + time + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public boolean isBackward() {
+		return backward;
+	}
+
+	/**
+	 * Creates criteria selecting entries on the cursor side
+	 *
+	 * @param timeField Name of time field
+	 * @param direction Order of the list
+	 * @return Criteria
+	 */
+	public Criteria toCriteria(String timeField, Sort.Direction direction) {
+		if (!property.equals(timeField) || this.direction != direction) {
+			throw new ReportPortalException(ErrorType.INCORRECT_REQUEST,
+					"Cursor is created for list sorted by '" + property + "' in " + this.direction + " order"
+			);
+		}
+		Date date = new Date(time);
+		ObjectId objectId = new ObjectId(id);
+		return direction.isAscending() != backward ?
+				new Criteria().orOperator(where(timeField).gt(date), where(timeField).is(date).and("_id").gt(objectId)) :
+				new Criteria().orOperator(where(timeField).lt(date), where(timeField).is(date).and("_id").lt(objectId));
+	}
+
+	@Override
+	public String toString() {
+		return encode();
+	}
+}
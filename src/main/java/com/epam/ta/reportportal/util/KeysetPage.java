@@ -0,0 +1,171 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.util;
+
+import com.epam.ta.reportportal.database.search.Queryable;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.google.common.collect.Lists;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Window of a list ordered by {@code (time, _id)} with cursors
+ * to the neighbour windows. Cost of fetching a window does not depend
+ * on its position in the list
+ *
+ * @param <T> Type of content
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KeysetPage<T> {
+
+	private final List<T> content;
+	private final String next;
+	private final String previous;
+	private final Long total;
+
+	public KeysetPage(List<T> content, String next, String previous, Long total) {
+		this.content = content;
+		this.next = next;
+		this.previous = previous;
+		this.total = total;
+	}
+
+	/**
+	 * Fetches window of entries on the cursor side
+	 *
+	 * @param mongoOperations Mongo operations
+	 * @param type            Entity type
+	 * @param filter          Filter of the list
+	 * @param cursor          Cursor or <code>null</code> for the first window
+	 * @param timeField       Name of time property
+	 * @param timeOf          Time of an entry
+	 * @param idOf            ID of an entry
+	 * @param direction       Order of the list
+	 * @param size            Max size of the window
+	 * @param <T>             Entity type
+	 * @return Window of entries in list order
+	 */
+	public static <T> KeysetPage<T> find(MongoOperations mongoOperations, Class<T> type, Queryable filter, KeysetCursor cursor,
+			String timeField, Function<T, Date> timeOf, Function<T, String> idOf, Sort.Direction direction, int size) {
+		boolean backward = null != cursor && cursor.isBackward();
+		Sort.Direction order = backward ? reverse(direction) : direction;
+
+		List<Criteria> criteria = new ArrayList<>(filter.toCriteria());
+		if (null != cursor) {
+			criteria.add(cursor.toCriteria(timeField, direction));
+		}
+		Query query = toQuery(criteria).with(new Sort(order, timeField, "_id")).limit(size + 1);
+
+		List<T> fetched = mongoOperations.find(query, type);
+		boolean hasMore = fetched.size() > size;
+		List<T> content = hasMore ? new ArrayList<>(fetched.subList(0, size)) : fetched;
+		if (backward) {
+			content = Lists.reverse(content);
+		}
+
+		String next;
+		String previous;
+		if (backward) {
+			previous = hasMore ? (content.isEmpty() ? cursor : before(content.get(0), timeField, direction, timeOf, idOf)).encode() : null;
+			next = content.isEmpty() ? null : after(content.get(content.size() - 1), timeField, direction, timeOf, idOf).encode();
+		} else {
+			next = hasMore ?
+					(content.isEmpty() ? cursor : after(content.get(content.size() - 1), timeField, direction, timeOf, idOf)).encode() :
+					null;
+			previous = null == cursor || content.isEmpty() ? null : before(content.get(0), timeField, direction, timeOf, idOf).encode();
+		}
+		return new KeysetPage<>(content, next, previous, null);
+	}
+
+	/**
+	 * Counts all entries of the list
+	 *
+	 * @param mongoOperations Mongo operations
+	 * @param type            Entity type
+	 * @param filter          Filter of the list
+	 * @return Count of entries
+	 */
+	public static long count(MongoOperations mongoOperations, Class<?> type, Queryable filter) {
+		return mongoOperations.count(toQuery(filter.toCriteria()), type);
+	}
+
+	/**
+	 * @param pageable Paging details
+	 * @return Order of the list defined by the first sort order
+	 */
+	public static Sort.Direction directionOf(Pageable pageable) {
+		Sort sort = pageable.getSort();
+		return null != sort && sort.iterator().hasNext() ? sort.iterator().next().getDirection() : Sort.Direction.ASC;
+	}
+
+	public <R> KeysetPage<R> map(Function<T, R> converter) {
+		return new KeysetPage<>(content.stream().map(converter).collect(toList()), next, previous, total);
+	}
+
+	public KeysetPage<T> withTotal(Long total) {
+		return new KeysetPage<>(content, next, previous, total);
+	}
+
+	public List<T> getContent() {
+		return content;
+	}
+
+	public String getNext() {
+		return next;
+	}
+
+	public String getPrevious() {
+		return previous;
+	}
+
+	public Long getTotal() {
+		return total;
+	}
+
+	private static <T> KeysetCursor after(T entry, String timeField, Sort.Direction direction, Function<T, Date> timeOf,
+			Function<T, String> idOf) {
+		return KeysetCursor.after(timeField, direction, timeOf.apply(entry), idOf.apply(entry));
+	}
+
+	private static <T> KeysetCursor before(T entry, String timeField, Sort.Direction direction, Function<T, Date> timeOf,
+			Function<T, String> idOf) {
+		return KeysetCursor.before(timeField, direction, timeOf.apply(entry), idOf.apply(entry));
+	}
+
+	static Query toQuery(List<Criteria> criteria) {
+		return criteria.isEmpty() ? new Query() : new Query(new Criteria().andOperator(criteria.toArray(new Criteria[0])));
+	}
+
+	private static Sort.Direction reverse(Sort.Direction direction) {
+		return direction.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.util;
+
+import com.epam.ta.reportportal.database.search.Queryable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+/**
+ * Queries loading only specified fields of documents
+ */
+public final class Projections {
+
+	private Projections() {
+		//static only
+	}
+
+	/**
+	 * Finds page of entities loading only specified fields of them
+	 *
+	 * @param mongoOperations Mongo operations
+	 * @param type            Entity type
+	 * @param filter          Filter of the list
+	 * @param pageable        Paging details
+	 * @param fields          Fields to be loaded
+	 * @param <T>             Entity type
+	 * @return Entities of the page
+	 */
+	public static <T> List<T> find(MongoOperations mongoOperations, Class<T> type, Queryable filter, Pageable pageable,
+			List<String> fields) {
+		return mongoOperations.find(query(filter, pageable, fields), type);
+	}
+
+	/**
+	 * @param filter   Filter of the list
+	 * @param pageable Paging details
+	 * @param fields   Fields to be loaded or empty list for complete documents
+	 * @return Query of the page
+	 */
+	static Query query(Queryable filter, Pageable pageable, List<String> fields) {
+		Query query = KeysetPage.toQuery(filter.toCriteria()).with(pageable);
+		fields.forEach(field -> query.fields().include(field));
+		return query;
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.util;
+
+import com.epam.ta.reportportal.database.search.Queryable;
+import com.epam.ta.reportportal.ws.model.Page;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.google.common.base.Preconditions;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.util.CloseableIterator;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page of resources which is read from Mongo cursor while it's serialized.<br>
+ * Serialized the same way as {@link Page}, but each entity is converted to resource
+ * right before it's written and page metadata is written after the content, so memory
+ * consumed by the response doesn't depend on size of the page. Total count is
+ * calculated with separate query only if it can't be derived from the content.
+ *
+ * @param <T> Type of entities
+ * @param <R> Type of resources
+ */
+@JsonSerialize(using = StreamingPage.Serializer.class)
+public class StreamingPage<T, R> implements Iterable<R>, AutoCloseable {
+
+	private static final String CONTENT = "content";
+
+	private static final String PAGE = "page";
+
+	private final MongoOperations mongoOperations;
+
+	private final Class<T> type;
+
+	private final Queryable filter;
+
+	private final Pageable pageable;
+
+	private final List<String> fields;
+
+	private final Function<T, R> converter;
+
+	private CloseableIterator<T> cursor;
+
+	/**
+	 * @param mongoOperations Mongo operations
+	 * @param type            Entity type
+	 * @param filter          Filter of the list
+	 * @param pageable        Paging details
+	 * @param fields          Fields to be loaded or empty list for complete documents
+	 * @param converter       Converter of entities to resources
+	 */
+	public StreamingPage(MongoOperations mongoOperations, Class<T> type, Queryable filter, Pageable pageable, List<String> fields,
+			Function<T, R> converter) {
+		this.mongoOperations = mongoOperations;
+		this.type = type;
+		this.filter = filter;
+		this.pageable = pageable;
+		this.fields = fields;
+		this.converter = converter;
+	}
+
+	/**
+	 * Opens cursor, so page can be iterated only once. Cursor is closed once
+	 * all resources are iterated, iteration fails or page is closed
+	 */
+	@Override
+	public Iterator<R> iterator() {
+		Preconditions.checkState(null == cursor, "Streaming page can be iterated only once");
+		cursor = open();
+		return new Iterator<R>() {
+			@Override
+			public boolean hasNext() {
+				boolean hasNext = false;
+				try {
+					hasNext = cursor.hasNext();
+					return hasNext;
+				} finally {
+					if (!hasNext) {
+						close();
+					}
+				}
+			}
+
+			@Override
+			public R next() {
+				boolean converted = false;
+				try {
+					R next = converter.apply(cursor.next());
+					converted = true;
+					return next;
+				} finally {
+					if (!converted) {
+						close();
+					}
+				}
+			}
+		};
+	}
+
+	/**
+	 * Closes cursor if iteration is abandoned
+	 */
+	@Override
+	public void close() {
+		if (null != cursor) {
+			cursor.close();
+		}
+	}
+
+	/**
+	 * Writes page converting entities as they are read from cursor. First entity
+	 * is read before anything is written, so errors of the query are reported
+	 * with error status. Output of later failure is left incomplete instead of
+	 * being closed as valid JSON, since the response can be already committed
+	 *
+	 * @param generator JSON generator
+	 * @param provider  Serializers provider
+	 * @throws IOException in case of output errors
+	 */
+	void writeTo(JsonGenerator generator, SerializerProvider provider) throws IOException {
+		Iterator<R> resources = iterator();
+		try {
+			boolean hasNext = resources.hasNext();
+			generator.writeStartObject();
+			generator.writeArrayFieldStart(CONTENT);
+			int count = 0;
+			while (hasNext) {
+				provider.defaultSerializeValue(resources.next(), generator);
+				count++;
+				hasNext = resources.hasNext();
+			}
+			generator.writeEndArray();
+			generator.writeFieldName(PAGE);
+			provider.defaultSerializeValue(metadata(count), generator);
+			generator.writeEndObject();
+		} catch (IOException | RuntimeException e) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+			throw e;
+		} finally {
+			close();
+		}
+	}
+
+	private CloseableIterator<T> open() {
+		return mongoOperations.stream(Projections.query(filter, pageable, fields), type);
+	}
+
+	private Page.PageMetadata metadata(int count) {
+		long offset = pageable.getOffset();
+		int size = pageable.getPageSize();
+		/* incomplete page is the last one, so total count is known */
+		long total = count < size && (count > 0 || 0 == offset) ? offset + count : KeysetPage.count(mongoOperations, type, filter);
+		int totalPages = 0 == size ? 1 : (int) Math.ceil((double) total / size);
+		return new Page.PageMetadata(size, pageable.getPageNumber() + 1, total, totalPages);
+	}
+
+	public static class Serializer extends StdSerializer<StreamingPage<?, ?>> {
+
+		public Serializer() {
+			super(StreamingPage.class, false);
+		}
+
+		@Override
+		public void serialize(StreamingPage<?, ?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+			value.writeTo(gen, provider);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.ws.controller;
+
+import com.epam.ta.reportportal.ws.model.EntryCreatedRS;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+
+import java.security.Principal;
+
+/**
+ * Asynchronous reporting controller. Requests are acknowledged
+ * before they are applied
+ */
+public interface IAsyncReportingController {
+
+	/**
+	 * Starts root test item with ID generated by client
+	 *
+	 * @param projectName
+	 * @param itemId
+	 * @param startTestItemRQ
+	 * @param principal
+	 * @return EntryCreatedRS
+	 */
+	EntryCreatedRS startRootItem(String projectName, String itemId, StartTestItemRQ startTestItemRQ, Principal principal);
+
+	/**
+	 * Starts child test item with ID generated by client
+	 *
+	 * @param projectName
+	 * @param parentItem
+	 * @param itemId
+	 * @param startTestItemRQ
+	 * @param principal
+	 * @return EntryCreatedRS
+	 */
+	EntryCreatedRS startChildItem(String projectName, String parentItem, String itemId, StartTestItemRQ startTestItemRQ,
+			Principal principal);
+
+	/**
+	 * Finishes test item
+	 *
+	 * @param projectName
+	 * @param testItemId
+	 * @param finishExecutionRQ
+	 * @param principal
+	 * @return OperationCompletionRS
+	 */
+	OperationCompletionRS finishTestItem(String projectName, String testItemId, FinishTestItemRQ finishExecutionRQ, Principal principal);
+
+	/**
+	 * Creates log without attachment
+	 *
+	 * @param projectName
+	 * @param createLogRQ
+	 * @param principal
+	 * @return OperationCompletionRS
+	 */
+	OperationCompletionRS createLog(String projectName, SaveLogRQ createLogRQ, Principal principal);
+}
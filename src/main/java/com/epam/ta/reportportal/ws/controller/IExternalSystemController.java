@@ -27,6 +27,7 @@ import com.epam.ta.reportportal.ws.model.externalsystem.*;
 
 import java.security.Principal;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Report Portal WS Interface. Bug tracking controller
@@ -138,4 +139,15 @@ public interface IExternalSystemController {
 	 */
 	Ticket getTicket(String ticketId, String projectName, String systemId, Principal principal);
 
+	/**
+	 * Get tickets from external system by batch
+	 *
+	 * @param ids         Ticket IDs
+	 * @param projectName Project Name
+	 * @param systemId    System ID
+	 * @param principal   Login
+	 * @return Map of found tickets where key is a ticket ID
+	 */
+	Map<String, Ticket> getTickets(String[] ids, String projectName, String systemId, Principal principal);
+
 }
\ No newline at end of file
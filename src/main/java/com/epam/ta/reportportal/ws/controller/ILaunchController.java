@@ -41,8 +41,10 @@ import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.*;
 import com.epam.ta.reportportal.ws.model.launch.*;
 import com.epam.ta.reportportal.ws.model.widget.ChartObject;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -122,10 +124,12 @@ public interface ILaunchController {
 	 * @param projectName
 	 * @param filter
 	 * @param pageble
+	 * @param fieldset
 	 * @param principal
 	 * @return
 	 */
-	Iterable<LaunchResource> getProjectLaunches(String projectName, Filter filter, Pageable pageble, Principal principal);
+	Iterable<LaunchResource> getProjectLaunches(String projectName, Filter filter, Pageable pageble, Fieldset fieldset,
+			Principal principal);
 
 	/**
 	 * Get launches in specified mode for specified user or for all users
@@ -227,6 +231,17 @@ public interface ILaunchController {
 	 */
 	Map<String, String> getStatuses(String projectName, String[] ids, Principal principal);
 
+	/**
+	 * Streams progress of specified launch
+	 *
+	 * @param projectName
+	 * @param launchId
+	 * @param logs
+	 * @param principal
+	 * @return
+	 */
+	SseEmitter getLaunchProgress(String projectName, String launchId, boolean logs, Principal principal);
+
 	/**
 	 * Imports test results of zip archive with xml reports inside
 	 *
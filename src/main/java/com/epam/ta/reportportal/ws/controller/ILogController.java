@@ -24,16 +24,17 @@ package com.epam.ta.reportportal.ws.controller;
 import com.epam.ta.reportportal.database.entity.Log;
 import com.epam.ta.reportportal.database.search.Filter;
 import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.util.KeysetPage;
 import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
 import com.epam.ta.reportportal.ws.model.EntryCreatedRS;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import com.epam.ta.reportportal.ws.model.log.LogResource;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 
 import javax.servlet.http.HttpServletRequest;
-import javax.validation.Valid;
 import java.io.Serializable;
 import java.security.Principal;
 import java.util.Map;
@@ -55,17 +56,15 @@ public interface ILogController {
 	EntryCreatedRS createLog(String projectName, SaveLogRQ createLogRQ, Principal principal);
 
 	/**
-	 * Updates {@link Log} instance
+	 * Creates batch of {@link Log} instances from multipart request
 	 *
 	 * @param projectName
-	 * @param createLogRQs
 	 * @param request
 	 * @param principal
 	 * @return
 	 * @throws ReportPortalException
 	 */
-	ResponseEntity<BatchSaveOperatingRS> createLog(String projectName, @Valid SaveLogRQ[] createLogRQs, HttpServletRequest request,
-			Principal principal);
+	ResponseEntity<BatchSaveOperatingRS> createLog(String projectName, HttpServletRequest request, Principal principal);
 
 	/**
 	 * Deletes specified {@link Log} instance
@@ -85,10 +84,12 @@ public interface ILogController {
 	 * @param testId
 	 * @param filter
 	 * @param pageble
+	 * @param fieldset
 	 * @param principal
 	 * @return
 	 */
-	Iterable<LogResource> getLogs(String projectName, String testId, Filter filter, Pageable pageble, Principal principal);
+	Iterable<LogResource> getLogs(String projectName, String testId, Filter filter, Pageable pageble, Fieldset fieldset,
+			Principal principal);
 
 	/**
 	 * Calculates page number of provided log
@@ -102,6 +103,35 @@ public interface ILogController {
 	 */
 	Map<String, Serializable> getPageNumber(String projectName, String logId, Filter filter, Pageable pageable, Principal principal);
 
+	/**
+	 * Gets window of logs of specified test step by cursor
+	 *
+	 * @param projectName
+	 * @param testId
+	 * @param cursor
+	 * @param total
+	 * @param filter
+	 * @param pageable
+	 * @param principal
+	 * @return
+	 */
+	KeysetPage<LogResource> getLogsByCursor(String projectName, String testId, String cursor, boolean total, Filter filter,
+			Pageable pageable, Principal principal);
+
+	/**
+	 * Gets window of logs containing provided log
+	 *
+	 * @param projectName
+	 * @param logId
+	 * @param total
+	 * @param filter
+	 * @param pageable
+	 * @param principal
+	 * @return
+	 */
+	KeysetPage<LogResource> getLogWindow(String projectName, String logId, boolean total, Filter filter, Pageable pageable,
+			Principal principal);
+
 	/**
 	 * Get by its ID
 	 *
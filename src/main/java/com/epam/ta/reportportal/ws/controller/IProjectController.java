@@ -97,13 +97,15 @@ public interface IProjectController {
 	OperationCompletionRS deleteProjectIndex(String projectName, Principal principal);
 
 	/**
-	 * Removes project indexed data from analyzer if it exists and do reindex.
+	 * Indexes project data changed since the last indexing.
+	 * With full rebuild removes project indexed data from analyzer if it exists and do reindex.
 	 *
 	 * @param projectName Project name
+	 * @param full        Rebuild whole index
 	 * @param principal   Principal
 	 * @return OperationCompletionRS
 	 */
-	OperationCompletionRS indexProjectData(String projectName, Principal principal);
+	OperationCompletionRS indexProjectData(String projectName, boolean full, Principal principal);
 
 	/**
 	 * Get list of {@link com.epam.ta.reportportal.ws.model.user.UserResource}
@@ -21,6 +21,7 @@
 
 package com.epam.ta.reportportal.ws.controller;
 
+import com.epam.ta.reportportal.core.item.UniqueIdGenerationProgress;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import com.epam.ta.reportportal.ws.model.settings.AnalyticsResource;
 import com.epam.ta.reportportal.ws.model.settings.ServerEmailResource;
@@ -66,4 +67,11 @@ public interface ISettingsController {
 	 * @return OperationCompletionRS
 	 */
 	OperationCompletionRS saveAnalyticsSettings(String profileId, AnalyticsResource request);
+
+	/**
+	 * Get progress of test items unique ID regeneration
+	 *
+	 * @return UniqueIdGenerationProgress
+	 */
+	UniqueIdGenerationProgress getUniqueIdGenerationProgress();
 }
\ No newline at end of file
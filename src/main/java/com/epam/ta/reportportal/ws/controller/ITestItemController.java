@@ -23,13 +23,18 @@ package com.epam.ta.reportportal.ws.controller;
 
 import com.epam.ta.reportportal.database.search.Filter;
 import com.epam.ta.reportportal.database.search.Queryable;
+import com.epam.ta.reportportal.util.KeysetPage;
 import com.epam.ta.reportportal.ws.model.*;
 import com.epam.ta.reportportal.ws.model.issue.DefineIssueRQ;
 import com.epam.ta.reportportal.ws.model.issue.Issue;
 import com.epam.ta.reportportal.ws.model.item.AddExternalIssueRQ;
 import com.epam.ta.reportportal.ws.model.item.MergeTestItemRQ;
 import com.epam.ta.reportportal.ws.model.item.UpdateTestItemRQ;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.security.Principal;
 import java.util.List;
@@ -82,10 +87,51 @@ public interface ITestItemController {
 	 * @param projectName
 	 * @param filter
 	 * @param pageble
+	 * @param fieldset
 	 * @param principal
 	 * @return Iterable<TestItemResource>
 	 */
 	Iterable<TestItemResource> getTestItems(String projectName, String launchId, Filter filter, Queryable predefinedFilter, Pageable pageble,
+			Fieldset fieldset, Principal principal);
+
+	/**
+	 * Gets window of Test Items of specified launch by cursor
+	 *
+	 * @param projectName
+	 * @param launchId
+	 * @param cursor
+	 * @param total
+	 * @param filter
+	 * @param predefinedFilter
+	 * @param pageble
+	 * @param principal
+	 * @return KeysetPage<TestItemResource>
+	 */
+	KeysetPage<TestItemResource> getTestItemsByCursor(String projectName, String launchId, String cursor, boolean total, Filter filter,
+			Queryable predefinedFilter, Pageable pageble, Principal principal);
+
+	/**
+	 * Streams progress of specified test item and it's descendants
+	 *
+	 * @param projectName
+	 * @param item
+	 * @param principal
+	 * @return SseEmitter
+	 */
+	SseEmitter getTestItemProgress(String projectName, String item, Principal principal);
+
+	/**
+	 * Streams complete tree of launch items as nested JSON or
+	 * newline delimited JSON depending on accepted media type
+	 *
+	 * @param projectName
+	 * @param launchId
+	 * @param fieldset
+	 * @param accept
+	 * @param principal
+	 * @return Tree of test items
+	 */
+	ResponseEntity<StreamingResponseBody> getLaunchTree(String projectName, String launchId, Fieldset fieldset, String accept,
 			Principal principal);
 
 	/**
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.ws.controller.impl;
+
+import com.epam.ta.reportportal.core.reporting.AsyncReportingHandler;
+import com.epam.ta.reportportal.ws.controller.IAsyncReportingController;
+import com.epam.ta.reportportal.ws.model.EntryCreatedRS;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.swagger.annotations.ApiOperation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+import static com.epam.ta.reportportal.auth.permissions.Permissions.ALLOWED_TO_REPORT;
+import static com.epam.ta.reportportal.auth.permissions.Permissions.ASSIGNED_TO_PROJECT;
+import static com.epam.ta.reportportal.commons.EntityUtils.normalizeId;
+import static org.springframework.http.HttpStatus.ACCEPTED;
+
+/**
+ * Controller implementation for asynchronous reporting. Requests of the same
+ * launch are applied in order they are accepted. Failures are reported on launch finish.
+ */
+@Controller
+@RequestMapping("/{projectName}/async")
+@PreAuthorize(ASSIGNED_TO_PROJECT)
+public class AsyncReportingController implements IAsyncReportingController {
+
+	private final AsyncReportingHandler asyncReportingHandler;
+
+	@Autowired
+	public AsyncReportingController(AsyncReportingHandler asyncReportingHandler) {
+		this.asyncReportingHandler = asyncReportingHandler;
+	}
+
+	@Override
+	@PostMapping("/item")
+	@ResponseBody
+	@ResponseStatus(ACCEPTED)
+	@ApiOperation("Start a root test item asynchronously")
+	@PreAuthorize(ALLOWED_TO_REPORT)
+	public EntryCreatedRS startRootItem(@PathVariable String projectName, @RequestParam("id") String itemId,
+			@RequestBody @Validated StartTestItemRQ startTestItemRQ, Principal principal) {
+		return asyncReportingHandler.startRootItem(normalizeId(projectName), startTestItemRQ, itemId);
+	}
+
+	@Override
+	@PostMapping("/item/{parentItem}")
+	@ResponseBody
+	@ResponseStatus(ACCEPTED)
+	@ApiOperation("Start a child test item asynchronously")
+	@PreAuthorize(ALLOWED_TO_REPORT)
+	public EntryCreatedRS startChildItem(@PathVariable String projectName, @PathVariable String parentItem,
+			@RequestParam("id") String itemId, @RequestBody @Validated StartTestItemRQ startTestItemRQ, Principal principal) {
+		return asyncReportingHandler.startChildItem(normalizeId(projectName), startTestItemRQ, parentItem, itemId);
+	}
+
+	@Override
+	@PutMapping("/item/{testItemId}")
+	@ResponseBody
+	@ResponseStatus(ACCEPTED)
+	@ApiOperation("Finish test item asynchronously")
+	@PreAuthorize(ALLOWED_TO_REPORT)
+	public OperationCompletionRS finishTestItem(@PathVariable String projectName, @PathVariable String testItemId,
+			@RequestBody @Validated FinishTestItemRQ finishExecutionRQ, Principal principal) {
+		return asyncReportingHandler.finishTestItem(normalizeId(projectName), testItemId, finishExecutionRQ, principal.getName());
+	}
+
+	@Override
+	@PostMapping(value = "/log", consumes = { MediaType.APPLICATION_JSON_VALUE })
+	@ResponseBody
+	@ResponseStatus(ACCEPTED)
+	@ApiOperation("Create log without attachment asynchronously")
+	@PreAuthorize(ALLOWED_TO_REPORT)
+	public OperationCompletionRS createLog(@PathVariable String projectName, @RequestBody @Validated SaveLogRQ createLogRQ,
+			Principal principal) {
+		return asyncReportingHandler.createLog(normalizeId(projectName), createLogRQ);
+	}
+}
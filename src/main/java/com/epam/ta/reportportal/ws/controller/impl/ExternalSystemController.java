@@ -36,7 +36,9 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static com.epam.ta.reportportal.auth.permissions.Permissions.ASSIGNED_TO_PROJECT;
 import static com.epam.ta.reportportal.auth.permissions.Permissions.PROJECT_MANAGER;
@@ -183,4 +185,14 @@ public class ExternalSystemController implements IExternalSystemController {
 		return getTicketHandler.getTicket(ticketId, EntityUtils.normalizeId(projectName), systemId);
 	}
 
+	@Override
+	@RequestMapping(method = RequestMethod.GET, value = "/{systemId}/tickets")
+	@ResponseBody
+	@ResponseStatus(HttpStatus.OK)
+	@ApiOperation("Get tickets from external system")
+	public Map<String, Ticket> getTickets(@RequestParam(value = "ids") String[] ids, @PathVariable String projectName,
+			@PathVariable String systemId, Principal principal) {
+		return getTicketHandler.getTickets(Arrays.asList(ids), EntityUtils.normalizeId(projectName), systemId);
+	}
+
 }
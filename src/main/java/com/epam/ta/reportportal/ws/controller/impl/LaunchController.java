@@ -41,6 +41,7 @@ import com.epam.ta.reportportal.core.imprt.ImportLaunchHandler;
 import com.epam.ta.reportportal.core.jasper.IGetJasperReportHandler;
 import com.epam.ta.reportportal.core.jasper.ReportFormat;
 import com.epam.ta.reportportal.core.launch.*;
+import com.epam.ta.reportportal.core.progress.ProgressBroadcaster;
 import com.epam.ta.reportportal.database.entity.Launch;
 import com.epam.ta.reportportal.database.search.Condition;
 import com.epam.ta.reportportal.database.search.Filter;
@@ -48,6 +49,8 @@ import com.epam.ta.reportportal.ws.controller.ILaunchController;
 import com.epam.ta.reportportal.ws.model.*;
 import com.epam.ta.reportportal.ws.model.launch.*;
 import com.epam.ta.reportportal.ws.model.widget.ChartObject;
+import com.epam.ta.reportportal.ws.resolver.FieldsFor;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
 import com.epam.ta.reportportal.ws.resolver.FilterCriteriaResolver;
 import com.epam.ta.reportportal.ws.resolver.FilterFor;
 import com.epam.ta.reportportal.ws.resolver.SortFor;
@@ -57,11 +60,13 @@ import io.swagger.annotations.ApiParam;
 import net.sf.jasperreports.engine.JasperPrint;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import springfox.documentation.annotations.ApiIgnore;
 
 import javax.servlet.http.HttpServletRequest;
@@ -121,6 +126,9 @@ public class LaunchController implements ILaunchController {
 	@Autowired
 	private AnalyzerStatusCache analyzerStatusCache;
 
+	@Autowired
+	private ProgressBroadcaster progressBroadcaster;
+
 	@Override
 	@PostMapping
 	@ResponseBody
@@ -211,8 +219,9 @@ public class LaunchController implements ILaunchController {
 	@ResponseStatus(OK)
 	@ApiOperation("Get list of project launches by filter")
 	public Iterable<LaunchResource> getProjectLaunches(@PathVariable String projectName, @FilterFor(Launch.class) Filter filter,
-			@SortFor(Launch.class) Pageable pageable, Principal principal) {
-		return getLaunchMessageHandler.getProjectLaunches(normalizeId(projectName), filter, pageable, principal.getName());
+			@SortFor(Launch.class) Pageable pageable, @FieldsFor(value = Launch.class, resource = LaunchResource.class) Fieldset fieldset,
+			Principal principal) {
+		return getLaunchMessageHandler.getProjectLaunches(normalizeId(projectName), filter, pageable, principal.getName(), fieldset);
 	}
 
 	@Override
@@ -311,6 +320,14 @@ public class LaunchController implements ILaunchController {
 		return getLaunchMessageHandler.getStatuses(normalizeId(projectName), ids);
 	}
 
+	@Override
+	@GetMapping(value = "/{launchId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@ApiOperation("Stream progress of specified launch")
+	public SseEmitter getLaunchProgress(@PathVariable String projectName, @PathVariable String launchId,
+			@RequestParam(value = "logs", required = false, defaultValue = "false") boolean logs, Principal principal) {
+		return progressBroadcaster.subscribeLaunch(normalizeId(projectName), launchId, logs);
+	}
+
 	@Override
 	@RequestMapping(value = "/{launchId}/report", method = RequestMethod.GET)
 	@ResponseBody
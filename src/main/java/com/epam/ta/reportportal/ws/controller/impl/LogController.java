@@ -22,9 +22,7 @@
 package com.epam.ta.reportportal.ws.controller.impl;
 
 import com.epam.ta.reportportal.commons.EntityUtils;
-import com.epam.ta.reportportal.commons.Predicates;
-import com.epam.ta.reportportal.commons.validation.BusinessRule;
-import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
 import com.epam.ta.reportportal.core.log.ICreateLogHandler;
 import com.epam.ta.reportportal.core.log.IDeleteLogHandler;
 import com.epam.ta.reportportal.core.log.IGetLogHandler;
@@ -32,17 +30,28 @@ import com.epam.ta.reportportal.database.entity.Log;
 import com.epam.ta.reportportal.database.search.Condition;
 import com.epam.ta.reportportal.database.search.Filter;
 import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.util.KeysetPage;
 import com.epam.ta.reportportal.ws.controller.ILogController;
 import com.epam.ta.reportportal.ws.model.*;
 import com.epam.ta.reportportal.ws.model.log.LogResource;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import com.epam.ta.reportportal.ws.resolver.FieldsFor;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
 import com.epam.ta.reportportal.ws.resolver.FilterCriteriaResolver;
 import com.epam.ta.reportportal.ws.resolver.FilterFor;
 import com.epam.ta.reportportal.ws.resolver.SortFor;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
 import io.swagger.annotations.ApiOperation;
+import org.apache.commons.fileupload.FileItem;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.apache.commons.fileupload.util.Streams;
 import org.apache.commons.lang.exception.ExceptionUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.SortDefault;
@@ -52,16 +61,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
-import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.multipart.MultipartHttpServletRequest;
 import springfox.documentation.annotations.ApiIgnore;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.ConstraintViolation;
 import javax.validation.Path.Node;
 import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.security.Principal;
 import java.util.*;
@@ -84,14 +93,18 @@ public class LogController implements ILogController {
 	private final IDeleteLogHandler deleteLogMessageHandler;
 	private final IGetLogHandler getLogHandler;
 	private final Validator validator;
+	private final ServletFileUpload fileUpload;
+	private final ObjectMapper objectMapper;
 
 	@Autowired
 	public LogController(ICreateLogHandler createLogMessageHandler, IDeleteLogHandler deleteLogMessageHandler, IGetLogHandler getLogHandler,
-			Validator validator) {
+			Validator validator, ServletFileUpload fileUpload, ObjectMapper objectMapper) {
 		this.createLogMessageHandler = createLogMessageHandler;
 		this.deleteLogMessageHandler = deleteLogMessageHandler;
 		this.getLogHandler = getLogHandler;
 		this.validator = validator;
+		this.fileUpload = fileUpload;
+		this.objectMapper = objectMapper;
 	}
 
 	@Override
@@ -114,51 +127,32 @@ public class LogController implements ILogController {
 	@ApiIgnore
 	@Async
 	@PreAuthorize(ALLOWED_TO_REPORT)
-	public ResponseEntity<BatchSaveOperatingRS> createLog(@PathVariable String projectName,
-			@RequestPart(value = Constants.LOG_REQUEST_JSON_PART) SaveLogRQ[] createLogRQs, HttpServletRequest request,
+	public ResponseEntity<BatchSaveOperatingRS> createLog(@PathVariable String projectName, HttpServletRequest request,
 			Principal principal) {
-
 		String prjName = EntityUtils.normalizeId(projectName);
 		/*
-         * Since this is multipart request we can retrieve list of uploaded
-		 * attachments
+		 * Parts are read directly from request stream one by one. Each file
+		 * is stored as soon as it's read, only large ones are spooled to disk
 		 */
-		Map<String, MultipartFile> uploadedFiles = getUploadedFiles(request);
-		BatchSaveOperatingRS response = new BatchSaveOperatingRS();
-		EntryCreatedRS responseItem;
-        /* Go through all provided save log request items */
-		for (SaveLogRQ createLogRq : createLogRQs) {
-			try {
-				validateSaveRQ(createLogRq);
-				String filename = createLogRq.getFile() == null ? null : createLogRq.getFile().getName();
-				if (StringUtils.isEmpty(filename)) {
-					/*
-					 * There is no filename in request. Use simple save
-					 * method
-					 */
-					responseItem = createLog(prjName, createLogRq, principal);
-
-				} else {
-					/* Find by request part */
-					MultipartFile data = findByFileName(filename, uploadedFiles);
-					BusinessRule.expect(data, Predicates.notNull())
-							.verify(ErrorType.BINARY_DATA_CANNOT_BE_SAVED,
-									Suppliers.formattedSupplier("There is no request part or file with name {}", filename)
-							);
-					/*
-					 * If provided content type is null or this is octet
-					 * stream, try to detect real content type of binary
-					 * data
-					 */
-					//noinspection ConstantConditions
-					responseItem = createLogMessageHandler.createLog(createLogRq, data, prjName);
+		try (MultipartLogBatch batch = new MultipartLogBatch((createLogRq, data) -> {
+			validateSaveRQ(createLogRq);
+			return null == data ? createLog(prjName, createLogRq, principal) : createLogMessageHandler.createLog(createLogRq, data, prjName);
+		})) {
+			FileItemIterator parts = fileUpload.getItemIterator(request);
+			while (parts.hasNext()) {
+				FileItemStream part = parts.next();
+				if (Constants.LOG_REQUEST_JSON_PART.equals(part.getFieldName())) {
+					try (InputStream json = part.openStream()) {
+						batch.onRequests(objectMapper.readValue(json, SaveLogRQ[].class));
+					}
+				} else if (!part.isFormField()) {
+					batch.onFile(spool(part));
 				}
-				response.addResponse(new BatchElementCreatedRS(responseItem.getId()));
-			} catch (Exception e) {
-				response.addResponse(new BatchElementCreatedRS(ExceptionUtils.getStackTrace(e), ExceptionUtils.getMessage(e)));
 			}
+			return new ResponseEntity<>(batch.finish(), HttpStatus.CREATED);
+		} catch (FileUploadException | IOException e) {
+			throw new ReportPortalException(ErrorType.INCORRECT_REQUEST, ExceptionUtils.getMessage(e));
 		}
-		return new ResponseEntity<>(response, HttpStatus.CREATED);
 	}
 
 	@Override
@@ -175,8 +169,9 @@ public class LogController implements ILogController {
 	@ApiOperation("Get logs by filter")
 	public Iterable<LogResource> getLogs(@PathVariable String projectName,
 			@RequestParam(value = FilterCriteriaResolver.DEFAULT_FILTER_PREFIX + Condition.EQ + Log.TEST_ITEM_ID) String testStepId,
-			@FilterFor(Log.class) Filter filter, @SortDefault({ "time" }) @SortFor(Log.class) Pageable pageable, Principal principal) {
-		return getLogHandler.getLogs(testStepId, EntityUtils.normalizeId(projectName), filter, pageable);
+			@FilterFor(Log.class) Filter filter, @SortDefault({ "time" }) @SortFor(Log.class) Pageable pageable,
+			@FieldsFor(value = Log.class, resource = LogResource.class) Fieldset fieldset, Principal principal) {
+		return getLogHandler.getLogs(testStepId, EntityUtils.normalizeId(projectName), filter, pageable, fieldset);
 	}
 
 	@Override
@@ -189,6 +184,28 @@ public class LogController implements ILogController {
 				"number", getLogHandler.getPageNumber(logId, EntityUtils.normalizeId(projectName), filter, pageable)).build();
 	}
 
+	@Override
+	@RequestMapping(value = "/cursor", method = RequestMethod.GET)
+	@ResponseBody
+	@ApiOperation("Get logs by filter and cursor")
+	public KeysetPage<LogResource> getLogsByCursor(@PathVariable String projectName,
+			@RequestParam(value = FilterCriteriaResolver.DEFAULT_FILTER_PREFIX + Condition.EQ + Log.TEST_ITEM_ID) String testStepId,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "total", required = false, defaultValue = "false") boolean total, @FilterFor(Log.class) Filter filter,
+			@SortDefault({ "time" }) @SortFor(Log.class) Pageable pageable, Principal principal) {
+		return getLogHandler.getLogs(EntityUtils.normalizeId(projectName), filter, pageable, cursor, total);
+	}
+
+	@Override
+	@RequestMapping(value = "/{logId}/window", method = RequestMethod.GET)
+	@ResponseBody
+	@ApiOperation("Get window of logs containing specified log")
+	public KeysetPage<LogResource> getLogWindow(@PathVariable String projectName, @PathVariable String logId,
+			@RequestParam(value = "total", required = false, defaultValue = "false") boolean total, @FilterFor(Log.class) Filter filter,
+			@SortDefault({ "time" }) @SortFor(Log.class) Pageable pageable, Principal principal) {
+		return getLogHandler.getLogWindow(logId, EntityUtils.normalizeId(projectName), filter, pageable, total);
+	}
+
 	@Override
 	@RequestMapping(value = "/{logId}", method = RequestMethod.GET)
 	@ResponseBody
@@ -198,25 +215,22 @@ public class LogController implements ILogController {
 	}
 
 	/**
-	 * Tries to find request part or file with specified name in multipart attachments
-	 * map.
+	 * Reads file part into memory or temporary file if it exceeds in-memory threshold
 	 *
-	 * @param filename File name
-	 * @param files    Files map
-	 * @return Found file
+	 * @param part File part
+	 * @return Read file
 	 */
-	private MultipartFile findByFileName(String filename, Map<String, MultipartFile> files) {
-		/* Request part name? */
-		if (files.containsKey(filename)) {
-			return files.get(filename);
-		}
-		/* Filename? */
-		for (MultipartFile file : files.values()) {
-			if (filename.equals(file.getOriginalFilename())) {
-				return file;
-			}
+	private MultipartFile spool(FileItemStream part) throws IOException {
+		FileItem item = fileUpload.getFileItemFactory().createItem(part.getFieldName(), part.getContentType(), false, part.getName());
+		/* content hash is computed on the fly to find out whether the same file is already stored */
+		try {
+			HashingOutputStream out = new HashingOutputStream(Hashing.sha256(), item.getOutputStream());
+			Streams.copy(part.openStream(), out, true);
+			return new AttachmentStorage.HashedFile(item, out.hash().toString());
+		} catch (IOException e) {
+			item.delete();
+			throw e;
 		}
-		return null;
 	}
 
 	private void validateSaveRQ(SaveLogRQ saveLogRQ) {
@@ -235,17 +249,4 @@ public class LogController implements ILogController {
 			throw new ReportPortalException(ErrorType.INCORRECT_REQUEST, messageBuilder.toString());
 		}
 	}
-
-	private Map<String, MultipartFile> getUploadedFiles(HttpServletRequest request) {
-		Map<String, MultipartFile> uploadedFiles = new HashMap<>();
-		if (request instanceof MultipartHttpServletRequest) {
-			MultiValueMap<String, MultipartFile> multiFileMap = (((MultipartHttpServletRequest) request)).getMultiFileMap();
-			for (List<MultipartFile> multipartFiles : multiFileMap.values()) {
-				for (MultipartFile file : multipartFiles) {
-					uploadedFiles.put(file.getOriginalFilename(), file);
-				}
-			}
-		}
-		return uploadedFiles;
-	}
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.ws.controller.impl;
+
+import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.BatchElementCreatedRS;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.Constants;
+import com.epam.ta.reportportal.ws.model.EntryCreatedRS;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import org.apache.commons.lang.exception.ExceptionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.commons.CommonsMultipartFile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Batch of logs read from multipart request part by part.<br>
+ * Logs without attachments are saved as soon as JSON part is read. Logs with
+ * attachments are indexed by file name and saved once the file part arrives,
+ * so each file is passed to storage right after it's read. Files sent before
+ * JSON part are kept until it's read. Batch releases every file it was given,
+ * so temporary copies of uploads are deleted once nobody reads them.
+ */
+class MultipartLogBatch implements AutoCloseable {
+
+	private final BiFunction<SaveLogRQ, MultipartFile, EntryCreatedRS> saver;
+
+	private final Map<String, List<Integer>> awaitingFiles = new HashMap<>();
+
+	private final List<MultipartFile> earlyFiles = new ArrayList<>();
+
+	private SaveLogRQ[] requests;
+
+	private BatchElementCreatedRS[] responses;
+
+	/**
+	 * @param saver Validates and saves single log with optional attachment
+	 */
+	MultipartLogBatch(BiFunction<SaveLogRQ, MultipartFile, EntryCreatedRS> saver) {
+		this.saver = saver;
+	}
+
+	/**
+	 * @param requests Save requests read from JSON part
+	 */
+	void onRequests(SaveLogRQ[] requests) {
+		if (null != this.requests) {
+			throw new ReportPortalException(ErrorType.INCORRECT_REQUEST,
+					Suppliers.formattedSupplier("Request part '{}' should be sent only once", Constants.LOG_REQUEST_JSON_PART).get()
+			);
+		}
+		this.requests = requests;
+		this.responses = new BatchElementCreatedRS[requests.length];
+		for (int i = 0; i < requests.length; i++) {
+			String filename = null == requests[i].getFile() ? null : requests[i].getFile().getName();
+			if (StringUtils.isEmpty(filename)) {
+				save(i, null);
+			} else {
+				awaitingFiles.computeIfAbsent(filename, name -> new ArrayList<>()).add(i);
+			}
+		}
+		earlyFiles.forEach(this::onFile);
+		earlyFiles.clear();
+	}
+
+	/**
+	 * @param file File part. Matched with requests by request part name or by file name
+	 */
+	void onFile(MultipartFile file) {
+		if (null == requests) {
+			earlyFiles.add(file);
+			return;
+		}
+		List<Integer> indexes = awaitingFiles.remove(file.getName());
+		if (null == indexes && null != file.getOriginalFilename()) {
+			indexes = awaitingFiles.remove(file.getOriginalFilename());
+		}
+		if (null != indexes) {
+			indexes.forEach(index -> save(index, file));
+		}
+		release(file);
+	}
+
+	/**
+	 * @return Results of all requests in order they were sent
+	 */
+	BatchSaveOperatingRS finish() {
+		if (null == requests) {
+			throw new ReportPortalException(ErrorType.INCORRECT_REQUEST,
+					Suppliers.formattedSupplier("Required request part '{}' is not present", Constants.LOG_REQUEST_JSON_PART).get()
+			);
+		}
+		awaitingFiles.forEach((filename, indexes) -> indexes.forEach(index -> responses[index] = error(
+				new ReportPortalException(ErrorType.BINARY_DATA_CANNOT_BE_SAVED,
+						Suppliers.formattedSupplier("There is no request part or file with name {}", filename).get()
+				))));
+		BatchSaveOperatingRS response = new BatchSaveOperatingRS();
+		for (BatchElementCreatedRS element : responses) {
+			response.addResponse(element);
+		}
+		return response;
+	}
+
+	/**
+	 * Releases files which are not matched with requests
+	 */
+	@Override
+	public void close() {
+		earlyFiles.forEach(MultipartLogBatch::release);
+		earlyFiles.clear();
+	}
+
+	private void save(int index, MultipartFile file) {
+		try {
+			responses[index] = new BatchElementCreatedRS(saver.apply(requests[index], file).getId());
+		} catch (Exception e) {
+			responses[index] = error(e);
+		}
+	}
+
+	private static void release(MultipartFile file) {
+		if (file instanceof AttachmentStorage.HashedFile) {
+			((AttachmentStorage.HashedFile) file).release();
+		} else if (file instanceof CommonsMultipartFile) {
+			((CommonsMultipartFile) file).getFileItem().delete();
+		}
+	}
+
+	private static BatchElementCreatedRS error(Exception e) {
+		return new BatchElementCreatedRS(ExceptionUtils.getStackTrace(e), ExceptionUtils.getMessage(e));
+	}
+}
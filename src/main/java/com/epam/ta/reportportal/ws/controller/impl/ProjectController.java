@@ -157,9 +157,10 @@ public class ProjectController implements IProjectController {
 	@ResponseBody
 	@ResponseStatus(OK)
 	@PreAuthorize(PROJECT_MANAGER_OR_ADMIN)
-	@ApiOperation(value = "Starts reindex all project data in ML")
-	public OperationCompletionRS indexProjectData(@PathVariable String projectName, Principal principal) {
-		return updateProjectHandler.indexProjectData(normalizeId(projectName), principal.getName());
+	@ApiOperation(value = "Starts reindex project data in ML", notes = "Sends only data changed since the last indexing unless full=true")
+	public OperationCompletionRS indexProjectData(@PathVariable String projectName,
+			@RequestParam(value = "full", required = false, defaultValue = "false") boolean full, Principal principal) {
+		return updateProjectHandler.indexProjectData(normalizeId(projectName), principal.getName(), full);
 	}
 
 	@Override
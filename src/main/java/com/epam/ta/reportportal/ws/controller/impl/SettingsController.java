@@ -22,6 +22,8 @@
 package com.epam.ta.reportportal.ws.controller.impl;
 
 import com.epam.ta.reportportal.core.admin.ServerAdminHandler;
+import com.epam.ta.reportportal.core.item.UniqueIdGenerationProgress;
+import com.epam.ta.reportportal.core.item.UpdateUniqueId;
 import com.epam.ta.reportportal.ws.controller.ISettingsController;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import com.epam.ta.reportportal.ws.model.settings.AnalyticsResource;
@@ -54,6 +56,9 @@ public class SettingsController implements ISettingsController {
 	@Autowired
 	private ServerAdminHandler serverHandler;
 
+	@Autowired
+	private UpdateUniqueId updateUniqueId;
+
 	@Override
 	@RequestMapping(value = "/{profileId}", method = RequestMethod.GET)
 	@ResponseBody
@@ -88,4 +93,13 @@ public class SettingsController implements ISettingsController {
 	public OperationCompletionRS saveAnalyticsSettings(@PathVariable String profileId, @RequestBody @Validated AnalyticsResource request) {
 		return serverHandler.saveAnalyticsSettings(normalizeId(profileId), request);
 	}
+
+	@Override
+	@RequestMapping(value = "/maintenance/uniqueId", method = RequestMethod.GET)
+	@ResponseBody
+	@ResponseStatus(HttpStatus.OK)
+	@ApiOperation(value = "Get progress of test items unique ID regeneration")
+	public UniqueIdGenerationProgress getUniqueIdGenerationProgress() {
+		return updateUniqueId.getProgress();
+	}
 }
\ No newline at end of file
@@ -24,12 +24,14 @@ package com.epam.ta.reportportal.ws.controller.impl;
 import com.epam.ta.reportportal.core.item.*;
 import com.epam.ta.reportportal.core.item.history.TestItemsHistoryHandler;
 import com.epam.ta.reportportal.core.item.merge.MergeTestItemHandler;
+import com.epam.ta.reportportal.core.progress.ProgressBroadcaster;
 import com.epam.ta.reportportal.database.entity.Launch;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.database.search.CompositeFilter;
 import com.epam.ta.reportportal.database.search.Condition;
 import com.epam.ta.reportportal.database.search.Filter;
 import com.epam.ta.reportportal.database.search.Queryable;
+import com.epam.ta.reportportal.util.KeysetPage;
 import com.epam.ta.reportportal.ws.controller.ITestItemController;
 import com.epam.ta.reportportal.ws.model.*;
 import com.epam.ta.reportportal.ws.model.issue.DefineIssueRQ;
@@ -37,16 +39,23 @@ import com.epam.ta.reportportal.ws.model.issue.Issue;
 import com.epam.ta.reportportal.ws.model.item.AddExternalIssueRQ;
 import com.epam.ta.reportportal.ws.model.item.MergeTestItemRQ;
 import com.epam.ta.reportportal.ws.model.item.UpdateTestItemRQ;
+import com.epam.ta.reportportal.ws.resolver.FieldsFor;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
 import com.epam.ta.reportportal.ws.resolver.FilterCriteriaResolver;
 import com.epam.ta.reportportal.ws.resolver.FilterFor;
 import com.epam.ta.reportportal.ws.resolver.SortFor;
 import io.swagger.annotations.ApiOperation;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import springfox.documentation.annotations.ApiIgnore;
 
 import java.security.Principal;
@@ -66,6 +75,8 @@ public class TestItemController implements ITestItemController {
 	public static final String DEFAULT_HISTORY_DEPTH = "5";
 	public static final String DEFAULT_HISTORY_FULL = "true";
 
+	private static final MediaType NDJSON = MediaType.parseMediaType(LaunchTreeWriter.NDJSON_VALUE);
+
 	@Autowired
 	private StartTestItemHandler startTestItemHandler;
 
@@ -87,6 +98,9 @@ public class TestItemController implements ITestItemController {
 	@Autowired
 	private MergeTestItemHandler mergeTestItemHandler;
 
+	@Autowired
+	private ProgressBroadcaster progressBroadcaster;
+
 	@Override
 	@PostMapping
 	@ResponseBody
@@ -137,8 +151,48 @@ public class TestItemController implements ITestItemController {
 	public Iterable<TestItemResource> getTestItems(@PathVariable String projectName,
 			@RequestParam(value = FilterCriteriaResolver.DEFAULT_FILTER_PREFIX + Condition.EQ + TestItem.LAUNCH_CRITERIA) String launchId,
 			@FilterFor(TestItem.class) Filter filter, @FilterFor(TestItem.class) Queryable predefinedFilter,
+			@SortFor(TestItem.class) Pageable pageable,
+			@FieldsFor(value = TestItem.class, resource = TestItemResource.class) Fieldset fieldset, Principal principal) {
+		return getTestItemHandler.getTestItems(new CompositeFilter(filter, predefinedFilter), pageable, launchId, projectName, fieldset);
+	}
+
+	@Override
+	@GetMapping("/cursor")
+	@ResponseBody
+	@ResponseStatus(OK)
+	@ApiOperation("Find test items by specified filter and cursor")
+	public KeysetPage<TestItemResource> getTestItemsByCursor(@PathVariable String projectName,
+			@RequestParam(value = FilterCriteriaResolver.DEFAULT_FILTER_PREFIX + Condition.EQ + TestItem.LAUNCH_CRITERIA) String launchId,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "total", required = false, defaultValue = "false") boolean total,
+			@FilterFor(TestItem.class) Filter filter, @FilterFor(TestItem.class) Queryable predefinedFilter,
 			@SortFor(TestItem.class) Pageable pageable, Principal principal) {
-		return getTestItemHandler.getTestItems(new CompositeFilter(filter, predefinedFilter), pageable, launchId, projectName);
+		return getTestItemHandler.getTestItems(new CompositeFilter(filter, predefinedFilter), pageable, cursor, total, launchId,
+				normalizeId(projectName)
+		);
+	}
+
+	@Override
+	@GetMapping(value = "/{testItemId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@ApiOperation("Stream progress of test item and it's descendants")
+	public SseEmitter getTestItemProgress(@PathVariable String projectName, @PathVariable String testItemId, Principal principal) {
+		return progressBroadcaster.subscribeItem(normalizeId(projectName), testItemId);
+	}
+
+	@Override
+	@GetMapping(value = "/tree", produces = { MediaType.APPLICATION_JSON_VALUE, LaunchTreeWriter.NDJSON_VALUE })
+	@ApiOperation("Stream complete tree of launch items")
+	public ResponseEntity<StreamingResponseBody> getLaunchTree(@PathVariable String projectName,
+			@RequestParam(value = "launch") String launchId,
+			@FieldsFor(value = TestItem.class, resource = TestItemResource.class) Fieldset fieldset,
+			@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept, Principal principal) {
+		boolean flat = null != accept && MediaType.parseMediaTypes(accept)
+				.stream()
+				.filter(type -> !type.isWildcardSubtype())
+				.anyMatch(NDJSON::isCompatibleWith);
+		return ResponseEntity.ok()
+				.contentType(flat ? NDJSON : MediaType.APPLICATION_JSON_UTF8)
+				.body(getTestItemHandler.getLaunchTree(launchId, normalizeId(projectName), fieldset, flat));
 	}
 
 	@DeleteMapping("/{item}")
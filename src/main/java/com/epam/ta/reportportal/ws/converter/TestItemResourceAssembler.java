@@ -23,6 +23,7 @@ package com.epam.ta.reportportal.ws.converter;
 
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.util.KeysetPage;
 import com.epam.ta.reportportal.ws.converter.converters.TestItemConverter;
 import com.epam.ta.reportportal.ws.model.TestItemResource;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +33,7 @@ import org.springframework.stereotype.Service;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
@@ -39,6 +41,11 @@ import static java.util.stream.Collectors.toList;
 @Service
 public class TestItemResourceAssembler extends PagedResourcesAssembler<TestItem, TestItemResource> {
 
+	/**
+	 * Name of path elements names field of resource
+	 */
+	public static final String PATH_NAMES = "path_names";
+
 	@Autowired
 	private TestItemRepository testItemRepository;
 
@@ -54,12 +61,29 @@ public class TestItemResourceAssembler extends PagedResourcesAssembler<TestItem,
 	 */
 	@Override
 	public com.epam.ta.reportportal.ws.model.Page<TestItemResource> toPagedResources(Page<TestItem> content) {
-		com.epam.ta.reportportal.ws.model.Page<TestItemResource> resources = super.toPagedResources(content);
-		// load path elements names for all page
-		Map<String, String> allPathsNames = getPagePathNames(content);
-		// add names to resources
-		setPathElementsNames(resources, allPathsNames);
-		return resources;
+		return PagedResourcesAssembler.pageConverter(resourceConverter(content)).apply(content);
+	}
+
+	/**
+	 * Creates converter of page items loading path elements names for all of them at once
+	 *
+	 * @param paths Items of page with loaded paths or <code>null</code> if path names are not needed
+	 * @return Converter of items
+	 */
+	public Function<TestItem, TestItemResource> resourceConverter(Iterable<TestItem> paths) {
+		Map<String, String> allPathsNames = null == paths ? null : getPagePathNames(paths);
+		return item -> buildResource(item, allPathsNames);
+	}
+
+	/**
+	 * Converts window of items loading path elements names for all of them at once
+	 *
+	 * @param content Window of items
+	 * @return Window of resources
+	 */
+	public KeysetPage<TestItemResource> toKeysetPage(KeysetPage<TestItem> content) {
+		Map<String, String> allPathsNames = getPagePathNames(content.getContent());
+		return content.map(item -> buildResource(item, allPathsNames));
 	}
 
 	@Override
@@ -89,18 +113,20 @@ public class TestItemResourceAssembler extends PagedResourcesAssembler<TestItem,
 	}
 
 	/**
-	 * Set path elements names for input page using input names map
+	 * Converts item using path elements names loaded for all page
 	 *
-	 * @param resources
-	 * @param allPathsNames
+	 * @param item          Item
+	 * @param allPathsNames Path elements names or <code>null</code> if they are not needed
+	 * @return Resource
 	 */
-	private void setPathElementsNames(com.epam.ta.reportportal.ws.model.Page<TestItemResource> resources,
-			Map<String, String> allPathsNames) {
-		for (TestItemResource testItemResource : resources) {
-			testItemResource.getPathNames().keySet().forEach(pathId -> {
-				testItemResource.getPathNames().put(pathId, allPathsNames.get(pathId));
-			});
+	private TestItemResource buildResource(TestItem item, Map<String, String> allPathsNames) {
+		TestItemResource resource = TestItemConverter.TO_RESOURCE.apply(item);
+		if (null != allPathsNames) {
+			LinkedHashMap<String, String> pathNames = new LinkedHashMap<>();
+			item.getPath().forEach(pathId -> pathNames.put(pathId, allPathsNames.get(pathId)));
+			resource.setPathNames(pathNames);
 		}
+		return resource;
 	}
 
 	/**
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.ws.interceptor;
+
+import com.google.common.collect.Iterators;
+import com.google.common.net.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Decompresses bodies of requests sent with {@code Content-Encoding: gzip}, so
+ * agents may compress reported items and logs. Decompressed body is limited
+ * by {@code maxSize} bytes to protect from decompression bombs.
+ */
+public class GzipRequestFilter extends OncePerRequestFilter {
+
+	private static final String GZIP = "gzip";
+
+	private final long maxSize;
+
+	/**
+	 * @param maxSize Max size of decompressed body in bytes
+	 */
+	public GzipRequestFilter(long maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+		if (null != encoding && GZIP.equalsIgnoreCase(encoding.trim())) {
+			filterChain.doFilter(new DecompressedRequest(request, maxSize), response);
+		} else {
+			filterChain.doFilter(request, response);
+		}
+	}
+
+	private static class DecompressedRequest extends HttpServletRequestWrapper {
+
+		private final long maxSize;
+
+		private ServletInputStream inputStream;
+
+		private BufferedReader reader;
+
+		DecompressedRequest(HttpServletRequest request, long maxSize) {
+			super(request);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		public ServletInputStream getInputStream() throws IOException {
+			if (null == inputStream) {
+				inputStream = new DecompressedInputStream(super.getInputStream(), maxSize);
+			}
+			return inputStream;
+		}
+
+		@Override
+		public BufferedReader getReader() throws IOException {
+			if (null == reader) {
+				String charset = getCharacterEncoding();
+				try {
+					reader = new BufferedReader(
+							new InputStreamReader(getInputStream(), null == charset ? StandardCharsets.ISO_8859_1.name() : charset));
+				} catch (UnsupportedEncodingException e) {
+					reader = new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.ISO_8859_1));
+				}
+			}
+			return reader;
+		}
+
+		@Override
+		public int getContentLength() {
+			return -1;
+		}
+
+		@Override
+		public long getContentLengthLong() {
+			return -1;
+		}
+
+		@Override
+		public String getHeader(String name) {
+			return isReplaced(name) ? null : super.getHeader(name);
+		}
+
+		@Override
+		public Enumeration<String> getHeaders(String name) {
+			return isReplaced(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+		}
+
+		@Override
+		public Enumeration<String> getHeaderNames() {
+			return Iterators.asEnumeration(Iterators.filter(Iterators.forEnumeration(super.getHeaderNames()), name -> !isReplaced(name)));
+		}
+
+		@Override
+		public int getIntHeader(String name) {
+			return isReplaced(name) ? -1 : super.getIntHeader(name);
+		}
+
+		private static boolean isReplaced(String name) {
+			return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+		}
+	}
+
+	private static class DecompressedInputStream extends ServletInputStream {
+
+		private final ServletInputStream compressed;
+
+		private final GZIPInputStream delegate;
+
+		private final long maxSize;
+
+		private long read;
+
+		private boolean finished;
+
+		DecompressedInputStream(ServletInputStream compressed, long maxSize) throws IOException {
+			this.compressed = compressed;
+			this.delegate = new GZIPInputStream(compressed);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int result = delegate.read();
+			count(-1 == result ? -1 : 1);
+			return result;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int result = delegate.read(b, off, len);
+			count(result);
+			return result;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return delegate.available();
+		}
+
+		@Override
+		public void close() throws IOException {
+			delegate.close();
+		}
+
+		@Override
+		public boolean isFinished() {
+			return finished;
+		}
+
+		@Override
+		public boolean isReady() {
+			return compressed.isReady();
+		}
+
+		/**
+		 * Compressed body is ready as soon as wrapped stream is ready,
+		 * so listener is notified by wrapped stream
+		 */
+		@Override
+		public void setReadListener(ReadListener readListener) {
+			compressed.setReadListener(new ReadListener() {
+				@Override
+				public void onDataAvailable() throws IOException {
+					readListener.onDataAvailable();
+				}
+
+				@Override
+				public void onAllDataRead() throws IOException {
+					readListener.onAllDataRead();
+				}
+
+				@Override
+				public void onError(Throwable t) {
+					readListener.onError(t);
+				}
+			});
+		}
+
+		private void count(int bytes) throws IOException {
+			if (-1 == bytes) {
+				finished = true;
+				return;
+			}
+			read += bytes;
+			if (read > maxSize) {
+				throw new IOException("Decompressed request body exceeds " + maxSize + " bytes");
+			}
+		}
+	}
+}
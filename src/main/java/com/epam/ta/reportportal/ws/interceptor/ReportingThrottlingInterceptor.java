@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.ws.interceptor;
+
+import com.epam.ta.reportportal.commons.EntityUtils;
+import com.epam.ta.reportportal.core.throttling.ProjectRateLimiter;
+import com.epam.ta.reportportal.exception.TooManyRequestsException;
+import com.google.common.net.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects reporting requests of the project which exceeded it's rate limit
+ * with {@code 429 Too Many Requests} and {@code Retry-After} header.
+ * Only modifying requests are limited, reading is not affected. Requests
+ * are counted only if user is allowed to report to the project, so
+ * unauthorized requests can't exhaust limit of somebody else's project
+ */
+public class ReportingThrottlingInterceptor extends HandlerInterceptorAdapter {
+
+	private static final String PROJECT_NAME = "projectName";
+
+	private static final String REPORTER_PERMISSION = "reporterPermission";
+
+	private final ProjectRateLimiter rateLimiter;
+
+	private final PermissionEvaluator permissionEvaluator;
+
+	public ReportingThrottlingInterceptor(ProjectRateLimiter rateLimiter, PermissionEvaluator permissionEvaluator) {
+		this.rateLimiter = rateLimiter;
+		this.permissionEvaluator = permissionEvaluator;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+		if (HttpMethod.GET.matches(request.getMethod())) {
+			return true;
+		}
+		@SuppressWarnings("unchecked")
+		Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+		if (null == variables || !variables.containsKey(PROJECT_NAME)) {
+			return true;
+		}
+		String project = EntityUtils.normalizeId(variables.get(PROJECT_NAME));
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (!permissionEvaluator.hasPermission(authentication, project, REPORTER_PERMISSION)) {
+			/* request is rejected by authorization of the handler */
+			return true;
+		}
+		long waitMillis = rateLimiter.tryAcquire(project);
+		if (0 == waitMillis) {
+			return true;
+		}
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.MILLISECONDS.toSeconds(waitMillis + 999))));
+		throw new TooManyRequestsException("Reporting rate limit of project '" + project + "' is exceeded");
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.ws.resolver;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sparse fieldset of list request. Contains names of resource fields client
+ * needs and fields of domain object they are built from, so only those fields
+ * are loaded from database and serialized.
+ */
+public class Fieldset {
+
+	/**
+	 * Complete resources
+	 */
+	public static final Fieldset ALL = new Fieldset(Object.class, Collections.emptySet(), Collections.emptyList());
+
+	private final Class<?> resource;
+
+	private final Set<String> fields;
+
+	private final List<String> projection;
+
+	/**
+	 * @param resource   Resource class
+	 * @param fields     Names of resource fields
+	 * @param projection Fields of domain object. Empty if complete objects should be loaded
+	 */
+	public Fieldset(Class<?> resource, Set<String> fields, List<String> projection) {
+		this.resource = resource;
+		this.fields = fields;
+		this.projection = projection;
+	}
+
+	/**
+	 * @return Whether all fields are requested
+	 */
+	public boolean isAll() {
+		return fields.isEmpty();
+	}
+
+	/**
+	 * @param field Name of resource field
+	 * @return Whether field is requested
+	 */
+	public boolean contains(String field) {
+		return isAll() || fields.contains(field);
+	}
+
+	public Class<?> getResource() {
+		return resource;
+	}
+
+	public Set<String> getFields() {
+		return fields;
+	}
+
+	public List<String> getProjection() {
+		return projection;
+	}
+}
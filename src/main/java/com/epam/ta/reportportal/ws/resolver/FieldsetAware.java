@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.ws.resolver;
+
+/**
+ * Wrapper for java bean to be aware about fieldset requested for it
+ */
+public class FieldsetAware {
+
+	/*
+	 * Java bean to be wrapped
+	 */
+	private final Object pojo;
+
+	/*
+	 * Requested fields of resources
+	 */
+	private final Fieldset fieldset;
+
+	public FieldsetAware(Object pojo, Fieldset fieldset) {
+		this.pojo = pojo;
+		this.fieldset = fieldset;
+	}
+
+	public Object getPojo() {
+		return pojo;
+	}
+
+	public Fieldset getFieldset() {
+		return fieldset;
+	}
+}
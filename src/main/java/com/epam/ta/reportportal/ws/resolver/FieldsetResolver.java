@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.ws.resolver;
+
+import com.epam.ta.reportportal.database.search.CriteriaHolder;
+import com.epam.ta.reportportal.database.search.CriteriaMap;
+import com.epam.ta.reportportal.database.search.CriteriaMapFactory;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.util.*;
+
+/**
+ * Resolves comma-separated <b>'fields'</b> request parameter as {@link Fieldset}
+ * in case argument marked with annotation {@link FieldsFor}. For example
+ * '?fields=id,name,status'.<br>
+ * Resource fields are mapped to fields of domain object via search criteria or
+ * by name. If some of them can't be mapped complete objects are loaded.
+ * Resolved fieldset is also stored as request attribute, so response is serialized
+ * with requested fields only
+ */
+public class FieldsetResolver implements HandlerMethodArgumentResolver {
+
+	public static final String FIELDS_PARAMETER = "fields";
+
+	static final String FIELDSET_ATTRIBUTE = Fieldset.class.getName();
+
+	@Autowired
+	private CriteriaMapFactory criteriaMapFactory;
+
+	@Override
+	public boolean supportsParameter(MethodParameter methodParameter) {
+		return methodParameter.getParameterType().equals(Fieldset.class) && null != methodParameter.getParameterAnnotation(FieldsFor.class);
+	}
+
+	@Override
+	public Fieldset resolveArgument(MethodParameter methodParameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest,
+			WebDataBinderFactory binderFactory) {
+		FieldsFor fieldsFor = methodParameter.getParameterAnnotation(FieldsFor.class);
+		String parameter = webRequest.getParameter(FIELDS_PARAMETER);
+		Set<String> fields = null == parameter ?
+				Collections.emptySet() :
+				ImmutableSet.copyOf(Splitter.on(',').trimResults().omitEmptyStrings().split(parameter));
+		if (fields.isEmpty()) {
+			return Fieldset.ALL;
+		}
+		Fieldset fieldset = new Fieldset(fieldsFor.resource(), fields, toProjection(fieldsFor.value(), fields));
+		webRequest.setAttribute(FIELDSET_ATTRIBUTE, fieldset, RequestAttributes.SCOPE_REQUEST);
+		return fieldset;
+	}
+
+	private List<String> toProjection(Class<?> domainModelType, Set<String> fields) {
+		CriteriaMap<?> map = criteriaMapFactory.getCriteriaMap(domainModelType);
+		List<String> projection = new ArrayList<>(fields.size());
+		for (String field : fields) {
+			Optional<String> property = map.getCriteriaHolderUnchecked(field)
+					.map(CriteriaHolder::getQueryCriteria)
+					.filter(criteria -> !criteria.contains("."));
+			if (!property.isPresent() && null != ReflectionUtils.findField(domainModelType, field)) {
+				property = Optional.of(field);
+			}
+			if (!property.isPresent()) {
+				return Collections.emptyList();
+			}
+			projection.add(property.get());
+		}
+		return projection;
+	}
+}
@@ -21,16 +21,24 @@
 
 package com.epam.ta.reportportal.ws.resolver;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 
 import java.io.IOException;
 
 /**
  * Module for custom serializer configuration for {@link JacksonViewAware}
+ * and {@link FieldsetAware}
  *
  * @author Andrei Varabyeu
  */
@@ -50,6 +58,7 @@ public class JacksonViewAwareModule extends SimpleModule {
 	 */
 	public JacksonViewAwareModule(ObjectMapper objectMapper) {
 		addSerializer(JacksonViewAware.class, new JacksonViewAwareSerializer(objectMapper));
+		addSerializer(FieldsetAware.class, new FieldsetAwareSerializer(objectMapper));
 	}
 
 	public static class JacksonViewAwareSerializer extends StdScalarSerializer<JacksonViewAware> {
@@ -71,4 +80,52 @@ public class JacksonViewAwareModule extends SimpleModule {
 
 	}
 
+	public static class FieldsetAwareSerializer extends StdScalarSerializer<FieldsetAware> {
+
+		private static final String FILTER_ID = "fieldset";
+
+		private final Supplier<ObjectMapper> filteringMapper;
+
+		protected FieldsetAwareSerializer(ObjectMapper objectMapper) {
+			super(FieldsetAware.class);
+			/*
+			 * Copy is made on first usage since mapper is still being configured here
+			 */
+			this.filteringMapper = Suppliers.memoize(() -> objectMapper.copy().addMixIn(Object.class, FieldsetFilterMixIn.class));
+		}
+
+		@Override
+		public void serialize(FieldsetAware value, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+			/*
+			 * Writes bean skipping not requested fields of resources
+			 */
+			FilterProvider filters = new SimpleFilterProvider().addFilter(FILTER_ID, new FieldsetFilter(value.getFieldset()));
+			filteringMapper.get().writer(filters).writeValue(jgen, value.getPojo());
+		}
+
+	}
+
+	@JsonFilter(FieldsetAwareSerializer.FILTER_ID)
+	private static class FieldsetFilterMixIn {
+	}
+
+	private static class FieldsetFilter extends SimpleBeanPropertyFilter {
+
+		private final Fieldset fieldset;
+
+		FieldsetFilter(Fieldset fieldset) {
+			this.fieldset = fieldset;
+		}
+
+		@Override
+		public void serializeAsField(Object pojo, JsonGenerator jgen, SerializerProvider provider, PropertyWriter writer)
+				throws Exception {
+			if (!fieldset.getResource().isInstance(pojo) || fieldset.contains(writer.getName())) {
+				writer.serializeAsField(pojo, jgen, provider);
+			} else if (!jgen.canOmitFields()) {
+				writer.serializeAsOmittedField(pojo, jgen, provider);
+			}
+		}
+	}
+
 }
\ No newline at end of file
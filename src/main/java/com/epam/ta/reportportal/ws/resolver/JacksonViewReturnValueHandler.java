@@ -23,6 +23,7 @@ package com.epam.ta.reportportal.ws.resolver;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
@@ -59,6 +60,14 @@ class JacksonViewReturnValueHandler implements HandlerMethodReturnValueHandler {
 			returnValue = wrapResult(returnValue, viewClass);
 		}
 
+		/*
+		 * Wraps bean to be serialized if client requested sparse fieldset
+		 */
+		Object fieldset = webRequest.getAttribute(FieldsetResolver.FIELDSET_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		if (fieldset instanceof Fieldset && null != returnValue) {
+			returnValue = new FieldsetAware(returnValue, (Fieldset) fieldset);
+		}
+
 		delegate.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
 
 	}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.activity;
+
+import com.epam.ta.reportportal.database.dao.ActivityRepository;
+import com.epam.ta.reportportal.database.entity.item.Activity;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+public class ActivityWriterTest {
+
+	private ActivityRepository activityRepository;
+
+	private MongoOperations mongoOperations;
+
+	private BulkOperations bulkOperations;
+
+	@Before
+	public void setUp() {
+		activityRepository = mock(ActivityRepository.class);
+		mongoOperations = mock(MongoOperations.class);
+		bulkOperations = mock(BulkOperations.class);
+		when(mongoOperations.bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(Activity.class))).thenReturn(bulkOperations);
+		when(bulkOperations.insert(anyListOf(Object.class))).thenReturn(bulkOperations);
+	}
+
+	@Test
+	public void synchronousMode() {
+		ActivityWriter writer = new ActivityWriter(activityRepository, mongoOperations, false, 10, 10, 10);
+		writer.start();
+		List<Activity> activities = Collections.singletonList(new Activity());
+		writer.write(activities);
+		verify(activityRepository, times(1)).save(activities);
+		verifyZeroInteractions(mongoOperations);
+	}
+
+	@Test
+	public void flushedOnStop() {
+		ActivityWriter writer = new ActivityWriter(activityRepository, mongoOperations, true, 10, 10, 10);
+		writer.start();
+		Activity activity = new Activity();
+		writer.write(activity);
+		writer.stop();
+		Assert.assertNotNull(activity.getLastModified());
+		verify(bulkOperations, atLeastOnce()).execute();
+		verify(activityRepository, never()).save(any(Activity.class));
+	}
+
+	@Test
+	public void flushIsNotBlockedByWaitingWriter() {
+		ActivityWriter writer = new ActivityWriter(activityRepository, mongoOperations, true, 10, 10, 60_000);
+		writer.start();
+		writer.write(new Activity());
+		long start = System.nanoTime();
+		writer.flush();
+		Assert.assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10);
+		verify(bulkOperations, times(1)).execute();
+		writer.stop();
+	}
+
+	@Test
+	public void fullQueueFallsBackToRepository() throws InterruptedException {
+		ActivityWriter writer = new ActivityWriter(activityRepository, mongoOperations, true, 1, 10, 10);
+		CountDownLatch flushStarted = new CountDownLatch(1);
+		CountDownLatch flushReleased = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			flushStarted.countDown();
+			flushReleased.await();
+			return null;
+		}).when(bulkOperations).execute();
+		writer.start();
+
+		writer.write(new Activity());
+		flushStarted.await();
+		writer.write(new Activity());
+		Activity rejected = new Activity();
+		writer.write(rejected);
+
+		verify(activityRepository, times(1)).save(Collections.singletonList(rejected));
+		flushReleased.countDown();
+		writer.stop();
+	}
+}
@@ -22,6 +22,7 @@
 package com.epam.ta.reportportal.core.analyzer.client;
 
 import com.epam.ta.reportportal.core.analyzer.model.*;
+import com.epam.ta.reportportal.core.discovery.DiscoveryRegistry;
 import com.epam.ta.reportportal.database.entity.LogLevel;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -35,6 +36,7 @@ import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.client.RestTemplate;
 
 import java.net.URI;
@@ -66,7 +68,7 @@ public class AnalyzerServiceClientTest {
 	public void setup() {
 		restTemplate = Mockito.mock(RestTemplate.class);
 		discoveryClient = Mockito.mock(DiscoveryClient.class);
-		client = new AnalyzerServiceClient(restTemplate, discoveryClient);
+		client = new AnalyzerServiceClient(restTemplate, new DiscoveryRegistry(discoveryClient, mock(TaskScheduler.class), 0));
 	}
 
 	@Test
@@ -90,7 +92,7 @@ public class AnalyzerServiceClientTest {
 		when(mock.getUri()).thenReturn(SERVICE_URL);
 		IndexLaunch rq = new IndexLaunch();
 
-		client = new AnalyzerServiceClient(restTemplate, discoveryClient);
+		client = new AnalyzerServiceClient(restTemplate, new DiscoveryRegistry(discoveryClient, mock(TaskScheduler.class), 0));
 		List<IndexRs> index = client.index(Collections.singletonList(rq));
 		Assert.assertTrue("Should be empty", index.isEmpty());
 	}
@@ -105,7 +107,7 @@ public class AnalyzerServiceClientTest {
 				ImmutableMap.<String, String>builder().put(ANALYZER_INDEX, "false").put(ANALYZER_KEY, "ml").build());
 		when(mock.getUri()).thenReturn(SERVICE_URL);
 
-		client = new AnalyzerServiceClient(restTemplate, discoveryClient);
+		client = new AnalyzerServiceClient(restTemplate, new DiscoveryRegistry(discoveryClient, mock(TaskScheduler.class), 0));
 		List<IndexRs> index = client.index(Collections.singletonList(rq));
 		Assert.assertTrue(index.isEmpty());
 	}
@@ -119,7 +121,7 @@ public class AnalyzerServiceClientTest {
 				.put(ANALYZER_PRIORITY, "1")
 				.build());
 		when(mock.getUri()).thenReturn(SERVICE_URL);
-		client = new AnalyzerServiceClient(restTemplate, discoveryClient);
+		client = new AnalyzerServiceClient(restTemplate, new DiscoveryRegistry(discoveryClient, mock(TaskScheduler.class), 0));
 	}
 
 	@Test
@@ -26,6 +26,7 @@ import com.epam.ta.reportportal.core.analyzer.IIssuesAnalyzer;
 import com.epam.ta.reportportal.core.analyzer.ILogIndexer;
 import com.epam.ta.reportportal.core.analyzer.model.AnalyzedItemRs;
 import com.epam.ta.reportportal.core.analyzer.model.IndexLaunch;
+import com.epam.ta.reportportal.core.log.LogMessages;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacadeFactory;
 import com.epam.ta.reportportal.core.statistics.StepBasedStatisticsFacade;
 import com.epam.ta.reportportal.database.dao.LogRepository;
@@ -42,7 +43,9 @@ import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoOperations;
 
 import java.util.*;
 
@@ -73,6 +76,8 @@ public class IssuesAnalyzerServiceTest {
 
 	@Mock
 	private AnalyzerStatusCache analyzerStatusCache;
+	@Spy
+	private LogMessages logMessages = new LogMessages(mock(MongoOperations.class), 65536, 4096);
 
 	@InjectMocks
 	private IIssuesAnalyzer issuesAnalyzer;
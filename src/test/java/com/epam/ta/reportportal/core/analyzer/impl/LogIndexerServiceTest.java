@@ -26,6 +26,7 @@ import com.epam.ta.reportportal.core.analyzer.model.IndexLaunch;
 import com.epam.ta.reportportal.core.analyzer.model.IndexRs;
 import com.epam.ta.reportportal.core.analyzer.model.IndexRsIndex;
 import com.epam.ta.reportportal.core.analyzer.model.IndexRsItem;
+import com.epam.ta.reportportal.core.log.LogMessages;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
 import com.epam.ta.reportportal.database.dao.LogRepository;
 import com.epam.ta.reportportal.database.dao.ProjectRepository;
@@ -34,18 +35,25 @@ import com.epam.ta.reportportal.database.entity.Launch;
 import com.epam.ta.reportportal.database.entity.Log;
 import com.epam.ta.reportportal.database.entity.LogLevel;
 import com.epam.ta.reportportal.database.entity.Project;
+import com.epam.ta.reportportal.database.entity.Status;
 import com.epam.ta.reportportal.database.entity.item.TestItem;
 import com.epam.ta.reportportal.database.entity.item.issue.TestItemIssue;
 import com.epam.ta.reportportal.database.entity.item.issue.TestItemIssueType;
+import com.epam.ta.reportportal.database.entity.user.User;
 import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.util.email.EmailService;
+import com.epam.ta.reportportal.util.email.MailServiceFactory;
 import com.epam.ta.reportportal.ws.model.launch.Mode;
 import com.mongodb.DBCollection;
 import com.mongodb.DBObject;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.util.CloseableIterator;
@@ -54,6 +62,7 @@ import org.springframework.retry.policy.TimeoutRetryPolicy;
 import org.springframework.retry.support.RetryTemplate;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -80,6 +89,14 @@ public class LogIndexerServiceTest {
 	private LogRepository logRepository;
 	@Mock
 	private ProjectRepository projectRepository;
+	@Mock
+	private MailServiceFactory mailServiceFactory;
+	@Mock
+	private EmailService emailService;
+	@Mock
+	private DBCollection watermarkColl;
+	@Spy
+	private LogMessages logMessages = new LogMessages(mock(MongoOperations.class), 65536, 4096);
 
 	@InjectMocks
 	private LogIndexerService logIndexerService;
@@ -278,6 +295,36 @@ public class LogIndexerServiceTest {
 		verify(analyzerServiceClient, times(0)).index(anyListOf(IndexLaunch.class));
 	}
 
+	@Test
+	public void testIndexProjectDataSkipsLaunchesInProgress() {
+		Project project = new Project();
+		project.setName("project");
+		when(mongoOperations.getCollection(eq("analyzerIndexWatermark"))).thenReturn(watermarkColl);
+		when(watermarkColl.findOne(any(DBObject.class))).thenReturn(null);
+		Launch finished = createLaunch("1");
+		finished.setStatus(Status.PASSED);
+		Launch inProgress = createLaunch("2");
+		inProgress.setStatus(Status.IN_PROGRESS);
+		when(mongoOperations.find(any(Query.class), eq(Launch.class))).thenReturn(Arrays.asList(finished, inProgress));
+		when(testItemRepository.findItemsNotInIssueType(anyString(), eq("1"))).thenReturn(createTestItems(1));
+		when(logRepository.findGreaterOrEqualLevel(anyListOf(String.class), eq(LogLevel.ERROR))).thenReturn(
+				Collections.singletonList(createLog("id")));
+		when(analyzerServiceClient.index(anyListOf(IndexLaunch.class))).thenReturn(Collections.singletonList(createIndexRs(1)));
+		when(mailServiceFactory.getDefaultEmailService(true)).thenReturn(emailService);
+
+		User user = new User();
+		user.setEmail("user@epam.com");
+		logIndexerService.indexProjectData(project, user);
+
+		verify(testItemRepository, never()).findItemsNotInIssueType(anyString(), eq("2"));
+		verify(analyzerServiceClient).index(anyListOf(IndexLaunch.class));
+		ArgumentCaptor<DBObject> watermark = ArgumentCaptor.forClass(DBObject.class);
+		verify(watermarkColl).save(watermark.capture());
+		Assert.assertEquals("1", watermark.getValue().get("launchId"));
+		verify(emailService).sendIndexFinishedEmail(anyString(), eq("user@epam.com"), eq(1L));
+		verify(projectRepository).enableProjectIndexing("project", false);
+	}
+
 	private Launch createLaunch(String id) {
 		Launch l = new Launch();
 		l.setId(id);
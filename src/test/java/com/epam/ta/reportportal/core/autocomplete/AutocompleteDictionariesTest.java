@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.autocomplete;
+
+import com.epam.ta.reportportal.database.entity.Launch;
+import com.epam.ta.reportportal.ws.model.launch.Mode;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AutocompleteDictionariesTest {
+
+	private final MongoOperations mongoOperations = mock(MongoOperations.class);
+
+	private final AutocompleteDictionaries dictionaries = new AutocompleteDictionaries(mongoOperations, true, 10, 10);
+
+	@Test
+	public void launchStartedDuringRebuildIsCountedOnce() {
+		Launch started = launch("started", "sanity");
+		scan(() -> dictionaries.launchAdded(started), launch("first", "smoke"), started);
+
+		dictionaries.launchRemoved(started);
+		Assert.assertEquals(Optional.of(Collections.emptyList()), dictionaries.findLaunchNames("project", "san"));
+	}
+
+	@Test
+	public void launchDeletedDuringRebuildIsNotCounted() {
+		Launch deleted = launch("deleted", "regression");
+		scan(() -> dictionaries.launchRemoved(deleted), launch("first", "smoke"), deleted);
+
+		Assert.assertEquals(Optional.of(Collections.emptyList()), dictionaries.findLaunchNames("project", "reg"));
+	}
+
+	@Test
+	public void launchUpdatedDuringRebuildIsCountedOnce() {
+		Launch before = launch("updated", "smoke");
+		Launch after = launch("updated", "regression");
+		scan(() -> {
+			dictionaries.launchRemoved(before);
+			dictionaries.launchAdded(after);
+		}, launch("first", "smoke"), after);
+
+		Assert.assertEquals(Optional.of(Collections.singletonList("smoke")), dictionaries.findLaunchNames("project", "smo"));
+		dictionaries.launchRemoved(after);
+		Assert.assertEquals(Optional.of(Collections.emptyList()), dictionaries.findLaunchNames("project", "reg"));
+	}
+
+	@Test
+	public void lookupsQueryDatabaseUntilRebuilt() {
+		Assert.assertEquals(Optional.empty(), dictionaries.findLaunchNames("project", "smo"));
+	}
+
+	/**
+	 * Rebuilds dictionaries from the launches, the event happens after the first one is scanned
+	 */
+	private void scan(Runnable event, Launch... launches) {
+		Iterator<Launch> iterator = Arrays.asList(launches).iterator();
+		when(mongoOperations.stream(any(Query.class), eq(Launch.class))).thenReturn(new CloseableIterator<Launch>() {
+			private boolean happened;
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Launch next() {
+				Launch next = iterator.next();
+				if (!happened && next != launches[0]) {
+					happened = true;
+					event.run();
+				}
+				return next;
+			}
+
+			@Override
+			public void close() {
+			}
+		});
+		dictionaries.rebuild();
+	}
+
+	private static Launch launch(String id, String name) {
+		Launch launch = new Launch();
+		launch.setId(id);
+		launch.setProjectRef("project");
+		launch.setName(name);
+		launch.setUserRef("user");
+		launch.setMode(Mode.DEFAULT);
+		return launch;
+	}
+}
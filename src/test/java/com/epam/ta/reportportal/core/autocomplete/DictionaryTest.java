@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.autocomplete;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class DictionaryTest {
+
+	@Test
+	public void valuesStartingWithStringGoFirst() {
+		Dictionary dictionary = new Dictionary();
+		dictionary.add("regression_smoke", 1);
+		dictionary.add("Smoke", 1);
+		dictionary.add("smoke_nightly", 1);
+		dictionary.add("smoke_nightly", 2);
+		dictionary.add("regression", 1);
+
+		Assert.assertEquals(Arrays.asList("smoke_nightly", "Smoke", "regression_smoke"), dictionary.find("SMO", 10));
+		Assert.assertEquals(Collections.singletonList("smoke_nightly"), dictionary.find("smo", 1));
+	}
+
+	@Test
+	public void valueIsRemovedWhenNotUsed() {
+		Dictionary dictionary = new Dictionary();
+		dictionary.add("tag", 1);
+		dictionary.add("tag", 2);
+
+		dictionary.remove("tag");
+		Assert.assertEquals(Collections.singletonList("tag"), dictionary.find("ta", 10));
+
+		dictionary.remove("tag");
+		Assert.assertTrue(dictionary.find("ta", 10).isEmpty());
+		Assert.assertEquals(0, dictionary.size());
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.discovery;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+public class DiscoveryRegistryTest {
+
+	private DiscoveryClient discoveryClient;
+
+	private TaskScheduler taskScheduler;
+
+	private DiscoveryRegistry registry;
+
+	@Before
+	public void setUp() {
+		discoveryClient = mock(DiscoveryClient.class);
+		taskScheduler = mock(TaskScheduler.class);
+		ServiceInstance analyzer = instance(ImmutableMap.of("analyzer", "ml"));
+		ServiceInstance jira = instance(ImmutableMap.of("extension", "jira"));
+		when(discoveryClient.getServices()).thenReturn(ImmutableList.of("analyzer", "jira"));
+		when(discoveryClient.getInstances("analyzer")).thenReturn(Collections.singletonList(analyzer));
+		when(discoveryClient.getInstances("jira")).thenReturn(Collections.singletonList(jira));
+		registry = new DiscoveryRegistry(discoveryClient, taskScheduler, 1000);
+	}
+
+	@Test
+	public void snapshotIndexedByMetadata() {
+		DiscoverySnapshot snapshot = registry.getSnapshot();
+		Assert.assertEquals(2, snapshot.getInstances().size());
+		Assert.assertEquals(1, snapshot.getInstances("analyzer").size());
+		Assert.assertTrue(snapshot.getInstance("extension", "jira").isPresent());
+		Assert.assertFalse(snapshot.getInstance("extension", "rally").isPresent());
+		Assert.assertEquals(Collections.singleton("ml"), snapshot.getMetadataValues("analyzer"));
+	}
+
+	@Test
+	public void discoveryQueriedOnce() {
+		registry.getSnapshot();
+		registry.getSnapshot();
+		verify(discoveryClient, times(1)).getServices();
+	}
+
+	@Test
+	public void refreshesAreCollapsed() {
+		registry.scheduleRefresh();
+		registry.scheduleRefresh();
+		registry.scheduleRefresh();
+		verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Date.class));
+	}
+
+	private ServiceInstance instance(Map<String, String> metadata) {
+		ServiceInstance instance = mock(ServiceInstance.class);
+		when(instance.getMetadata()).thenReturn(metadata);
+		return instance;
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.externalsystem;
+
+import com.epam.ta.reportportal.database.entity.ExternalSystem;
+import com.epam.ta.reportportal.ws.model.externalsystem.Ticket;
+import com.google.common.collect.ImmutableList;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+public class ExternalSystemCacheTest {
+
+	private static final String SYSTEM_ID = "systemId";
+
+	private StrategyProvider strategyProvider;
+
+	private ExternalSystemStrategy strategy;
+
+	private ExternalSystemCache externalSystemCache;
+
+	@Before
+	public void setUp() {
+		strategyProvider = mock(StrategyProvider.class);
+		strategy = mock(ExternalSystemStrategy.class);
+		when(strategyProvider.getStrategy("JIRA")).thenReturn(strategy);
+		externalSystemCache = new ExternalSystemCache(strategyProvider, 100, 5);
+	}
+
+	@Test
+	public void ticketLoadedOnce() {
+		ExternalSystem system = externalSystem();
+		when(strategy.getTicket("DE1", system)).thenReturn(Optional.of(ticket("DE1")));
+
+		Assert.assertTrue(externalSystemCache.getTicket("DE1", system).isPresent());
+		Assert.assertTrue(externalSystemCache.getTicket("DE1", system).isPresent());
+
+		verify(strategyProvider, times(1)).getStrategy("JIRA");
+		verify(strategy, times(1)).getTicket("DE1", system);
+	}
+
+	@Test
+	public void batchLoadsOnlyAbsentTickets() {
+		ExternalSystem system = externalSystem();
+		externalSystemCache.refreshTicket(SYSTEM_ID, ticket("DE1"));
+		when(strategy.getTicket("DE2", system)).thenReturn(Optional.of(ticket("DE2")));
+		when(strategy.getTicket("DE3", system)).thenReturn(Optional.empty());
+
+		Map<String, Ticket> tickets = externalSystemCache.getTickets(ImmutableList.of("DE1", "DE2", "DE3"), system);
+
+		Assert.assertEquals(2, tickets.size());
+		Assert.assertEquals("DE2", tickets.get("DE2").getId());
+		verify(strategy, never()).getTicket("DE1", system);
+		verify(strategyProvider, times(1)).getStrategy("JIRA");
+	}
+
+	@Test
+	public void invalidateSystem() {
+		ExternalSystem system = externalSystem();
+		when(strategy.getTicket("DE1", system)).thenReturn(Optional.of(ticket("DE1")));
+		externalSystemCache.refreshTicket(SYSTEM_ID, ticket("DE1"));
+
+		externalSystemCache.invalidateSystem(SYSTEM_ID);
+		externalSystemCache.getTicket("DE1", system);
+
+		verify(strategy, times(1)).getTicket("DE1", system);
+	}
+
+	private ExternalSystem externalSystem() {
+		ExternalSystem externalSystem = new ExternalSystem();
+		externalSystem.setId(SYSTEM_ID);
+		externalSystem.setExternalSystemType("JIRA");
+		return externalSystem;
+	}
+
+	private Ticket ticket(String id) {
+		Ticket ticket = new Ticket();
+		ticket.setId(id);
+		return ticket;
+	}
+}
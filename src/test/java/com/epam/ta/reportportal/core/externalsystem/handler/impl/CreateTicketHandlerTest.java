@@ -21,6 +21,7 @@
 
 package com.epam.ta.reportportal.core.externalsystem.handler.impl;
 
+import com.epam.ta.reportportal.core.externalsystem.ExternalSystemCache;
 import com.epam.ta.reportportal.core.externalsystem.ExternalSystemStrategy;
 import com.epam.ta.reportportal.core.externalsystem.StrategyProvider;
 import com.epam.ta.reportportal.database.dao.ExternalSystemRepository;
@@ -71,6 +72,9 @@ public class CreateTicketHandlerTest {
 	@Mock
 	private ExternalSystemRepository externalSystemRepository;
 
+	@Mock
+	private ExternalSystemCache externalSystemCache;
+
 	@Mock
 	private ApplicationEventPublisher eventPublisher;
 
@@ -171,6 +175,7 @@ public class CreateTicketHandlerTest {
 
 		createTicketHandler.createIssue(postTicketRQ, PROJECT_ID, EXTERNAL_SYSTEM_ID, "user");
 		verify(eventPublisher, times(2)).publishEvent(any(TicketPostedEvent.class));
+		verify(externalSystemCache, times(1)).refreshTicket(eq(EXTERNAL_SYSTEM_ID), any(Ticket.class));
 	}
 
 	private Ticket ticket() {
@@ -22,6 +22,8 @@
 package com.epam.ta.reportportal.core.item;
 
 import com.epam.ta.reportportal.commons.validation.Suppliers;
+import com.epam.ta.reportportal.core.progress.ProgressBroadcaster;
+import com.epam.ta.reportportal.core.statistics.StatisticsBuffer;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacadeFactory;
 import com.epam.ta.reportportal.core.statistics.StepBasedStatisticsFacade;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
@@ -158,6 +160,8 @@ public class FinishItemTest {
 
 		when(facadeFactoryMock.getStatisticsFacade(any())).thenReturn(facadeMock);
 		finishTestItemHandler.setStatisticsFacadeFactory(facadeFactoryMock);
+		finishTestItemHandler.setProgressBroadcaster(mock(ProgressBroadcaster.class));
+		finishTestItemHandler.setStatisticsBuffer(mock(StatisticsBuffer.class));
 
 		final FinishTestItemRQ finishExecutionRQ = new FinishTestItemRQ();
 		finishExecutionRQ.setStatus(Status.PASSED.name());
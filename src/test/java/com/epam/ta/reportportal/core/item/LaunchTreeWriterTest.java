@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.item;
+
+import com.epam.ta.reportportal.core.configs.JacksonConfiguration;
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+public class LaunchTreeWriterTest {
+
+	private final ObjectMapper objectMapper = new JacksonConfiguration().objectMapper();
+
+	private MongoOperations mongoOperations;
+
+	@Before
+	public void mockItems() {
+		mongoOperations = mock(MongoOperations.class);
+		TestItem suite = item("suite", true);
+		TestItem step = item("step", false);
+		step.setParent(suite.getId());
+		step.setPath(Lists.newArrayList(suite.getId()));
+		when(mongoOperations.stream(any(Query.class), eq(TestItem.class))).thenReturn(iterator(suite, step));
+		/* batch is returned in arbitrary order */
+		when(mongoOperations.find(any(Query.class), eq(TestItem.class))).thenReturn(Arrays.asList(step, suite));
+	}
+
+	@Test
+	public void itemsAreNested() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new LaunchTreeWriter(mongoOperations, objectMapper).write("launch", Fieldset.ALL, false, out);
+
+		JsonNode tree = objectMapper.readTree(out.toByteArray());
+		Assert.assertEquals(1, tree.size());
+		Assert.assertEquals("suite", tree.get(0).get("name").asText());
+		Assert.assertEquals("step", tree.get(0).get("children").get(0).get("name").asText());
+		Assert.assertEquals(0, tree.get(0).get("children").get(0).get("children").size());
+		Assert.assertEquals("suite", tree.get(0).get("children").get(0).get("path_names").get("suiteId").asText());
+		verify(mongoOperations, times(1)).stream(any(Query.class), eq(TestItem.class));
+		verify(mongoOperations, times(1)).find(any(Query.class), eq(TestItem.class));
+	}
+
+	@Test
+	public void itemsAreWrittenLineByLine() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new LaunchTreeWriter(mongoOperations, objectMapper).write("launch", Fieldset.ALL, true, out);
+
+		String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n");
+		Assert.assertEquals(2, lines.length);
+		Assert.assertEquals("suite", objectMapper.readTree(lines[0]).get("name").asText());
+		Assert.assertEquals("step", objectMapper.readTree(lines[1]).get("name").asText());
+		/* path names are taken from ancestors */
+		Assert.assertTrue(lines[1].contains("\"suite\""));
+	}
+
+	private static TestItem item(String name, boolean hasChilds) {
+		TestItem item = new TestItem();
+		item.setId(name + "Id");
+		item.setName(name);
+		item.setLaunchRef("launch");
+		item.setHasChilds(hasChilds);
+		item.setPath(Lists.newArrayList());
+		return item;
+	}
+
+	private static CloseableIterator<TestItem> iterator(TestItem... items) {
+		Iterator<TestItem> iterator = Arrays.asList(items).iterator();
+		return new CloseableIterator<TestItem>() {
+			@Override
+			public void close() {
+			}
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public TestItem next() {
+				return iterator.next();
+			}
+		};
+	}
+}
@@ -37,6 +37,7 @@ import com.epam.ta.reportportal.exception.ReportPortalException;
 import com.epam.ta.reportportal.ws.model.ErrorType;
 import com.epam.ta.reportportal.ws.model.launch.LaunchResource;
 import com.epam.ta.reportportal.ws.model.launch.Mode;
+import com.epam.ta.reportportal.ws.resolver.Fieldset;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Sets;
 import org.junit.Assert;
@@ -78,7 +79,7 @@ public class GetLaunchHandlerTest extends BaseTest {
 	@Test
 	public void getDefaultLaunches() {
 		Filter filter = new Filter(Launch.class, Sets.newHashSet(new FilterCondition(EQUALS, false, "project1", Project.PROJECT)));
-		Iterable<LaunchResource> defaultLaunches = getLaunchHandler.getProjectLaunches("project1", filter, new PageRequest(0, 10), "user1");
+		Iterable<LaunchResource> defaultLaunches = getLaunchHandler.getProjectLaunches("project1", filter, new PageRequest(0, 10), "user1", Fieldset.ALL);
 		defaultLaunches.forEach(it -> Assert.assertEquals(it.getMode(), Mode.DEFAULT));
 	}
 
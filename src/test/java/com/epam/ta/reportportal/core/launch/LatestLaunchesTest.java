@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.launch;
+
+import com.epam.ta.reportportal.core.launch.impl.LatestLaunches;
+import com.epam.ta.reportportal.database.entity.Launch;
+import com.epam.ta.reportportal.database.entity.Status;
+import com.epam.ta.reportportal.ws.model.launch.Mode;
+import org.junit.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class LatestLaunchesTest {
+
+	@Test
+	public void onlyFinishedDefaultLaunchesArePointedTo() {
+		MongoOperations mongoOperations = mock(MongoOperations.class);
+		LatestLaunches latestLaunches = new LatestLaunches(mongoOperations, true);
+
+		latestLaunches.launchFinished(launch(Mode.DEBUG, Status.PASSED));
+		latestLaunches.launchFinished(launch(Mode.DEFAULT, Status.IN_PROGRESS));
+		verifyZeroInteractions(mongoOperations);
+
+		latestLaunches.launchFinished(launch(Mode.DEFAULT, Status.FAILED));
+		verify(mongoOperations).upsert(any(Query.class), any(Update.class), anyString());
+	}
+
+	@Test
+	public void pointerToLaterLaunchIsKept() {
+		MongoOperations mongoOperations = mock(MongoOperations.class);
+		when(mongoOperations.upsert(any(Query.class), any(Update.class), anyString())).thenThrow(new DuplicateKeyException("E11000"));
+
+		new LatestLaunches(mongoOperations, true).launchFinished(launch(Mode.DEFAULT, Status.PASSED));
+	}
+
+	@Test
+	public void pointersAreDroppedWhenDisabled() {
+		MongoOperations mongoOperations = mock(MongoOperations.class);
+
+		new LatestLaunches(mongoOperations, false).onApplicationReady(null);
+		verify(mongoOperations).dropCollection("latestLaunches");
+	}
+
+	private static Launch launch(Mode mode, Status status) {
+		Launch launch = new Launch();
+		launch.setId("launch");
+		launch.setProjectRef("project");
+		launch.setName("name");
+		launch.setNumber(2L);
+		launch.setMode(mode);
+		launch.setStatus(status);
+		return launch;
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.launch;
+
+import com.epam.ta.reportportal.core.launch.impl.LaunchProjections;
+import com.epam.ta.reportportal.database.entity.Launch;
+import com.epam.ta.reportportal.database.entity.Status;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+public class LaunchProjectionsTest {
+
+	@Test
+	public void identicalStatusPollsAreCoalesced() {
+		Launch launch = new Launch();
+		launch.setId("launch1");
+		launch.setStatus(Status.IN_PROGRESS);
+		MongoOperations mongoOperations = mock(MongoOperations.class);
+		when(mongoOperations.find(any(Query.class), eq(Launch.class))).thenReturn(Collections.singletonList(launch));
+
+		LaunchProjections projections = new LaunchProjections(mongoOperations, 60000);
+		Map<String, String> first = projections.getStatuses("project", Arrays.asList("launch1", "launch2"));
+		Map<String, String> second = projections.getStatuses("project", Arrays.asList("launch2", "launch1"));
+
+		Assert.assertEquals(Collections.singletonMap("launch1", "IN_PROGRESS"), first);
+		Assert.assertEquals(first, second);
+		verify(mongoOperations, times(1)).find(any(Query.class), eq(Launch.class));
+
+		projections.getStatuses("another_project", Arrays.asList("launch1", "launch2"));
+		verify(mongoOperations, times(2)).find(any(Query.class), eq(Launch.class));
+	}
+}
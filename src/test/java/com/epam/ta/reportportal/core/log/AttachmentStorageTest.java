@@ -0,0 +1,184 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.log;
+
+import com.epam.ta.reportportal.database.DataStorage;
+import com.epam.ta.reportportal.database.entity.BinaryContent;
+import com.epam.ta.reportportal.database.entity.Log;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.mongodb.WriteResult;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class AttachmentStorageTest {
+
+	private final MongoOperations mongoOperations = mock(MongoOperations.class);
+
+	private final DataStorage dataStorage = mock(DataStorage.class);
+
+	private final AttachmentStorage storage = new AttachmentStorage(mongoOperations, dataStorage);
+
+	@Test
+	public void sameContentHasSameHash() throws Exception {
+		String first = AttachmentStorage.hash(new MockMultipartFile("first.png", new byte[] { 1, 2, 3 }));
+		String second = AttachmentStorage.hash(new MockMultipartFile("second.png", new byte[] { 1, 2, 3 }));
+		String other = AttachmentStorage.hash(new MockMultipartFile("first.png", new byte[] { 3, 2, 1 }));
+		Assert.assertEquals(first, second);
+		Assert.assertNotEquals(first, other);
+	}
+
+	@Test
+	public void concurrentlyStoredCopyIsDeleted() {
+		when(mongoOperations.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(DBObject.class),
+				anyString()
+		)).thenReturn(new BasicDBObject("_id", "first").append("thumbnailId", "firstThumbnail").append("contentType", "image/png"));
+		doThrow(new DuplicateKeyException("hash")).when(mongoOperations).insert(any(DBObject.class), anyString());
+
+		BinaryContent content = storage.register("project", "hash", new BinaryContent("second", "secondThumbnail", "image/png"));
+
+		Assert.assertEquals("first", content.getBinaryDataId());
+		Assert.assertEquals("firstThumbnail", content.getThumbnailId());
+		verify(dataStorage).deleteData("second");
+		verify(dataStorage).deleteData("secondThumbnail");
+	}
+
+	@Test
+	public void fileIsDeletedWithLastReference() {
+		mockLogs(log("1", "shared"), log("2", "shared"), log("3", "legacy"));
+		when(mongoOperations.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(DBObject.class),
+				anyString()
+		)).thenAnswer(invocation -> {
+			String id = ((Query) invocation.getArguments()[0]).getQueryObject().get("_id").toString();
+			return "shared".equals(id) ? new BasicDBObject("_id", id).append("refs", 0).append("thumbnailId", "sharedThumbnail") : null;
+		});
+		when(mongoOperations.remove(any(Query.class), anyString())).thenReturn(new WriteResult(1, false, null));
+
+		storage.detach(where("launchRef").is("launch"));
+
+		verify(mongoOperations, times(3)).findAndModify(any(Query.class), any(Update.class), eq(Log.class));
+		ArgumentCaptor<Update> releases = ArgumentCaptor.forClass(Update.class);
+		verify(mongoOperations, times(2)).findAndModify(any(Query.class), releases.capture(), any(FindAndModifyOptions.class),
+				eq(DBObject.class), anyString()
+		);
+		Assert.assertTrue(releases.getAllValues()
+				.stream()
+				.map(update -> ((DBObject) update.getUpdateObject().get("$inc")).get("refs"))
+				.anyMatch(Integer.valueOf(-2)::equals));
+		verify(dataStorage).deleteData("shared");
+		verify(dataStorage).deleteData("sharedThumbnail");
+		verify(dataStorage).deleteData("legacy");
+	}
+
+	@Test
+	public void referredFileIsKept() {
+		mockLogs(log("1", "shared"));
+		when(mongoOperations.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(DBObject.class),
+				anyString()
+		)).thenReturn(new BasicDBObject("_id", "shared").append("refs", 1));
+
+		storage.detach(where("launchRef").is("launch"));
+
+		verify(dataStorage, never()).deleteData(anyString());
+	}
+
+	@Test
+	public void concurrentlyDetachedLogIsNotReleased() {
+		Log log = log("1", "shared");
+		mockLogs(log);
+		when(mongoOperations.findAndModify(any(Query.class), any(Update.class), eq(Log.class))).thenReturn(null);
+
+		storage.detach(where("launchRef").is("launch"));
+
+		verify(mongoOperations, never()).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+				eq(DBObject.class), anyString()
+		);
+		verify(dataStorage, never()).deleteData(anyString());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void filesOfRemovedProjectAreDeleted() {
+		Iterator<DBObject> iterator = Arrays.<DBObject>asList(new BasicDBObject("_id", "file").append("thumbnailId", "thumbnail"),
+				new BasicDBObject("_id", "other")
+		).iterator();
+		CloseableIterator<DBObject> cursor = mock(CloseableIterator.class);
+		doAnswer(invocation -> {
+			iterator.forEachRemaining(((Consumer<DBObject>) invocation.getArguments()[0]));
+			return null;
+		}).when(cursor).forEachRemaining(any());
+		when(mongoOperations.stream(any(Query.class), eq(DBObject.class), eq("attachments"))).thenReturn(cursor);
+
+		storage.projectRemoved("project");
+
+		verify(dataStorage).deleteData("file");
+		verify(dataStorage).deleteData("thumbnail");
+		verify(dataStorage).deleteData("other");
+		verify(mongoOperations).remove(any(Query.class), eq("attachments"));
+	}
+
+	@Test
+	public void missingContentIsNotAcquired() {
+		Assert.assertEquals(Optional.empty(), storage.acquire("project", "hash"));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void mockLogs(Log... logs) {
+		Iterator<Log> iterator = Arrays.asList(logs).iterator();
+		CloseableIterator<Log> cursor = mock(CloseableIterator.class);
+		doAnswer(invocation -> {
+			iterator.forEachRemaining(((Consumer<Log>) invocation.getArguments()[0]));
+			return null;
+		}).when(cursor).forEachRemaining(any());
+		when(mongoOperations.stream(any(Query.class), eq(Log.class))).thenReturn(cursor);
+		when(mongoOperations.findAndModify(any(Query.class), any(Update.class), eq(Log.class))).thenAnswer(invocation -> {
+			Object id = ((Query) invocation.getArguments()[0]).getQueryObject().get("_id");
+			return Arrays.stream(logs).filter(it -> it.getId().equals(id)).findFirst().orElse(null);
+		});
+	}
+
+	private static Log log(String id, String dataId) {
+		Log log = new Log();
+		log.setId(id);
+		log.setBinaryContent(new BinaryContent(dataId, null, "image/png"));
+		return log;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.log;
+
+import com.epam.ta.reportportal.database.entity.Log;
+import com.google.common.base.Strings;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+public class LogMessagesTest {
+
+	private final MongoOperations mongoOperations = mock(MongoOperations.class);
+
+	private final LogMessages logMessages = new LogMessages(mongoOperations, 100, 20);
+
+	@Test
+	public void shortMessageIsKeptInline() {
+		Log log = log(null, Strings.repeat("a", 100));
+		logMessages.offload(log);
+		Assert.assertEquals(100, log.getLogMsg().length());
+		verifyZeroInteractions(mongoOperations);
+	}
+
+	@Test
+	public void largeMessageIsStoredCompressed() {
+		String message = Strings.repeat("stack trace line\n", 100);
+		Log log = log(null, message);
+		logMessages.offload(log);
+
+		Assert.assertNotNull(log.getId());
+		Assert.assertEquals(20, log.getLogMsg().length());
+		Assert.assertEquals(message.substring(0, 8) + LogMessages.TRUNCATION_MARKER, log.getLogMsg());
+
+		ArgumentCaptor<DBObject> stored = ArgumentCaptor.forClass(DBObject.class);
+		verify(mongoOperations).save(stored.capture(), anyString());
+		byte[] compressed = (byte[]) stored.getValue().get("message");
+		Assert.assertTrue(compressed.length < message.length());
+		Assert.assertEquals(message, LogMessages.decompress(compressed));
+	}
+
+	@Test
+	public void onlyTruncatedMessagesAreRestored() {
+		String message = Strings.repeat("b", 200);
+		Log truncated = log("5a0e5b2fdb1f4d3d0ce7f0a1", message.substring(0, 8) + LogMessages.TRUNCATION_MARKER);
+		Log inline = log("5a0e5b2fdb1f4d3d0ce7f0a2", Strings.repeat("c", 20));
+		when(mongoOperations.find(any(Query.class), eq(DBObject.class), anyString())).thenReturn(Collections.singletonList(
+				new BasicDBObject("_id", truncated.getId()).append("message", LogMessages.compress(message))));
+
+		logMessages.restore(Arrays.asList(truncated, inline));
+
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		verify(mongoOperations).find(query.capture(), eq(DBObject.class), anyString());
+		Assert.assertFalse(query.getValue().toString().contains(inline.getId()));
+		Assert.assertEquals(message, truncated.getLogMsg());
+		Assert.assertEquals(Strings.repeat("c", 20), inline.getLogMsg());
+	}
+
+	private static Log log(String id, String message) {
+		Log log = new Log();
+		log.setId(id);
+		log.setLogMsg(message);
+		return log;
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.progress;
+
+import com.epam.ta.reportportal.database.dao.LaunchRepository;
+import com.epam.ta.reportportal.database.dao.TestItemRepository;
+import com.epam.ta.reportportal.database.entity.Launch;
+import com.epam.ta.reportportal.database.entity.Log;
+import com.epam.ta.reportportal.database.entity.Project;
+import com.epam.ta.reportportal.database.entity.Status;
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.database.entity.statistics.ExecutionCounter;
+import com.epam.ta.reportportal.database.entity.statistics.IssueCounter;
+import com.epam.ta.reportportal.database.entity.statistics.Statistics;
+import com.epam.ta.reportportal.events.LaunchFinishedEvent;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.google.common.collect.Lists;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+public class ProgressBroadcasterTest {
+
+	private static final String PROJECT = "project";
+	private static final String LAUNCH = "launch";
+
+	private final LaunchRepository launchRepository = mock(LaunchRepository.class);
+
+	private final TestItemRepository testItemRepository = mock(TestItemRepository.class);
+
+	private final MongoOperations mongoOperations = mock(MongoOperations.class);
+
+	private ProgressBroadcaster broadcaster;
+
+	@Before
+	public void setUp() {
+		broadcaster = new ProgressBroadcaster(launchRepository, testItemRepository, mongoOperations, 1000, 2, 1000) {
+			@Override
+			SseEmitter newEmitter() {
+				return mock(SseEmitter.class);
+			}
+		};
+		when(launchRepository.loadStatusProjectRefAndStartTime(LAUNCH)).thenReturn(launch(Status.IN_PROGRESS));
+	}
+
+	@Test
+	public void eventsOfItemAreCoalesced() throws IOException {
+		SseEmitter emitter = broadcaster.subscribeLaunch(PROJECT, LAUNCH, false);
+		TestItem item = item("item", Status.IN_PROGRESS);
+		broadcaster.itemStarted(item);
+		item.setStatus(Status.PASSED);
+		broadcaster.itemFinished(item);
+		broadcaster.runOneIteration();
+
+		ProgressUpdate update = sent(emitter).get(0);
+		Assert.assertEquals(1, update.getEvents().size());
+		Assert.assertEquals(ProgressEvent.Type.ITEM_FINISHED, update.getEvents().get(0).getType());
+		Assert.assertNull(update.getDropped());
+		verify(mongoOperations).findOne(any(Query.class), eq(Launch.class));
+		verify(emitter, never()).complete();
+	}
+
+	@Test
+	public void logsAreSentOnlyIfRequested() throws IOException {
+		SseEmitter withoutLogs = broadcaster.subscribeLaunch(PROJECT, LAUNCH, false);
+		SseEmitter withLogs = broadcaster.subscribeLaunch(PROJECT, LAUNCH, true);
+		broadcaster.logCreated(log("log"), item("item", Status.IN_PROGRESS));
+		broadcaster.runOneIteration();
+
+		verify(withoutLogs, never()).send(any(SseEmitter.SseEventBuilder.class));
+		Assert.assertEquals("log", sent(withLogs).get(0).getEvents().get(0).getLogId());
+		verifyZeroInteractions(mongoOperations);
+	}
+
+	@Test
+	public void itemSubscriberReceivesOnlyDescendants() throws IOException {
+		when(testItemRepository.findOne("suite")).thenReturn(item("suite", Status.IN_PROGRESS));
+		SseEmitter emitter = broadcaster.subscribeItem(PROJECT, "suite");
+		TestItem child = item("child", Status.IN_PROGRESS);
+		child.setPath(Lists.newArrayList("suite"));
+		broadcaster.itemStarted(child);
+		broadcaster.itemStarted(item("other", Status.IN_PROGRESS));
+		broadcaster.runOneIteration();
+
+		Assert.assertEquals(Collections.singletonList("child"), itemIds(sent(emitter).get(0)));
+	}
+
+	@Test
+	public void oldestEventsAreDroppedWhenBufferIsFull() throws IOException {
+		SseEmitter emitter = broadcaster.subscribeLaunch(PROJECT, LAUNCH, false);
+		Arrays.asList("first", "second", "third").forEach(id -> broadcaster.itemStarted(item(id, Status.IN_PROGRESS)));
+		broadcaster.runOneIteration();
+
+		ProgressUpdate update = sent(emitter).get(0);
+		Assert.assertEquals(Integer.valueOf(1), update.getDropped());
+		Assert.assertEquals(Arrays.asList("second", "third"), itemIds(update));
+	}
+
+	@Test
+	public void finishedLaunchCompletesSubscribers() throws IOException {
+		SseEmitter emitter = broadcaster.subscribeLaunch(PROJECT, LAUNCH, false);
+		when(mongoOperations.findOne(any(Query.class), eq(Launch.class))).thenReturn(launch(Status.PASSED));
+		broadcaster.onLaunchFinished(new LaunchFinishedEvent(launch(Status.PASSED), new Project()));
+
+		Assert.assertEquals(Status.PASSED.name(), sent(emitter).get(0).getStatus());
+		verify(emitter).complete();
+
+		broadcaster.itemStarted(item("late", Status.IN_PROGRESS));
+		broadcaster.runOneIteration();
+		verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+	}
+
+	@Test
+	public void finishedItemCompletesItsSubscriber() throws IOException {
+		when(testItemRepository.findOne("item")).thenReturn(item("item", Status.IN_PROGRESS));
+		SseEmitter emitter = broadcaster.subscribeItem(PROJECT, "item");
+		broadcaster.itemFinished(item("item", Status.FAILED));
+		broadcaster.runOneIteration();
+
+		verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+		verify(emitter).complete();
+	}
+
+	@Test
+	public void subscriptionToFinishedLaunchSendsStateOnly() throws IOException {
+		when(launchRepository.loadStatusProjectRefAndStartTime(LAUNCH)).thenReturn(launch(Status.FAILED));
+		when(mongoOperations.findOne(any(Query.class), eq(Launch.class))).thenReturn(launch(Status.FAILED));
+		SseEmitter emitter = broadcaster.subscribeLaunch(PROJECT, LAUNCH, true);
+
+		ProgressUpdate update = sent(emitter).get(0);
+		Assert.assertTrue(update.getEvents().isEmpty());
+		Assert.assertEquals(Status.FAILED.name(), update.getStatus());
+		verify(emitter).complete();
+	}
+
+	@Test
+	public void goneSubscriberIsRemoved() throws IOException {
+		SseEmitter emitter = broadcaster.subscribeLaunch(PROJECT, LAUNCH, false);
+		IOException gone = new IOException("Broken pipe");
+		doThrow(gone).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+		broadcaster.itemStarted(item("first", Status.IN_PROGRESS));
+		broadcaster.runOneIteration();
+		verify(emitter).completeWithError(gone);
+
+		broadcaster.itemStarted(item("second", Status.IN_PROGRESS));
+		broadcaster.runOneIteration();
+		verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+	}
+
+	@Test(expected = ReportPortalException.class)
+	public void launchOfAnotherProjectIsNotStreamed() {
+		broadcaster.subscribeLaunch("another", LAUNCH, false);
+	}
+
+	private static List<ProgressUpdate> sent(SseEmitter emitter) throws IOException {
+		ArgumentCaptor<SseEmitter.SseEventBuilder> events = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+		verify(emitter, atLeastOnce()).send(events.capture());
+		return events.getAllValues()
+				.stream()
+				.flatMap(event -> event.build().stream())
+				.map(ResponseBodyEmitter.DataWithMediaType::getData)
+				.filter(ProgressUpdate.class::isInstance)
+				.map(ProgressUpdate.class::cast)
+				.collect(Collectors.toList());
+	}
+
+	private static List<String> itemIds(ProgressUpdate update) {
+		return update.getEvents().stream().map(ProgressEvent::getItemId).collect(Collectors.toList());
+	}
+
+	private static Launch launch(Status status) {
+		Launch launch = new Launch();
+		launch.setId(LAUNCH);
+		launch.setProjectRef(PROJECT);
+		launch.setStatus(status);
+		return launch;
+	}
+
+	private static TestItem item(String id, Status status) {
+		TestItem item = new TestItem();
+		item.setId(id);
+		item.setLaunchRef(LAUNCH);
+		item.setStatus(status);
+		item.setStatistics(new Statistics(new ExecutionCounter(), new IssueCounter()));
+		return item;
+	}
+
+	private static Log log(String id) {
+		Log log = new Log();
+		log.setId(id);
+		log.setLogMsg("message");
+		return log;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.reporting;
+
+import com.epam.ta.reportportal.exception.TooManyRequestsException;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ReportingQueueTest {
+
+	@Test
+	public void requestsOfLaunchAreAppliedInOrder() {
+		ReportingQueue queue = new ReportingQueue(4, 1000);
+		List<Integer> applied = new CopyOnWriteArrayList<>();
+		IntStream.range(0, 500).forEach(i -> queue.submit("launch", "request " + i, () -> applied.add(i)));
+
+		Assert.assertTrue(queue.await("launch", 10000).isEmpty());
+		Assert.assertEquals(IntStream.range(0, 500).boxed().collect(Collectors.toList()), applied);
+		queue.shutdown();
+	}
+
+	@Test
+	public void failuresAreReportedOnAwait() {
+		ReportingQueue queue = new ReportingQueue(1, 1000);
+		List<Integer> applied = new CopyOnWriteArrayList<>();
+		queue.submit("launch", "first", () -> {
+			throw new IllegalStateException("broken");
+		});
+		queue.submit("launch", "second", () -> applied.add(2));
+
+		List<String> failures = queue.await("launch", 10000);
+		Assert.assertEquals(1, failures.size());
+		Assert.assertEquals("first: broken", failures.get(0));
+		Assert.assertEquals(1, applied.size());
+		Assert.assertTrue(queue.await("launch", 10000).isEmpty());
+		queue.shutdown();
+	}
+
+	@Test
+	public void fullQueueRejectsRequests() {
+		ReportingQueue queue = new ReportingQueue(1, 1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch blocked = new CountDownLatch(1);
+		queue.submit("launch", "blocking", () -> {
+			started.countDown();
+			Uninterruptibles.awaitUninterruptibly(blocked);
+		});
+		Uninterruptibles.awaitUninterruptibly(started);
+		queue.submit("launch", "waiting", () -> {
+		});
+		try {
+			queue.submit("launch", "rejected", () -> {
+			});
+			Assert.fail("Request should be rejected");
+		} catch (TooManyRequestsException e) {
+			//expected
+		} finally {
+			blocked.countDown();
+		}
+		Assert.assertTrue(queue.await("launch", 10000).isEmpty());
+		queue.shutdown();
+	}
+
+	@Test
+	public void itemsAreForgottenWithTheirLaunch() {
+		ReportingQueue queue = new ReportingQueue(1, 1000);
+		Assert.assertTrue(queue.registerItem("item", "launch"));
+		Assert.assertFalse(queue.registerItem("item", "another"));
+		Assert.assertEquals(Optional.of("launch"), queue.getLaunch("item"));
+
+		queue.await("launch", 10000);
+		Assert.assertFalse(queue.getLaunch("item").isPresent());
+		queue.shutdown();
+	}
+
+	@Test
+	public void finishedItemsAreForgotten() {
+		ReportingQueue queue = new ReportingQueue(1, 1000);
+		queue.registerItem("item", "launch");
+		queue.itemFinished("item");
+		Assert.assertFalse(queue.getLaunch("item").isPresent());
+		Assert.assertTrue(queue.registerItem("item", "launch"));
+		queue.shutdown();
+	}
+}
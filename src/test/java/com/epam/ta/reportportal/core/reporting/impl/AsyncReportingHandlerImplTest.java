@@ -0,0 +1,211 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.reporting.impl;
+
+import com.epam.ta.reportportal.core.item.FinishTestItemHandler;
+import com.epam.ta.reportportal.core.item.StartTestItemHandler;
+import com.epam.ta.reportportal.core.log.ICreateLogHandler;
+import com.epam.ta.reportportal.core.reporting.ReportingQueue;
+import com.epam.ta.reportportal.database.dao.LaunchRepository;
+import com.epam.ta.reportportal.database.dao.TestItemRepository;
+import com.epam.ta.reportportal.database.entity.Launch;
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.ErrorType;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import org.bson.types.ObjectId;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+public class AsyncReportingHandlerImplTest {
+
+	private static final String PROJECT = "project";
+	private static final String LAUNCH = "launch";
+
+	private ReportingQueue reportingQueue;
+	private StartTestItemHandler startTestItemHandler;
+	private FinishTestItemHandler finishTestItemHandler;
+	private ICreateLogHandler createLogHandler;
+	private TestItemRepository testItemRepository;
+	private LaunchRepository launchRepository;
+	private AsyncReportingHandlerImpl handler;
+
+	@Before
+	public void setUp() {
+		reportingQueue = new ReportingQueue(1, 1000);
+		startTestItemHandler = mock(StartTestItemHandler.class);
+		finishTestItemHandler = mock(FinishTestItemHandler.class);
+		createLogHandler = mock(ICreateLogHandler.class);
+		testItemRepository = mock(TestItemRepository.class);
+		launchRepository = mock(LaunchRepository.class);
+		when(launchRepository.findOne(LAUNCH)).thenReturn(launch(LAUNCH, PROJECT));
+		handler = new AsyncReportingHandlerImpl(reportingQueue, startTestItemHandler, finishTestItemHandler, createLogHandler,
+				testItemRepository, launchRepository
+		);
+	}
+
+	@After
+	public void tearDown() {
+		reportingQueue.shutdown();
+	}
+
+	@Test
+	public void clientIdIsAssignedToRootItem() {
+		String itemId = new ObjectId().toString();
+		StartTestItemRQ rq = startRq(LAUNCH);
+
+		Assert.assertEquals(itemId, handler.startRootItem(PROJECT, rq, itemId).getId());
+		Assert.assertEquals(Optional.of(LAUNCH), reportingQueue.getLaunch(itemId));
+
+		Assert.assertTrue(reportingQueue.await(LAUNCH, 10000).isEmpty());
+		verify(startTestItemHandler).startRootItem(PROJECT, rq, itemId);
+	}
+
+	@Test
+	public void invalidIdIsRejected() {
+		assertRejected(ErrorType.INCORRECT_REQUEST, () -> handler.startRootItem(PROJECT, startRq(LAUNCH), "not-an-object-id"));
+	}
+
+	@Test
+	public void usedIdIsRejected() {
+		String itemId = new ObjectId().toString();
+		when(testItemRepository.exists(itemId)).thenReturn(true);
+
+		assertRejected(ErrorType.BAD_REQUEST_ERROR, () -> handler.startRootItem(PROJECT, startRq(LAUNCH), itemId));
+		Assert.assertFalse(reportingQueue.getLaunch(itemId).isPresent());
+	}
+
+	@Test
+	public void acceptedIdIsRejected() {
+		String itemId = new ObjectId().toString();
+		handler.startRootItem(PROJECT, startRq(LAUNCH), itemId);
+
+		assertRejected(ErrorType.BAD_REQUEST_ERROR, () -> handler.startRootItem(PROJECT, startRq(LAUNCH), itemId));
+		Assert.assertTrue(reportingQueue.await(LAUNCH, 10000).isEmpty());
+		verify(startTestItemHandler, times(1)).startRootItem(eq(PROJECT), any(StartTestItemRQ.class), eq(itemId));
+	}
+
+	@Test
+	public void itemIsNotRegisteredInLaunchOfAnotherProject() {
+		String itemId = new ObjectId().toString();
+		when(launchRepository.findOne("foreign")).thenReturn(launch("foreign", "another_project"));
+
+		assertRejected(ErrorType.ACCESS_DENIED, () -> handler.startRootItem(PROJECT, startRq("foreign"), itemId));
+		Assert.assertFalse(reportingQueue.getLaunch(itemId).isPresent());
+	}
+
+	@Test
+	public void itemIsNotRegisteredInMissingLaunch() {
+		String itemId = new ObjectId().toString();
+
+		assertRejected(ErrorType.LAUNCH_NOT_FOUND, () -> handler.startRootItem(PROJECT, startRq("missing"), itemId));
+		Assert.assertFalse(reportingQueue.getLaunch(itemId).isPresent());
+	}
+
+	@Test
+	public void childOfMissingParentIsRejected() {
+		String itemId = new ObjectId().toString();
+
+		assertRejected(ErrorType.TEST_ITEM_NOT_FOUND, () -> handler.startChildItem(PROJECT, startRq(LAUNCH), "missing", itemId));
+		Assert.assertFalse(reportingQueue.getLaunch(itemId).isPresent());
+		verifyZeroInteractions(startTestItemHandler);
+	}
+
+	@Test
+	public void childOfSavedParentOfAnotherProjectIsRejected() {
+		String itemId = new ObjectId().toString();
+		TestItem parent = new TestItem();
+		parent.setLaunchRef("foreign");
+		when(testItemRepository.findOne("parent")).thenReturn(parent);
+		when(launchRepository.findOne("foreign")).thenReturn(launch("foreign", "another_project"));
+
+		assertRejected(ErrorType.ACCESS_DENIED, () -> handler.startChildItem(PROJECT, startRq(LAUNCH), "parent", itemId));
+		Assert.assertFalse(reportingQueue.getLaunch(itemId).isPresent());
+	}
+
+	@Test
+	public void requestsOfAcceptedItemGoToLaunchOfParent() {
+		String rootId = new ObjectId().toString();
+		String childId = new ObjectId().toString();
+		StartTestItemRQ rq = startRq(LAUNCH);
+		SaveLogRQ log = new SaveLogRQ();
+		log.setTestItemId(childId);
+
+		handler.startRootItem(PROJECT, rq, rootId);
+		handler.startChildItem(PROJECT, rq, rootId, childId);
+		handler.createLog(PROJECT, log);
+		handler.finishTestItem(PROJECT, childId, new FinishTestItemRQ(), "user");
+
+		Assert.assertTrue(reportingQueue.await(LAUNCH, 10000).isEmpty());
+		verify(startTestItemHandler).startChildItem(PROJECT, rq, rootId, childId);
+		verify(createLogHandler).createLog(log, null, PROJECT);
+		verify(finishTestItemHandler).finishTestItem(eq(childId), any(FinishTestItemRQ.class), eq("user"));
+		verify(testItemRepository, never()).findOne(anyString());
+	}
+
+	@Test
+	public void finishedItemIsForgotten() {
+		String itemId = new ObjectId().toString();
+		handler.startRootItem(PROJECT, startRq(LAUNCH), itemId);
+		handler.finishTestItem(PROJECT, itemId, new FinishTestItemRQ(), "user");
+		AtomicBoolean forgotten = new AtomicBoolean();
+		reportingQueue.submit(LAUNCH, "probe", () -> forgotten.set(!reportingQueue.getLaunch(itemId).isPresent()));
+
+		Assert.assertTrue(reportingQueue.await(LAUNCH, 10000).isEmpty());
+		Assert.assertTrue(forgotten.get());
+	}
+
+	private static void assertRejected(ErrorType errorType, Runnable request) {
+		try {
+			request.run();
+			Assert.fail("Request should be rejected with " + errorType);
+		} catch (ReportPortalException e) {
+			Assert.assertEquals(errorType, e.getErrorType());
+		}
+	}
+
+	private static StartTestItemRQ startRq(String launchId) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setLaunchId(launchId);
+		rq.setName("item");
+		return rq;
+	}
+
+	private static Launch launch(String id, String project) {
+		Launch launch = new Launch();
+		launch.setId(id);
+		launch.setProjectRef(project);
+		return launch;
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.statistics;
+
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.database.entity.statistics.StatisticSubType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+public class IssueStatisticsDeltaTest {
+
+	private static final StatisticSubType PRODUCT_BUG = new StatisticSubType("PB001", "PRODUCT_BUG", "Product Bug", "PB", "color");
+	private static final StatisticSubType TO_INVESTIGATE = new StatisticSubType("TI001", "TO_INVESTIGATE", "To Investigate", "TI", "color");
+
+	@Test
+	public void sameTypeProducesNoChanges() {
+		IssueStatisticsDelta delta = new IssueStatisticsDelta();
+		delta.move(item("item1", "suite"), PRODUCT_BUG, PRODUCT_BUG);
+		Assert.assertTrue(delta.isEmpty());
+	}
+
+	@Test
+	public void changesAreMergedPerAncestor() {
+		IssueStatisticsDelta delta = new IssueStatisticsDelta();
+		delta.move(item("item1", "suite"), TO_INVESTIGATE, PRODUCT_BUG);
+		delta.move(item("item2", "suite"), TO_INVESTIGATE, PRODUCT_BUG);
+
+		Map<String, Integer> suite = delta.getItems().get("suite");
+		Assert.assertEquals(Integer.valueOf(2), suite.get("statistics.issueCounter.productBug.PB001"));
+		Assert.assertEquals(Integer.valueOf(2), suite.get("statistics.issueCounter.productBug.total"));
+		Assert.assertEquals(Integer.valueOf(-2), suite.get("statistics.issueCounter.toInvestigate.TI001"));
+		Assert.assertEquals(Integer.valueOf(-2), suite.get("statistics.issueCounter.toInvestigate.total"));
+
+		Assert.assertEquals(Integer.valueOf(1), delta.getItems().get("item1").get("statistics.issueCounter.productBug.PB001"));
+		Assert.assertEquals(Integer.valueOf(2), delta.getLaunches().get("launch").get("statistics.issueCounter.productBug.PB001"));
+	}
+
+	@Test
+	public void oppositeChangesAreCancelled() {
+		IssueStatisticsDelta delta = new IssueStatisticsDelta();
+		TestItem testItem = item("item1", "suite");
+		delta.move(testItem, TO_INVESTIGATE, PRODUCT_BUG);
+		delta.move(testItem, PRODUCT_BUG, TO_INVESTIGATE);
+		Assert.assertTrue(delta.isEmpty());
+	}
+
+	private static TestItem item(String id, String... path) {
+		TestItem testItem = new TestItem();
+		testItem.setId(id);
+		testItem.setLaunchRef("launch");
+		testItem.getPath().addAll(Arrays.asList(path));
+		return testItem;
+	}
+}
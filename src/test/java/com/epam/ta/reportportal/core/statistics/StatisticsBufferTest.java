@@ -0,0 +1,88 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.statistics;
+
+import com.epam.ta.reportportal.database.entity.Launch;
+import com.epam.ta.reportportal.database.entity.Status;
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.google.common.collect.Lists;
+import com.mongodb.DBObject;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+public class StatisticsBufferTest {
+
+	@Test
+	public void incrementsOfAncestorsAndLaunchAreMerged() {
+		MongoOperations mongoOperations = mock(MongoOperations.class);
+		BulkOperations itemsBulk = mock(BulkOperations.class);
+		BulkOperations launchesBulk = mock(BulkOperations.class);
+		when(mongoOperations.bulkOps(any(BulkOperations.BulkMode.class), eq(TestItem.class))).thenReturn(itemsBulk);
+		when(mongoOperations.bulkOps(any(BulkOperations.BulkMode.class), eq(Launch.class))).thenReturn(launchesBulk);
+
+		StatisticsBuffer buffer = new StatisticsBuffer(mongoOperations, false, 10);
+		buffer.addExecution(item("first", Status.PASSED));
+		buffer.addExecution(item("second", Status.FAILED));
+
+		/* items themselves are updated immediately */
+		verify(mongoOperations, times(2)).updateFirst(any(Query.class), any(Update.class), eq(TestItem.class));
+		verifyZeroInteractions(itemsBulk, launchesBulk);
+
+		Assert.assertTrue(buffer.flush());
+
+		ArgumentCaptor<Update> itemUpdates = ArgumentCaptor.forClass(Update.class);
+		verify(itemsBulk, times(2)).updateOne(any(Query.class), itemUpdates.capture());
+		itemUpdates.getAllValues().forEach(update -> {
+			Assert.assertEquals(2, increment(update, "statistics.executionCounter.total"));
+			Assert.assertEquals(1, increment(update, "statistics.executionCounter.passed"));
+			Assert.assertEquals(1, increment(update, "statistics.executionCounter.failed"));
+		});
+
+		ArgumentCaptor<Update> launchUpdate = ArgumentCaptor.forClass(Update.class);
+		verify(launchesBulk).updateOne(any(Query.class), launchUpdate.capture());
+		Assert.assertEquals(2, increment(launchUpdate.getValue(), "statistics.executionCounter.total"));
+
+		Assert.assertFalse(buffer.flush());
+	}
+
+	private static TestItem item(String id, Status status) {
+		TestItem item = new TestItem();
+		item.setId(id);
+		item.setStatus(status);
+		item.setLaunchRef("launch");
+		item.setPath(Lists.newArrayList("suite", "test"));
+		return item;
+	}
+
+	private static int increment(Update update, String field) {
+		return (Integer) ((DBObject) update.getUpdateObject().get("$inc")).get(field);
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.statistics;
+
+import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.epam.ta.reportportal.database.entity.statistics.ExecutionCounter;
+import com.epam.ta.reportportal.database.entity.statistics.IssueCounter;
+import com.epam.ta.reportportal.database.entity.statistics.Statistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+public class StatisticsDeltaTest {
+
+	@Test
+	public void subtractedStatisticsAreMergedPerAncestor() {
+		StatisticsDelta delta = new StatisticsDelta();
+		delta.subtract(failedItem("retry1", "suite", "test"));
+		delta.subtract(failedItem("retry2", "suite", "test"));
+
+		Map<String, Integer> suite = delta.getItems().get("suite");
+		Assert.assertEquals(Integer.valueOf(-2), suite.get("statistics.executionCounter.total"));
+		Assert.assertEquals(Integer.valueOf(-2), suite.get("statistics.executionCounter.failed"));
+		Assert.assertNull(suite.get("statistics.executionCounter.passed"));
+		Assert.assertEquals(Integer.valueOf(-2), suite.get("statistics.issueCounter.productBug.PB001"));
+		Assert.assertEquals(Integer.valueOf(-2), delta.getItems().get("test").get("statistics.executionCounter.total"));
+		Assert.assertEquals(Integer.valueOf(-2), delta.getLaunches().get("launch").get("statistics.executionCounter.failed"));
+	}
+
+	@Test
+	public void excludedItemsAreNotUpdated() {
+		StatisticsDelta delta = new StatisticsDelta();
+		delta.subtract(failedItem("retry1", "suite"));
+		delta.exclude(Collections.singletonList("retry1"));
+
+		Assert.assertNull(delta.getItems().get("retry1"));
+		Assert.assertNotNull(delta.getItems().get("suite"));
+		Assert.assertNotNull(delta.getLaunches().get("launch"));
+	}
+
+	private static TestItem failedItem(String id, String... path) {
+		ExecutionCounter executionCounter = new ExecutionCounter();
+		executionCounter.setTotal(1);
+		executionCounter.setPassed(0);
+		executionCounter.setFailed(1);
+		executionCounter.setSkipped(0);
+		IssueCounter issueCounter = new IssueCounter();
+		issueCounter.setProductBug("PB001", 1);
+
+		TestItem testItem = new TestItem();
+		testItem.setId(id);
+		testItem.setLaunchRef("launch");
+		testItem.getPath().addAll(Arrays.asList(path));
+		testItem.setStatistics(new Statistics(executionCounter, issueCounter));
+		return testItem;
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.throttling;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+public class FairTaskExecutorTest {
+
+	@Test
+	public void projectsAreServedInTurn() {
+		Deque<Runnable> submitted = new ArrayDeque<>();
+		FairTaskExecutor executor = new FairTaskExecutor(submitted::add, 1, 100, project -> 1.0);
+		List<String> executed = new ArrayList<>();
+
+		for (int i = 0; i < 4; i++) {
+			executor.execute("noisy", () -> executed.add("noisy"));
+		}
+		executor.execute("quiet", () -> executed.add("quiet"));
+
+		while (!submitted.isEmpty()) {
+			submitted.poll().run();
+		}
+		Assert.assertEquals(5, executed.size());
+		Assert.assertEquals("quiet", executed.get(2));
+	}
+
+	@Test
+	public void fullQueueIsExecutedByCaller() {
+		Deque<Runnable> submitted = new ArrayDeque<>();
+		FairTaskExecutor executor = new FairTaskExecutor(submitted::add, 1, 1, project -> 1.0);
+		List<String> executed = new ArrayList<>();
+
+		executor.execute("noisy", () -> executed.add("first"));
+		executor.execute("noisy", () -> executed.add("second"));
+		executor.execute("noisy", () -> executed.add("third"));
+
+		Assert.assertEquals(1, executed.size());
+		Assert.assertEquals("third", executed.get(0));
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.core.throttling;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class ProjectRateLimiterTest {
+
+	@Test
+	public void burstIsAllowedAndThenRejected() {
+		ProjectRateLimiter limiter = new ProjectRateLimiter(true, 1, 3, "");
+		Assert.assertEquals(0, limiter.tryAcquire("project"));
+		Assert.assertEquals(0, limiter.tryAcquire("project"));
+		Assert.assertEquals(0, limiter.tryAcquire("project"));
+		long wait = limiter.tryAcquire("project");
+		Assert.assertTrue(wait > 0 && wait <= 1000);
+
+		/* other projects are not affected */
+		Assert.assertEquals(0, limiter.tryAcquire("other"));
+	}
+
+	@Test
+	public void bucketIsRefilled() {
+		ProjectRateLimiter.TokenBucket bucket = new ProjectRateLimiter.TokenBucket(10, 1);
+		long now = System.nanoTime();
+		Assert.assertEquals(0, bucket.tryAcquire(now));
+		Assert.assertTrue(bucket.tryAcquire(now) > 0);
+		Assert.assertEquals(0, bucket.tryAcquire(now + TimeUnit.MILLISECONDS.toNanos(100)));
+	}
+
+	@Test
+	public void weightsAreParsed() {
+		Map<String, Double> weights = ProjectRateLimiter.parseWeights("big:4, small:0.5");
+		Assert.assertEquals(4.0, weights.get("big"), 0);
+		Assert.assertEquals(0.5, weights.get("small"), 0);
+		Assert.assertEquals(1.0, new ProjectRateLimiter(true, 1, 1, "big:4").getWeight("unknown"), 0);
+	}
+
+	@Test
+	public void disabledLimiterAcceptsEverything() {
+		ProjectRateLimiter limiter = new ProjectRateLimiter(false, 1, 1, "");
+		for (int i = 0; i < 10; i++) {
+			Assert.assertEquals(0, limiter.tryAcquire("project"));
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.epam.ta.reportportal.core.widget;
 
 import com.epam.ta.BaseTest;
+import com.epam.ta.reportportal.core.launch.impl.LatestLaunches;
 import com.epam.ta.reportportal.core.widget.content.GadgetTypes;
 import com.epam.ta.reportportal.core.widget.content.StatisticBasedContentLoader;
 import com.epam.ta.reportportal.core.widget.content.WidgetDataTypes;
@@ -42,10 +43,14 @@ public class PassingRateTest extends BaseTest {
 	@Autowired
 	private GetWidgetHandler getWidgetHandler;
 
+	@Autowired
+	private LatestLaunches latestLaunches;
+
 	private static final String FILTER_ID = "566e1f3818177ca334439d38";
 
 	@Test
 	public void testPassingRatePerLaunch() {
+		latestLaunches.rebuild();
 		EntryCreatedRS widget = createWidgetHandler.createWidget(widgetRQ(), "project2", "user1");
 		WidgetResource widgetResource = getWidgetHandler.getWidget(widget.getId(), "user1", "project2");
 		Map<String, List<ChartObject>> content = (Map<String, List<ChartObject>>) widgetResource.getContent();
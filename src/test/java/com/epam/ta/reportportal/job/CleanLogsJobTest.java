@@ -21,24 +21,30 @@
 
 package com.epam.ta.reportportal.job;
 
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.core.log.LogMessages;
+import com.epam.ta.reportportal.core.log.LogReferences;
 import com.epam.ta.reportportal.database.dao.*;
 import com.epam.ta.reportportal.database.entity.Launch;
+import com.epam.ta.reportportal.database.entity.Log;
 import com.epam.ta.reportportal.database.entity.Project;
-import com.epam.ta.reportportal.database.entity.item.TestItem;
+import com.mongodb.WriteResult;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Date;
-import java.util.stream.Stream;
 
 import static com.epam.ta.reportportal.database.entity.project.KeepLogsDelay.findByName;
 import static java.time.Duration.ofDays;
@@ -65,6 +71,14 @@ public class CleanLogsJobTest {
 	private ProjectRepository projectRepository;
 	@Mock
 	private ActivityRepository activityRepository;
+	@Mock
+	private MongoOperations mongoOperations;
+	@Mock
+	private AttachmentStorage attachmentStorage;
+	@Mock
+	private LogMessages logMessages;
+	@Mock
+	private LogReferences logReferences;
 
 	@Test
 	public void runTest() {
@@ -79,17 +93,17 @@ public class CleanLogsJobTest {
 		Launch launch = new Launch();
 		launch.setId(name);
 
-		TestItem testItem = new TestItem();
-		Stream<TestItem> st = Stream.of(testItem);
-
 		when(projectRepository.findAllIdsAndConfiguration(Mockito.any())).thenReturn(new PageImpl<>(Arrays.asList(project)));
 		when(launchRepo.findModifiedBefore(anyString(), any(Date.class), any())).thenReturn(new PageImpl<>(Arrays.asList(launch)));
-		when(testItemRepo.streamIdsByLaunch(anyString())).thenReturn(st);
+		when(logReferences.ofLaunches(any())).thenReturn(Criteria.where(LogReferences.LAUNCH_REF).in(name));
+		when(mongoOperations.remove(any(Query.class), eq(Log.class))).thenReturn(new WriteResult(1, false, null));
 
 		cleanLogsJob.execute(null);
 
 		verify(activityRepository, times(1)).deleteModifiedLaterAgo(anyString(), any(Duration.class));
-		verify(logRepo, times(1)).deleteByPeriodAndItemsRef(any(Duration.class), anyListOf(String.class));
+		verify(attachmentStorage, times(1)).detach(any(Criteria.class));
+		verify(logMessages, times(1)).remove(any(Criteria.class));
+		verify(mongoOperations, times(1)).remove(any(Query.class), eq(Log.class));
 	}
 
 	@Test
@@ -21,6 +21,7 @@
 
 package com.epam.ta.reportportal.job;
 
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
 import com.epam.ta.reportportal.database.DataStorage;
 import com.epam.ta.reportportal.database.dao.LogRepository;
 import com.epam.ta.reportportal.database.dao.ProjectRepository;
@@ -58,6 +59,8 @@ public class CleanScreenshotsJobTest {
 	private ProjectRepository projectRepository;
 	@Mock
 	private LogRepository logRepository;
+	@Mock
+	private AttachmentStorage attachmentStorage;
 
 	@Test
 	public void runTest() {
@@ -75,6 +78,7 @@ public class CleanScreenshotsJobTest {
 
 		when(projectRepository.findAllIdsAndConfiguration(Mockito.any())).thenReturn(new PageImpl<>(Collections.singletonList(project)));
 		when(gridFS.findModifiedLaterAgo(any(Duration.class), anyString())).thenReturn(list);
+		when(attachmentStorage.expire(anyString(), any(Duration.class))).thenReturn(true);
 
 		cleanScreenshotsJob.execute(null);
 
@@ -82,4 +86,25 @@ public class CleanScreenshotsJobTest {
 		verify(logRepository, times(1)).removeBinaryContent(anyString());
 	}
 
+	@Test
+	public void reusedFileIsKept() {
+		Project project = new Project();
+		Project.Configuration configuration = new Project.Configuration();
+		configuration.setKeepScreenshots("1 week");
+		project.setName("name");
+		project.setConfiguration(configuration);
+
+		GridFSDBFile grid = new GridFSDBFile();
+		grid.put("_id", "reused");
+
+		when(projectRepository.findAllIdsAndConfiguration(Mockito.any())).thenReturn(new PageImpl<>(Collections.singletonList(project)));
+		when(gridFS.findModifiedLaterAgo(any(Duration.class), anyString())).thenReturn(Collections.singletonList(grid));
+		when(attachmentStorage.expire(anyString(), any(Duration.class))).thenReturn(false);
+
+		cleanScreenshotsJob.execute(null);
+
+		verify(gridFS, never()).deleteData(anyString());
+		verify(logRepository, never()).removeBinaryContent(anyString());
+	}
+
 }
@@ -22,6 +22,9 @@
 package com.epam.ta.reportportal.job;
 
 import com.epam.ta.reportportal.core.launch.IRetriesLaunchHandler;
+import com.epam.ta.reportportal.core.launch.impl.LatestLaunches;
+import com.epam.ta.reportportal.core.progress.ProgressBroadcaster;
+import com.epam.ta.reportportal.core.statistics.StatisticsBuffer;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacade;
 import com.epam.ta.reportportal.core.statistics.StatisticsFacadeFactory;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
@@ -75,6 +78,12 @@ public class InterruptBrokenLaunchesJobTest {
 	private ProjectRepository projectRepository;
 	@Mock
 	private IRetriesLaunchHandler retriesLaunchHandler;
+	@Mock
+	private StatisticsBuffer statisticsBuffer;
+	@Mock
+	private LatestLaunches latestLaunches;
+	@Mock
+	private ProgressBroadcaster progressBroadcaster;
 
 	private final String NAME = "name";
 	private final Project PROJECT = new Project();
@@ -206,6 +215,7 @@ public class InterruptBrokenLaunchesJobTest {
 		verify(statisticsFacade, times(2)).updateExecutionStatistics(any(TestItem.class));
 		verify(statisticsFacade, times(2)).updateIssueStatistics(any(TestItem.class));
 		verify(testItemRepository, times(2)).findOne(anyString());
+		verify(progressBroadcaster, times(2)).complete(NAME);
 	}
 
 	@Test
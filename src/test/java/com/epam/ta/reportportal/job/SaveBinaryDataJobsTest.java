@@ -22,10 +22,14 @@
 package com.epam.ta.reportportal.job;
 
 import com.epam.reportportal.commons.Thumbnailator;
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
 import com.epam.ta.reportportal.database.BinaryData;
 import com.epam.ta.reportportal.database.DataStorage;
 import com.epam.ta.reportportal.database.dao.LogRepository;
+import com.epam.ta.reportportal.database.entity.BinaryContent;
 import com.epam.ta.reportportal.database.entity.Log;
+import org.junit.Assert;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -37,6 +41,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyMap;
@@ -58,6 +63,9 @@ public class SaveBinaryDataJobsTest {
 	@Mock
 	private Thumbnailator thumbnailator;
 
+	@Mock
+	private AttachmentStorage attachmentStorage;
+
 	@InjectMocks
 	private SaveBinaryDataJob saveBinData = new SaveBinaryDataJob();
 
@@ -71,6 +79,13 @@ public class SaveBinaryDataJobsTest {
 	public SaveBinaryDataJobsTest() throws IOException {
 	}
 
+	@Before
+	public void setUp() {
+		when(attachmentStorage.acquire(anyString(), anyString())).thenReturn(Optional.empty());
+		when(attachmentStorage.register(anyString(), anyString(), any(BinaryContent.class))).thenAnswer(
+				invocation -> invocation.getArguments()[2]);
+	}
+
 	@Test
 	public void runTestWithContentTypeEqualsImage() throws IOException {
 		byte[] byteArr = { 116, 101 };
@@ -90,4 +105,15 @@ public class SaveBinaryDataJobsTest {
 		verify(logRepository, times(1)).save(LOG);
 	}
 
+	@Test
+	public void storedContentIsShared() throws IOException {
+		BinaryContent stored = new BinaryContent("stored", "thumbnail", CONTENT_TYPE);
+		when(attachmentStorage.acquire(eq(PROJECT_NAME), anyString())).thenReturn(Optional.of(stored));
+		Log log = new Log();
+		saveBinData.withFile(BIN_DATA).withProject(PROJECT_NAME).withLog(log).run();
+		verify(logRepository, times(1)).save(log);
+		verify(dataStorageService, never()).saveData(any(BinaryData.class), anyString(), anyMap());
+		Assert.assertSame(stored, log.getBinaryContent());
+	}
+
 }
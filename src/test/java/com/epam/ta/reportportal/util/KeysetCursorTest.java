@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.util;
+
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.Date;
+
+public class KeysetCursorTest {
+
+	private static final String TIME = "log_time";
+
+	@Test
+	public void encodedCursorIsDecoded() {
+		String id = new ObjectId().toString();
+		KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.before(TIME, Sort.Direction.ASC, new Date(100L), id).encode());
+		Assert.assertTrue(cursor.isBackward());
+		Assert.assertEquals(KeysetCursor.before(TIME, Sort.Direction.ASC, new Date(100L), id).encode(), cursor.encode());
+		Assert.assertFalse(KeysetCursor.decode(KeysetCursor.after(TIME, Sort.Direction.ASC, new Date(100L), id).encode()).isBackward());
+	}
+
+	@Test(expected = ReportPortalException.class)
+	public void incorrectCursorIsRejected() {
+		KeysetCursor.decode("not a cursor");
+	}
+
+	@Test(expected = ReportPortalException.class)
+	public void cursorWithIncorrectIdIsRejected() {
+		KeysetCursor.decode(KeysetCursor.after(TIME, Sort.Direction.ASC, new Date(), "id").encode());
+	}
+
+	@Test(expected = ReportPortalException.class)
+	public void cursorOfAnotherOrderIsRejected() {
+		KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.after(TIME, Sort.Direction.ASC, new Date(), new ObjectId().toString()).encode());
+		cursor.toCriteria(TIME, Sort.Direction.DESC);
+	}
+
+	@Test(expected = ReportPortalException.class)
+	public void cursorOfAnotherPropertyIsRejected() {
+		KeysetCursor cursor = KeysetCursor.after(TIME, Sort.Direction.ASC, new Date(), new ObjectId().toString());
+		cursor.toCriteria("start_time", Sort.Direction.ASC);
+	}
+}
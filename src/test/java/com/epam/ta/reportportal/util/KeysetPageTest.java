@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.epam.ta.reportportal.util;
+
+import com.epam.ta.reportportal.database.entity.Log;
+import com.epam.ta.reportportal.database.search.Queryable;
+import com.google.common.collect.Lists;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+public class KeysetPageTest {
+
+	private static final String TIME = "log_time";
+
+	private final MongoOperations mongoOperations = mock(MongoOperations.class);
+
+	private final Queryable filter = mock(Queryable.class);
+
+	private final List<Log> logs = Lists.newArrayList(log(1), log(2), log(3));
+
+	@Before
+	public void setUp() {
+		when(filter.toCriteria()).thenReturn(Collections.emptyList());
+	}
+
+	@Test
+	public void firstWindowPointsToNextOnly() {
+		when(mongoOperations.find(any(Query.class), eq(Log.class))).thenReturn(logs);
+
+		KeysetPage<Log> page = find(null, 2);
+
+		Assert.assertEquals(logs.subList(0, 2), page.getContent());
+		Assert.assertEquals(KeysetCursor.after(TIME, Sort.Direction.ASC, logs.get(1).getLogTime(), logs.get(1).getId()).encode(),
+				page.getNext()
+		);
+		Assert.assertNull(page.getPrevious());
+		Query query = query();
+		Assert.assertEquals(3, query.getLimit());
+		Assert.assertEquals(1, query.getSortObject().get(TIME));
+	}
+
+	@Test
+	public void lastWindowHasNoNext() {
+		when(mongoOperations.find(any(Query.class), eq(Log.class))).thenReturn(logs.subList(1, 3));
+		KeysetCursor cursor = KeysetCursor.after(TIME, Sort.Direction.ASC, logs.get(0).getLogTime(), logs.get(0).getId());
+
+		KeysetPage<Log> page = find(cursor, 2);
+
+		Assert.assertEquals(logs.subList(1, 3), page.getContent());
+		Assert.assertNull(page.getNext());
+		Assert.assertEquals(KeysetCursor.before(TIME, Sort.Direction.ASC, logs.get(1).getLogTime(), logs.get(1).getId()).encode(),
+				page.getPrevious()
+		);
+		Assert.assertTrue(query().getQueryObject().toString().contains("$or"));
+	}
+
+	@Test
+	public void backwardWindowIsFetchedInReverseOrder() {
+		when(mongoOperations.find(any(Query.class), eq(Log.class))).thenReturn(Lists.reverse(logs));
+		KeysetCursor cursor = KeysetCursor.before(TIME, Sort.Direction.ASC, new Date(4L), new ObjectId().toString());
+
+		KeysetPage<Log> page = find(cursor, 2);
+
+		Assert.assertEquals(logs.subList(1, 3), page.getContent());
+		Assert.assertEquals(KeysetCursor.before(TIME, Sort.Direction.ASC, logs.get(1).getLogTime(), logs.get(1).getId()).encode(),
+				page.getPrevious()
+		);
+		Assert.assertEquals(KeysetCursor.after(TIME, Sort.Direction.ASC, logs.get(2).getLogTime(), logs.get(2).getId()).encode(),
+				page.getNext()
+		);
+		Assert.assertEquals(-1, query().getSortObject().get(TIME));
+	}
+
+	private KeysetPage<Log> find(KeysetCursor cursor, int size) {
+		return KeysetPage.find(mongoOperations, Log.class, filter, cursor, TIME, Log::getLogTime, Log::getId, Sort.Direction.ASC, size);
+	}
+
+	private Query query() {
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		verify(mongoOperations).find(query.capture(), eq(Log.class));
+		return query.getValue();
+	}
+
+	private static Log log(long time) {
+		Log log = new Log();
+		log.setId(new ObjectId().toString());
+		log.setLogTime(new Date(time));
+		return log;
+	}
+}
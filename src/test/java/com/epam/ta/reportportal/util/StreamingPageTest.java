@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.util;
+
+import com.epam.ta.reportportal.core.configs.JacksonConfiguration;
+import com.epam.ta.reportportal.database.entity.Log;
+import com.epam.ta.reportportal.database.search.Filter;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static java.util.stream.Collectors.toList;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+public class StreamingPageTest {
+
+	private final ObjectMapper objectMapper = new JacksonConfiguration().objectMapper();
+
+	@Test
+	public void totalOfLastPageIsNotCounted() throws Exception {
+		MongoOperations mongoOperations = mock(MongoOperations.class);
+		when(mongoOperations.stream(any(Query.class), eq(Log.class))).thenReturn(iterator(log("first"), log("second")));
+
+		JsonNode page = objectMapper.readTree(objectMapper.writeValueAsString(
+				new StreamingPage<>(mongoOperations, Log.class, new Filter(Log.class, Collections.emptySet()), new PageRequest(1, 10),
+						Collections.emptyList(), Log::getLogMsg
+				)));
+
+		Assert.assertEquals(Arrays.asList("first", "second"),
+				Lists.newArrayList(page.get("content").elements()).stream().map(JsonNode::asText).collect(toList())
+		);
+		Assert.assertEquals(12, page.get("page").get("totalElements").asLong());
+		Assert.assertEquals(2, page.get("page").get("totalPages").asLong());
+		Assert.assertEquals(2, page.get("page").get("number").asLong());
+		verify(mongoOperations, never()).count(any(Query.class), eq(Log.class));
+	}
+
+	@Test
+	public void totalOfFullPageIsCounted() throws Exception {
+		MongoOperations mongoOperations = mock(MongoOperations.class);
+		when(mongoOperations.stream(any(Query.class), eq(Log.class))).thenReturn(iterator(log("first")));
+		when(mongoOperations.count(any(Query.class), eq(Log.class))).thenReturn(5L);
+
+		JsonNode page = objectMapper.readTree(objectMapper.writeValueAsString(
+				new StreamingPage<>(mongoOperations, Log.class, new Filter(Log.class, Collections.emptySet()), new PageRequest(0, 1),
+						Collections.emptyList(), Log::getLogMsg
+				)));
+
+		Assert.assertEquals(5, page.get("page").get("totalElements").asLong());
+		Assert.assertEquals(5, page.get("page").get("totalPages").asLong());
+	}
+
+	@Test
+	public void failedPageIsNotClosedAsValidJson() throws Exception {
+		MongoOperations mongoOperations = mock(MongoOperations.class);
+		@SuppressWarnings("unchecked")
+		CloseableIterator<Log> cursor = mock(CloseableIterator.class);
+		when(cursor.hasNext()).thenReturn(true);
+		when(cursor.next()).thenReturn(log("first"), log(null));
+		when(mongoOperations.stream(any(Query.class), eq(Log.class))).thenReturn(cursor);
+		StringWriter output = new StringWriter();
+
+		try {
+			objectMapper.writeValue(output,
+					new StreamingPage<>(mongoOperations, Log.class, new Filter(Log.class, Collections.emptySet()), new PageRequest(0, 10),
+							Collections.emptyList(), log -> log.getLogMsg().trim()
+					)
+			);
+			Assert.fail("Failure of converter is expected");
+		} catch (JsonMappingException e) {
+			Assert.assertEquals("{\"content\":[\"first\"", output.toString());
+			verify(cursor).close();
+		}
+	}
+
+	private static Log log(String message) {
+		Log log = new Log();
+		log.setLogMsg(message);
+		return log;
+	}
+
+	private static CloseableIterator<Log> iterator(Log... logs) {
+		Iterator<Log> iterator = Arrays.asList(logs).iterator();
+		return new CloseableIterator<Log>() {
+			@Override
+			public void close() {
+			}
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Log next() {
+				return iterator.next();
+			}
+		};
+	}
+}
@@ -21,6 +21,8 @@
 
 package com.epam.ta.reportportal.ws.controller.impl;
 
+import com.epam.ta.reportportal.core.autocomplete.AutocompleteDictionaries;
+import com.epam.ta.reportportal.core.launch.impl.LatestLaunches;
 import com.epam.ta.reportportal.database.dao.ActivityRepository;
 import com.epam.ta.reportportal.database.dao.LaunchRepository;
 import com.epam.ta.reportportal.database.entity.Launch;
@@ -34,6 +36,8 @@ import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import com.epam.ta.reportportal.ws.model.launch.MergeLaunchesRQ;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
 import com.epam.ta.reportportal.ws.model.launch.UpdateLaunchRQ;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
 import org.junit.Test;
@@ -50,6 +54,7 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.epam.ta.reportportal.auth.AuthConstants.ADMINISTRATOR;
 import static com.epam.ta.reportportal.auth.AuthConstants.USER_PROJECT;
@@ -79,6 +84,10 @@ public class LaunchControllerTest extends BaseMvcTest {
 	private LaunchRepository launchRepository;
 	@Autowired
 	private LaunchController launchController;
+	@Autowired
+	private AutocompleteDictionaries autocompleteDictionaries;
+	@Autowired
+	private LatestLaunches latestLaunches;
 
 	@Test
 	public void happyCreateLaunch() throws Exception {
@@ -203,23 +212,36 @@ public class LaunchControllerTest extends BaseMvcTest {
 
 	@Test
 	public void getTags() throws Exception {
-		this.mvcMock.perform(
+		autocompleteDictionaries.rebuild();
+		MvcResult mvcResult = this.mvcMock.perform(
 				get(PROJECT_BASE_URL + "/launch/tags?filter.cnt.tags=tag").contentType(APPLICATION_JSON).principal(authentication()))
-				.andExpect(status().is(200));
+				.andExpect(status().is(200))
+				.andReturn();
+		assertEquals(new HashSet<>(launchRepository.findDistinctValues(USER_PROJECT, "tag", "tags")), values(mvcResult));
 	}
 
 	@Test
 	public void getAllOwners() throws Exception {
-		this.mvcMock.perform(
+		autocompleteDictionaries.rebuild();
+		MvcResult mvcResult = this.mvcMock.perform(
 				get(PROJECT_BASE_URL + "/launch/owners?filter.cnt.user=user").contentType(APPLICATION_JSON).principal(authentication()))
-				.andExpect(status().is(200));
+				.andExpect(status().is(200))
+				.andReturn();
+		assertEquals(new HashSet<>(launchRepository.findValuesWithMode(USER_PROJECT, "user", "userRef", DEFAULT.name())),
+				values(mvcResult)
+		);
 	}
 
 	@Test
 	public void getAllLaunchNames() throws Exception {
-		this.mvcMock.perform(
-				get(PROJECT_BASE_URL + "/launch/names?filter.cnt.name=name").contentType(APPLICATION_JSON).principal(authentication()))
-				.andExpect(status().is(200));
+		autocompleteDictionaries.rebuild();
+		MvcResult mvcResult = this.mvcMock.perform(
+				get(PROJECT_BASE_URL + "/launch/names?filter.cnt.name=Demo").contentType(APPLICATION_JSON).principal(authentication()))
+				.andExpect(status().is(200))
+				.andReturn();
+		Set<String> names = values(mvcResult);
+		assertTrue(names.contains("Demo launch"));
+		assertEquals(new HashSet<>(launchRepository.findValuesWithMode(USER_PROJECT, "Demo", "name", DEFAULT.name())), names);
 	}
 
 	@Test
@@ -251,6 +273,26 @@ public class LaunchControllerTest extends BaseMvcTest {
 		launchRepository.find(ids).forEach(it -> assertTrue(it.getMode() == DEBUG));
 	}
 
+	@Test
+	public void getLatestLaunches() throws Exception {
+		latestLaunches.rebuild();
+		MvcResult mvcResult = mvcMock.perform(
+				get(PROJECT_BASE_URL + "/launch/latest?page.page=1&page.size=100").contentType(APPLICATION_JSON).principal(authentication()))
+				.andExpect(status().is(200))
+				.andReturn();
+		JsonNode content = objectMapper.readTree(mvcResult.getResponse().getContentAsString()).get("content");
+		assertTrue(content.size() > 0);
+		Set<String> names = new HashSet<>();
+		content.forEach(launch -> {
+			String name = launch.get("name").asText();
+			assertTrue(names.add(name));
+			assertFalse(launchRepository.findByName(name)
+					.stream()
+					.anyMatch(it -> USER_PROJECT.equals(it.getProjectRef()) && DEFAULT == it.getMode() && Status.IN_PROGRESS != it.getStatus()
+							&& it.getNumber() > launch.get("number").asLong()));
+		});
+	}
+
 	@Test
 	public void getLaunches() throws Exception {
 		mvcMock.perform(get(PROJECT_BASE_URL + "/launch?page.page=1&page.size=50&page.sort=statistics$defects$product_bug,ASC").contentType(
@@ -261,4 +303,9 @@ public class LaunchControllerTest extends BaseMvcTest {
 	protected Authentication authentication() {
 		return ADMINISTRATOR;
 	}
-}
\ No newline at end of file
+
+	private Set<String> values(MvcResult mvcResult) throws Exception {
+		return new HashSet<>(objectMapper.readValue(mvcResult.getResponse().getContentAsString(), new TypeReference<List<String>>() {
+		}));
+	}
+}
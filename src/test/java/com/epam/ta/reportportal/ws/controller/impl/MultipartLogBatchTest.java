@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.ws.controller.impl;
+
+import com.epam.ta.reportportal.core.log.AttachmentStorage;
+import com.epam.ta.reportportal.exception.ReportPortalException;
+import com.epam.ta.reportportal.ws.model.BatchElementCreatedRS;
+import com.epam.ta.reportportal.ws.model.BatchSaveOperatingRS;
+import com.epam.ta.reportportal.ws.model.EntryCreatedRS;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import org.apache.commons.fileupload.FileItem;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+public class MultipartLogBatchTest {
+
+	private final List<String> saved = new ArrayList<>();
+
+	private final MultipartLogBatch batch = new MultipartLogBatch((rq, file) -> {
+		saved.add(rq.getMessage() + ":" + (null == file ? null : file.getName()));
+		return new EntryCreatedRS(rq.getMessage());
+	});
+
+	@Test
+	public void logsWithoutFilesAreSavedImmediately() {
+		batch.onRequests(new SaveLogRQ[] { rq("first", null), rq("second", "picture.png") });
+		Assert.assertEquals(1, saved.size());
+		Assert.assertEquals("first:null", saved.get(0));
+
+		batch.onFile(new MockMultipartFile("picture.png", new byte[] { 1 }));
+		Assert.assertEquals("second:picture.png", saved.get(1));
+	}
+
+	@Test
+	public void filesSentBeforeJsonAreMatchedByOriginalName() {
+		batch.onFile(new MockMultipartFile("file", "picture.png", "image/png", new byte[] { 1 }));
+		batch.onRequests(new SaveLogRQ[] { rq("log", "picture.png") });
+
+		BatchSaveOperatingRS response = batch.finish();
+		Assert.assertEquals("log", response.getResponses().get(0).getId());
+	}
+
+	@Test
+	public void missingFileIsReportedInPlace() {
+		batch.onRequests(new SaveLogRQ[] { rq("first", "missing.png"), rq("second", null) });
+
+		List<BatchElementCreatedRS> responses = batch.finish().getResponses();
+		Assert.assertEquals(2, responses.size());
+		Assert.assertNull(responses.get(0).getId());
+		Assert.assertTrue(responses.get(0).getMessage().contains("missing.png"));
+		Assert.assertEquals("second", responses.get(1).getId());
+	}
+
+	@Test(expected = ReportPortalException.class)
+	public void jsonPartIsRequired() {
+		batch.onFile(new MockMultipartFile("picture.png", new byte[] { 1 }));
+		batch.finish();
+	}
+
+	@Test(expected = ReportPortalException.class)
+	public void jsonPartIsAcceptedOnce() {
+		batch.onRequests(new SaveLogRQ[] { rq("first", null) });
+		batch.onRequests(new SaveLogRQ[] { rq("second", null) });
+	}
+
+	@Test
+	public void sharedFileIsDeletedByLastReader() {
+		List<AttachmentStorage.HashedFile> readers = new ArrayList<>();
+		MultipartLogBatch batch = new MultipartLogBatch((rq, file) -> {
+			AttachmentStorage.HashedFile hashed = (AttachmentStorage.HashedFile) file;
+			hashed.retain();
+			readers.add(hashed);
+			return new EntryCreatedRS(rq.getMessage());
+		});
+		FileItem item = fileItem("picture.png");
+		batch.onRequests(new SaveLogRQ[] { rq("first", "picture.png"), rq("second", "picture.png") });
+		batch.onFile(new AttachmentStorage.HashedFile(item, "hash"));
+		Assert.assertEquals(2, readers.size());
+
+		readers.get(0).release();
+		verify(item, never()).delete();
+		readers.get(1).release();
+		verify(item, times(1)).delete();
+	}
+
+	@Test
+	public void unmatchedFilesAreDeleted() {
+		FileItem early = fileItem("early.png");
+		batch.onFile(new AttachmentStorage.HashedFile(early, "hash"));
+		batch.close();
+		verify(early, times(1)).delete();
+
+		FileItem unknown = fileItem("unknown.png");
+		batch.onRequests(new SaveLogRQ[] { rq("log", null) });
+		batch.onFile(new AttachmentStorage.HashedFile(unknown, "hash"));
+		verify(unknown, times(1)).delete();
+	}
+
+	private static FileItem fileItem(String name) {
+		FileItem item = mock(FileItem.class);
+		when(item.getFieldName()).thenReturn(name);
+		when(item.getName()).thenReturn(name);
+		return item;
+	}
+
+	private static SaveLogRQ rq(String message, String filename) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setMessage(message);
+		if (null != filename) {
+			SaveLogRQ.File file = new SaveLogRQ.File();
+			file.setName(filename);
+			rq.setFile(file);
+		}
+		return rq;
+	}
+}
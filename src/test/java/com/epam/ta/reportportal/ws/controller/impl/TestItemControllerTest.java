@@ -22,6 +22,7 @@
 package com.epam.ta.reportportal.ws.controller.impl;
 
 import com.epam.ta.reportportal.auth.AuthConstants;
+import com.epam.ta.reportportal.core.autocomplete.AutocompleteDictionaries;
 import com.epam.ta.reportportal.database.dao.ActivityRepository;
 import com.epam.ta.reportportal.database.dao.TestItemRepository;
 import com.epam.ta.reportportal.database.entity.item.Activity;
@@ -34,12 +35,14 @@ import com.epam.ta.reportportal.ws.model.issue.Issue;
 import com.epam.ta.reportportal.ws.model.issue.IssueDefinition;
 import com.epam.ta.reportportal.ws.model.item.AddExternalIssueRQ;
 import com.epam.ta.reportportal.ws.model.item.UpdateTestItemRQ;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.*;
 
@@ -62,6 +65,9 @@ public class TestItemControllerTest extends BaseMvcTest {
 	@Autowired
 	private ActivityRepository activityRepository;
 
+	@Autowired
+	private AutocompleteDictionaries autocompleteDictionaries;
+
 	@SuppressWarnings("deprecation")
 	@Test
 	public void startRootItemPositive() throws Exception {
@@ -186,9 +192,13 @@ public class TestItemControllerTest extends BaseMvcTest {
 
 	@Test
 	public void getAllTags() throws Exception {
-		this.mvcMock.perform(
+		autocompleteDictionaries.itemsRemoved("51824cc1553de743b3e5aa2c");
+		MvcResult mvcResult = this.mvcMock.perform(
 				get(PROJECT_BASE_URL + "/item/tags?launch=51824cc1553de743b3e5aa2c&filter.cnt.tags=tags").principal(authentication())
-						.contentType(APPLICATION_JSON)).andExpect(status().is(200));
+						.contentType(APPLICATION_JSON)).andExpect(status().is(200)).andReturn();
+		List<String> tags = objectMapper.readValue(mvcResult.getResponse().getContentAsString(), new TypeReference<List<String>>() {
+		});
+		assertEquals(new HashSet<>(testItemRepository.findDistinctValues("51824cc1553de743b3e5aa2c", "tags", "tags")), new HashSet<>(tags));
 	}
 
 	@Test
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.ws.interceptor;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.net.HttpHeaders;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+public class GzipRequestFilterTest {
+
+	private static final String BODY = "{\"name\":\"launch\"}";
+
+	@Test
+	public void compressedBodyIsDecompressed() throws Exception {
+		MockFilterChain chain = new MockFilterChain();
+		new GzipRequestFilter(1024).doFilter(compressedRequest(), new MockHttpServletResponse(), chain);
+
+		HttpServletRequest request = (HttpServletRequest) chain.getRequest();
+		Assert.assertNull(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+		Assert.assertEquals(-1, request.getContentLength());
+		Assert.assertEquals(BODY, new String(ByteStreams.toByteArray(request.getInputStream()), StandardCharsets.UTF_8));
+	}
+
+	@Test(expected = IOException.class)
+	public void decompressedBodyIsLimited() throws Exception {
+		MockFilterChain chain = new MockFilterChain();
+		new GzipRequestFilter(BODY.length() - 1).doFilter(compressedRequest(), new MockHttpServletResponse(), chain);
+		ByteStreams.toByteArray(chain.getRequest().getInputStream());
+	}
+
+	@Test
+	public void plainBodyIsNotChanged() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/project/log");
+		request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+		MockFilterChain chain = new MockFilterChain();
+		new GzipRequestFilter(1024).doFilter(request, new MockHttpServletResponse(), chain);
+		Assert.assertSame(request, chain.getRequest());
+	}
+
+	@Test
+	public void readListenerIsNotifiedByCompressedStream() throws Exception {
+		ByteArrayInputStream body = new ByteArrayInputStream(compressedRequest().getContentAsByteArray());
+		AtomicReference<ReadListener> registered = new AtomicReference<>();
+		ServletInputStream compressed = new ServletInputStream() {
+			@Override
+			public int read() {
+				return body.read();
+			}
+
+			@Override
+			public boolean isFinished() {
+				return 0 == body.available();
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setReadListener(ReadListener readListener) {
+				registered.set(readListener);
+			}
+		};
+		HttpServletRequest request = new HttpServletRequestWrapper(compressedRequest()) {
+			@Override
+			public ServletInputStream getInputStream() {
+				return compressed;
+			}
+		};
+		MockFilterChain chain = new MockFilterChain();
+		new GzipRequestFilter(1024).doFilter(request, new MockHttpServletResponse(), chain);
+
+		ServletInputStream decompressed = chain.getRequest().getInputStream();
+		List<String> events = new ArrayList<>();
+		decompressed.setReadListener(new ReadListener() {
+			@Override
+			public void onDataAvailable() throws IOException {
+				events.add("available");
+				Assert.assertTrue(decompressed.isReady());
+				Assert.assertEquals(BODY, new String(ByteStreams.toByteArray(decompressed), StandardCharsets.UTF_8));
+			}
+
+			@Override
+			public void onAllDataRead() {
+				events.add("read");
+			}
+
+			@Override
+			public void onError(Throwable t) {
+				events.add("error");
+			}
+		});
+		registered.get().onDataAvailable();
+		registered.get().onAllDataRead();
+		Assert.assertEquals(Arrays.asList("available", "read"), events);
+	}
+
+	private static MockHttpServletRequest compressedRequest() throws IOException {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+			gzip.write(BODY.getBytes(StandardCharsets.UTF_8));
+		}
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/project/log");
+		request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+		request.setContent(compressed.toByteArray());
+		return request;
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 EPAM Systems
+ *
+ *
+ * This file is part of EPAM Report Portal.
+ * https://github.com/reportportal/service-api
+ *
+ * Report Portal is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Report Portal is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Report Portal.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.epam.ta.reportportal.ws.resolver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+public class FieldsetSerializationTest {
+
+	@Test
+	public void notRequestedFieldsAreSkipped() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new JacksonViewAwareModule(objectMapper));
+
+		DemoBean bean = new DemoBean("first", "second");
+		Fieldset fieldset = new Fieldset(DemoBean.class, ImmutableSet.of("name"), Collections.singletonList("name"));
+		String json = objectMapper.writeValueAsString(new FieldsetAware(Collections.singletonMap("content", Collections.singletonList(bean)),
+				fieldset
+		));
+
+		Assert.assertThat(json, containsString("\"content\""));
+		Assert.assertThat(json, containsString("first"));
+		Assert.assertThat(json, not(containsString("second")));
+
+		/* original mapper is not affected */
+		Assert.assertThat(objectMapper.writeValueAsString(bean), containsString("second"));
+	}
+
+	public static class DemoBean {
+
+		private final String name;
+
+		private final String description;
+
+		DemoBean(String name, String description) {
+			this.name = name;
+			this.description = description;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+	}
+}